@@ -88,4 +88,6 @@ dependencies {
     implementation(libs.hilt.android)
     implementation(libs.androidx.hilt.navigation.compose)
     ksp(libs.hilt.android.compiler)
+
+    testImplementation(libs.junit)
 }
\ No newline at end of file
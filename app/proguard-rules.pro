@@ -25,9 +25,21 @@
 #-dontobfuscate
 
 # need these for jaudiotagger to work
--keep, allowoptimization class org.jaudiotagger.tag.id3.framebody.* { *; }
 -keep, allowoptimization class org.jaudiotagger.tag.datatype.* { *; }
 
+# jaudiotagger checks DebugLogging.isLoggable before debug (config and finer) logging, which is never enabled in
+# release, so drop those log calls and the messages built for them. Logger.isLoggable itself is left alone so that
+# checks for warnings and errors, here or in other libraries, still work
+-assumevalues class org.jaudiotagger.logging.DebugLogging {
+    public static boolean isLoggable(java.util.logging.Logger, java.util.logging.Level) return false;
+}
+-assumenosideeffects class java.util.logging.Logger {
+    public void config(java.lang.String);
+    public void fine(java.lang.String);
+    public void finer(java.lang.String);
+    public void finest(java.lang.String);
+}
+
 -dontwarn java.awt.image.BufferedImage
 -dontwarn javax.imageio.ImageIO
 -dontwarn javax.imageio.stream.ImageInputStream
\ No newline at end of file
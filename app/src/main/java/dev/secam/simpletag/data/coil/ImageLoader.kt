@@ -25,7 +25,10 @@ import coil3.memory.MemoryCache
 import coil3.request.crossfade
 import coil3.util.DebugLogger
 
-fun myImageLoader(context: PlatformContext): ImageLoader {
+// disk space for rendered artwork thumbnails, least recently used ones are evicted past this
+const val THUMBNAIL_CACHE_SIZE = 32L * 1024 * 1024
+
+fun myImageLoader(context: PlatformContext, thumbnailCacheSize: Long = THUMBNAIL_CACHE_SIZE): ImageLoader {
     return ImageLoader.Builder(context)
         .memoryCache {
             MemoryCache.Builder()
@@ -35,7 +38,7 @@ fun myImageLoader(context: PlatformContext): ImageLoader {
         .diskCache {
             DiskCache.Builder()
                 .directory(context.cacheDir.resolve("image_cache"))
-                .maxSizeBytes(5 * 1024 * 1024)
+                .maxSizeBytes(thumbnailCacheSize)
                 .build()
         }
         .logger(DebugLogger())
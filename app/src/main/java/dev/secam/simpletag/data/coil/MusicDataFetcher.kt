@@ -17,39 +17,146 @@
 
 package dev.secam.simpletag.data.coil
 
+import android.graphics.Bitmap
 import android.graphics.BitmapFactory
+import android.util.Log
 import androidx.core.graphics.scale
 import coil3.ImageLoader
 import coil3.asImage
 import coil3.decode.DataSource
+import coil3.disk.DiskCache
 import coil3.fetch.FetchResult
 import coil3.fetch.Fetcher
 import coil3.fetch.ImageFetchResult
 import coil3.request.Options
+import coil3.size.pxOrElse
 import dev.secam.simpletag.data.media.MusicData
 import dev.secam.simpletag.util.tag.simpleFileReader
+import dev.secam.simpletag.util.tag.simpleSummaryReader
+import java.io.File
+import java.io.InputStream
+import java.nio.ByteBuffer
 import javax.inject.Inject
 
-class MusicDataFetcher(private val musicData: MusicData): Fetcher {
+// thumbnails are rendered at the smallest of these that covers the requested size
+private val THUMBNAIL_SIZES = listOf(120, 240, 480)
+private const val THUMBNAIL_QUALITY = 90
+
+class MusicDataFetcher(
+    private val musicData: MusicData,
+    private val options: Options,
+    private val diskCache: DiskCache?
+): Fetcher {
     override suspend fun fetch(): FetchResult? {
-        val artwork = simpleFileReader(musicData.path)?.tag?.firstArtwork?.binaryData
-
-        return if(artwork == null) {
-            null
-        } else {
-            val bitmap = BitmapFactory.decodeByteArray(artwork, 0, artwork.size)
-            ImageFetchResult(
-                image = bitmap.scale(120, 120, false).asImage(),
-                isSampled = false,
-                dataSource = DataSource.DISK
-            )
+        val size = thumbnailSize(options)
+        val key = thumbnailKey(musicData, options, size)
+        // rendered thumbnails are kept on disk so the audio file is only read the first time
+        diskCache?.openSnapshot(key)?.use { snapshot ->
+            val bitmap = BitmapFactory.decodeFile(snapshot.data.toFile().path)
+            if (bitmap != null) {
+                return ImageFetchResult(
+                    image = bitmap.asImage(),
+                    isSampled = true,
+                    dataSource = DataSource.DISK
+                )
+            }
         }
+
+        val file = File(musicData.path)
+        // the summary only records where the artwork is, so just that range of the file is read
+        val artwork = simpleSummaryReader(musicData.path)?.tag?.firstArtwork ?: return null
+        // unsynchronised or compressed id3 artwork isn't stored as-is and has to be read in full
+        val imageData = artwork.getImageData(file)
+            ?: simpleFileReader(musicData.path)?.tag?.firstArtwork?.getImageData(file)
+            ?: return null
+        val bitmap = decodeSampledBitmap(imageData, size)?.scale(size, size, false) ?: return null
+        diskCache?.let { writeThumbnail(it, key, bitmap) }
+
+        return ImageFetchResult(
+            image = bitmap.asImage(),
+            isSampled = true,
+            dataSource = DataSource.DISK
+        )
     }
 
     class Factory @Inject constructor() : Fetcher.Factory<MusicData> {
         override fun create(data: MusicData, options: Options, imageLoader: ImageLoader): Fetcher? {
-            return MusicDataFetcher(data)
+            return MusicDataFetcher(data, options, imageLoader.diskCache)
+        }
+    }
+}
+
+/**
+ * removes the cached thumbnails of [musicData] from memory and disk so they are rendered again
+ * from the file on next use
+ */
+fun ImageLoader.removeThumbnails(musicData: MusicData, options: Options) {
+    val key = MusicDataKeyer.key(musicData, options)
+    memoryCache?.let { cache ->
+        cache.keys.filter { it.key == key }.forEach { cache.remove(it) }
+    }
+    diskCache?.let { cache ->
+        for (size in THUMBNAIL_SIZES) {
+            cache.remove(thumbnailKey(musicData, options, size))
         }
     }
 }
 
+private fun thumbnailSize(options: Options): Int {
+    val requested = maxOf(
+        options.size.width.pxOrElse { THUMBNAIL_SIZES.first() },
+        options.size.height.pxOrElse { THUMBNAIL_SIZES.first() }
+    )
+    return THUMBNAIL_SIZES.firstOrNull { it >= requested } ?: THUMBNAIL_SIZES.last()
+}
+
+private fun thumbnailKey(musicData: MusicData, options: Options, size: Int): String {
+    return "thumbnail:${MusicDataKeyer.key(musicData, options)}:$size"
+}
+
+private fun writeThumbnail(diskCache: DiskCache, key: String, bitmap: Bitmap) {
+    val editor = diskCache.openEditor(key) ?: return
+    try {
+        val format = if (bitmap.hasAlpha()) Bitmap.CompressFormat.PNG else Bitmap.CompressFormat.JPEG
+        editor.data.toFile().outputStream().use {
+            bitmap.compress(format, THUMBNAIL_QUALITY, it)
+        }
+        editor.commit()
+    } catch (e: Exception) {
+        editor.abort()
+        Log.w("MusicDataFetcher", "$e: failed to cache thumbnail $key")
+    }
+}
+
+/**
+ * decodes [imageData] at the largest power of two reduction that is still at least [size] on both sides
+ */
+private fun decodeSampledBitmap(imageData: ByteBuffer, size: Int): Bitmap? {
+    val options = BitmapFactory.Options().apply { inJustDecodeBounds = true }
+    BitmapFactory.decodeStream(ByteBufferInputStream(imageData.duplicate()), null, options)
+    var sampleSize = 1
+    while (options.outWidth / (sampleSize * 2) >= size && options.outHeight / (sampleSize * 2) >= size) {
+        sampleSize *= 2
+    }
+    options.inJustDecodeBounds = false
+    options.inSampleSize = sampleSize
+    return BitmapFactory.decodeStream(ByteBufferInputStream(imageData.duplicate()), null, options)
+}
+
+private class ByteBufferInputStream(private val buffer: ByteBuffer) : InputStream() {
+    override fun read(): Int {
+        return if (buffer.hasRemaining()) buffer.get().toInt() and 0xff else -1
+    }
+
+    override fun read(b: ByteArray, off: Int, len: Int): Int {
+        if (len == 0) return 0
+        if (!buffer.hasRemaining()) return -1
+        val count = minOf(len, buffer.remaining())
+        buffer.get(b, off, count)
+        return count
+    }
+
+    override fun available(): Int {
+        return buffer.remaining()
+    }
+}
@@ -23,6 +23,7 @@ import dev.secam.simpletag.data.media.MusicData
 
 object MusicDataKeyer : Keyer<MusicData> {
     override fun key(data: MusicData, options: Options): String {
-        return data.id.toString()
+        // dateModified changes whenever the file is rewritten, so edited artwork gets a new key
+        return "${data.id}:${data.dateModified}"
     }
 }
\ No newline at end of file
@@ -23,17 +23,19 @@ import android.os.Build
 import android.provider.MediaStore
 import android.util.Log
 import coil3.imageLoader
-import coil3.memory.MemoryCache
 import coil3.request.Options
-import dev.secam.simpletag.data.coil.MusicDataKeyer
+import dev.secam.simpletag.data.coil.removeThumbnails
 import dev.secam.simpletag.data.enums.FolderSelectMode
-import dev.secam.simpletag.util.tag.simpleFileReader
+import dev.secam.simpletag.util.tag.simpleSummaryReader
 import kotlinx.coroutines.CoroutineExceptionHandler
 import kotlinx.coroutines.CoroutineScope
 import kotlinx.coroutines.Dispatchers
 import kotlinx.coroutines.Job
 import kotlinx.coroutines.async
+import kotlinx.coroutines.channels.Channel
+import kotlinx.coroutines.flow.MutableSharedFlow
 import kotlinx.coroutines.flow.MutableStateFlow
+import kotlinx.coroutines.flow.asSharedFlow
 import kotlinx.coroutines.flow.update
 import kotlinx.coroutines.joinAll
 import kotlinx.coroutines.launch
@@ -41,6 +43,8 @@ import kotlinx.coroutines.plus
 import org.jaudiotagger.audio.exceptions.CannotReadException
 import org.jaudiotagger.tag.FieldKey
 import org.jaudiotagger.tag.Tag
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.atomic.AtomicBoolean
 import javax.inject.Inject
 import kotlin.random.Random
 
@@ -65,6 +69,13 @@ val COMPATIBLE_TYPES = listOf(
 
 const val TAG = "MediaRepo"
 
+// number of files read with jaudiotagger at once, and how far the cursor may run ahead of them
+private const val SCAN_WORKERS = 4
+private const val SCAN_QUEUE_SIZE = 64
+// how often partial results are published to scanBatches while loading
+private const val BATCH_SIZE = 200
+private const val BATCH_INTERVAL = 100L
+
 class MediaRepo @Inject constructor(private val context: Context) {
 
     val coroutineExceptionHandler = CoroutineExceptionHandler { _, throwable ->
@@ -73,13 +84,26 @@ class MediaRepo @Inject constructor(private val context: Context) {
     private val backgroundScope =
         CoroutineScope(Dispatchers.Default).plus(coroutineExceptionHandler)
     val musicMapState = MutableStateFlow(mapOf<Long, MusicData>())
+    private val _scanBatches = MutableSharedFlow<List<MusicData>>()
+    /**
+     * partial results published while [loadFiles] is running, before [musicMapState] is updated
+     */
+    val scanBatches = _scanBatches.asSharedFlow()
+    private val _updatedIds = MutableSharedFlow<Set<Long>>()
+    /**
+     * ids of the songs changed in [musicMapState] by [refreshMediaStore], [updateHasArt] and
+     * [updateDuration], published after the map is updated. [loadFiles] replaces the whole map
+     * and isn't published here
+     */
+    val updatedIds = _updatedIds.asSharedFlow()
     val version = MutableStateFlow(Random.nextInt())
     private val pathList = MutableStateFlow(emptySet<String>())
     private val filterMode = MutableStateFlow(FolderSelectMode.Exclude)
+    private val musicIndex = MusicIndex(context)
     suspend fun loadFiles(): String? {
-        var error = false
-        var log = "Loading files\n"
-        val music = mutableMapOf<Long, MusicData>()
+        val error = AtomicBoolean(false)
+        val log = StringBuffer("Loading files\n")
+        val music = ConcurrentHashMap<Long, MusicData>()
         val contentResolver = context.contentResolver
 
 
@@ -91,6 +115,8 @@ class MediaRepo @Inject constructor(private val context: Context) {
                 MediaStore.Audio.Media.ALBUM,
                 MediaStore.Audio.Media.DATA,
                 MediaStore.Audio.Media.TRACK,
+                MediaStore.Audio.Media.SIZE,
+                MediaStore.Audio.Media.DATE_MODIFIED,
                 MediaStore.Audio.Media.DURATION
             )
         } else {
@@ -101,197 +127,248 @@ class MediaRepo @Inject constructor(private val context: Context) {
                 MediaStore.Audio.Media.ALBUM,
                 MediaStore.Audio.Media.DATA,
                 MediaStore.Audio.Media.TRACK,
+                MediaStore.Audio.Media.SIZE,
+                MediaStore.Audio.Media.DATE_MODIFIED,
             )
         }
         val selection = "${MediaStore.Audio.Media.IS_MUSIC} != 0"
         val sortOrder = "${MediaStore.Audio.Media.DATE_ADDED} DESC"
-        log += "Entering content resolver\n"
+        log.append("Entering content resolver\n")
         backgroundScope.async {
             try {
-                contentResolver.let { resolver ->
-                    log += "Building cursor\n"
-                    val cursor = resolver.query(
-                        MediaStore.Audio.Media.EXTERNAL_CONTENT_URI,
-                        projection,
-                        selection,
-                        null,
-                        sortOrder
-                    )
-                    log += "Cursor built\n"
-                    log += "Using cursor\n"
-                    cursor?.use {
-                        val idColumn = it.getColumnIndexOrThrow(MediaStore.Audio.Media._ID)
-                        log += "Found idColumn at: $idColumn\n"
-                        val titleColumn =
-                            it.getColumnIndexOrThrow(MediaStore.Audio.Media.TITLE)
-                        log += "Found titleColumn at: $titleColumn\n"
-                        val albumColumn =
-                            it.getColumnIndexOrThrow(MediaStore.Audio.Media.ALBUM)
-                        log += "Found albumColumn at: $albumColumn\n"
-                        val artistColumn =
-                            it.getColumnIndexOrThrow(MediaStore.Audio.Media.ARTIST)
-                        log += "Found artistColumn at: $artistColumn\n"
-                        val pathColumn =
-                            it.getColumnIndexOrThrow(MediaStore.Audio.Media.DATA)
-                        log += "Found pathColumn at: $pathColumn\n"
-                        val trackColumn = it.getColumnIndexOrThrow(MediaStore.Audio.Media.TRACK)
-                        log += "Found trackColumn at: $trackColumn\n"
-                        val durationColumn = if(Build.VERSION.SDK_INT >= Build.VERSION_CODES.Q){
-                            it.getColumnIndexOrThrow(MediaStore.Audio.Media.DURATION)
-                        } else null
-                        log += "Found durationColumn at: $durationColumn\n"
-                        // Read Music from MediaStore
-                        val musicLoaders = mutableListOf<Job>()
-                        log += "Iterating through mediastore\n"
-                        while (it.moveToNext()) {
-                            // get id and path from MediaStore metadata
-                            val path = it.getString(pathColumn)
-                            if(checkPath(pathList.value, filterMode.value, path)) {
-                                val id = it.getLong(idColumn)
-                                val ext = path.substringAfterLast(".").lowercase()
-                                val title = it.getString(titleColumn)
-                                val album = it.getString(albumColumn)
-                                val artist = it.getString(artistColumn)
-                                val track = it.getInt(trackColumn) % 1000
-                                val duration = if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.Q) {
-                                    it.getInt(durationColumn!!)
-                                } else null
-                                // Use MediaStore metadata for mp3 and flac files
-                                if (ext == "mp3" || ext == "flac") {
-                                    log += "$id: Using mediastore metadata for $path\n"
-                                    music[id] = MusicData(
-                                        id = id,
-                                        path = path,
-                                        title = title,
-                                        artist = artist,
-                                        album = album,
-                                        hasArtwork = null,
-                                        tagged = artist != "<unknown>",
-                                        track = track,
-                                        duration = duration ?: -1
-                                    )
-                                    log += "$id: imported $path\n"
-                                    Log.d(TAG, "$id: imported $path using mediastore")
-                                }
-                                // Use jaudiotagger for non-mp3/flac files (better compatibility / more accurate but slower)
-                                else if (COMPATIBLE_TYPES.contains(ext)) {
-                                    log += "$id: Using jaudiotagger metadata for $path\n"
-                                    val loader = backgroundScope.launch {
-                                        log += "$id: Opening file\n"
-                                        try {
-                                            val file = simpleFileReader(path)
-                                            if (file != null) {
-                                                log += "$id: File opened\n"
-                                                log += "$id: Getting tag\n"
-                                                val tag: Tag? = file.getTag()
-                                                log += "$id: Got tag\n"
-                                                var tagged = 0
-                                                val jTitle: String
-                                                val jArtist: String
-                                                val jAlbum: String
-                                                if (tag?.getFirst(FieldKey.TITLE) == "" || tag?.getFirst(
-                                                        FieldKey.TITLE
-                                                    ) == null
-                                                ) {
-                                                    jTitle = file.file.name
-                                                    tagged++
-                                                } else {
-                                                    jTitle =
-                                                        tag.getFirst(FieldKey.TITLE)
-                                                            ?: file.file.name
-                                                }
-                                                log += "$id: Got title\n"
-                                                if (tag?.getFirst(FieldKey.ALBUM) == "" || tag?.getFirst(
-                                                        FieldKey.ALBUM
-                                                    ) == null
-                                                ) {
-                                                    jAlbum = "<unknown>"
-                                                    tagged++
-                                                } else {
-                                                    jAlbum =
-                                                        tag.getFirst(FieldKey.ALBUM)
-                                                            ?: "<unknown>"
-                                                }
-                                                log += "$id: Got album\n"
-                                                if (tag?.getFirst(FieldKey.ARTIST) == "" || tag?.getFirst(
-                                                        FieldKey.ARTIST
-                                                    ) == null
-                                                ) {
-                                                    jArtist = "<unknown>"
-                                                    tagged++
-                                                } else {
-                                                    jArtist =
-                                                        tag.getFirst(FieldKey.ARTIST)
-                                                            ?: "<unknown>"
-                                                }
-                                                log += "$id: Got artist\n"
-                                                val hasArt = tag?.firstArtwork != null
-                                                val track =
-                                                    if (tag?.getFirst(FieldKey.TRACK)
-                                                            ?.isEmpty() == false
-                                                    ) tag.getFirst(FieldKey.TRACK)?.toInt()
-                                                    else 0
-
-                                                music[id] = MusicData(
+                musicIndex.load()
+                // files that need jaudiotagger are handed from the cursor to a fixed pool of
+                // workers through a bounded channel, so the cursor can't run ahead of the disk
+                val scanQueue = Channel<ScanRequest>(SCAN_QUEUE_SIZE)
+                val results = Channel<MusicData>(SCAN_QUEUE_SIZE)
+                val workers = List(SCAN_WORKERS) {
+                    launch(Dispatchers.IO) {
+                        for (request in scanQueue) {
+                            results.send(scanFile(request, log, error))
+                        }
+                    }
+                }
+                val publisher = launch {
+                    val batch = mutableListOf<MusicData>()
+                    var lastPublished = System.currentTimeMillis()
+                    for (musicData in results) {
+                        music[musicData.id] = musicData
+                        batch.add(musicData)
+                        val now = System.currentTimeMillis()
+                        if (batch.size >= BATCH_SIZE || now - lastPublished >= BATCH_INTERVAL) {
+                            _scanBatches.emit(batch.toList())
+                            batch.clear()
+                            lastPublished = now
+                        }
+                    }
+                    if (batch.isNotEmpty()) {
+                        _scanBatches.emit(batch.toList())
+                    }
+                }
+                try {
+                    contentResolver.let { resolver ->
+                        log.append("Building cursor\n")
+                        val cursor = resolver.query(
+                            MediaStore.Audio.Media.EXTERNAL_CONTENT_URI,
+                            projection,
+                            selection,
+                            null,
+                            sortOrder
+                        )
+                        log.append("Cursor built\n")
+                        log.append("Using cursor\n")
+                        cursor?.use {
+                            val idColumn = it.getColumnIndexOrThrow(MediaStore.Audio.Media._ID)
+                            log.append("Found idColumn at: $idColumn\n")
+                            val titleColumn =
+                                it.getColumnIndexOrThrow(MediaStore.Audio.Media.TITLE)
+                            log.append("Found titleColumn at: $titleColumn\n")
+                            val albumColumn =
+                                it.getColumnIndexOrThrow(MediaStore.Audio.Media.ALBUM)
+                            log.append("Found albumColumn at: $albumColumn\n")
+                            val artistColumn =
+                                it.getColumnIndexOrThrow(MediaStore.Audio.Media.ARTIST)
+                            log.append("Found artistColumn at: $artistColumn\n")
+                            val pathColumn =
+                                it.getColumnIndexOrThrow(MediaStore.Audio.Media.DATA)
+                            log.append("Found pathColumn at: $pathColumn\n")
+                            val trackColumn = it.getColumnIndexOrThrow(MediaStore.Audio.Media.TRACK)
+                            log.append("Found trackColumn at: $trackColumn\n")
+                            val sizeColumn = it.getColumnIndexOrThrow(MediaStore.Audio.Media.SIZE)
+                            val dateModifiedColumn =
+                                it.getColumnIndexOrThrow(MediaStore.Audio.Media.DATE_MODIFIED)
+                            val durationColumn = if(Build.VERSION.SDK_INT >= Build.VERSION_CODES.Q){
+                                it.getColumnIndexOrThrow(MediaStore.Audio.Media.DURATION)
+                            } else null
+                            log.append("Found durationColumn at: $durationColumn\n")
+                            // Read Music from MediaStore
+                            log.append("Iterating through mediastore\n")
+                            while (it.moveToNext()) {
+                                // get id and path from MediaStore metadata
+                                val path = it.getString(pathColumn)
+                                if(checkPath(pathList.value, filterMode.value, path)) {
+                                    val id = it.getLong(idColumn)
+                                    val ext = path.substringAfterLast(".").lowercase()
+                                    val title = it.getString(titleColumn)
+                                    val album = it.getString(albumColumn)
+                                    val artist = it.getString(artistColumn)
+                                    val track = it.getInt(trackColumn) % 1000
+                                    val duration = if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.Q) {
+                                        it.getInt(durationColumn!!)
+                                    } else null
+                                    val size = it.getLong(sizeColumn)
+                                    val dateModified = it.getLong(dateModifiedColumn)
+                                    // Use MediaStore metadata for mp3 and flac files
+                                    if (ext == "mp3" || ext == "flac") {
+                                        log.append("$id: Using mediastore metadata for $path\n")
+                                        results.send(MusicData(
+                                            id = id,
+                                            path = path,
+                                            title = title,
+                                            artist = artist,
+                                            album = album,
+                                            hasArtwork = null,
+                                            tagged = artist != "<unknown>",
+                                            track = track,
+                                            duration = duration ?: -1,
+                                            dateModified = dateModified
+                                        ))
+                                        log.append("$id: imported $path\n")
+                                        Log.d(TAG, "$id: imported $path using mediastore")
+                                    }
+                                    else if (COMPATIBLE_TYPES.contains(ext)) {
+                                        val indexed = musicIndex.get(id, path, size, dateModified)
+                                        // Reuse indexed jaudiotagger metadata if the file hasn't changed
+                                        if (indexed != null) {
+                                            results.send(indexed)
+                                            log.append("$id: imported $path using index\n")
+                                        }
+                                        // Use jaudiotagger for non-mp3/flac files (better compatibility / more accurate but slower)
+                                        else {
+                                            log.append("$id: Using jaudiotagger metadata for $path\n")
+                                            scanQueue.send(
+                                                ScanRequest(
                                                     id = id,
                                                     path = path,
-                                                    title = jTitle,
-                                                    artist = jArtist,
-                                                    album = jAlbum,
-                                                    hasArtwork = hasArt,
+                                                    title = title,
+                                                    artist = artist,
+                                                    album = album,
                                                     track = track,
-                                                    tagged = tagged == 0, // TODO: Fix this
-                                                    duration = duration ?: -1
-                                                )
-                                                log += "$id: imported $path using jaudiotagger\n"
-                                                Log.d(
-                                                    TAG,
-                                                    "$id: imported $path using jaudiotagger"
+                                                    duration = duration ?: -1,
+                                                    size = size,
+                                                    dateModified = dateModified
                                                 )
-                                            } else {
-                                                throw CannotReadException()
-                                            }
-                                        } catch (e: Exception) {
-                                            error = true
-                                            Log.w("MediaRepo", "$e: Failed to read $path")
-                                            log += "$e: failed to read $path\n"
-                                            log += "$id: jaudiotagger error. falling back to mediastore\n"
-                                            music[id] = MusicData(
-                                                id = id,
-                                                path = path,
-                                                title = title,
-                                                artist = artist,
-                                                album = album,
-                                                hasArtwork = null,
-                                                track = track,
-                                                tagged = artist != "<unknown>",
-                                                duration = duration ?: -1
-                                            )
-                                            log += "$id: imported $path using mediastore fallback\n"
-                                            Log.d(
-                                                TAG,
-                                                "$id: imported $path using mediastore fallback"
                                             )
                                         }
                                     }
-                                    musicLoaders.add(loader)
                                 }
                             }
                         }
-                        log += "Waiting for all tasks to finish\n"
-                        musicLoaders.joinAll()
-                        log += "Processing complete. Updating repo\n"
                     }
+                } finally {
+                    scanQueue.close()
+                    log.append("Waiting for all tasks to finish\n")
+                    workers.joinAll()
+                    results.close()
+                    publisher.join()
                 }
+                log.append("Processing complete. Updating repo\n")
+                musicIndex.retainAll(music.keys)
+                musicIndex.save()
             } catch (e: Exception) {
                 Log.d(TAG, "LOAD_FILES_ERROR")
-                log += e.toString()
-                error = true
+                log.append(e.toString())
+                error.set(true)
             }
         }.await()
-        musicMapState.update { music }
+        musicMapState.update { music.toMap() }
         Log.d(TAG, "LOAD_FILES_SUCCESS")
-        return if (error) log else null
+        return if (error.get()) log.toString() else null
+    }
+
+    /**
+     * reads [request] with jaudiotagger, falling back to its MediaStore metadata if that fails
+     */
+    private fun scanFile(request: ScanRequest, log: StringBuffer, error: AtomicBoolean): MusicData {
+        val id = request.id
+        val path = request.path
+        log.append("$id: Opening file\n")
+        try {
+            val file = simpleSummaryReader(path)
+            if (file != null) {
+                log.append("$id: File opened\n")
+                log.append("$id: Getting tag\n")
+                val tag: Tag? = file.getTag()
+                log.append("$id: Got tag\n")
+                var tagged = 0
+                val jTitle: String
+                val jArtist: String
+                val jAlbum: String
+                if (tag?.getFirst(FieldKey.TITLE) == "" || tag?.getFirst(FieldKey.TITLE) == null) {
+                    jTitle = file.file.name
+                    tagged++
+                } else {
+                    jTitle = tag.getFirst(FieldKey.TITLE) ?: file.file.name
+                }
+                log.append("$id: Got title\n")
+                if (tag?.getFirst(FieldKey.ALBUM) == "" || tag?.getFirst(FieldKey.ALBUM) == null) {
+                    jAlbum = "<unknown>"
+                    tagged++
+                } else {
+                    jAlbum = tag.getFirst(FieldKey.ALBUM) ?: "<unknown>"
+                }
+                log.append("$id: Got album\n")
+                if (tag?.getFirst(FieldKey.ARTIST) == "" || tag?.getFirst(FieldKey.ARTIST) == null) {
+                    jArtist = "<unknown>"
+                    tagged++
+                } else {
+                    jArtist = tag.getFirst(FieldKey.ARTIST) ?: "<unknown>"
+                }
+                log.append("$id: Got artist\n")
+                val hasArt = tag?.firstArtwork != null
+                val track =
+                    if (tag?.getFirst(FieldKey.TRACK)?.isEmpty() == false) tag.getFirst(FieldKey.TRACK)?.toInt()
+                    else 0
+
+                val musicData = MusicData(
+                    id = id,
+                    path = path,
+                    title = jTitle,
+                    artist = jArtist,
+                    album = jAlbum,
+                    hasArtwork = hasArt,
+                    track = track,
+                    tagged = tagged == 0, // TODO: Fix this
+                    duration = request.duration,
+                    dateModified = request.dateModified
+                )
+                musicIndex.put(musicData, request.size, request.dateModified)
+                log.append("$id: imported $path using jaudiotagger\n")
+                Log.d(TAG, "$id: imported $path using jaudiotagger")
+                return musicData
+            } else {
+                throw CannotReadException()
+            }
+        } catch (e: Exception) {
+            error.set(true)
+            Log.w("MediaRepo", "$e: Failed to read $path")
+            log.append("$e: failed to read $path\n")
+            log.append("$id: jaudiotagger error. falling back to mediastore\n")
+            log.append("$id: imported $path using mediastore fallback\n")
+            Log.d(TAG, "$id: imported $path using mediastore fallback")
+            return MusicData(
+                id = id,
+                path = path,
+                title = request.title,
+                artist = request.artist,
+                album = request.album,
+                hasArtwork = null,
+                track = request.track,
+                tagged = request.artist != "<unknown>",
+                duration = request.duration,
+                dateModified = request.dateModified
+            )
+        }
     }
 
     suspend fun refreshMediaStore(musicList: List<MusicData>) {
@@ -304,11 +381,11 @@ class MediaRepo @Inject constructor(private val context: Context) {
             MediaScannerConnection.scanFile(context, paths, mimeTypes, null)
             val updatedMap = musicMapState.value.toMutableMap()
             for (song in musicList) {
-                val file = simpleFileReader(song.path)
+                musicIndex.invalidate(song.id)
+                val file = simpleSummaryReader(song.path)
                 if (file != null) {
                     // remove old art from cache
-                    MusicDataKeyer.key(song, Options(context))
-                        .let { imageLoader.memoryCache?.remove(MemoryCache.Key(it)) }
+                    imageLoader.removeThumbnails(song, Options(context))
                     val tag = file.tag
                     var tagged = 0
                     val title: String
@@ -345,18 +422,22 @@ class MediaRepo @Inject constructor(private val context: Context) {
                         album = album,
                         hasArtwork = hasArt,
                         tagged = tagged == 0,
-                        duration = song.duration
+                        duration = song.duration,
+                        dateModified = file.file.lastModified() / 1000
                     )
                 }
             }
             musicMapState.update { updatedMap }
+            musicIndex.save()
+            _updatedIds.emit(musicList.mapTo(HashSet()) { it.id })
         }.await()
     }
 
     suspend fun updateHasArt(id: Long) {
         backgroundScope.async {
             val data = musicMapState.value[id]!!
-            val file = simpleFileReader(data.path)
+            musicIndex.invalidate(id)
+            val file = simpleSummaryReader(data.path)
             val tag: Tag? = file?.getTag()
             val hasArt = tag?.firstArtwork != null
             val newData = MusicData(
@@ -368,27 +449,34 @@ class MediaRepo @Inject constructor(private val context: Context) {
                 tagged = data.tagged,
                 hasArtwork = hasArt,
                 track = data.track,
-                duration = data.duration
+                duration = data.duration,
+                dateModified = data.dateModified
             )
             musicMapState.update {
-                musicMapState.value + Pair(id, newData)
+                it + Pair(id, newData)
             }
+            _updatedIds.emit(setOf(id))
         }.await()
     }
 
     suspend fun updateDuration(musicList: List<MusicData>){
+        val durations = ConcurrentHashMap<Long, Int>()
         val loaders = mutableListOf<Job>()
         for(musicData in musicList) {
             val loader = backgroundScope.launch {
-                val duration = musicData.getDuration(context)
-                musicMapState.update {
-                    musicMapState.value + Pair(musicData.id, musicData.copy(duration = duration))
-                }
-                Log.d("MediaRepo", musicMapState.value[musicData.id]?.duration.toString() + musicData.path)
+                durations[musicData.id] = musicData.getDuration(context)
+                Log.d("MediaRepo", durations[musicData.id].toString() + musicData.path)
             }
             loaders.add(loader)
         }
         loaders.joinAll()
+        // the map is copied once for the whole list rather than once per song
+        musicMapState.update { musicMap ->
+            musicMap + durations.mapNotNull { (id, duration) ->
+                musicMap[id]?.let { Pair(id, it.copy(duration = duration)) }
+            }
+        }
+        _updatedIds.emit(durations.keys.toSet())
     }
 
     fun updateVersion(){
@@ -420,4 +508,19 @@ fun checkPath(pathList: Set<String>, mode: FolderSelectMode, path: String): Bool
         }
         return false
     }
-}
\ No newline at end of file
+}
+
+/**
+ * MediaStore metadata for a file queued for jaudiotagger, used as fallback if it can't be read
+ */
+private data class ScanRequest(
+    val id: Long,
+    val path: String,
+    val title: String,
+    val artist: String,
+    val album: String,
+    val track: Int,
+    val duration: Int,
+    val size: Long,
+    val dateModified: Long
+)
@@ -4,7 +4,10 @@ import android.content.ContentUris
 import android.content.Context
 import android.media.MediaMetadataRetriever
 import android.provider.MediaStore
+import dev.secam.simpletag.data.enums.SortOrder
 import kotlinx.serialization.Serializable
+import java.text.CollationKey
+import java.text.Collator
 
 @Serializable
 data class MusicData(
@@ -17,7 +20,23 @@ data class MusicData(
     val track: Int? = null,
     val tagged: Boolean,
     val duration: Int = -1,
+    // seconds since epoch, as MediaStore DATE_MODIFIED
+    val dateModified: Long = 0,
 ) {
+    // collation keys for sorting the library, computed the first time a song is sorted by that field.
+    // delegated properties aren't serialized and aren't part of equals or copy
+    private val titleKey by lazy { collationKey(title) }
+    private val artistKey by lazy { collationKey(artist) }
+    private val albumKey by lazy { collationKey(album) }
+
+    fun sortKey(sortOrder: SortOrder): CollationKey {
+        return when (sortOrder) {
+            SortOrder.Title -> titleKey
+            SortOrder.Artist -> artistKey
+            SortOrder.Album -> albumKey
+        }
+    }
+
     fun getBitrate(context: Context) : Int {
         val uri = ContentUris.withAppendedId(
             MediaStore.Audio.Media.getContentUri("external"),
@@ -39,4 +58,12 @@ data class MusicData(
         val duration = mmr.extractMetadata(MediaMetadataRetriever.METADATA_KEY_DURATION)!!.toInt()
         return duration
     }
-}
\ No newline at end of file
+}
+
+// ignores case but not accents, like the lowercase comparison it replaces, in the user's locale
+private val collator = Collator.getInstance().apply { strength = Collator.SECONDARY }
+
+private fun collationKey(text: String): CollationKey {
+    // Collator isn't thread safe
+    return synchronized(collator) { collator.getCollationKey(text) }
+}
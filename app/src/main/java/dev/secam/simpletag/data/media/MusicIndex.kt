@@ -0,0 +1,125 @@
+/*
+ * Copyright (C) 2025-2026 Sergio Camacho
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.secam.simpletag.data.media
+
+import android.content.Context
+import android.util.Log
+import kotlinx.serialization.Serializable
+import kotlinx.serialization.json.Json
+import java.io.File
+import java.util.concurrent.ConcurrentHashMap
+
+private const val INDEX_TAG = "MusicIndex"
+private const val INDEX_VERSION = 2
+
+@Serializable
+data class MusicIndexEntry(
+    val size: Long,
+    val dateModified: Long,
+    val musicData: MusicData
+)
+
+@Serializable
+private data class MusicIndexFile(
+    val version: Int,
+    val entries: List<MusicIndexEntry>
+)
+
+/**
+ * Persistent cache of the jaudiotagger metadata read by [MediaRepo.loadFiles], keyed by
+ * MediaStore id. An entry is only reused while its path, size and DATE_MODIFIED still match
+ * what MediaStore reports, so unchanged files don't need to be parsed again on every launch.
+ */
+class MusicIndex(context: Context) {
+    private val indexFile = File(context.filesDir, "music_index.json")
+    private val entries = ConcurrentHashMap<Long, MusicIndexEntry>()
+    private val json = Json { ignoreUnknownKeys = true }
+    @Volatile
+    private var loaded = false
+    @Volatile
+    private var dirty = false
+
+    /**
+     * reads the index from disk. only does work the first time it is called
+     */
+    @Synchronized
+    fun load() {
+        if (loaded) return
+        loaded = true
+        if (!indexFile.exists()) return
+        try {
+            val index = json.decodeFromString<MusicIndexFile>(indexFile.readText())
+            if (index.version == INDEX_VERSION) {
+                for (entry in index.entries) {
+                    entries[entry.musicData.id] = entry
+                }
+            }
+            Log.d(INDEX_TAG, "loaded ${entries.size} entries")
+        } catch (e: Exception) {
+            Log.w(INDEX_TAG, "$e: discarding music index")
+            indexFile.delete()
+        }
+    }
+
+    /**
+     * returns the cached data for [id] if the file hasn't changed since it was indexed
+     */
+    fun get(id: Long, path: String, size: Long, dateModified: Long): MusicData? {
+        val entry = entries[id] ?: return null
+        return if (entry.musicData.path == path && entry.size == size && entry.dateModified == dateModified) {
+            entry.musicData
+        } else null
+    }
+
+    fun put(musicData: MusicData, size: Long, dateModified: Long) {
+        entries[musicData.id] = MusicIndexEntry(size, dateModified, musicData)
+        dirty = true
+    }
+
+    fun invalidate(id: Long) {
+        if (entries.remove(id) != null) dirty = true
+    }
+
+    /**
+     * drops entries for files that are no longer in MediaStore
+     */
+    fun retainAll(ids: Set<Long>) {
+        if (entries.keys.retainAll(ids)) dirty = true
+    }
+
+    /**
+     * writes the index to disk if it changed since the last save
+     */
+    @Synchronized
+    fun save() {
+        if (!dirty) return
+        dirty = false
+        try {
+            val tempFile = File(indexFile.path + ".tmp")
+            tempFile.writeText(
+                json.encodeToString(MusicIndexFile(INDEX_VERSION, entries.values.toList()))
+            )
+            if (!tempFile.renameTo(indexFile)) {
+                tempFile.delete()
+                Log.w(INDEX_TAG, "failed to replace music index")
+            }
+        } catch (e: Exception) {
+            Log.w(INDEX_TAG, "$e: failed to save music index")
+        }
+    }
+}
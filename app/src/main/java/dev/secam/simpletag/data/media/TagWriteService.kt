@@ -0,0 +1,203 @@
+/*
+ * Copyright (C) 2025-2026 Sergio Camacho
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.secam.simpletag.data.media
+
+import android.content.Context
+import android.util.Log
+import dagger.hilt.android.qualifiers.ApplicationContext
+import dev.secam.simpletag.util.tag.createTag
+import dev.secam.simpletag.util.tag.oggFileWriter
+import dev.secam.simpletag.util.tag.setArtworkField
+import dev.secam.simpletag.util.tag.simpleFileReader
+import dev.secam.simpletag.util.tag.simpleFileWriter
+import kotlinx.coroutines.Dispatchers
+import kotlinx.coroutines.currentCoroutineContext
+import kotlinx.coroutines.ensureActive
+import kotlinx.coroutines.channels.Channel
+import kotlinx.coroutines.flow.Flow
+import kotlinx.coroutines.flow.channelFlow
+import kotlinx.coroutines.flow.flowOn
+import kotlinx.coroutines.joinAll
+import kotlinx.coroutines.launch
+import org.jaudiotagger.audio.exceptions.CannotReadException
+import org.jaudiotagger.audio.exceptions.NoWritePermissionsException
+import org.jaudiotagger.tag.FieldKey
+import org.jaudiotagger.tag.TagOptions
+import org.jaudiotagger.tag.flac.FlacTag
+import org.jaudiotagger.tag.images.Artwork
+import org.jaudiotagger.tag.vorbiscomment.VorbisCommentTag
+import java.io.File
+import java.nio.file.AccessDeniedException
+import java.util.concurrent.TimeoutException
+import javax.inject.Inject
+
+// number of files written at once
+private const val WRITE_WORKERS = 4
+// time allowed for each file, plus time to copy the whole file at a slow 1 MB/s in case the
+// tag doesn't fit and the audio has to be moved. a save may take as long as writing every file
+// one after another would be allowed, files that haven't started by then are not written
+private const val FILE_WRITE_TIMEOUT = 5000L
+private const val FILE_WRITE_BYTES_PER_MS = 1000L
+
+/**
+ * the changes made to every file of a save. fields set to an empty string are cleared
+ */
+data class TagEdit(
+    val fields: Map<FieldKey, String> = mapOf(),
+    val deletedFields: Set<FieldKey> = setOf(),
+    val replaceArtwork: Boolean = false,
+    val artwork: Artwork? = null
+)
+
+data class TagWriteResult(
+    val musicData: MusicData,
+    val error: Exception? = null
+) {
+    /**
+     * true if the file couldn't be written because the app isn't allowed to write to it
+     */
+    val permissionDenied: Boolean
+        get() = generateSequence<Throwable>(error) { it.cause }.any {
+            it is AccessDeniedException || it is NoWritePermissionsException
+        }
+}
+
+data class TagWriteProgress(
+    val total: Int,
+    val results: List<TagWriteResult> = listOf(),
+    val finished: Boolean = false
+) {
+    val completed: Int
+        get() = results.size
+    val failed: List<TagWriteResult>
+        get() = results.filter { it.error != null }
+    /**
+     * true if files failed and every one of them failed because it couldn't be written to
+     */
+    val permissionDenied: Boolean
+        get() = failed.isNotEmpty() && failed.all { it.permissionDenied }
+}
+
+class TagWriteService @Inject constructor(
+    @ApplicationContext private val context: Context,
+    private val mediaRepo: MediaRepo
+) {
+    /**
+     * applies [edit] to each file of [musicList] a few at a time, emitting progress as each file is
+     * written. a file that fails or runs out of time doesn't stop the rest. once all are done the
+     * media store is refreshed for the written files in one go and the finished progress is emitted.
+     * every file is read and written with the same snapshot of the tag options.
+     * a write that has started is never interrupted, as the in place writers move the audio
+     * without a copy to go back to. timeouts and cancellation only stop files that haven't started
+     */
+    fun write(musicList: List<MusicData>, edit: TagEdit): Flow<TagWriteProgress> = channelFlow {
+        send(TagWriteProgress(total = musicList.size))
+        val options = TagOptions.getDefault()
+        val deadline = System.currentTimeMillis() + musicList.sumOf { writeAllowance(it) }
+        val writeQueue = Channel<MusicData>(Channel.UNLIMITED)
+        musicList.forEach { writeQueue.send(it) }
+        writeQueue.close()
+        val results = Channel<TagWriteResult>(WRITE_WORKERS)
+        val workers = List(WRITE_WORKERS) {
+            launch(Dispatchers.IO) {
+                for (musicData in writeQueue) {
+                    results.send(writeFile(musicData, edit, options, deadline))
+                }
+            }
+        }
+        launch {
+            workers.joinAll()
+            results.close()
+        }
+        val completed = mutableListOf<TagWriteResult>()
+        for (result in results) {
+            completed.add(result)
+            send(TagWriteProgress(total = musicList.size, results = completed.toList()))
+        }
+        val written = completed.filter { it.error == null }.map { it.musicData }
+        if (written.isNotEmpty()) {
+            mediaRepo.refreshMediaStore(written)
+        }
+        send(TagWriteProgress(total = musicList.size, results = completed.toList(), finished = true))
+    }.flowOn(Dispatchers.Default)
+
+    private fun writeAllowance(musicData: MusicData): Long {
+        return FILE_WRITE_TIMEOUT + File(musicData.path).length() / FILE_WRITE_BYTES_PER_MS
+    }
+
+    private suspend fun writeFile(musicData: MusicData, edit: TagEdit, options: TagOptions, deadline: Long): TagWriteResult {
+        currentCoroutineContext().ensureActive()
+        if (System.currentTimeMillis() > deadline) {
+            Log.w("TagWriteService", "out of time before writing ${musicData.path}")
+            return TagWriteResult(musicData, TimeoutException("Out of time before writing ${musicData.path}"))
+        }
+        val start = System.currentTimeMillis()
+        return try {
+            // not interruptible, stopping part way through could leave the file damaged
+            applyEdit(musicData.path, edit, options)
+            val elapsed = System.currentTimeMillis() - start
+            if (elapsed > writeAllowance(musicData)) {
+                Log.w("TagWriteService", "${musicData.id}: took ${elapsed}ms to write ${musicData.path}")
+            }
+            Log.d("TagWriteService", "${musicData.id}: wrote ${musicData.path}")
+            TagWriteResult(musicData)
+        } catch (e: Exception) {
+            Log.w("TagWriteService", "$e: failed to write ${musicData.path}")
+            TagWriteResult(musicData, e)
+        }
+    }
+
+    private fun applyEdit(path: String, edit: TagEdit, options: TagOptions) {
+        // the fields are edited with the same options the file is read and written with
+        val previous = TagOptions.bind(options)
+        try {
+            val file = simpleFileReader(path, options) ?: throw CannotReadException("Unable to read $path")
+            if (file.tag == null) {
+                file.tag = createTag(file.ext)
+            }
+            val tag = file.tag
+            if (edit.replaceArtwork) {
+                tag.deleteArtworkField()
+                edit.artwork?.let { artwork ->
+                    when (tag) {
+                        is FlacTag -> tag.setArtworkField(artwork)
+                        is VorbisCommentTag -> tag.setArtworkField(artwork)
+                        else -> tag.setField(artwork)
+                    }
+                }
+            }
+            for (field in edit.deletedFields) {
+                tag.deleteField(field)
+            }
+            for ((field, value) in edit.fields) {
+                if (value.isNotEmpty()) {
+                    tag.setField(field, value)
+                } else {
+                    tag.deleteField(field)
+                }
+            }
+            if (file.ext == "ogg" || file.ext == "opus") {
+                oggFileWriter(file, context, options)
+            } else {
+                simpleFileWriter(file, options)
+            }
+        } finally {
+            TagOptions.restore(previous)
+        }
+    }
+}
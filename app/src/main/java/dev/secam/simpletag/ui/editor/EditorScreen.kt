@@ -36,7 +36,6 @@ import androidx.compose.material3.MaterialTheme
 import androidx.compose.material3.Scaffold
 import androidx.compose.material3.SnackbarHost
 import androidx.compose.material3.SnackbarHostState
-import androidx.compose.material3.SnackbarResult
 import androidx.compose.material3.TopAppBarDefaults
 import androidx.compose.runtime.Composable
 import androidx.compose.runtime.collectAsState
@@ -98,6 +97,7 @@ fun EditorScreen(
     val showAddFieldDialog = uiState.showAddFieldDialog
     val showHelpDialog = uiState.showHelpDialog
     val showLyricsSheet = uiState.showLyricsSheet
+    val writeProgress = uiState.writeProgress
     val showSongSyncMissingDialog = uiState.showSongSyncMissingDialog
     val searchResults = uiState.searchResults
     val log = uiState.log
@@ -118,10 +118,14 @@ fun EditorScreen(
             }
         ) {
             scope.launch {
-                if(!viewModel.writeTags(context)){
-                    if (snackbarHostState.showSnackbar(onErrorText, actionText) == SnackbarResult.ActionPerformed)
-                        viewModel.setShowLogDialog(true)
-                } else snackbarHostState.showSnackbar(onOkText)
+                viewModel.showWriteResult(
+                    viewModel.writeTags(),
+                    snackbarHostState,
+                    onCancelText,
+                    onOkText,
+                    onErrorText,
+                    actionText
+                )
             }
         }
     } else null
@@ -260,7 +264,12 @@ fun EditorScreen(
             SnackbarHost(snackbarHostState)
         }
     ) { contentPadding ->
-        if (initialized) {
+        if (writeProgress != null && writeProgress.total > 1) {
+            LoadingScreen(
+                text = stringResource(R.string.writing_tags),
+                subtext = "${writeProgress.completed}/${writeProgress.total}"
+            )
+        } else if (initialized) {
             if (musicList.size == 1) {
                 SingleEditor(
                     musicData = musicList[0],
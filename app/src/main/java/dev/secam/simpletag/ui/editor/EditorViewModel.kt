@@ -39,18 +39,15 @@ import androidx.lifecycle.ViewModel
 import androidx.lifecycle.viewModelScope
 import dagger.hilt.android.lifecycle.HiltViewModel
 import dev.secam.simpletag.data.enums.SimpleTagField
-import dev.secam.simpletag.data.media.MediaRepo
 import dev.secam.simpletag.data.media.MusicData
+import dev.secam.simpletag.data.media.TagEdit
+import dev.secam.simpletag.data.media.TagWriteProgress
+import dev.secam.simpletag.data.media.TagWriteService
 import dev.secam.simpletag.data.preferences.PreferencesRepo
 import dev.secam.simpletag.util.getMimeType
-import dev.secam.simpletag.util.tag.oggFileWriter
-import dev.secam.simpletag.util.tag.setArtworkField
 import dev.secam.simpletag.util.tag.simpleFileReader
-import dev.secam.simpletag.util.tag.simpleFileWriter
 import kotlinx.coroutines.CoroutineExceptionHandler
 import kotlinx.coroutines.Dispatchers
-import kotlinx.coroutines.TimeoutCancellationException
-import kotlinx.coroutines.async
 import kotlinx.coroutines.flow.MutableStateFlow
 import kotlinx.coroutines.flow.SharingStarted
 import kotlinx.coroutines.flow.asStateFlow
@@ -58,21 +55,12 @@ import kotlinx.coroutines.flow.stateIn
 import kotlinx.coroutines.flow.update
 import kotlinx.coroutines.launch
 import kotlinx.coroutines.plus
-import kotlinx.coroutines.withTimeout
-import org.jaudiotagger.tag.Tag
-import org.jaudiotagger.tag.asf.AsfTag
-import org.jaudiotagger.tag.flac.FlacTag
-import org.jaudiotagger.tag.id3.ID3v24Tag
 import org.jaudiotagger.tag.images.AndroidArtwork.createArtworkFromFile
 import org.jaudiotagger.tag.images.Artwork
-import org.jaudiotagger.tag.mp4.Mp4Tag
-import org.jaudiotagger.tag.vorbiscomment.VorbisCommentTag
 import java.io.File
-import java.nio.file.AccessDeniedException
 import java.util.ArrayList
 import javax.inject.Inject
 
-const val WRITE_TIMEOUT = 1000L
 val SUPPORTS_RG = listOf(
     "mp3",
     "wav",
@@ -86,7 +74,7 @@ val SUPPORTS_RG = listOf(
 @HiltViewModel
 class EditorViewModel @Inject constructor(
     preferencesRepo: PreferencesRepo,
-    private val mediaRepo: MediaRepo
+    private val tagWriteService: TagWriteService
 ): ViewModel() {
     private val _uiState = MutableStateFlow(EditorUiState())
     val uiState = _uiState.asStateFlow()
@@ -239,16 +227,6 @@ class EditorViewModel @Inject constructor(
             )
         }
     }
-    fun createTag(ext: String): Tag {
-        return when (ext) {
-            "flac" -> FlacTag()
-            "mp4", "m4a", "m4p", "aac" -> Mp4Tag()
-            "ogg" -> VorbisCommentTag()
-            "wma" -> AsfTag()
-            "mp3", "wav", "wave", "dsf", "aiff", "aif", "aifc" -> ID3v24Tag()
-            else -> null
-        }!!
-    }
 
     fun getArtworkFromUri(contentResolver: ContentResolver, uri: Uri): Artwork? {
         var path: String? = null
@@ -282,145 +260,72 @@ class EditorViewModel @Inject constructor(
     fun clearCache(context: Context) {
         context.cacheDir.delete()
     }
-    suspend fun writeTags(context: Context): Boolean {
+    suspend fun writeTags(): TagWriteProgress {
         _uiState.update { it.copy(log = "") }
-        backgroundScope.async {
-            var log = ""
-            try {
-                withTimeout(WRITE_TIMEOUT) {
-                    log = "Entered writeTags()\n"
-                    val fields = uiState.value.fieldStates - uiState.value.deletedFields
-                    val artwork = uiState.value.artwork
-                    val lyrics = uiState.value.lyrics
-                    val musicList = uiState.value.editorMusicList
-                    // single editor
-                    if (musicList.size == 1) {
-                        log += "Writing single file\n"
-                        val file = simpleFileReader(musicList[0].path)
-                        if(file != null) {
-                            log += "Opened file: ${file.file.path}\n"
-                            if (file.tag == null) {
-                                log += "No tag. Creating tag\n"
-                                file.tag = createTag(file.ext)
-                                log += "Tag created\n"
-                            }
-                            val tag = file.tag
-                            log += "Tag opened\n"
-                            tag.deleteArtworkField()
-                            log += "Deleted old artwork\n"
-                            if (artwork != null) {
-                                when (tag.javaClass) {
-                                    FlacTag().javaClass -> {
-                                        (tag as FlacTag).setArtworkField(artwork)
-                                    }
-                                    VorbisCommentTag().javaClass -> {
-                                        (tag as VorbisCommentTag).setArtworkField(artwork)
-                                    }
-                                    else -> tag.setField(artwork)
-                                }
-                                log += "Wrote new artwork as ${tag.javaClass}\n"
-                            }
-                            for(field in uiState.value.deletedFields){
-                                tag.deleteField(field.fieldKey)
-                            }
-                            if (lyrics != null) {
-                                tag.setField(SimpleTagField.Lyrics.fieldKey,lyrics)
-                            } else {
-                                tag.deleteField(SimpleTagField.Lyrics.fieldKey)
-                            }
-                            for (field in fields) {
-                                if (!field.value.textState.text.isEmpty()) {
-                                    tag.setField(field.key.fieldKey, field.value.textState.text as String)
-                                    log += "Wrote field ${field.key.fieldKey} with content: ${field.value.textState.text}\n"
-                                } else {
-                                    tag.deleteField(field.key.fieldKey)
-                                    log += "Cleared field ${field.key.fieldKey}\n"
-                                }
-                            }
-                            if (file.ext == "ogg" || file.ext == "opus") {
-                                log += "Writing file using ogg writer\n"
-                                oggFileWriter(file, context)
-                                log += "Wrote file: ${file.file.path} \n"
-                            } else {
-                                log += "Writing file using default writer\n"
-                                simpleFileWriter(file)
-                                log += "Wrote file: ${file.file.path} \n"
-                            }
-                        }
-                    //  Batch Editor
-                    } else {
-                        log += "Writing multiple files\n"
-                        val enabledFieldStates = fields.filter { it.value.enabledState.value }
-                        for(song in musicList){
-                            val file = simpleFileReader(song.path)
-                            if(file != null){
-                                log += "Opened file: ${file.file.path}\n"
-                                if (file.tag == null) {
-                                    log += "No tag. Creating tag\n"
-                                    file.tag = createTag(file.ext)
-                                    log += "Tag created\n"
-                                }
-                                val tag = file.tag
-                                log += "Tag opened\n"
-                                if(uiState.value.artworkEnabled){
-                                    tag.deleteArtworkField()
-                                    log += "Deleted old artwork\n"
-                                    if (artwork != null) {
-                                        when (tag.javaClass) {
-                                            FlacTag().javaClass -> {
-                                                (tag as FlacTag).setArtworkField(artwork)
-                                            }
-                                            VorbisCommentTag().javaClass -> {
-                                                (tag as VorbisCommentTag).setArtworkField(artwork)
-                                            }
-                                            else -> tag.setField(artwork)
-                                        }
-                                        log += "Wrote new artwork as ${tag.javaClass}\n"
-                                    }
-                                }
-
-                                for(field in uiState.value.deletedFields){
-                                    tag.deleteField(field.fieldKey)
-                                }
-                                for (field in enabledFieldStates) {
-                                    if (!field.value.textState.text.isEmpty()) {
-                                        tag.setField(field.key.fieldKey, field.value.textState.text as String)
-                                        log += "Wrote field ${field.key.fieldKey} with content: ${field.value.textState.text}\n"
-                                    } else {
-                                        tag.deleteField(field.key.fieldKey)
-                                        log += "Cleared field ${field.key.fieldKey}\n"
-                                    }
-                                }
-                                if (file.ext == "ogg" || file.ext== "opus") {
-                                    log += "Writing file using ogg writer\n"
-                                    oggFileWriter(file, context)
-                                    log += "Wrote file: ${file.file.path} \n"
-                                } else {
-                                    log += "Writing file using default writer\n"
-                                    simpleFileWriter(file)
-                                    log += "Wrote file: ${file.file.path} \n"
-                                }
-                            }
-                        }
-                    }
-                    log += "Resetting change tracking\n"
-                    //  reset change tracking
-                    setArtworkChanged(false)
-                    setSavedFields()
-                    setChangesMade(false)
-                    log += "Change tracking reset\n"
-                    //  refresh mediastore to reflect changes
-                    log += "Refreshing mediastore\n"
-                    mediaRepo.refreshMediaStore(musicList)
-                    log += "Mediastore refreshed\n"
-                    log += "Finished saving\n"
-                    Log.d("EditorVM", log)
-                }
-            } catch (e: TimeoutCancellationException) {
-                _uiState.update { it.copy(log = e.toString() + "\n$log") }
+        val fields = uiState.value.fieldStates - uiState.value.deletedFields
+        val musicList = uiState.value.editorMusicList
+        val deletedFields = uiState.value.deletedFields.map { it.fieldKey }.toSet()
+        val edit = if (musicList.size == 1) {
+            // single editor
+            TagEdit(
+                fields = fields.map { it.key.fieldKey to it.value.textState.text.toString() }.toMap() +
+                        (SimpleTagField.Lyrics.fieldKey to (uiState.value.lyrics ?: "")),
+                deletedFields = deletedFields,
+                replaceArtwork = true,
+                artwork = uiState.value.artwork
+            )
+        } else {
+            //  batch editor
+            val enabledFieldStates = fields.filter { it.value.enabledState.value }
+            TagEdit(
+                fields = enabledFieldStates.map { it.key.fieldKey to it.value.textState.text.toString() }.toMap(),
+                deletedFields = deletedFields,
+                replaceArtwork = uiState.value.artworkEnabled,
+                artwork = uiState.value.artwork
+            )
+        }
+        var progress = TagWriteProgress(total = musicList.size)
+        tagWriteService.write(musicList, edit).collect { writeProgress ->
+            progress = writeProgress
+            _uiState.update { it.copy(writeProgress = writeProgress) }
+        }
+        _uiState.update { it.copy(writeProgress = null) }
+        val failed = progress.failed
+        if (failed.isEmpty()) {
+            //  reset change tracking
+            setArtworkChanged(false)
+            setSavedFields()
+            setChangesMade(false)
+            Log.d("EditorVM", "Wrote ${progress.completed} files")
+        } else {
+            _uiState.update { currentState ->
+                currentState.copy(
+                    log = failed.joinToString("\n") { "${it.musicData.path}: ${it.error}" }
+                )
             }
-        }.await()
-        return uiState.value.log == ""
+        }
+        return progress
+    }
+
+    /**
+     * shows the result of [writeTags], files that failed because they couldn't be written to are
+     * reported as the permission being denied
+     */
+    suspend fun showWriteResult(
+        progress: TagWriteProgress,
+        snackbarHostState: SnackbarHostState,
+        onCancelText: String,
+        onOkText: String,
+        onErrorText: String,
+        actionText: String
+    ) {
+        if (progress.failed.isEmpty()) {
+            snackbarHostState.showSnackbar(onOkText)
+        } else if (progress.permissionDenied) {
+            snackbarHostState.showSnackbar(onCancelText)
+        } else if (snackbarHostState.showSnackbar(onErrorText, actionText) == SnackbarResult.ActionPerformed) {
+            setShowLogDialog(true)
+        }
     }
 
     fun onSave(
@@ -454,20 +359,14 @@ class EditorViewModel @Inject constructor(
                 }
                 // permission request not needed for api 29 and below
                 else {
-                    try {
-                        if (!writeTags(context)) {
-                            if (snackbarHostState.showSnackbar(
-                                    onErrorText,
-                                    actionText
-                                ) == SnackbarResult.ActionPerformed
-                            )
-                                setShowLogDialog(true)
-                        } else snackbarHostState.showSnackbar(onOkText)
-
-                    } catch (e: AccessDeniedException) {
-                        e.printStackTrace()
-                        snackbarHostState.showSnackbar(onCancelText)
-                    }
+                    showWriteResult(
+                        writeTags(),
+                        snackbarHostState,
+                        onCancelText,
+                        onOkText,
+                        onErrorText,
+                        actionText
+                    )
                 }
             }
         }
@@ -634,6 +533,7 @@ data class EditorUiState(
     val deletedFields: Set<SimpleTagField> = setOf(),
     val artworkEnabled: Boolean = false,
     val changesMade: Boolean = false,
+    val writeProgress: TagWriteProgress? = null,
     /*      Show Dialogs     */
     val showBackDialog: Boolean = false,
     val showSaveDialog: Boolean = false,
@@ -0,0 +1,153 @@
+/*
+ * Copyright (C) 2025  Sergio Camacho
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.secam.simpletag.ui.selector
+
+import dev.secam.simpletag.data.media.MusicData
+import java.text.Normalizer
+import java.util.Locale
+
+// separates the fields of a song in its search text so a query can't match across two of them
+private const val FIELD_SEPARATOR = '\n'
+private val COMBINING_MARKS = Regex("\\p{Mn}+")
+
+/**
+ * Search index over the songs in [dev.secam.simpletag.data.media.MediaRepo.musicMapState].
+ * Title, artist and album are case folded and stripped of accents once when a song is indexed,
+ * so a search is a single pass of plain substring checks. When a query contains the previous
+ * one, only the songs that matched the previous query are checked again.
+ * Results are always in the order of the indexed map.
+ */
+class SearchIndex {
+    private var source: Map<Long, MusicData> = emptyMap()
+    private var songs: Array<MusicData> = emptyArray()
+    private var texts: Array<String> = emptyArray()
+    private var positions: HashMap<Long, Int> = HashMap()
+
+    private var lastQuery: String? = null
+    private var lastMatches: IntArray = IntArray(0)
+
+    /**
+     * indexes [musicMap] if it isn't already the indexed map. songs whose title, artist and
+     * album haven't changed keep their search text
+     */
+    @Synchronized
+    fun update(musicMap: Map<Long, MusicData>) {
+        if (musicMap === source) return
+        val newSongs = ArrayList<MusicData>(musicMap.size)
+        val newTexts = ArrayList<String>(musicMap.size)
+        val newPositions = HashMap<Long, Int>(musicMap.size)
+        for (song in musicMap.values) {
+            val old = positions[song.id]
+            newPositions[song.id] = newSongs.size
+            newSongs.add(song)
+            newTexts.add(if (old != null) searchText(song, songs[old], texts[old]) else searchText(song))
+        }
+        source = musicMap
+        songs = newSongs.toTypedArray()
+        texts = newTexts.toTypedArray()
+        positions = newPositions
+        lastQuery = null
+    }
+
+    /**
+     * reindexes only the songs in [ids], taking them from [musicMap], which is otherwise the
+     * indexed map. falls back to indexing the whole map if it has different songs
+     */
+    @Synchronized
+    fun update(musicMap: Map<Long, MusicData>, ids: Collection<Long>) {
+        if (musicMap === source) return
+        if (musicMap.size != songs.size) return update(musicMap)
+        for (id in ids) {
+            val song = musicMap[id] ?: continue
+            val index = positions[id] ?: return update(musicMap)
+            texts[index] = searchText(song, songs[index], texts[index])
+            songs[index] = song
+        }
+        source = musicMap
+        lastQuery = null
+    }
+
+    /**
+     * the search text of [song], reusing [oldText] if title, artist and album are the same as in [old]
+     */
+    private fun searchText(song: MusicData, old: MusicData, oldText: String): String {
+        return if (old.title == song.title && old.artist == song.artist && old.album == song.album) {
+            oldText
+        } else {
+            searchText(song)
+        }
+    }
+
+    /**
+     * returns the indexed songs whose title, artist or album contains [query], ignoring case and accents
+     */
+    @Synchronized
+    fun search(query: String): List<MusicData> {
+        val normalizedQuery = normalize(query)
+        if (normalizedQuery.isEmpty()) {
+            // a copy, as the indexed songs are replaced in place when some of them are updated
+            return songs.toList()
+        }
+        val previous = lastQuery
+        val matches = if (previous != null && normalizedQuery.contains(previous)) {
+            // anything matching the new query also matched the previous one
+            filter(lastMatches, lastMatches.size, normalizedQuery)
+        } else {
+            filter(null, songs.size, normalizedQuery)
+        }
+        lastQuery = normalizedQuery
+        lastMatches = matches
+        return matches.map { songs[it] }
+    }
+
+    private fun filter(candidates: IntArray?, count: Int, normalizedQuery: String): IntArray {
+        val matches = IntArray(count)
+        var size = 0
+        for (i in 0..<count) {
+            val index = candidates?.get(i) ?: i
+            if (texts[index].contains(normalizedQuery)) {
+                matches[size++] = index
+            }
+        }
+        return matches.copyOf(size)
+    }
+
+    companion object {
+        /**
+         * checks a single song against [query] the same way [search] does
+         */
+        fun matches(song: MusicData, query: String): Boolean {
+            return searchText(song).contains(normalize(query))
+        }
+
+        /**
+         * case folds [text] and strips its accents, so that "Beyoncé" and "BEYONCE" give the same result
+         */
+        fun normalize(text: String): String {
+            val isAscii = text.all { it.code < 0x80 }
+            val stripped = if (isAscii) text else
+                COMBINING_MARKS.replace(Normalizer.normalize(text, Normalizer.Form.NFD), "")
+            return stripped.lowercase(Locale.ROOT)
+        }
+
+        private fun searchText(song: MusicData): String {
+            return normalize(song.title) + FIELD_SEPARATOR + normalize(song.artist) +
+                    FIELD_SEPARATOR + normalize(song.album)
+        }
+    }
+}
@@ -30,10 +30,10 @@ import dev.secam.simpletag.data.media.MusicData
 import dev.secam.simpletag.data.preferences.PreferencesRepo
 import dev.secam.simpletag.data.preferences.UserPreferences
 import kotlinx.coroutines.CoroutineExceptionHandler
-import kotlinx.coroutines.Deferred
+import kotlinx.coroutines.CoroutineStart
 import kotlinx.coroutines.Dispatchers
-import kotlinx.coroutines.async
-import kotlinx.coroutines.awaitAll
+import kotlinx.coroutines.Job
+import kotlinx.coroutines.ensureActive
 import kotlinx.coroutines.flow.MutableStateFlow
 import kotlinx.coroutines.flow.SharingStarted
 import kotlinx.coroutines.flow.asStateFlow
@@ -61,11 +61,34 @@ class SelectorViewModel @Inject constructor(
         throwable.printStackTrace()
     }
     private val backgroundScope = viewModelScope.plus(Dispatchers.Default + coroutineExceptionHandler)
+    private val searchIndex = SearchIndex()
+    private var updateJob: Job? = null
+
+    init {
+        // only the songs changed by refreshMediaStore, updateHasArt or updateDuration are
+        // reindexed and moved in the list, the whole map is indexed after it is loaded
+        backgroundScope.launch {
+            mediaRepo.updatedIds.collect { ids ->
+                val musicMap = musicMapState.value
+                searchIndex.update(musicMap, ids)
+                updateSongs(ids.mapNotNull { id -> musicMap[id] })
+            }
+        }
+    }
 
     fun loadList(snackbarHostState: SnackbarHostState, message: String, actionLabel: String) {
         backgroundScope.launch {
             mediaRepo.updatePathFilter(prefState.value.selectedList, prefState.value.selectMode)
+            // show songs as they are scanned instead of waiting for the whole library
+            val batchCollector = launch(start = CoroutineStart.UNDISPATCHED) {
+                mediaRepo.scanBatches.collect { batch ->
+                    mergeBatch(batch)
+                }
+            }
             val result = mediaRepo.loadFiles()
+            batchCollector.cancel()
+            // keep the search index built so the first query doesn't have to wait for it
+            searchIndex.update(musicMapState.value)
             if(result == null) {
                 _uiState.update { currentState ->
                     currentState.copy(
@@ -95,6 +118,7 @@ class SelectorViewModel @Inject constructor(
     }
     suspend fun suspendLoadList() {
         mediaRepo.loadFiles()
+        searchIndex.update(musicMapState.value)
         _uiState.update { currentState ->
             currentState.copy(
                 musicList = sortList(
@@ -109,74 +133,37 @@ class SelectorViewModel @Inject constructor(
         return uiState.value.albumMap[album]?.get(0)?.hasArtwork
     }
     fun updateMusicList() {
-        backgroundScope.launch {
+        // only the latest query's results are published
+        updateJob?.cancel()
+        updateJob = backgroundScope.launch {
             if(uiState.value.sortOrder == SortOrder.Album){
-                val newList: MutableList<Pair<String, Boolean>> = mutableListOf()
-
                 //  Check query and filter
-                val scanners = mutableListOf<Deferred<Boolean>>()
-                for (album in uiState.value.albumMap) {
-                    val scanner = backgroundScope.async {
-                        if (matchesQuery(album.key)) {
-                            newList.add(Pair(album.key,false))
-                        } else false
-                    }
-                    scanners.add(scanner)
-                }
-                scanners.awaitAll()
+                val query = SearchIndex.normalize(uiState.value.searchQuery)
+                val albumMap = uiState.value.albumMap
+                val albums = albumMap.keys
+                    .filter { album -> SearchIndex.normalize(album).contains(query) }
 
                 //  Sort files
-                newList.sortBy { it.first }
-                if (uiState.value.sortDirection == SortDirection.Descending) {
-                    newList.reverse()
-                }
+                val comparator = compareBy<String> { album -> albumMap[album]!![0].sortKey(SortOrder.Album) }
+                val newList = albums.sortedWith(
+                    if (uiState.value.sortDirection == SortDirection.Descending) comparator.reversed() else comparator
+                ).map { album -> Pair(album, false) }
+                ensureActive()
                 _uiState.update { currentState ->
                     currentState.copy(
                         albumList = newList
                     )
                 }
             } else {
-                val musicList = musicMapState.value.map { entry ->
-                    entry.value
-                }
-                val newList = mutableListOf<MusicData>()
-
                 //  Check query and filter
-                val scanners = mutableListOf<Deferred<Boolean>>()
-                for (song in musicList) {
-                    val scanner = backgroundScope.async {
-                        if (matchesQuery(song)) {
-                            if (uiState.value.taggedFilter) {
-                                if (!song.tagged) {
-                                    newList.add(song)
-                                } else false
-                            } else {
-                                newList.add(song)
-                            }
-                        } else false
-                    }
-                    scanners.add(scanner)
-                }
-                scanners.awaitAll()
+                searchIndex.update(musicMapState.value)
+                val newList = searchIndex.search(uiState.value.searchQuery)
+                    .filter { song -> !uiState.value.taggedFilter || !song.tagged }
+                    .toMutableList()
 
                 //  Sort files
-                newList.sortBy { selector ->
-                    when (uiState.value.sortOrder) {
-                        SortOrder.Album ->
-                            selector.album.lowercase()
-
-                        SortOrder.Title ->
-                            selector.title.lowercase()
-
-                        SortOrder.Artist ->
-                            selector.artist.lowercase()
-//                    SortOrder.DateAdded ->
-//                        selector.artist?.lowercase()
-                    }
-                }
-                if (uiState.value.sortDirection == SortDirection.Descending) {
-                    newList.reverse()
-                }
+                newList.sortWith(listComparator())
+                ensureActive()
                 _uiState.update { currentState ->
                     currentState.copy(
                         musicList = newList
@@ -187,55 +174,60 @@ class SelectorViewModel @Inject constructor(
     }
 
     fun sortList(musicList: List<MusicData>): List<MusicData> {
-        val newList = musicList.toMutableList()
+        return musicList.sortedWith(listComparator())
+    }
+
+    /**
+     * comparator matching the order used by [sortList]
+     */
+    private fun listComparator(): Comparator<MusicData> {
         val sortOrder = if(prefState.value.rememberSort) prefState.value.sortOrder else uiState.value.sortOrder
         val sortDirection = if(prefState.value.rememberSort) prefState.value.sortDirection else uiState.value.sortDirection
 
-        newList.sortBy { selector ->
-            when(sortOrder){
-                SortOrder.Album ->
-                    selector.album.lowercase()
-                SortOrder.Title ->
-                    selector.title.lowercase()
-                SortOrder.Artist ->
-                    selector.artist.lowercase()
-//                    SortOrder.DateAdded ->
-//                        selector.artist?.lowercase()
-            }
+        val comparator = compareBy<MusicData> { selector ->
+            selector.sortKey(sortOrder)
         }
-        if(sortDirection == SortDirection.Descending){
-            newList.reverse()
-        }
-        return newList as List<MusicData>
+        return if(sortDirection == SortDirection.Descending) comparator.reversed() else comparator
     }
-    fun matchesQuery(song: MusicData): Boolean {
-        val query = uiState.value.searchQuery
-        return when {
-            query.isEmpty() ->
-                true
-            song.title.contains(query, true) ->
-                true
 
-            song.artist.contains(query, true) ->
-                true
-
-            song.album.contains(query, true) ->
-                true
-            else ->
-                false
+    /**
+     * merges a batch of scanned songs into the already sorted music list. songs in [replacedIds]
+     * are removed from the list first, so updated songs move to their new position
+     */
+    private fun mergeBatch(batch: List<MusicData>, replacedIds: Set<Long> = batch.mapTo(HashSet()) { it.id }) {
+        val comparator = listComparator()
+        val sortedBatch = batch.sortedWith(comparator)
+        _uiState.update { currentState ->
+            val current = currentState.musicList
+            val newList = ArrayList<MusicData>(current.size + sortedBatch.size)
+            var i = 0
+            var j = 0
+            while (i < current.size || j < sortedBatch.size) {
+                if (i < current.size && current[i].id in replacedIds) {
+                    i++
+                } else if (j >= sortedBatch.size ||
+                    (i < current.size && comparator.compare(current[i], sortedBatch[j]) <= 0)
+                ) {
+                    newList.add(current[i++])
+                } else {
+                    newList.add(sortedBatch[j++])
+                }
+            }
+            currentState.copy(musicList = newList)
         }
     }
 
-    fun matchesQuery(text: String): Boolean {
+    /**
+     * moves updated songs to their sorted position in the music list instead of sorting it again
+     */
+    private fun updateSongs(songs: List<MusicData>) {
+        if (songs.isEmpty()) return
         val query = uiState.value.searchQuery
-        return when {
-            query.isEmpty() ->
-                true
-            text.contains(query, true) ->
-                true
-            else ->
-                false
+        val taggedFilter = uiState.value.taggedFilter
+        val shown = songs.filter { song ->
+            SearchIndex.matches(song, query) && !(taggedFilter && song.tagged)
         }
+        mergeBatch(shown, songs.mapTo(HashSet()) { it.id })
     }
     fun expandAlbum(index: Int) {
         val newList = uiState.value.albumList.toMutableList()
@@ -255,15 +247,8 @@ class SelectorViewModel @Inject constructor(
                     )
                 }
             } else {
-                val id = uiState.value.musicList[index].id
-                mediaRepo.updateHasArt(id)
-                _uiState.update { currentState ->
-                    val newList = uiState.value.musicList.toMutableList()
-                    newList[index] = musicMapState.value[id]!!
-                    currentState.copy(
-                        musicList = newList
-                    )
-                }
+                // the updated song is put back into musicList when musicMapState changes
+                mediaRepo.updateHasArt(uiState.value.musicList[index].id)
             }
         }
     }
@@ -22,23 +22,51 @@ import android.util.Log
 import org.jaudiotagger.audio.AudioFile
 import org.jaudiotagger.audio.AudioFileIO
 import org.jaudiotagger.audio.exceptions.CannotReadException
+import org.jaudiotagger.audio.exceptions.CannotWriteInPlaceException
 import org.jaudiotagger.audio.mp4.Mp4FileReader
 import org.jaudiotagger.audio.mp4.Mp4FileWriter
 import org.jaudiotagger.audio.ogg.OggFileReader
 import org.jaudiotagger.audio.ogg.OggFileWriter
 import org.jaudiotagger.audio.opus.OpusFileReader
 import org.jaudiotagger.audio.opus.OpusFileWriter
+import org.jaudiotagger.tag.Tag
+import org.jaudiotagger.tag.TagOptions
+import org.jaudiotagger.tag.asf.AsfTag
+import org.jaudiotagger.tag.flac.FlacTag
+import org.jaudiotagger.tag.id3.ID3v24Tag
+import org.jaudiotagger.tag.mp4.Mp4Tag
+import org.jaudiotagger.tag.vorbiscomment.VorbisCommentTag
 import java.io.File
 
-fun simpleFileReader(path: String): AudioFile? {
+fun simpleFileReader(path: String, options: TagOptions = TagOptions.getDefault()): AudioFile? {
     return try {
         when {
             path.endsWith("aac", true) ->
-                Mp4FileReader().read(File(path))
+                Mp4FileReader().read(File(path), options)
             path.endsWith("opus", true) ->
-                OpusFileReader().read(File(path))
+                OpusFileReader().read(File(path), options)
             else ->
-                AudioFileIO.read(File(path))
+                AudioFileIO.read(File(path), options)
+        }
+    } catch (e: CannotReadException) {
+        e.printStackTrace()
+        null
+    }
+}
+
+/**
+ * like [simpleFileReader] but skips loading embedded artwork, for when only the text fields and
+ * whether the file has artwork are needed. the returned file can't be written
+ */
+fun simpleSummaryReader(path: String, options: TagOptions = TagOptions.getDefault()): AudioFile? {
+    return try {
+        when {
+            path.endsWith("aac", true) ->
+                Mp4FileReader().readSummary(File(path), options)
+            path.endsWith("opus", true) ->
+                OpusFileReader().readSummary(File(path), options)
+            else ->
+                AudioFileIO.readSummary(File(path), options)
         }
     } catch (e: CannotReadException) {
         e.printStackTrace()
@@ -49,41 +77,71 @@ fun simpleFileReader(path: String): AudioFile? {
 /**
  * for ogg/vorbis use [oggFileWriter] instead
  */
-fun simpleFileWriter(file: AudioFile) {
+fun simpleFileWriter(file: AudioFile, options: TagOptions = TagOptions.getDefault()) {
     when {
         file.file.path.endsWith("aac", true) ->
-            Mp4FileWriter().write(file)
+            Mp4FileWriter().write(file, options)
         else ->
-            AudioFileIO.write(file)
+            AudioFileIO.write(file, options)
     }
 }
 
 /**
- * need to use this to write ogg as jaudiotagger tries to create temp files which it doesn't have permissions for
+ * need to use this to write ogg as jaudiotagger tries to create temp files which it doesn't have permissions for.
+ * the tag is rewritten directly in the original file instead, only moving the audio when the new tag doesn't fit.
+ * if the file can't be updated in place it is written through a temporary copy in the app's own storage
+ * like before. that is only done when nothing has been written yet, a failure part way through is
+ * thrown as the file may be damaged
  */
-fun oggFileWriter(file: AudioFile, context: Context){
-    if(file.ext == "opus"){
-        opusFileWriter(file, context)
+fun oggFileWriter(file: AudioFile, context: Context, options: TagOptions = TagOptions.getDefault()) {
+    try {
+        if (file.ext == "opus") {
+            OpusFileWriter().writeInPlace(file, options)
+        } else {
+            OggFileWriter().writeInPlace(file, options)
+        }
+    } catch (e: CannotWriteInPlaceException) {
+        Log.w("oggWriter", "$e: writing ${file.file.path} through a temporary copy")
+        oggTempFileWriter(file, context, options)
     }
-    else {
-        val tempFile = File(context.filesDir, "ogg_temp")
-        tempFile.writeBytes(file.file.readBytes())
-        val tempAF = OggFileReader().read(tempFile)
+}
+
+private fun oggTempFileWriter(file: AudioFile, context: Context, options: TagOptions) {
+    // several files can be written at once so each needs its own copy
+    val tempFile = File.createTempFile("${file.ext}_temp", null, context.filesDir)
+    try {
+        file.file.inputStream().use { input ->
+            tempFile.outputStream().use { output -> input.copyTo(output) }
+        }
+        val tempAF = if (file.ext == "opus") {
+            OpusFileReader().read(tempFile, options)
+        } else {
+            OggFileReader().read(tempFile, options)
+        }
         tempAF.tag = file.tag
-        Log.d("oggWriter", tempAF.toString())
-        OggFileWriter().write(tempAF)
-        file.file.writeBytes(tempFile.readBytes())
+        if (file.ext == "opus") {
+            OpusFileWriter().write(tempAF, options)
+        } else {
+            OggFileWriter().write(tempAF, options)
+        }
+        tempFile.inputStream().use { input ->
+            file.file.outputStream().use { output -> input.copyTo(output) }
+        }
+    } finally {
         tempFile.delete()
     }
 }
 
-fun opusFileWriter(file: AudioFile, context: Context){
-    val tempFile = File(context.filesDir, "opus_temp")
-    tempFile.writeBytes(file.file.readBytes())
-    val tempAF = OpusFileReader().read(tempFile)
-    tempAF.tag = file.tag
-    Log.d("opusWriter", tempAF.toString())
-    OpusFileWriter().write(tempAF)
-    file.file.writeBytes(tempFile.readBytes())
-    tempFile.delete()
-}
\ No newline at end of file
+/**
+ * creates an empty tag of the kind used by files with extension [ext]
+ */
+fun createTag(ext: String): Tag {
+    return when (ext) {
+        "flac" -> FlacTag()
+        "mp4", "m4a", "m4p", "aac" -> Mp4Tag()
+        "ogg" -> VorbisCommentTag()
+        "wma" -> AsfTag()
+        "mp3", "wav", "wave", "dsf", "aiff", "aif", "aifc" -> ID3v24Tag()
+        else -> null
+    }!!
+}
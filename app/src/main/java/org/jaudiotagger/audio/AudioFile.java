@@ -5,9 +5,10 @@ import org.jaudiotagger.audio.exceptions.*;
 import org.jaudiotagger.audio.flac.metadatablock.MetadataBlockDataPicture;
 import org.jaudiotagger.audio.generic.Permissions;
 import org.jaudiotagger.audio.real.RealTag;
+import org.jaudiotagger.logging.DebugLogging;
 import org.jaudiotagger.logging.ErrorMessage;
 import org.jaudiotagger.tag.Tag;
-import org.jaudiotagger.tag.TagOptionSingleton;
+import org.jaudiotagger.tag.TagOptions;
 import org.jaudiotagger.tag.aiff.AiffTag;
 import org.jaudiotagger.tag.asf.AsfTag;
 import org.jaudiotagger.tag.flac.FlacTag;
@@ -26,6 +27,7 @@ import java.io.RandomAccessFile;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
@@ -66,6 +68,11 @@ public class AudioFile
      */
     protected String extension;
 
+    /**
+     * Set if read with AudioFileIO.readSummary(), so large binary data such as artwork was not loaded
+     */
+    protected boolean isSummary;
+
     public AudioFile()
     {
 
@@ -175,6 +182,19 @@ public class AudioFile
         this.tag = tag;
     }
 
+    /**
+     * @return true if this was read as a summary, in which case it cannot be written back to file
+     */
+    public boolean isSummary()
+    {
+        return isSummary;
+    }
+
+    public void setSummary(boolean isSummary)
+    {
+        this.isSummary = isSummary;
+    }
+
     /**
      * Return audio header information
      * @return
@@ -205,7 +225,7 @@ public class AudioFile
      */
     public String toString()
     {
-        return "AudioFile " + getFile().getAbsolutePath()
+        return "AudioFile " + ((file == null) ? "" : file.getAbsolutePath())
                 + "  --------\n" + audioHeader.toString() + "\n" + ((tag == null) ? "" : tag.toString()) + "\n-------------------";
     }
 
@@ -217,7 +237,10 @@ public class AudioFile
      */
     public void checkFileExists(File file)throws FileNotFoundException
     {
-        logger.config("Reading file:" + "path" + file.getPath() + ":abs:" + file.getAbsolutePath());
+        if (DebugLogging.isLoggable(logger, Level.CONFIG))
+        {
+            logger.config("Reading file:" + "path" + file.getPath() + ":abs:" + file.getAbsolutePath());
+        }
         if (!file.exists())
         {
             logger.severe("Unable to find:" + file.getPath());
@@ -254,7 +277,7 @@ public class AudioFile
         }
         else
         {
-            if (TagOptionSingleton.getInstance().isCheckIsWritable() && !Files.isWritable(path))
+            if (TagOptions.current().isCheckIsWritable() && !Files.isWritable(path))
             {
                 logger.severe(Permissions.displayPermissions(file.toPath()));
                 logger.severe(Permissions.displayPermissions(path));
@@ -329,7 +352,7 @@ public class AudioFile
         }
         else if(SupportedFileFormat.WAV.getFilesuffix().equals(extension))
         {
-            return new WavTag(TagOptionSingleton.getInstance().getWavOptions());
+            return new WavTag(TagOptions.current().getWavOptions());
         }
         else if(SupportedFileFormat.RA.getFilesuffix().equals(extension))
         {
@@ -406,7 +429,7 @@ public class AudioFile
          */
         if(tag instanceof AbstractID3v2Tag)
         {
-            Tag convertedTag = convertID3Tag((AbstractID3v2Tag)tag, TagOptionSingleton.getInstance().getID3V2Version());
+            Tag convertedTag = convertID3Tag((AbstractID3v2Tag)tag, TagOptions.current().getID3V2Version());
             if(convertedTag!=null)
             {
                 return convertedTag;
@@ -38,14 +38,18 @@ import org.jaudiotagger.audio.ogg.OggFileWriter;
 import org.jaudiotagger.audio.real.RealFileReader;
 import org.jaudiotagger.audio.wav.WavFileReader;
 import org.jaudiotagger.audio.wav.WavFileWriter;
+import org.jaudiotagger.logging.DebugLogging;
 import org.jaudiotagger.logging.ErrorMessage;
 import org.jaudiotagger.tag.TagException;
+import org.jaudiotagger.tag.TagOptions;
 
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.nio.channels.SeekableByteChannel;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
@@ -192,6 +196,120 @@ public class AudioFileIO
       return getDefaultAudioFileIO().readFile(f);
   }
 
+    /**
+     *
+     * Read the tag contained in the given file using options instead of the default options.
+     *
+     * The options are used by the readers and tags for the whole of the read, so files can be read concurrently with
+     * different options, see {@link TagOptions}.
+     *
+     * @param f The file to read.
+     * @param options The options to read with.
+     * @return The AudioFile with the file tag and the file encoding info.
+     * @throws org.jaudiotagger.audio.exceptions.CannotReadException If the file could not be read, the extension wasn't
+     *                             recognized, or an IO error occurred during the read.
+     * @throws org.jaudiotagger.tag.TagException
+     * @throws org.jaudiotagger.audio.exceptions.ReadOnlyFileException
+     * @throws java.io.IOException
+     * @throws org.jaudiotagger.audio.exceptions.InvalidAudioFrameException
+     */
+    public static AudioFile read(File f, TagOptions options)
+            throws CannotReadException, IOException, TagException, ReadOnlyFileException, InvalidAudioFrameException
+    {
+        return getDefaultAudioFileIO().readFile(f, options);
+    }
+
+    /**
+     *
+     * Read the tag contained in a channel instead of a file, such as a channel opened from a file descriptor so that
+     * the file does not need a path. The reader is chosen by the extension given and the channel is left open. The
+     * returned AudioFile has no associated File, write changes back using {@link #write(AudioFile, SeekableByteChannel)}.
+     *
+     * Only Flac, Mp4, Wav, Aiff and Dsf can be read from a channel.
+     *
+     * @param channel The channel to read.
+     * @param ext The extension of the file the channel is for, such as flac.
+     * @return The AudioFile with the file tag and the file encoding info.
+     * @throws org.jaudiotagger.audio.exceptions.CannotReadException If the channel could not be read, the extension wasn't
+     *                             recognized or cannot be read from a channel, or an IO error occurred during the read.
+     * @throws org.jaudiotagger.tag.TagException
+     * @throws org.jaudiotagger.audio.exceptions.ReadOnlyFileException
+     * @throws java.io.IOException
+     * @throws org.jaudiotagger.audio.exceptions.InvalidAudioFrameException
+     */
+    public static AudioFile read(SeekableByteChannel channel, String ext)
+            throws CannotReadException, IOException, TagException, ReadOnlyFileException, InvalidAudioFrameException
+    {
+        return getDefaultAudioFileIO().readChannel(channel, ext);
+    }
+
+    /**
+     *
+     * Read the tag contained in a channel using options instead of the default options, see
+     * {@link #read(SeekableByteChannel, String)} and {@link #read(File, TagOptions)}
+     *
+     * @param channel The channel to read.
+     * @param ext The extension of the file the channel is for, such as flac.
+     * @param options The options to read with.
+     * @return The AudioFile with the file tag and the file encoding info.
+     * @throws org.jaudiotagger.audio.exceptions.CannotReadException If the channel could not be read, the extension wasn't
+     *                             recognized or cannot be read from a channel, or an IO error occurred during the read.
+     * @throws org.jaudiotagger.tag.TagException
+     * @throws org.jaudiotagger.audio.exceptions.ReadOnlyFileException
+     * @throws java.io.IOException
+     * @throws org.jaudiotagger.audio.exceptions.InvalidAudioFrameException
+     */
+    public static AudioFile read(SeekableByteChannel channel, String ext, TagOptions options)
+            throws CannotReadException, IOException, TagException, ReadOnlyFileException, InvalidAudioFrameException
+    {
+        return getDefaultAudioFileIO().readChannel(channel, ext, options);
+    }
+
+    /**
+     *
+     * Read a summary of the tag contained in the given file.
+     *
+     * Every text field is read but large binary data such as artwork is skipped over, the artwork is still returned
+     * by the tag but without its image data (see {@link org.jaudiotagger.tag.images.Artwork#isDeferred()}). This is
+     * much cheaper when only the basic fields are needed, for example when listing a music library. The returned
+     * AudioFile cannot be written back to file.
+     *
+     * @param f The file to read.
+     * @return The AudioFile with the file tag and the file encoding info.
+     * @throws org.jaudiotagger.audio.exceptions.CannotReadException If the file could not be read, the extension wasn't
+     *                             recognized, or an IO error occurred during the read.
+     * @throws org.jaudiotagger.tag.TagException
+     * @throws org.jaudiotagger.audio.exceptions.ReadOnlyFileException
+     * @throws java.io.IOException
+     * @throws org.jaudiotagger.audio.exceptions.InvalidAudioFrameException
+     */
+    public static AudioFile readSummary(File f)
+            throws CannotReadException, IOException, TagException, ReadOnlyFileException, InvalidAudioFrameException
+    {
+        return getDefaultAudioFileIO().readFileSummary(f);
+    }
+
+    /**
+     *
+     * Read a summary of the tag contained in the given file using options instead of the default options, see
+     * {@link #readSummary(File)} and {@link #read(File, TagOptions)}
+     *
+     * @param f The file to read.
+     * @param options The options to read with.
+     * @return The AudioFile with the file tag and the file encoding info.
+     * @throws org.jaudiotagger.audio.exceptions.CannotReadException If the file could not be read, the extension wasn't
+     *                             recognized, or an IO error occurred during the read.
+     * @throws org.jaudiotagger.tag.TagException
+     * @throws org.jaudiotagger.audio.exceptions.ReadOnlyFileException
+     * @throws java.io.IOException
+     * @throws org.jaudiotagger.audio.exceptions.InvalidAudioFrameException
+     */
+    public static AudioFile readSummary(File f, TagOptions options)
+            throws CannotReadException, IOException, TagException, ReadOnlyFileException, InvalidAudioFrameException
+    {
+        return getDefaultAudioFileIO().readFileSummary(f, options);
+    }
+
     /**
      *
      * Write the tag contained in the audioFile in the actual file on the disk.
@@ -207,6 +325,58 @@ public class AudioFileIO
         getDefaultAudioFileIO().writeFile(f,null);
     }
 
+    /**
+     *
+     * Write the tag contained in the audioFile in the actual file on the disk using options instead of the default
+     * options, see {@link TagOptions}.
+     *
+     * @param f The AudioFile to be written
+     * @param options The options to write with
+     * @throws NoWritePermissionsException if the file could not be written to due to file permissions
+     * @throws CannotWriteException If the file could not be written/accessed, the extension
+     *                              wasn't recognized, or other IO error occurred.
+     */
+    public static void write(AudioFile f, TagOptions options) throws CannotWriteException
+    {
+        getDefaultAudioFileIO().writeFile(f,null,options);
+    }
+
+    /**
+     *
+     * Write the tag contained in the audioFile to a channel instead of the file on the disk, the channel must be open
+     * for reading and writing and is left open. The tag is written in place, so if writing fails the file may be
+     * left damaged.
+     *
+     * Only Flac, Mp4, Wav, Aiff and Dsf can be written to a channel.
+     *
+     * @param f The AudioFile to be written
+     * @param channel The channel to write to
+     * @throws NoWritePermissionsException if the channel was not opened for writing
+     * @throws CannotWriteException If the channel could not be written, the extension
+     *                              wasn't recognized or cannot be written to a channel, or other IO error occurred.
+     */
+    public static void write(AudioFile f, SeekableByteChannel channel) throws CannotWriteException
+    {
+        getDefaultAudioFileIO().writeChannel(f, channel);
+    }
+
+    /**
+     *
+     * Write the tag contained in the audioFile to a channel using options instead of the default options, see
+     * {@link #write(AudioFile, SeekableByteChannel)}
+     *
+     * @param f The AudioFile to be written
+     * @param channel The channel to write to
+     * @param options The options to write with
+     * @throws NoWritePermissionsException if the channel was not opened for writing
+     * @throws CannotWriteException If the channel could not be written, the extension
+     *                              wasn't recognized or cannot be written to a channel, or other IO error occurred.
+     */
+    public static void write(AudioFile f, SeekableByteChannel channel, TagOptions options) throws CannotWriteException
+    {
+        getDefaultAudioFileIO().writeChannel(f, channel, options);
+    }
+
     /**
     *
     * Write the tag contained in the audioFile in the actual file on the disk.
@@ -277,7 +447,7 @@ public class AudioFileIO
             throw new CannotWriteException(ErrorMessage.NO_DELETER_FOR_THIS_FORMAT.getMsg(ext));
         }
 
-        ((AudioFileWriter) afw).delete(f);
+        ((AudioFileWriter) afw).delete(f, TagOptions.current());
     }
 
     /**
@@ -344,6 +514,26 @@ public class AudioFileIO
      */
     public AudioFile readFile(File f)
             throws CannotReadException, IOException, TagException, ReadOnlyFileException, InvalidAudioFrameException
+    {
+        return readFile(f, TagOptions.current());
+    }
+
+    /**
+     *
+     * Read the tag contained in the given file using options, see {@link #read(File, TagOptions)}
+     *
+     * @param f The file to read.
+     * @param options The options to read with.
+     * @return The AudioFile with the file tag and the file encoding info.
+     * @throws org.jaudiotagger.audio.exceptions.CannotReadException If the file could not be read, the extension wasn't
+     *                             recognized, or an IO error occurred during the read.
+     * @throws org.jaudiotagger.tag.TagException
+     * @throws org.jaudiotagger.audio.exceptions.ReadOnlyFileException
+     * @throws java.io.IOException
+     * @throws org.jaudiotagger.audio.exceptions.InvalidAudioFrameException
+     */
+    public AudioFile readFile(File f, TagOptions options)
+            throws CannotReadException, IOException, TagException, ReadOnlyFileException, InvalidAudioFrameException
     {
         //checkFileExists(f);
         String ext = Utils.getExtension(f);
@@ -353,7 +543,105 @@ public class AudioFileIO
         {
             throw new CannotReadException(ErrorMessage.NO_READER_FOR_THIS_FORMAT.getMsg(ext));
         }
-        AudioFile tempFile = afr.read(f);
+        AudioFile tempFile = afr.read(f, options);
+        tempFile.setExt(ext);
+        return tempFile;
+    }
+
+    /**
+     *
+     * Read the tag contained in a channel, see {@link #read(SeekableByteChannel, String)}
+     *
+     * @param channel The channel to read.
+     * @param ext The extension of the file the channel is for.
+     * @return The AudioFile with the file tag and the file encoding info.
+     * @throws org.jaudiotagger.audio.exceptions.CannotReadException If the channel could not be read, the extension wasn't
+     *                             recognized or cannot be read from a channel, or an IO error occurred during the read.
+     * @throws org.jaudiotagger.tag.TagException
+     * @throws org.jaudiotagger.audio.exceptions.ReadOnlyFileException
+     * @throws java.io.IOException
+     * @throws org.jaudiotagger.audio.exceptions.InvalidAudioFrameException
+     */
+    public AudioFile readChannel(SeekableByteChannel channel, String ext)
+            throws CannotReadException, IOException, TagException, ReadOnlyFileException, InvalidAudioFrameException
+    {
+        return readChannel(channel, ext, TagOptions.current());
+    }
+
+    /**
+     *
+     * Read the tag contained in a channel using options, see {@link #read(SeekableByteChannel, String, TagOptions)}
+     *
+     * @param channel The channel to read.
+     * @param ext The extension of the file the channel is for.
+     * @param options The options to read with.
+     * @return The AudioFile with the file tag and the file encoding info.
+     * @throws org.jaudiotagger.audio.exceptions.CannotReadException If the channel could not be read, the extension wasn't
+     *                             recognized or cannot be read from a channel, or an IO error occurred during the read.
+     * @throws org.jaudiotagger.tag.TagException
+     * @throws org.jaudiotagger.audio.exceptions.ReadOnlyFileException
+     * @throws java.io.IOException
+     * @throws org.jaudiotagger.audio.exceptions.InvalidAudioFrameException
+     */
+    public AudioFile readChannel(SeekableByteChannel channel, String ext, TagOptions options)
+            throws CannotReadException, IOException, TagException, ReadOnlyFileException, InvalidAudioFrameException
+    {
+        ext = ext.toLowerCase();
+
+        AudioFileReader afr = readers.get(ext);
+        if (afr == null)
+        {
+            throw new CannotReadException(ErrorMessage.NO_READER_FOR_THIS_FORMAT.getMsg(ext));
+        }
+        AudioFile tempFile = afr.read(channel, ext + " channel", options);
+        tempFile.setExt(ext);
+        return tempFile;
+    }
+
+    /**
+     *
+     * Read a summary of the tag contained in the given file, see {@link #readSummary(File)}
+     *
+     * @param f The file to read.
+     * @return The AudioFile with the file tag and the file encoding info.
+     * @throws org.jaudiotagger.audio.exceptions.CannotReadException If the file could not be read, the extension wasn't
+     *                             recognized, or an IO error occurred during the read.
+     * @throws org.jaudiotagger.tag.TagException
+     * @throws org.jaudiotagger.audio.exceptions.ReadOnlyFileException
+     * @throws java.io.IOException
+     * @throws org.jaudiotagger.audio.exceptions.InvalidAudioFrameException
+     */
+    public AudioFile readFileSummary(File f)
+            throws CannotReadException, IOException, TagException, ReadOnlyFileException, InvalidAudioFrameException
+    {
+        return readFileSummary(f, TagOptions.current());
+    }
+
+    /**
+     *
+     * Read a summary of the tag contained in the given file using options, see {@link #readSummary(File, TagOptions)}
+     *
+     * @param f The file to read.
+     * @param options The options to read with.
+     * @return The AudioFile with the file tag and the file encoding info.
+     * @throws org.jaudiotagger.audio.exceptions.CannotReadException If the file could not be read, the extension wasn't
+     *                             recognized, or an IO error occurred during the read.
+     * @throws org.jaudiotagger.tag.TagException
+     * @throws org.jaudiotagger.audio.exceptions.ReadOnlyFileException
+     * @throws java.io.IOException
+     * @throws org.jaudiotagger.audio.exceptions.InvalidAudioFrameException
+     */
+    public AudioFile readFileSummary(File f, TagOptions options)
+            throws CannotReadException, IOException, TagException, ReadOnlyFileException, InvalidAudioFrameException
+    {
+        String ext = Utils.getExtension(f);
+
+        AudioFileReader afr = readers.get(ext);
+        if (afr == null)
+        {
+            throw new CannotReadException(ErrorMessage.NO_READER_FOR_THIS_FORMAT.getMsg(ext));
+        }
+        AudioFile tempFile = afr.readSummary(f, options);
         tempFile.setExt(ext);
         return tempFile;
     }
@@ -384,7 +672,7 @@ public class AudioFileIO
            throw new CannotReadException(ErrorMessage.NO_READER_FOR_THIS_FORMAT.getMsg(ext));
        }
 
-       AudioFile tempFile = afr.read(f);
+       AudioFile tempFile = afr.read(f, TagOptions.current());
        tempFile.setExt(ext);
        return tempFile;
 
@@ -416,7 +704,7 @@ public class AudioFileIO
           throw new CannotReadException(ErrorMessage.NO_READER_FOR_THIS_FORMAT.getMsg(ext));
       }
 
-      AudioFile tempFile = afr.read(f);
+      AudioFile tempFile = afr.read(f, TagOptions.current());
       tempFile.setExt(ext);
       return tempFile;
 
@@ -430,7 +718,10 @@ public class AudioFileIO
      */
     public void checkFileExists(File file)throws FileNotFoundException
     {
-        logger.config("Reading file:" + "path" + file.getPath() + ":abs:" + file.getAbsolutePath());
+        if (DebugLogging.isLoggable(logger, Level.CONFIG))
+        {
+            logger.config("Reading file:" + "path" + file.getPath() + ":abs:" + file.getAbsolutePath());
+        }
         if (!file.exists())
         {
             logger.severe("Unable to find:" + file.getPath());
@@ -460,9 +751,31 @@ public class AudioFileIO
      *                              wasn't recognized, or other IO error occurred.
      */
     public void writeFile(AudioFile f, String targetPath) throws CannotWriteException
+    {
+        writeFile(f, targetPath, TagOptions.current());
+    }
+
+    /**
+     *
+     * Write the tag contained in the audioFile in the actual file on the disk using options, see
+     * {@link #write(AudioFile, TagOptions)}
+     *
+     * @param f The AudioFile to be written
+     * @param targetPath a file path, without an extension, which provides a "save as". If null, then normal "save" function
+     * @param options The options to write with
+     * @throws NoWritePermissionsException if the file could not be written to due to file permissions
+     * @throws CannotWriteException If the file could not be written/accessed, the extension
+     *                              wasn't recognized, or other IO error occurred.
+     */
+    public void writeFile(AudioFile f, String targetPath, TagOptions options) throws CannotWriteException
     {
     	String ext = f.getExt();
 
+        if (f.isSummary())
+        {
+            throw new CannotWriteException(ErrorMessage.GENERAL_WRITE_FAILED_FILE_WAS_READ_AS_SUMMARY.getMsg(f.getFile().getPath()));
+        }
+
         if (targetPath != null && !targetPath.isEmpty())
         {
             final File destination = new File(targetPath + "." + ext);
@@ -481,7 +794,52 @@ public class AudioFileIO
             throw new CannotWriteException(ErrorMessage.NO_WRITER_FOR_THIS_FORMAT.getMsg(ext));
         }
 
-        afw.write(f);
+        afw.write(f, options);
+    }
+
+    /**
+     *
+     * Write the tag contained in the audioFile to a channel, see {@link #write(AudioFile, SeekableByteChannel)}
+     *
+     * @param f The AudioFile to be written
+     * @param channel The channel to write to
+     * @throws NoWritePermissionsException if the channel was not opened for writing
+     * @throws CannotWriteException If the channel could not be written, the extension
+     *                              wasn't recognized or cannot be written to a channel, or other IO error occurred.
+     */
+    public void writeChannel(AudioFile f, SeekableByteChannel channel) throws CannotWriteException
+    {
+        writeChannel(f, channel, TagOptions.current());
+    }
+
+    /**
+     *
+     * Write the tag contained in the audioFile to a channel using options, see
+     * {@link #write(AudioFile, SeekableByteChannel, TagOptions)}
+     *
+     * @param f The AudioFile to be written
+     * @param channel The channel to write to
+     * @param options The options to write with
+     * @throws NoWritePermissionsException if the channel was not opened for writing
+     * @throws CannotWriteException If the channel could not be written, the extension
+     *                              wasn't recognized or cannot be written to a channel, or other IO error occurred.
+     */
+    public void writeChannel(AudioFile f, SeekableByteChannel channel, TagOptions options) throws CannotWriteException
+    {
+        String ext = f.getExt();
+
+        if (f.isSummary())
+        {
+            throw new CannotWriteException(ErrorMessage.GENERAL_WRITE_FAILED_FILE_WAS_READ_AS_SUMMARY.getMsg(ext + " channel"));
+        }
+
+        AudioFileWriter afw = writers.get(ext);
+        if (afw == null)
+        {
+            throw new CannotWriteException(ErrorMessage.NO_WRITER_FOR_THIS_FORMAT.getMsg(ext));
+        }
+
+        afw.write(f, channel, options);
     }
 
 }
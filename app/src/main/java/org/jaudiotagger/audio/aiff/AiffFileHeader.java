@@ -3,11 +3,13 @@ package org.jaudiotagger.audio.aiff;
 import org.jaudiotagger.audio.exceptions.CannotReadException;
 import org.jaudiotagger.audio.generic.Utils;
 import org.jaudiotagger.audio.iff.ChunkHeader;
+import org.jaudiotagger.logging.DebugLogging;
 import org.jaudiotagger.logging.Hex;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
-import java.nio.channels.FileChannel;
+import java.nio.channels.SeekableByteChannel;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import static java.nio.ByteOrder.BIG_ENDIAN;
@@ -46,7 +48,7 @@ public class AiffFileHeader
      * @throws IOException
      * @throws CannotReadException if the file is not a valid AIFF file
      */
-    public long readHeader(FileChannel fc, final AiffAudioHeader aiffAudioHeader) throws IOException, CannotReadException
+    public long readHeader(SeekableByteChannel fc, final AiffAudioHeader aiffAudioHeader) throws IOException, CannotReadException
     {
         final ByteBuffer headerData = ByteBuffer.allocateDirect(FORM_HEADER_LENGTH);
         headerData.order(BIG_ENDIAN);
@@ -63,8 +65,11 @@ public class AiffFileHeader
         {
             // read chunk size
             final long chunkSize  = headerData.getInt();
-            logger.config(loggingName + ":Reading AIFF header size:" + Hex.asDecAndHex(chunkSize)
-                    +":File Size Should End At:"+ Hex.asDecAndHex(chunkSize + ChunkHeader.CHUNK_HEADER_SIZE));
+            if (DebugLogging.isLoggable(logger, Level.CONFIG))
+            {
+                logger.config(loggingName + ":Reading AIFF header size:" + Hex.asDecAndHex(chunkSize)
+                        +":File Size Should End At:"+ Hex.asDecAndHex(chunkSize + ChunkHeader.CHUNK_HEADER_SIZE));
+            }
 
             readFileType(headerData, aiffAudioHeader);
             return chunkSize;
@@ -1,11 +1,14 @@
 package org.jaudiotagger.audio.aiff;
 
+import org.jaudiotagger.audio.AudioFile;
 import org.jaudiotagger.audio.exceptions.CannotReadException;
 import org.jaudiotagger.audio.generic.AudioFileReader2;
 import org.jaudiotagger.audio.generic.GenericAudioHeader;
 import org.jaudiotagger.tag.Tag;
 
+import java.io.File;
 import java.io.IOException;
+import java.nio.channels.SeekableByteChannel;
 import java.nio.file.Path;
 
 /**
@@ -24,4 +27,22 @@ public class AiffFileReader extends AudioFileReader2
     {
         return new AiffTagReader(path.toString()).read(path);
     }
+
+    @Override
+    protected AudioFile readEncodingInfoAndTag(File f, Path path) throws CannotReadException, IOException
+    {
+        return readEncodingInfoAndTagFromChannel(f, path);
+    }
+
+    /**
+     * Read the audio header and the tag using the same open channel
+     */
+    @Override
+    protected AudioFile readEncodingInfoAndTag(SeekableByteChannel fc, String name) throws CannotReadException, IOException
+    {
+        GenericAudioHeader info = new AiffInfoReader(name).read(fc);
+        fc.position(0);
+        Tag tag = new AiffTagReader(name).read(fc);
+        return new AudioFile((File) null, info, tag);
+    }
 }
@@ -9,12 +9,15 @@ import org.jaudiotagger.audio.generic.Utils;
 import org.jaudiotagger.audio.iff.Chunk;
 import org.jaudiotagger.audio.iff.ChunkHeader;
 import org.jaudiotagger.audio.iff.IffHeaderChunk;
+import org.jaudiotagger.logging.DebugLogging;
 import org.jaudiotagger.logging.Hex;
 
 import java.io.IOException;
 import java.nio.ByteOrder;
 import java.nio.channels.FileChannel;
+import java.nio.channels.SeekableByteChannel;
 import java.nio.file.Path;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
@@ -33,32 +36,48 @@ public class AiffInfoReader extends AiffChunkReader
     protected GenericAudioHeader read(Path file) throws CannotReadException, IOException
     {
         try(FileChannel fc = FileChannel.open(file))
+        {
+            return read(fc);
+        }
+    }
+
+    /**
+     * Read the audio header from an open channel positioned at the start of the file
+     *
+     * @param fc
+     * @return
+     * @throws CannotReadException
+     * @throws IOException
+     */
+    protected GenericAudioHeader read(SeekableByteChannel fc) throws CannotReadException, IOException
+    {
+        if (DebugLogging.isLoggable(logger, Level.CONFIG))
         {
             logger.config(loggingName + ":Reading AIFF file size:" + Hex.asDecAndHex(fc.size()));
-            AiffAudioHeader info = new AiffAudioHeader();
-            final AiffFileHeader fileHeader = new AiffFileHeader(loggingName);
-            long noOfBytes = fileHeader.readHeader(fc, info);
-            while ((fc.position() < (noOfBytes + ChunkHeader.CHUNK_HEADER_SIZE)) && (fc.position() < fc.size()))
+        }
+        AiffAudioHeader info = new AiffAudioHeader();
+        final AiffFileHeader fileHeader = new AiffFileHeader(loggingName);
+        long noOfBytes = fileHeader.readHeader(fc, info);
+        while ((fc.position() < (noOfBytes + ChunkHeader.CHUNK_HEADER_SIZE)) && (fc.position() < fc.size()))
+        {
+            boolean result = readChunk(fc, info);
+            if (!result)
             {
-                boolean result = readChunk(fc, info);
-                if (!result)
-                {
-                    logger.severe(file + ":UnableToReadProcessChunk");
-                    break;
-                }
+                logger.severe(loggingName + ":UnableToReadProcessChunk");
+                break;
             }
+        }
 
-            if(info.getFileType()==AiffType.AIFC)
-            {
-                info.setFormat(SupportedFileFormat.AIF.getDisplayName());
-            }
-            else
-            {
-                info.setFormat(SupportedFileFormat.AIF.getDisplayName());
-            }
-            calculateBitRate(info);
-            return info;
+        if(info.getFileType()==AiffType.AIFC)
+        {
+            info.setFormat(SupportedFileFormat.AIF.getDisplayName());
+        }
+        else
+        {
+            info.setFormat(SupportedFileFormat.AIF.getDisplayName());
         }
+        calculateBitRate(info);
+        return info;
     }
 
     /**
@@ -81,7 +100,7 @@ public class AiffInfoReader extends AiffChunkReader
      *
      * @return {@code false}, if we were not able to read a valid chunk id
      */
-    private boolean readChunk(FileChannel fc, AiffAudioHeader aiffAudioHeader) throws IOException, CannotReadException
+    private boolean readChunk(SeekableByteChannel fc, AiffAudioHeader aiffAudioHeader) throws IOException, CannotReadException
     {
         final Chunk chunk;
         final ChunkHeader chunkHeader = new ChunkHeader(ByteOrder.BIG_ENDIAN);
@@ -90,10 +109,13 @@ public class AiffInfoReader extends AiffChunkReader
             return false;
         }
 
-        logger.config(loggingName + ":Reading Next Chunk:" + chunkHeader.getID()
-                + ":starting at:" + Hex.asDecAndHex(chunkHeader.getStartLocationInFile())
-                + ":sizeIncHeader:" + Hex.asDecAndHex((chunkHeader.getSize() + ChunkHeader.CHUNK_HEADER_SIZE))
-                + ":ending at:" + Hex.asDecAndHex(chunkHeader.getStartLocationInFile() + chunkHeader.getSize() + ChunkHeader.CHUNK_HEADER_SIZE));
+        if (DebugLogging.isLoggable(logger, Level.CONFIG))
+        {
+            logger.config(loggingName + ":Reading Next Chunk:" + chunkHeader.getID()
+                    + ":starting at:" + Hex.asDecAndHex(chunkHeader.getStartLocationInFile())
+                    + ":sizeIncHeader:" + Hex.asDecAndHex((chunkHeader.getSize() + ChunkHeader.CHUNK_HEADER_SIZE))
+                    + ":ending at:" + Hex.asDecAndHex(chunkHeader.getStartLocationInFile() + chunkHeader.getSize() + ChunkHeader.CHUNK_HEADER_SIZE));
+        }
         chunk = createChunk(fc, chunkHeader, aiffAudioHeader);
         if (chunk != null)
         {
@@ -127,7 +149,7 @@ public class AiffInfoReader extends AiffChunkReader
      * @return
      * @throws IOException
      */
-    private Chunk createChunk(FileChannel fc, final ChunkHeader chunkHeader, AiffAudioHeader aiffAudioHeader)
+    private Chunk createChunk(SeekableByteChannel fc, final ChunkHeader chunkHeader, AiffAudioHeader aiffAudioHeader)
     throws IOException {
         final AiffChunkType chunkType = AiffChunkType.get(chunkHeader.getID());
         Chunk chunk;
@@ -9,6 +9,7 @@ import org.jaudiotagger.audio.iff.Chunk;
 import org.jaudiotagger.audio.iff.ChunkHeader;
 import org.jaudiotagger.audio.iff.ChunkSummary;
 import org.jaudiotagger.audio.iff.IffHeaderChunk;
+import org.jaudiotagger.logging.DebugLogging;
 import org.jaudiotagger.logging.Hex;
 import org.jaudiotagger.tag.aiff.AiffTag;
 
@@ -16,7 +17,9 @@ import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.nio.channels.FileChannel;
+import java.nio.channels.SeekableByteChannel;
 import java.nio.file.Path;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
@@ -45,35 +48,51 @@ public class AiffTagReader extends AiffChunkReader
     {
         try(FileChannel fc = FileChannel.open(file))
         {
-            AiffAudioHeader aiffAudioHeader = new AiffAudioHeader();
-            AiffTag aiffTag = new AiffTag();
+            return read(fc);
+        }
+    }
 
-            final AiffFileHeader fileHeader = new AiffFileHeader(file.toString());
-            long  overallChunkSize = fileHeader.readHeader(fc, aiffAudioHeader);
-            aiffTag.setFormSize( overallChunkSize);
-            aiffTag.setFileSize(fc.size());
-            long  endLocationOfAiffData = overallChunkSize + ChunkHeader.CHUNK_HEADER_SIZE;
-            while ((fc.position() < endLocationOfAiffData) && (fc.position() < fc.size()))
-            {
-                if (!readChunk(fc, aiffTag))
-                {
-                    logger.severe(file + ":UnableToReadProcessChunk");
-                    break;
-                }
-            }
+    /**
+     * Read editable Metadata from an open channel positioned at the start of the file
+     *
+     * @param fc
+     * @return
+     * @throws CannotReadException
+     * @throws IOException
+     */
+    public AiffTag read(SeekableByteChannel fc) throws CannotReadException, IOException
+    {
+        AiffAudioHeader aiffAudioHeader = new AiffAudioHeader();
+        AiffTag aiffTag = new AiffTag();
 
-            if (aiffTag.getID3Tag() == null)
+        final AiffFileHeader fileHeader = new AiffFileHeader(loggingName);
+        long  overallChunkSize = fileHeader.readHeader(fc, aiffAudioHeader);
+        aiffTag.setFormSize( overallChunkSize);
+        aiffTag.setFileSize(fc.size());
+        long  endLocationOfAiffData = overallChunkSize + ChunkHeader.CHUNK_HEADER_SIZE;
+        while ((fc.position() < endLocationOfAiffData) && (fc.position() < fc.size()))
+        {
+            if (!readChunk(fc, aiffTag))
             {
-                aiffTag.setID3Tag(AiffTag.createDefaultID3Tag());
+                logger.severe(loggingName + ":UnableToReadProcessChunk");
+                break;
             }
+        }
+
+        if (aiffTag.getID3Tag() == null)
+        {
+            aiffTag.setID3Tag(AiffTag.createDefaultID3Tag());
+        }
+        if (DebugLogging.isLoggable(logger, Level.CONFIG))
+        {
             logger.config("LastChunkPos:"+Hex.asDecAndHex(fc.position())
                     +":OfficialEndLocation:"+Hex.asDecAndHex(endLocationOfAiffData));
-            if(fc.position() > endLocationOfAiffData)
-            {
-                aiffTag.setLastChunkSizeExtendsPastFormSize(true);
-            }
-            return aiffTag;
         }
+        if(fc.position() > endLocationOfAiffData)
+        {
+            aiffTag.setLastChunkSizeExtendsPastFormSize(true);
+        }
+        return aiffTag;
     }
 
     /**
@@ -81,16 +100,19 @@ public class AiffTagReader extends AiffChunkReader
      *
      * @return {@code false}, if we were not able to read a valid chunk id
      */
-    private boolean readChunk(FileChannel fc, AiffTag aiffTag) throws IOException
+    private boolean readChunk(SeekableByteChannel fc, AiffTag aiffTag) throws IOException
     {
         ChunkHeader chunkHeader = new ChunkHeader(ByteOrder.BIG_ENDIAN);
         if (!chunkHeader.readHeader(fc))
         {
             return false;
         }
-        logger.config(loggingName + ":Reading Chunk:" + chunkHeader.getID() + ":starting at:"
-                + Hex.asDecAndHex(chunkHeader.getStartLocationInFile())
-                + ":sizeIncHeader:" + (chunkHeader.getSize() + ChunkHeader.CHUNK_HEADER_SIZE));
+        if (DebugLogging.isLoggable(logger, Level.CONFIG))
+        {
+            logger.config(loggingName + ":Reading Chunk:" + chunkHeader.getID() + ":starting at:"
+                    + Hex.asDecAndHex(chunkHeader.getStartLocationInFile())
+                    + ":sizeIncHeader:" + (chunkHeader.getSize() + ChunkHeader.CHUNK_HEADER_SIZE));
+        }
 
         long startLocationOfId3TagInFile = fc.position();
         AiffChunkType chunkType = AiffChunkType.get(chunkHeader.getID());
@@ -151,7 +173,10 @@ public class AiffTagReader extends AiffChunkReader
         }
         else
         {
-            logger.config(loggingName + ":Skipping Chunk:" + chunkHeader.getID() + ":" + chunkHeader.getSize());
+            if (DebugLogging.isLoggable(logger, Level.CONFIG))
+            {
+                logger.config(loggingName + ":Skipping Chunk:" + chunkHeader.getID() + ":" + chunkHeader.getSize());
+            }
             aiffTag.addChunkSummary(new ChunkSummary(chunkHeader.getID(), chunkHeader.getStartLocationInFile(), chunkHeader.getSize()));
             fc.position(fc.position() + chunkHeader.getSize());
         }
@@ -10,9 +10,10 @@ import org.jaudiotagger.audio.iff.Chunk;
 import org.jaudiotagger.audio.iff.ChunkHeader;
 import org.jaudiotagger.audio.iff.ChunkSummary;
 import org.jaudiotagger.audio.iff.IffHeaderChunk;
+import org.jaudiotagger.logging.DebugLogging;
 import org.jaudiotagger.logging.Hex;
 import org.jaudiotagger.tag.Tag;
-import org.jaudiotagger.tag.TagOptionSingleton;
+import org.jaudiotagger.tag.TagOptions;
 import org.jaudiotagger.tag.aiff.AiffTag;
 
 import java.io.ByteArrayOutputStream;
@@ -21,9 +22,11 @@ import java.io.UnsupportedEncodingException;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.nio.channels.FileChannel;
+import java.nio.channels.SeekableByteChannel;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
@@ -56,6 +59,30 @@ public class AiffTagWriter
         }
     }
 
+    /**
+     * Read existing metadata from the channel, leaving it positioned at the start of the file
+     *
+     * @param fc
+     * @param fileName
+     * @return tags within Tag wrapper
+     * @throws IOException
+     * @throws CannotWriteException
+     */
+    private AiffTag getExistingMetadata(SeekableByteChannel fc, String fileName) throws IOException, CannotWriteException
+    {
+        try
+        {
+            fc.position(0);
+            AiffTag existingTag = new AiffTagReader(fileName).read(fc);
+            fc.position(0);
+            return existingTag;
+        }
+        catch (CannotReadException ex)
+        {
+            throw new CannotWriteException(fileName + " Failed to read file");
+        }
+    }
+
     /**
      * Seek in file to start of LIST Metadata chunk
      *
@@ -64,7 +91,7 @@ public class AiffTagWriter
      * @throws IOException
      * @throws CannotWriteException
      */
-    private ChunkHeader seekToStartOfMetadata(FileChannel fc, AiffTag existingTag, String fileName) throws IOException, CannotWriteException
+    private ChunkHeader seekToStartOfMetadata(SeekableByteChannel fc, AiffTag existingTag, String fileName) throws IOException, CannotWriteException
     {
         fc.position(existingTag.getStartLocationInFileOfId3Chunk());
         final ChunkHeader chunkHeader = new ChunkHeader(ByteOrder.BIG_ENDIAN);
@@ -85,7 +112,7 @@ public class AiffTagWriter
      * reported in ID3 tag is larger than the boundary returned by the FORM header
      * @throws IOException
      */
-    private boolean isAtEndOfFileAllowingForPaddingByte(AiffTag existingTag, FileChannel fc) throws IOException
+    private boolean isAtEndOfFileAllowingForPaddingByte(AiffTag existingTag, SeekableByteChannel fc) throws IOException
     {
         return (
                  (
@@ -120,17 +147,26 @@ public class AiffTagWriter
                 ChunkHeader chunkHeader = seekToStartOfMetadata(fc, existingTag, file.toString());
                 if (isAtEndOfFileAllowingForPaddingByte(existingTag, fc))
                 {
-                    logger.config(file + ":Setting new length to:" + (existingTag.getStartLocationInFileOfId3Chunk()));
+                    if (DebugLogging.isLoggable(logger, Level.CONFIG))
+                    {
+                        logger.config(file + ":Setting new length to:" + (existingTag.getStartLocationInFileOfId3Chunk()));
+                    }
                     fc.truncate(existingTag.getStartLocationInFileOfId3Chunk());
                 }
                 else
                 {
-                    logger.config(file + ":Deleting tag chunk");
+                    if (DebugLogging.isLoggable(logger, Level.CONFIG))
+                    {
+                        logger.config(file + ":Deleting tag chunk");
+                    }
                     deleteTagChunk(fc, existingTag, chunkHeader,file.toString());
                 }
                 rewriteRiffHeaderSize(fc);
             }
-            logger.config(file + ":Deleted tag from file");
+            if (DebugLogging.isLoggable(logger, Level.CONFIG))
+            {
+                logger.config(file + ":Deleted tag from file");
+            }
         }
         catch(IOException ioe)
         {
@@ -151,7 +187,7 @@ public class AiffTagWriter
      * @param tagChunkHeader existing chunk header for the tag
      * @throws IOException if something goes wrong
      */
-    private void deleteTagChunk(FileChannel fc, final AiffTag existingTag, final ChunkHeader tagChunkHeader, String fileName) throws IOException
+    private void deleteTagChunk(SeekableByteChannel fc, final AiffTag existingTag, final ChunkHeader tagChunkHeader, String fileName) throws IOException
     {
         int lengthTagChunk = (int) tagChunkHeader.getSize() + ChunkHeader.CHUNK_HEADER_SIZE;
         if(Utils.isOddLength(lengthTagChunk))
@@ -162,9 +198,12 @@ public class AiffTagWriter
             }
         }
         final long newLength = fc.size() - lengthTagChunk;
-        logger.config(fileName
-                + ":Size of id3 chunk to delete is:"+Hex.asDecAndHex(lengthTagChunk)
-                +":Location:"+Hex.asDecAndHex(existingTag.getStartLocationInFileOfId3Chunk()));
+        if (DebugLogging.isLoggable(logger, Level.CONFIG))
+        {
+            logger.config(fileName
+                    + ":Size of id3 chunk to delete is:"+Hex.asDecAndHex(lengthTagChunk)
+                    +":Location:"+Hex.asDecAndHex(existingTag.getStartLocationInFileOfId3Chunk()));
+        }
 
         //Position for reading after the id3 tag
         fc.position(existingTag.getStartLocationInFileOfId3Chunk() + lengthTagChunk);
@@ -173,7 +212,10 @@ public class AiffTagWriter
         deleteTagChunkUsingSmallByteBufferSegments(existingTag, fc, newLength, lengthTagChunk);
 
         //Truncate the file after the last chunk
-        logger.config(fileName + ":Setting new length to:" + Hex.asDecAndHex(newLength));
+        if (DebugLogging.isLoggable(logger, Level.CONFIG))
+        {
+            logger.config(fileName + ":Setting new length to:" + Hex.asDecAndHex(newLength));
+        }
         fc.truncate(newLength);
     }
 
@@ -183,17 +225,23 @@ public class AiffTagWriter
      * @param existingTag
      * @throws IOException
      */
-    private void deleteRemainderOfFile(FileChannel fc, final AiffTag existingTag, String fileName) throws IOException
+    private void deleteRemainderOfFile(SeekableByteChannel fc, final AiffTag existingTag, String fileName) throws IOException
     {
         ChunkSummary precedingChunk = AiffChunkSummary.getChunkBeforeStartingMetadataTag(existingTag);
         if(!Utils.isOddLength(precedingChunk.getEndLocation()))
         {
-            logger.config(fileName + ":Truncating corrupted ID3 tags from:" + (existingTag.getStartLocationInFileOfId3Chunk() - 1));
+            if (DebugLogging.isLoggable(logger, Level.CONFIG))
+            {
+                logger.config(fileName + ":Truncating corrupted ID3 tags from:" + (existingTag.getStartLocationInFileOfId3Chunk() - 1));
+            }
             fc.truncate(existingTag.getStartLocationInFileOfId3Chunk() - 1);
         }
         else
         {
-            logger.config(fileName + ":Truncating corrupted ID3 tags from:" + (existingTag.getStartLocationInFileOfId3Chunk()));
+            if (DebugLogging.isLoggable(logger, Level.CONFIG))
+            {
+                logger.config(fileName + ":Truncating corrupted ID3 tags from:" + (existingTag.getStartLocationInFileOfId3Chunk()));
+            }
             fc.truncate(existingTag.getStartLocationInFileOfId3Chunk());
         }
     }
@@ -209,10 +257,10 @@ public class AiffTagWriter
      * @throws IOException if something goes wrong
      */
     // TODO: arguments are not used, position is implicit
-    private void deleteTagChunkUsingSmallByteBufferSegments(final AiffTag existingTag, final FileChannel channel, final long newLength, final long lengthTagChunk)
+    private void deleteTagChunkUsingSmallByteBufferSegments(final AiffTag existingTag, final SeekableByteChannel channel, final long newLength, final long lengthTagChunk)
             throws IOException
     {
-        final ByteBuffer buffer = ByteBuffer.allocateDirect((int)TagOptionSingleton.getInstance().getWriteChunkSize());
+        final ByteBuffer buffer = ByteBuffer.allocateDirect((int)TagOptions.current().getWriteChunkSize());
         while (channel.read(buffer) >= 0 || buffer.position() != 0) {
             buffer.flip();
             final long readPosition = channel.position();
@@ -232,92 +280,101 @@ public class AiffTagWriter
      */
     public void write(final Tag tag, Path file) throws CannotWriteException
     {
-        logger.severe(file + ":Writing Aiff tag to file");
-
-        AiffTag existingTag = null;
-        try
+        try(FileChannel fc = FileChannel.open(file, StandardOpenOption.WRITE, StandardOpenOption.READ))
         {
-            existingTag = getExistingMetadata(file);
+            write(tag, fc, file.toString());
+        }
+        catch(AccessDeniedException ade)
+        {
+            throw new NoWritePermissionsException(file + ":" + ade.getMessage());
         }
         catch(IOException ioe)
         {
             throw new CannotWriteException(file + ":" + ioe.getMessage());
         }
+    }
 
-        try(FileChannel fc = FileChannel.open(file, StandardOpenOption.WRITE, StandardOpenOption.READ))
+    /**
+     * Write tag to a channel opened for reading and writing, the channel is left open
+     *
+     * @param tag
+     * @param fc
+     * @param fileName used in log and error messages
+     * @throws CannotWriteException
+     * @throws IOException
+     */
+    public void write(final Tag tag, SeekableByteChannel fc, String fileName) throws CannotWriteException, IOException
+    {
+        logger.severe(fileName + ":Writing Aiff tag to file");
+
+        AiffTag existingTag = getExistingMetadata(fc, fileName);
+
+        //Issue 227:HDtracks issue, if crap at end of file after length according to FORM then delete it
+        long formFileLength     = existingTag.getFormSize() + ChunkHeader.CHUNK_HEADER_SIZE;
+        long currentPos = fc.position();
+        if(formFileLength < fc.size() && !existingTag.isLastChunkSizeExtendsPastFormSize())
         {
-            //Issue 227:HDtracks issue, if crap at end of file after length according to FORM then delete it
-            long formFileLength     = existingTag.getFormSize() + ChunkHeader.CHUNK_HEADER_SIZE;
-            long currentPos = fc.position();
-            if(formFileLength < fc.size() && !existingTag.isLastChunkSizeExtendsPastFormSize())
-            {
-                logger.warning(file+":Extra Non Chunk Data after end of FORM data length:"+(fc.size() - formFileLength));
-                fc.position(formFileLength);
-                fc.truncate(formFileLength);
-                fc.position(currentPos);
-            }
-            final AiffTag aiffTag = (AiffTag) tag;
-            final ByteBuffer bb = convert(aiffTag, existingTag);
+            logger.warning(fileName+":Extra Non Chunk Data after end of FORM data length:"+(fc.size() - formFileLength));
+            fc.position(formFileLength);
+            fc.truncate(formFileLength);
+            fc.position(currentPos);
+        }
+        final AiffTag aiffTag = (AiffTag) tag;
+        final ByteBuffer bb = convert(aiffTag, existingTag);
 
-            //Replacing ID3 tag
-            if (existingTag.isExistingId3Tag() && existingTag.getID3Tag().getStartLocationInFile() != null)
+        //Replacing ID3 tag
+        if (existingTag.isExistingId3Tag() && existingTag.getID3Tag().getStartLocationInFile() != null)
+        {
+            //Usual case
+            if (!existingTag.isIncorrectlyAlignedTag())
             {
-                //Usual case
-                if (!existingTag.isIncorrectlyAlignedTag())
+                final ChunkHeader chunkHeader = seekToStartOfMetadata(fc, existingTag, fileName);
+                if (DebugLogging.isLoggable(logger, Level.CONFIG))
                 {
-                    final ChunkHeader chunkHeader = seekToStartOfMetadata(fc, existingTag, file.toString());
-                    logger.config(file + ":Current Space allocated:" + existingTag.getSizeOfID3TagOnly() + ":NewTagRequires:" + bb.limit());
-
-                    //Usual case ID3 is last chunk
-                    if (isAtEndOfFileAllowingForPaddingByte(existingTag, fc))
-                    {
-                        writeDataToFile(fc, bb);
-                    }
-                    //Unusual Case where ID3 is not last chunk
-                    else
-                    {
-                        deleteTagChunk(fc, existingTag, chunkHeader, file.toString());
-                        fc.position(fc.size());
-                        writeExtraByteIfChunkOddSize(fc, fc.size());
-                        writeDataToFile(fc, bb);
-                    }
+                    logger.config(fileName + ":Current Space allocated:" + existingTag.getSizeOfID3TagOnly() + ":NewTagRequires:" + bb.limit());
                 }
-                //Existing ID3 tag is incorrectly aligned so if we can lets delete it and any subsequentially added
-                //ID3 tags as we only want one ID3 tag.
-                else if (AiffChunkSummary.isOnlyMetadataTagsAfterStartingMetadataTag(existingTag))
+
+                //Usual case ID3 is last chunk
+                if (isAtEndOfFileAllowingForPaddingByte(existingTag, fc))
                 {
-                    deleteRemainderOfFile(fc, existingTag, file.toString());
-                    fc.position(fc.size());
-                    writeExtraByteIfChunkOddSize(fc, fc.size());
                     writeDataToFile(fc, bb);
                 }
+                //Unusual Case where ID3 is not last chunk
                 else
                 {
-                    throw new CannotWriteException(file + ":Metadata tags are corrupted and not at end of file so cannot be fixed");
+                    deleteTagChunk(fc, existingTag, chunkHeader, fileName);
+                    fc.position(fc.size());
+                    writeExtraByteIfChunkOddSize(fc, fc.size());
+                    writeDataToFile(fc, bb);
                 }
             }
-            //New Tag
-            else
+            //Existing ID3 tag is incorrectly aligned so if we can lets delete it and any subsequentially added
+            //ID3 tags as we only want one ID3 tag.
+            else if (AiffChunkSummary.isOnlyMetadataTagsAfterStartingMetadataTag(existingTag))
             {
+                deleteRemainderOfFile(fc, existingTag, fileName);
                 fc.position(fc.size());
-                if (Utils.isOddLength(fc.size()))
-                {
-                    fc.write(ByteBuffer.allocateDirect(1));
-                }
+                writeExtraByteIfChunkOddSize(fc, fc.size());
                 writeDataToFile(fc, bb);
             }
-
-            //Always rewrite header
-            rewriteRiffHeaderSize(fc);
-        }
-        catch(AccessDeniedException ade)
-        {
-            throw new NoWritePermissionsException(file + ":" + ade.getMessage());
+            else
+            {
+                throw new CannotWriteException(fileName + ":Metadata tags are corrupted and not at end of file so cannot be fixed");
+            }
         }
-        catch(IOException ioe)
+        //New Tag
+        else
         {
-            throw new CannotWriteException(file + ":" + ioe.getMessage());
+            fc.position(fc.size());
+            if (Utils.isOddLength(fc.size()))
+            {
+                fc.write(ByteBuffer.allocateDirect(1));
+            }
+            writeDataToFile(fc, bb);
         }
+
+        //Always rewrite header
+        rewriteRiffHeaderSize(fc);
     }
     /**
      * Rewrite FORM header to reflect new file length
@@ -325,7 +382,7 @@ public class AiffTagWriter
      * @param fc
      * @throws IOException
      */
-    private void rewriteRiffHeaderSize(FileChannel fc) throws IOException {
+    private void rewriteRiffHeaderSize(SeekableByteChannel fc) throws IOException {
 
         fc.position(IffHeaderChunk.SIGNATURE_LENGTH);
         ByteBuffer bb = ByteBuffer.allocateDirect(IffHeaderChunk.SIZE_LENGTH);
@@ -343,7 +400,7 @@ public class AiffTagWriter
      * @param bb data to write
      * @throws IOException
      */
-    private void writeDataToFile(FileChannel fc, final ByteBuffer bb)
+    private void writeDataToFile(SeekableByteChannel fc, final ByteBuffer bb)
             throws IOException
     {
         final ChunkHeader ch = new ChunkHeader(ByteOrder.BIG_ENDIAN);
@@ -364,7 +421,7 @@ public class AiffTagWriter
      * @param size
      * @throws IOException
      */
-    private void writeExtraByteIfChunkOddSize(FileChannel fc, long size )
+    private void writeExtraByteIfChunkOddSize(SeekableByteChannel fc, long size )
             throws IOException
     {
         if(Utils.isOddLength(size))
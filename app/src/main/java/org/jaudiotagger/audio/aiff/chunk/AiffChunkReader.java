@@ -5,7 +5,7 @@ import org.jaudiotagger.audio.iff.ChunkHeader;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
-import java.nio.channels.FileChannel;
+import java.nio.channels.SeekableByteChannel;
 
 /**
  * Abstract class For reading Aiff Chunks used by both Audio and Tag Reader
@@ -21,7 +21,7 @@ public abstract class AiffChunkReader
      * @return
      * @throws java.io.IOException
      */
-    protected ByteBuffer readChunkDataIntoBuffer(FileChannel fc, final ChunkHeader chunkHeader) throws IOException
+    protected ByteBuffer readChunkDataIntoBuffer(SeekableByteChannel fc, final ChunkHeader chunkHeader) throws IOException
     {
         final ByteBuffer chunkData = ByteBuffer.allocateDirect((int)chunkHeader.getSize());
         chunkData.order(ByteOrder.BIG_ENDIAN);
@@ -3,6 +3,7 @@ package org.jaudiotagger.audio.aiff.chunk;
 import org.jaudiotagger.audio.AudioFile;
 import org.jaudiotagger.audio.iff.Chunk;
 import org.jaudiotagger.audio.iff.ChunkHeader;
+import org.jaudiotagger.logging.DebugLogging;
 import org.jaudiotagger.tag.TagException;
 import org.jaudiotagger.tag.aiff.AiffTag;
 import org.jaudiotagger.tag.id3.AbstractID3v2Tag;
@@ -12,6 +13,7 @@ import org.jaudiotagger.tag.id3.ID3v24Tag;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
@@ -40,7 +42,10 @@ public class ID3Chunk extends Chunk
     @Override
     public boolean readChunk() throws IOException
     {
-        AudioFile.logger.config(loggingName+":Reading chunk");
+        if (DebugLogging.isLoggable(AudioFile.logger, Level.CONFIG))
+        {
+            AudioFile.logger.config(loggingName+":Reading chunk");
+        }
         if (!isId3v2Tag(chunkData))
         {
             logger.severe(loggingName+":Invalid ID3 header for ID3 chunk");
@@ -53,15 +58,24 @@ public class ID3Chunk extends Chunk
         {
             case ID3v22Tag.MAJOR_VERSION:
                 id3Tag = new ID3v22Tag();
-                AudioFile.logger.config(loggingName+":Reading ID3V2.2 tag");
+                if (DebugLogging.isLoggable(AudioFile.logger, Level.CONFIG))
+                {
+                    AudioFile.logger.config(loggingName+":Reading ID3V2.2 tag");
+                }
                 break;
             case ID3v23Tag.MAJOR_VERSION:
                 id3Tag = new ID3v23Tag();
-                AudioFile.logger.config(loggingName+":Reading ID3V2.3 tag");
+                if (DebugLogging.isLoggable(AudioFile.logger, Level.CONFIG))
+                {
+                    AudioFile.logger.config(loggingName+":Reading ID3V2.3 tag");
+                }
                 break;
             case ID3v24Tag.MAJOR_VERSION:
                 id3Tag = new ID3v24Tag();
-                AudioFile.logger.config(loggingName+":Reading ID3V2.4 tag");
+                if (DebugLogging.isLoggable(AudioFile.logger, Level.CONFIG))
+                {
+                    AudioFile.logger.config(loggingName+":Reading ID3V2.4 tag");
+                }
                 break;
             default:
                 return false;     // bad or unknown version
@@ -20,7 +20,7 @@ package org.jaudiotagger.audio.asf.data;
 
 import org.jaudiotagger.audio.asf.util.Utils;
 import org.jaudiotagger.logging.ErrorMessage;
-import org.jaudiotagger.tag.TagOptionSingleton;
+import org.jaudiotagger.tag.TagOptions;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
@@ -817,7 +817,7 @@ public class MetadataDescriptor implements Comparable<MetadataDescriptor>, Clone
             {
                 // Normally a size violation, check if JAudiotagger my truncate
                 // the string
-                if (TagOptionSingleton.getInstance().isTruncateTextWithoutErrors())
+                if (TagOptions.current().isTruncateTextWithoutErrors())
                 {
                     // truncate the string
                     final int copyBytes = (int) getContainerType().getMaximumDataLength().longValue();
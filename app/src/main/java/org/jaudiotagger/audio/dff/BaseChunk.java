@@ -5,7 +5,7 @@ import org.jaudiotagger.audio.generic.Utils;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
-import java.nio.channels.FileChannel;
+import java.nio.channels.SeekableByteChannel;
 
 /**
  * Base Chunk for all chuncks in the dff FRM8 Chunk.
@@ -76,7 +76,7 @@ public class BaseChunk
     {
     }
 
-    protected void readDataChunch(FileChannel fc) throws IOException
+    protected void readDataChunch(SeekableByteChannel fc) throws IOException
     {
 
         ByteBuffer audioData = Utils.readFileDataIntoBufferLE(fc, 8);
@@ -86,7 +86,7 @@ public class BaseChunk
         //System.out.println("chunck: "+this+" size: "+this.getChunkSize()+" starts at: "+this.getChunkStart());
     }
 
-    protected void skipToChunkEnd(FileChannel fc) throws IOException
+    protected void skipToChunkEnd(SeekableByteChannel fc) throws IOException
     {
 
         Long skip = (this.getChunkEnd() - fc.position());
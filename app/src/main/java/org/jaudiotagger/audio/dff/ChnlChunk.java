@@ -4,7 +4,7 @@ import org.jaudiotagger.audio.generic.Utils;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
-import java.nio.channels.FileChannel;
+import java.nio.channels.SeekableByteChannel;
 
 /**
  * CHNL Chunk. Retrive channels info.
@@ -20,7 +20,7 @@ public class ChnlChunk extends BaseChunk
     }
 
     @Override
-    public void readDataChunch(FileChannel fc) throws IOException
+    public void readDataChunch(SeekableByteChannel fc) throws IOException
     {
 
         super.readDataChunch(fc);
@@ -4,7 +4,7 @@ import org.jaudiotagger.audio.generic.Utils;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
-import java.nio.channels.FileChannel;
+import java.nio.channels.SeekableByteChannel;
 
 import static java.nio.charset.StandardCharsets.ISO_8859_1;
 
@@ -22,7 +22,7 @@ public class CmprChunk extends BaseChunk
     }
 
     @Override
-    public void readDataChunch(FileChannel fc) throws IOException
+    public void readDataChunch(SeekableByteChannel fc) throws IOException
     {
 
         super.readDataChunch(fc);
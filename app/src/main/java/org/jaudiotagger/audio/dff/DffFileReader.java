@@ -9,6 +9,7 @@ import org.jaudiotagger.audio.exceptions.InvalidChunkException;
 import org.jaudiotagger.audio.generic.AudioFileReader2;
 import org.jaudiotagger.audio.generic.GenericAudioHeader;
 import org.jaudiotagger.audio.generic.Utils;
+import org.jaudiotagger.logging.DebugLogging;
 import org.jaudiotagger.tag.Tag;
 
 import java.io.IOException;
@@ -208,7 +209,10 @@ public class DffFileReader extends AudioFileReader2
         audioHeader.setPreciseLength((float) sampleCount / samplingFreqency);
         audioHeader.setVariableBitRate(isDST);
 
-        logger.log(Level.FINE, "Created audio header: " + audioHeader);
+        if (DebugLogging.isLoggable(logger, Level.FINE))
+        {
+            logger.log(Level.FINE, "Created audio header: " + audioHeader);
+        }
         return audioHeader;
     }
 
@@ -4,11 +4,13 @@
  */
 package org.jaudiotagger.audio.dsf;
 
+import org.jaudiotagger.audio.AudioFile;
 import org.jaudiotagger.audio.exceptions.CannotReadException;
 import org.jaudiotagger.audio.generic.AudioFileReader2;
 import org.jaudiotagger.audio.generic.GenericAudioHeader;
 import org.jaudiotagger.audio.generic.Utils;
 import org.jaudiotagger.audio.iff.IffHeaderChunk;
+import org.jaudiotagger.logging.DebugLogging;
 import org.jaudiotagger.tag.Tag;
 import org.jaudiotagger.tag.TagException;
 import org.jaudiotagger.tag.id3.AbstractID3v2Tag;
@@ -16,9 +18,11 @@ import org.jaudiotagger.tag.id3.ID3v22Tag;
 import org.jaudiotagger.tag.id3.ID3v23Tag;
 import org.jaudiotagger.tag.id3.ID3v24Tag;
 
+import java.io.File;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
+import java.nio.channels.SeekableByteChannel;
 import java.nio.file.Path;
 import java.util.logging.Level;
 
@@ -41,16 +45,7 @@ public class DsfFileReader extends AudioFileReader2
             DsdChunk dsd = DsdChunk.readChunk(Utils.readFileDataIntoBufferLE(fc, DsdChunk.DSD_HEADER_LENGTH));
             if (dsd != null)
             {
-                ByteBuffer fmtChunkBuffer = Utils.readFileDataIntoBufferLE(fc, IffHeaderChunk.SIGNATURE_LENGTH + CHUNKSIZE_LENGTH);
-                FmtChunk fmt = FmtChunk.readChunkHeader(fmtChunkBuffer);
-                if (fmt != null)
-                {
-                    return fmt.readChunkData(dsd, fc);
-                }
-                else
-                {
-                    throw new CannotReadException(file + " Not a valid dsf file. Content does not include 'fmt ' chunk");
-                }
+                return readEncodingInfo(fc, dsd, file.toString());
             }
             else
             {
@@ -59,6 +54,55 @@ public class DsfFileReader extends AudioFileReader2
         }
     }
 
+    @Override
+    protected AudioFile readEncodingInfoAndTag(File f, Path file) throws CannotReadException, IOException
+    {
+        return readEncodingInfoAndTagFromChannel(f, file);
+    }
+
+    /**
+     * Read the audio header and the tag, only reading the dsd chunk once
+     */
+    @Override
+    protected AudioFile readEncodingInfoAndTag(SeekableByteChannel fc, String name) throws CannotReadException, IOException
+    {
+        DsdChunk dsd = DsdChunk.readChunk(Utils.readFileDataIntoBufferLE(fc, DsdChunk.DSD_HEADER_LENGTH));
+        if (dsd != null)
+        {
+            GenericAudioHeader info = readEncodingInfo(fc, dsd, name);
+            Tag tag = readTag(fc, dsd, name);
+            return new AudioFile((File) null, info, tag);
+        }
+        else
+        {
+            throw new CannotReadException(name + " Not a valid dsf file. Content does not start with 'DSD '");
+        }
+    }
+
+    /**
+     * Reads the fmt chunk that follows the dsd chunk
+     *
+     * @param fc the filechannel positioned just after the dsd chunk
+     * @param dsd the dsd chunk
+     * @param fileName
+     * @return
+     * @throws CannotReadException
+     * @throws IOException
+     */
+    private GenericAudioHeader readEncodingInfo(SeekableByteChannel fc, DsdChunk dsd, String fileName) throws CannotReadException, IOException
+    {
+        ByteBuffer fmtChunkBuffer = Utils.readFileDataIntoBufferLE(fc, IffHeaderChunk.SIGNATURE_LENGTH + CHUNKSIZE_LENGTH);
+        FmtChunk fmt = FmtChunk.readChunkHeader(fmtChunkBuffer);
+        if (fmt != null)
+        {
+            return fmt.readChunkData(dsd, fc);
+        }
+        else
+        {
+            throw new CannotReadException(fileName + " Not a valid dsf file. Content does not include 'fmt ' chunk");
+        }
+    }
+
     @Override
     protected Tag getTag(Path file) throws CannotReadException, IOException
     {
@@ -67,7 +111,10 @@ public class DsfFileReader extends AudioFileReader2
             DsdChunk dsd = DsdChunk.readChunk(Utils.readFileDataIntoBufferLE(fc, DsdChunk.DSD_HEADER_LENGTH));
             if (dsd != null)
             {
-                logger.config( file +":actualFileSize:" + fc.size()+":"+dsd.toString());
+                if (DebugLogging.isLoggable(logger, Level.CONFIG))
+                {
+                    logger.config( file +":actualFileSize:" + fc.size()+":"+dsd.toString());
+                }
 
                 return readTag(fc, dsd, file.toString());
             }
@@ -89,7 +136,7 @@ public class DsfFileReader extends AudioFileReader2
      * <code>null</code>.
      * @throws IOException if cannot read file.
      */
-    private Tag readTag(FileChannel fc, DsdChunk dsd, String fileName) throws CannotReadException,IOException
+    private Tag readTag(SeekableByteChannel fc, DsdChunk dsd, String fileName) throws CannotReadException,IOException
     {
         if(dsd.getMetadataOffset() > 0)
         {
@@ -30,6 +30,7 @@ import java.io.IOException;
 import java.io.UnsupportedEncodingException;
 import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
+import java.nio.channels.SeekableByteChannel;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
@@ -43,35 +44,34 @@ public class DsfFileWriter extends AudioFileWriter2
     {
         try(FileChannel fc = FileChannel.open(file, StandardOpenOption.WRITE, StandardOpenOption.READ))
         {
-            DsdChunk dsd = DsdChunk.readChunk(Utils.readFileDataIntoBufferLE(fc, DsdChunk.DSD_HEADER_LENGTH));
-            if (dsd != null)
+            writeTag(tag, fc, file.toString());
+        }
+        catch(AccessDeniedException ade)
+        {
+            throw new NoWritePermissionsException(file + ":" + ade.getMessage());
+        }
+        catch(IOException ioe)
+        {
+            throw new CannotWriteException(ioe.getMessage());
+        }
+    }
+
+    @Override
+    protected void writeTag(Tag tag, SeekableByteChannel fc, String fileName) throws CannotWriteException, IOException
+    {
+        DsdChunk dsd = DsdChunk.readChunk(Utils.readFileDataIntoBufferLE(fc, DsdChunk.DSD_HEADER_LENGTH));
+        if (dsd != null)
+        {
+            if (dsd.getMetadataOffset() > 0)
             {
-                if (dsd.getMetadataOffset() > 0)
+                fc.position(dsd.getMetadataOffset());
+                //If room for an ID3 tag
+                if((fc.size() - fc.position())>=DsfChunkType.ID3.getCode().length())
                 {
-                    fc.position(dsd.getMetadataOffset());
-                    //If room for an ID3 tag
-                    if((fc.size() - fc.position())>=DsfChunkType.ID3.getCode().length())
-                    {
-                        ID3Chunk id3Chunk = ID3Chunk.readChunk(Utils.readFileDataIntoBufferLE(fc, (int) (fc.size() - fc.position())));
-                        if (id3Chunk != null)
-                        {
-                            //Remove Existing tag
-                            fc.position(dsd.getMetadataOffset());
-                            fc.truncate(fc.position());
-                            final ByteBuffer bb = convert((AbstractID3v2Tag) tag);
-                            fc.write(bb);
-                            dsd.setFileLength(fc.size());
-                            fc.position(0);
-                            fc.write(dsd.write());
-                        }
-                        else
-                        {
-                            throw new CannotWriteException(file + "Could not find existing ID3v2 Tag (1)");
-                        }
-                    }
-                    //Remove Existing nonetag (must be at/near end of file)
-                    else
+                    ID3Chunk id3Chunk = ID3Chunk.readChunk(Utils.readFileDataIntoBufferLE(fc, (int) (fc.size() - fc.position())));
+                    if (id3Chunk != null)
                     {
+                        //Remove Existing tag
                         fc.position(dsd.getMetadataOffset());
                         fc.truncate(fc.position());
                         final ByteBuffer bb = convert((AbstractID3v2Tag) tag);
@@ -80,12 +80,16 @@ public class DsfFileWriter extends AudioFileWriter2
                         fc.position(0);
                         fc.write(dsd.write());
                     }
+                    else
+                    {
+                        throw new CannotWriteException(fileName + "Could not find existing ID3v2 Tag (1)");
+                    }
                 }
+                //Remove Existing nonetag (must be at/near end of file)
                 else
                 {
-                    //Write new tag and new offset and size
-                    fc.position(fc.size());
-                    dsd.setMetadataOffset(fc.size());
+                    fc.position(dsd.getMetadataOffset());
+                    fc.truncate(fc.position());
                     final ByteBuffer bb = convert((AbstractID3v2Tag) tag);
                     fc.write(bb);
                     dsd.setFileLength(fc.size());
@@ -93,14 +97,17 @@ public class DsfFileWriter extends AudioFileWriter2
                     fc.write(dsd.write());
                 }
             }
-        }
-        catch(AccessDeniedException ade)
-        {
-            throw new NoWritePermissionsException(file + ":" + ade.getMessage());
-        }
-        catch(IOException ioe)
-        {
-            throw new CannotWriteException(ioe.getMessage());
+            else
+            {
+                //Write new tag and new offset and size
+                fc.position(fc.size());
+                dsd.setMetadataOffset(fc.size());
+                final ByteBuffer bb = convert((AbstractID3v2Tag) tag);
+                fc.write(bb);
+                dsd.setFileLength(fc.size());
+                fc.position(0);
+                fc.write(dsd.write());
+            }
         }
     }
 
@@ -0,0 +1,24 @@
+package org.jaudiotagger.audio.exceptions;
+
+/**
+ * Use this exception instead of the more general CannotWriteException if the tag could not be written directly into
+ * the original file but nothing was written, so the file is unchanged and can still be written using a temporary file
+ */
+public class CannotWriteInPlaceException extends CannotWriteException
+{
+    /**
+	 *
+	 */
+	private static final long serialVersionUID = 2690513846329171094L;
+
+    /**
+     * Creates an instance.
+     *
+     * @param message The error message.
+     * @param cause   The throwable causing this exception.
+     */
+    public CannotWriteInPlaceException(String message, Throwable cause)
+    {
+        super(message, cause);
+    }
+}
@@ -18,13 +18,23 @@
  */
 package org.jaudiotagger.audio.flac;
 
+import org.jaudiotagger.audio.AudioFile;
 import org.jaudiotagger.audio.exceptions.CannotReadException;
+import org.jaudiotagger.audio.flac.metadatablock.BlockType;
+import org.jaudiotagger.audio.flac.metadatablock.MetadataBlockDataPicture;
+import org.jaudiotagger.audio.flac.metadatablock.MetadataBlockDataStreamInfo;
+import org.jaudiotagger.audio.flac.metadatablock.MetadataBlockHeader;
 import org.jaudiotagger.audio.generic.AudioFileReader2;
 import org.jaudiotagger.audio.generic.GenericAudioHeader;
 import org.jaudiotagger.tag.Tag;
+import org.jaudiotagger.tag.vorbiscomment.VorbisCommentTag;
 
+import java.io.File;
 import java.io.IOException;
+import java.nio.channels.SeekableByteChannel;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Read encoding and tag info for Flac file (open source lossless encoding)
@@ -44,4 +54,50 @@ public class FlacFileReader extends AudioFileReader2
     {
         return tr.read(path);
     }
+
+    @Override
+    protected AudioFile readEncodingInfoAndTag(File f, Path path) throws CannotReadException, IOException
+    {
+        return readEncodingInfoAndTagFromChannel(f, path);
+    }
+
+    /**
+     * Read the audio header and the tag with a single walk of the metadata blocks
+     */
+    @Override
+    protected AudioFile readEncodingInfoAndTag(SeekableByteChannel fc, String name) throws CannotReadException, IOException
+    {
+        FlacStreamReader flacStream = new FlacStreamReader(fc, name + " ");
+        flacStream.findStream();
+
+        MetadataBlockDataStreamInfo mbdsi = null;
+        VorbisCommentTag tag = null;
+        List<MetadataBlockDataPicture> images = new ArrayList<MetadataBlockDataPicture>();
+
+        boolean isLastBlock = false;
+        while (!isLastBlock)
+        {
+            MetadataBlockHeader mbh = MetadataBlockHeader.readHeader(fc);
+            long blockEnd = fc.position() + mbh.getDataLength();
+            if (mbh.getBlockType() == BlockType.STREAMINFO)
+            {
+                mbdsi = ir.readStreamInfo(mbh, fc, name);
+            }
+            else
+            {
+                VorbisCommentTag comment = tr.readBlock(mbh, fc, name, images);
+                if (comment != null)
+                {
+                    tag = comment;
+                }
+            }
+
+            //Whatever was read of the block continue from the start of the next one
+            fc.position(blockEnd);
+            isLastBlock = mbh.isLastBlock();
+        }
+
+        GenericAudioHeader info = ir.createAudioHeader(mbdsi, fc.position(), fc.size(), name);
+        return new AudioFile((File) null, info, tr.createTag(tag, images));
+    }
 }
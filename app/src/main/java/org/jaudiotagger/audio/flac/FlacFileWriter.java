@@ -22,6 +22,8 @@ import org.jaudiotagger.audio.exceptions.CannotWriteException;
 import org.jaudiotagger.audio.generic.AudioFileWriter2;
 import org.jaudiotagger.tag.Tag;
 
+import java.io.IOException;
+import java.nio.channels.SeekableByteChannel;
 import java.nio.file.Path;
 
 
@@ -39,6 +41,12 @@ public class FlacFileWriter extends AudioFileWriter2
         tw.write(tag, file);
     }
 
+    @Override
+    protected void writeTag(Tag tag, SeekableByteChannel fc, String fileName) throws CannotWriteException, IOException
+    {
+        tw.write(tag, fc, fileName);
+    }
+
     @Override
     protected void deleteTag(Tag tag, Path file) throws CannotWriteException
     {
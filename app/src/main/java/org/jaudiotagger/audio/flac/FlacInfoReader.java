@@ -24,11 +24,14 @@ import org.jaudiotagger.audio.flac.metadatablock.BlockType;
 import org.jaudiotagger.audio.flac.metadatablock.MetadataBlockDataStreamInfo;
 import org.jaudiotagger.audio.flac.metadatablock.MetadataBlockHeader;
 import org.jaudiotagger.audio.generic.Utils;
+import org.jaudiotagger.logging.DebugLogging;
 
 import java.io.File;
 import java.io.IOException;
 import java.nio.channels.FileChannel;
+import java.nio.channels.SeekableByteChannel;
 import java.nio.file.Path;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
@@ -43,7 +46,10 @@ public class FlacInfoReader
 
     public FlacAudioHeader read(Path path) throws CannotReadException, IOException
     {
-        logger.config(path + ":start");
+        if (DebugLogging.isLoggable(logger, Level.CONFIG))
+        {
+            logger.config(path + ":start");
+        }
         try(FileChannel fc = FileChannel.open(path))
         {
             FlacStreamReader flacStream = new FlacStreamReader(fc, path.toString() + " ");
@@ -61,17 +67,7 @@ public class FlacInfoReader
                 logger.info(path.toString() + " "  + mbh.toString());
                 if (mbh.getBlockType() == BlockType.STREAMINFO)
                 {
-                    //See #253:MetadataBlockDataStreamInfo exception when bytes length is 0
-                    if(mbh.getDataLength()==0)
-                    {
-                        throw new CannotReadException(path + ":FLAC StreamInfo has zeo data length");
-                    }
-
-                    mbdsi = new MetadataBlockDataStreamInfo(mbh, fc);
-                    if (!mbdsi.isValid())
-                    {
-                        throw new CannotReadException(path + ":FLAC StreamInfo not valid");
-                    }
+                    mbdsi = readStreamInfo(mbh, fc, path.toString());
                 }
                 else
                 {
@@ -81,29 +77,68 @@ public class FlacInfoReader
             }
 
             //Audio continues from this point to end of file (normally - TODO might need to allow for an ID3v1 tag at file end ?)
-            long streamStart = fc.position();
+            return createAudioHeader(mbdsi, fc.position(), fc.size(), path.toString());
+        }
+    }
 
-            if (mbdsi == null)
-            {
-                throw new CannotReadException(path + ":Unable to find Flac StreamInfo");
-            }
+    /**
+     * Read the StreamInfo block, the channel should be positioned at the start of the block data
+     *
+     * @param mbh
+     * @param fc
+     * @param fileName
+     * @return
+     * @throws CannotReadException
+     * @throws IOException
+     */
+    MetadataBlockDataStreamInfo readStreamInfo(MetadataBlockHeader mbh, SeekableByteChannel fc, String fileName) throws CannotReadException, IOException
+    {
+        //See #253:MetadataBlockDataStreamInfo exception when bytes length is 0
+        if(mbh.getDataLength()==0)
+        {
+            throw new CannotReadException(fileName + ":FLAC StreamInfo has zeo data length");
+        }
 
-            FlacAudioHeader info = new FlacAudioHeader();
-            info.setNoOfSamples(mbdsi.getNoOfSamples());
-            info.setPreciseLength(mbdsi.getPreciseLength());
-            info.setChannelNumber(mbdsi.getNoOfChannels());
-            info.setSamplingRate(mbdsi.getSamplingRate());
-            info.setBitsPerSample(mbdsi.getBitsPerSample());
-            info.setEncodingType(mbdsi.getEncodingType());
-            info.setFormat(SupportedFileFormat.FLAC.getDisplayName());
-            info.setLossless(true);
-            info.setMd5(mbdsi.getMD5Signature());
-            info.setAudioDataLength(fc.size() - streamStart);
-            info.setAudioDataStartPosition(streamStart);
-            info.setAudioDataEndPosition(fc.size());
-            info.setBitRate(computeBitrate(info.getAudioDataLength(), mbdsi.getPreciseLength()));
-            return info;
+        MetadataBlockDataStreamInfo mbdsi = new MetadataBlockDataStreamInfo(mbh, fc);
+        if (!mbdsi.isValid())
+        {
+            throw new CannotReadException(fileName + ":FLAC StreamInfo not valid");
+        }
+        return mbdsi;
+    }
+
+    /**
+     * Create the audio header once all the metadata blocks have been read
+     *
+     * @param mbdsi StreamInfo block, null if none was found
+     * @param streamStart start of the audio frames, just after the last metadata block
+     * @param fileSize
+     * @param fileName
+     * @return
+     * @throws CannotReadException
+     */
+    FlacAudioHeader createAudioHeader(MetadataBlockDataStreamInfo mbdsi, long streamStart, long fileSize, String fileName) throws CannotReadException
+    {
+        if (mbdsi == null)
+        {
+            throw new CannotReadException(fileName + ":Unable to find Flac StreamInfo");
         }
+
+        FlacAudioHeader info = new FlacAudioHeader();
+        info.setNoOfSamples(mbdsi.getNoOfSamples());
+        info.setPreciseLength(mbdsi.getPreciseLength());
+        info.setChannelNumber(mbdsi.getNoOfChannels());
+        info.setSamplingRate(mbdsi.getSamplingRate());
+        info.setBitsPerSample(mbdsi.getBitsPerSample());
+        info.setEncodingType(mbdsi.getEncodingType());
+        info.setFormat(SupportedFileFormat.FLAC.getDisplayName());
+        info.setLossless(true);
+        info.setMd5(mbdsi.getMD5Signature());
+        info.setAudioDataLength(fileSize - streamStart);
+        info.setAudioDataStartPosition(streamStart);
+        info.setAudioDataEndPosition(fileSize);
+        info.setBitRate(computeBitrate(info.getAudioDataLength(), mbdsi.getPreciseLength()));
+        return info;
     }
 
     private int computeBitrate(long size, float length )
@@ -132,7 +167,10 @@ public class FlacInfoReader
             while (!isLastBlock)
             {
                 MetadataBlockHeader mbh = MetadataBlockHeader.readHeader(fc);
-                logger.config(f + ":Found block:" + mbh.getBlockType());
+                if (DebugLogging.isLoggable(logger, Level.CONFIG))
+                {
+                    logger.config(f + ":Found block:" + mbh.getBlockType());
+                }
                 fc.position(fc.position() + mbh.getDataLength());
                 isLastBlock = mbh.isLastBlock();
                 count++;
@@ -22,6 +22,7 @@ import org.jaudiotagger.audio.flac.metadatablock.BlockType;
 import org.jaudiotagger.audio.flac.metadatablock.MetadataBlockDataPicture;
 import org.jaudiotagger.audio.flac.metadatablock.MetadataBlockHeader;
 import org.jaudiotagger.audio.generic.AbstractTagCreator;
+import org.jaudiotagger.logging.DebugLogging;
 import org.jaudiotagger.tag.Tag;
 import org.jaudiotagger.tag.flac.FlacTag;
 import org.jaudiotagger.tag.vorbiscomment.VorbisCommentCreator;
@@ -29,6 +30,7 @@ import org.jaudiotagger.tag.vorbiscomment.VorbisCommentCreator;
 import java.io.UnsupportedEncodingException;
 import java.nio.ByteBuffer;
 import java.util.ListIterator;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
@@ -69,7 +71,10 @@ public class FlacTagCreator extends AbstractTagCreator
         {
             tagLength += image.getBytes().limit() + MetadataBlockHeader.HEADER_LENGTH;
         }
-        logger.config("Convert flac tag:taglength:" + tagLength);
+        if (DebugLogging.isLoggable(logger, Level.CONFIG))
+        {
+            logger.config("Convert flac tag:taglength:" + tagLength);
+        }
 
         ByteBuffer buf = ByteBuffer.allocate(tagLength);
 
@@ -21,6 +21,8 @@ package org.jaudiotagger.audio.flac;
 import org.jaudiotagger.audio.exceptions.CannotReadException;
 import org.jaudiotagger.audio.flac.metadatablock.MetadataBlockDataPicture;
 import org.jaudiotagger.audio.flac.metadatablock.MetadataBlockHeader;
+import org.jaudiotagger.audio.generic.ReadMode;
+import org.jaudiotagger.logging.DebugLogging;
 import org.jaudiotagger.logging.Hex;
 import org.jaudiotagger.tag.InvalidFrameException;
 import org.jaudiotagger.tag.flac.FlacTag;
@@ -30,6 +32,7 @@ import org.jaudiotagger.tag.vorbiscomment.VorbisCommentTag;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
+import java.nio.channels.SeekableByteChannel;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
@@ -62,7 +65,7 @@ public class FlacTagReader
             boolean isLastBlock = false;
             while (!isLastBlock)
             {
-                if (logger.isLoggable(Level.CONFIG))
+                if (DebugLogging.isLoggable(logger, Level.CONFIG))
                 {
                     logger.config(path + " Looking for MetaBlockHeader at:" + fc.position());
                 }
@@ -74,78 +77,116 @@ public class FlacTagReader
                     break;
                 }
 
-                if (logger.isLoggable(Level.CONFIG))
+                if (DebugLogging.isLoggable(logger, Level.CONFIG))
                 {
                     logger.config(path + " Reading MetadataBlockHeader:" + mbh.toString() + " ending at " + fc.position());
                 }
 
-                //Is it one containing some sort of metadata, therefore interested in it?
-
-                //JAUDIOTAGGER-466:CBlocktype can be null
-                if (mbh.getBlockType() != null)
+                VorbisCommentTag comment = readBlock(mbh, fc, path.toString(), images);
+                if (comment != null)
                 {
-                    switch (mbh.getBlockType())
-                    {
-                        //We got a vorbiscomment comment block, parse it
-                        case VORBIS_COMMENT:
-                            ByteBuffer commentHeaderRawPacket = ByteBuffer.allocate(mbh.getDataLength());
-                            fc.read(commentHeaderRawPacket);
-                            tag = vorbisCommentReader.read(commentHeaderRawPacket.array(), false, path);
-                            break;
-
-                        case PICTURE:
-                            try
-                            {
-                                MetadataBlockDataPicture mbdp = new MetadataBlockDataPicture(mbh, fc);
-                                images.add(mbdp);
-                            }
-                            catch (IOException ioe)
-                            {
-                                logger.warning(path + "Unable to read picture metablock, ignoring:" + ioe.getMessage());
-                            }
-                            catch (InvalidFrameException ive)
-                            {
-                                logger.warning(path + "Unable to read picture metablock, ignoring" + ive.getMessage());
-                            }
-
-                            break;
-
-
-                        case SEEKTABLE:
-                            try
-                            {
-                                long pos = fc.position();
-                                fc.position(pos + mbh.getDataLength());
-                            }
-                            catch (IOException ioe)
-                            {
-                                logger.warning(path + "Unable to readseek metablock, ignoring:" + ioe.getMessage());
-                            }
-                            break;
-
-                        //This is not a metadata block we are interested in so we skip to next block
-                        default:
-                            if (logger.isLoggable(Level.CONFIG))
-                            {
-                                logger.config(path + "Ignoring MetadataBlock:" + mbh.getBlockType());
-                            }
-                            fc.position(fc.position() + mbh.getDataLength());
-                            break;
-                    }
+                    tag = comment;
                 }
                 isLastBlock = mbh.isLastBlock();
             }
-            logger.config("Audio should start at:"+ Hex.asHex(fc.position()));
+            if (DebugLogging.isLoggable(logger, Level.CONFIG))
+            {
+                logger.config("Audio should start at:"+ Hex.asHex(fc.position()));
+            }
+
+            return createTag(tag, images);
+        }
+    }
+
+    /**
+     * Read a metadata block that may contain tag metadata, any other block is skipped over
+     *
+     * The channel should be positioned at the start of the block data.
+     *
+     * @param mbh
+     * @param fc
+     * @param fileName
+     * @param images any picture read is added to this list
+     * @return the tag if this was a VorbisComment block, otherwise null
+     * @throws CannotReadException
+     * @throws IOException
+     */
+    VorbisCommentTag readBlock(MetadataBlockHeader mbh, SeekableByteChannel fc, String fileName, List<MetadataBlockDataPicture> images) throws CannotReadException, IOException
+    {
+        //Is it one containing some sort of metadata, therefore interested in it?
 
-            //Note there may not be either a tag or any images, no problem this is valid however to make it easier we
-            //just initialize Flac with an empty VorbisTag
-            if (tag == null)
+        //JAUDIOTAGGER-466:CBlocktype can be null
+        if (mbh.getBlockType() != null)
+        {
+            switch (mbh.getBlockType())
             {
-                tag = VorbisCommentTag.createNewTag();
+                //We got a vorbiscomment comment block, parse it
+                case VORBIS_COMMENT:
+                    ByteBuffer commentHeaderRawPacket = ByteBuffer.allocate(mbh.getDataLength());
+                    fc.read(commentHeaderRawPacket);
+                    return vorbisCommentReader.read(commentHeaderRawPacket.array(), false, fileName);
+
+                case PICTURE:
+                    try
+                    {
+                        MetadataBlockDataPicture mbdp = ReadMode.isSummary()
+                                ? MetadataBlockDataPicture.readSummary(mbh, fc)
+                                : new MetadataBlockDataPicture(mbh, fc);
+                        images.add(mbdp);
+                    }
+                    catch (IOException ioe)
+                    {
+                        logger.warning(fileName + "Unable to read picture metablock, ignoring:" + ioe.getMessage());
+                    }
+                    catch (InvalidFrameException ive)
+                    {
+                        logger.warning(fileName + "Unable to read picture metablock, ignoring" + ive.getMessage());
+                    }
+
+                    break;
+
+
+                case SEEKTABLE:
+                    try
+                    {
+                        long pos = fc.position();
+                        fc.position(pos + mbh.getDataLength());
+                    }
+                    catch (IOException ioe)
+                    {
+                        logger.warning(fileName + "Unable to readseek metablock, ignoring:" + ioe.getMessage());
+                    }
+                    break;
+
+                //This is not a metadata block we are interested in so we skip to next block
+                default:
+                    if (DebugLogging.isLoggable(logger, Level.CONFIG))
+                    {
+                        logger.config(fileName + "Ignoring MetadataBlock:" + mbh.getBlockType());
+                    }
+                    fc.position(fc.position() + mbh.getDataLength());
+                    break;
             }
-            FlacTag flacTag = new FlacTag(tag, images);
-            return flacTag;
         }
+        return null;
+    }
+
+    /**
+     * Create the tag once all the metadata blocks have been read
+     *
+     * @param tag VorbisComment read from the file, null if there was none
+     * @param images
+     * @return
+     */
+    FlacTag createTag(VorbisCommentTag tag, List<MetadataBlockDataPicture> images)
+    {
+        //Note there may not be either a tag or any images, no problem this is valid however to make it easier we
+        //just initialize Flac with an empty VorbisTag
+        if (tag == null)
+        {
+            tag = VorbisCommentTag.createNewTag();
+        }
+        return new FlacTag(tag, images);
     }
 }
 
@@ -22,6 +22,7 @@ import org.jaudiotagger.audio.exceptions.CannotReadException;
 import org.jaudiotagger.audio.exceptions.CannotWriteException;
 import org.jaudiotagger.audio.exceptions.NoWritePermissionsException;
 import org.jaudiotagger.audio.flac.metadatablock.*;
+import org.jaudiotagger.logging.DebugLogging;
 import org.jaudiotagger.tag.Tag;
 import org.jaudiotagger.tag.flac.FlacTag;
 import org.jaudiotagger.utils.ShiftData;
@@ -30,6 +31,7 @@ import java.io.IOException;
 import java.io.UnsupportedEncodingException;
 import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
+import java.nio.channels.SeekableByteChannel;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
@@ -189,127 +191,153 @@ public class FlacTagWriter
      */
     public void write(Tag tag, Path file) throws CannotWriteException
     {
-        logger.config(file + " Writing tag");
         try (FileChannel fc = FileChannel.open(file, StandardOpenOption.WRITE, StandardOpenOption.READ))
         {
-            MetadataBlockInfo blockInfo = new MetadataBlockInfo();
+            write(tag, fc, file.toString());
+        }
+        catch (AccessDeniedException ade)
+        {
+            logger.log(Level.SEVERE, ade.getMessage(), ade);
+            throw new NoWritePermissionsException(file + ":" + ade.getMessage());
+        }
+        catch (IOException ioe)
+        {
+            logger.log(Level.SEVERE, ioe.getMessage(), ioe);
+            throw new CannotWriteException(file + ":" + ioe.getMessage());
+        }
+    }
 
-            //Read existing data
-            FlacStreamReader flacStream = new FlacStreamReader(fc, file.toString() + " ");
-            try
-            {
-                flacStream.findStream();
-            }
-            catch (CannotReadException cre)
-            {
-                throw new CannotWriteException(cre.getMessage());
-            }
+    /**
+     * Write the tag to a channel opened for reading and writing, the channel is left open
+     *
+     * @param tag
+     * @param fc
+     * @param fileName used in log and error messages
+     * @throws CannotWriteException
+     * @throws IOException
+     */
+    public void write(Tag tag, SeekableByteChannel fc, String fileName) throws CannotWriteException, IOException
+    {
+        if (DebugLogging.isLoggable(logger, Level.CONFIG))
+        {
+            logger.config(fileName + " Writing tag");
+        }
+        MetadataBlockInfo blockInfo = new MetadataBlockInfo();
 
-            boolean isLastBlock = false;
-            while (!isLastBlock)
+        //Read existing data
+        FlacStreamReader flacStream = new FlacStreamReader(fc, fileName + " ");
+        try
+        {
+            flacStream.findStream();
+        }
+        catch (CannotReadException cre)
+        {
+            throw new CannotWriteException(cre.getMessage());
+        }
+
+        boolean isLastBlock = false;
+        while (!isLastBlock)
+        {
+            try
             {
-                try
+                MetadataBlockHeader mbh = MetadataBlockHeader.readHeader(fc);
+                if (mbh.getBlockType() != null)
                 {
-                    MetadataBlockHeader mbh = MetadataBlockHeader.readHeader(fc);
-                    if (mbh.getBlockType() != null)
+                    switch (mbh.getBlockType())
                     {
-                        switch (mbh.getBlockType())
+                        case STREAMINFO:
+                        {
+                            blockInfo.streamInfoBlock = new MetadataBlock(mbh, new MetadataBlockDataStreamInfo(mbh, fc));
+                            break;
+                        }
+
+                        case VORBIS_COMMENT:
+                        case PADDING:
+                        case PICTURE:
                         {
-                            case STREAMINFO:
-                            {
-                                blockInfo.streamInfoBlock = new MetadataBlock(mbh, new MetadataBlockDataStreamInfo(mbh, fc));
-                                break;
-                            }
-
-                            case VORBIS_COMMENT:
-                            case PADDING:
-                            case PICTURE:
-                            {
-                                //All these will be replaced by the new metadata so we just treat as padding in order
-                                //to determine how much space is already allocated in the file
-                                fc.position(fc.position() + mbh.getDataLength());
-                                MetadataBlockData mbd = new MetadataBlockDataPadding(mbh.getDataLength());
-                                blockInfo.metadataBlockPadding.add(new MetadataBlock(mbh, mbd));
-                                break;
-                            }
-
-                            case APPLICATION:
-                            {
-                                MetadataBlockData mbd = new MetadataBlockDataApplication(mbh, fc);
-                                blockInfo.metadataBlockApplication.add(new MetadataBlock(mbh, mbd));
-                                break;
-                            }
-
-                            case SEEKTABLE:
-                            {
-                                MetadataBlockData mbd = new MetadataBlockDataSeekTable(mbh, fc);
-                                blockInfo.metadataBlockSeekTable.add(new MetadataBlock(mbh, mbd));
-                                break;
-                            }
-
-                            case CUESHEET:
-                            {
-                                MetadataBlockData mbd = new MetadataBlockDataCueSheet(mbh, fc);
-                                blockInfo.metadataBlockCueSheet.add(new MetadataBlock(mbh, mbd));
-                                break;
-                            }
-
-                            default:
-                            {
-                                //TODO What are the consequences of doing this ?
-                                fc.position(fc.position() + mbh.getDataLength());
-                                break;
-                            }
+                            //All these will be replaced by the new metadata so we just treat as padding in order
+                            //to determine how much space is already allocated in the file
+                            fc.position(fc.position() + mbh.getDataLength());
+                            MetadataBlockData mbd = new MetadataBlockDataPadding(mbh.getDataLength());
+                            blockInfo.metadataBlockPadding.add(new MetadataBlock(mbh, mbd));
+                            break;
+                        }
+
+                        case APPLICATION:
+                        {
+                            MetadataBlockData mbd = new MetadataBlockDataApplication(mbh, fc);
+                            blockInfo.metadataBlockApplication.add(new MetadataBlock(mbh, mbd));
+                            break;
+                        }
+
+                        case SEEKTABLE:
+                        {
+                            MetadataBlockData mbd = new MetadataBlockDataSeekTable(mbh, fc);
+                            blockInfo.metadataBlockSeekTable.add(new MetadataBlock(mbh, mbd));
+                            break;
+                        }
+
+                        case CUESHEET:
+                        {
+                            MetadataBlockData mbd = new MetadataBlockDataCueSheet(mbh, fc);
+                            blockInfo.metadataBlockCueSheet.add(new MetadataBlock(mbh, mbd));
+                            break;
+                        }
+
+                        default:
+                        {
+                            //TODO What are the consequences of doing this ?
+                            fc.position(fc.position() + mbh.getDataLength());
+                            break;
                         }
                     }
-                    isLastBlock = mbh.isLastBlock();
-                }
-                catch (CannotReadException cre)
-                {
-                    throw new CannotWriteException(cre.getMessage());
                 }
+                isLastBlock = mbh.isLastBlock();
+            }
+            catch (CannotReadException cre)
+            {
+                throw new CannotWriteException(cre.getMessage());
             }
+        }
 
-            //Number of bytes in the existing file available before audio data
-            int availableRoom = blockInfo.computeAvailableRoom();
+        //Number of bytes in the existing file available before audio data
+        int availableRoom = blockInfo.computeAvailableRoom();
 
-            //Minimum Size of the New tag data without padding
-            int newTagSize = tc.convertMetadata(tag).limit();
+        //Minimum Size of the New tag data without padding
+        int newTagSize = tc.convertMetadata(tag).limit();
 
-            //Other blocks required size
-            int otherBlocksRequiredSize = blockInfo.computeNeededRoom();
+        //Other blocks required size
+        int otherBlocksRequiredSize = blockInfo.computeNeededRoom();
 
-            //Number of bytes required for new tagdata and other metadata blocks
-            int neededRoom = newTagSize + otherBlocksRequiredSize;
+        //Number of bytes required for new tagdata and other metadata blocks
+        int neededRoom = newTagSize + otherBlocksRequiredSize;
 
-            //Go to start of Flac within file
-            fc.position(flacStream.getStartOfFlacInFile());
+        //Go to start of Flac within file
+        fc.position(flacStream.getStartOfFlacInFile());
 
-            //There is enough room to fit the tag without moving the audio just need to
-            //adjust padding accordingly need to allow space for padding header if padding required
-            logger.config(file + ":Writing tag available bytes:" + availableRoom + ":needed bytes:" + neededRoom);
-            if ((availableRoom == neededRoom) || (availableRoom > neededRoom + MetadataBlockHeader.HEADER_LENGTH))
-            {
-                logger.config(file + ":Room to Rewrite");
-                writeAllNonAudioData(tag, fc, blockInfo, flacStream, availableRoom - neededRoom);
-            }
-            //Need to move audio
-            else
+        //There is enough room to fit the tag without moving the audio just need to
+        //adjust padding accordingly need to allow space for padding header if padding required
+        if (DebugLogging.isLoggable(logger, Level.CONFIG))
+        {
+            logger.config(fileName + ":Writing tag available bytes:" + availableRoom + ":needed bytes:" + neededRoom);
+        }
+        if ((availableRoom == neededRoom) || (availableRoom > neededRoom + MetadataBlockHeader.HEADER_LENGTH))
+        {
+            if (DebugLogging.isLoggable(logger, Level.CONFIG))
             {
-                logger.config(file + ":Audio must be shifted "+ "NewTagSize:" + newTagSize + ":AvailableRoom:" + availableRoom + ":MinimumAdditionalRoomRequired:"+(neededRoom - availableRoom));
-                //As we are having to move both anyway may as well put in the default padding
-                insertUsingChunks(file, tag, fc, blockInfo, flacStream, neededRoom + FlacTagCreator.DEFAULT_PADDING, availableRoom);
+                logger.config(fileName + ":Room to Rewrite");
             }
+            writeAllNonAudioData(tag, fc, blockInfo, flacStream, availableRoom - neededRoom);
         }
-        catch (AccessDeniedException ade)
+        //Need to move audio
+        else
         {
-            logger.log(Level.SEVERE, ade.getMessage(), ade);
-            throw new NoWritePermissionsException(file + ":" + ade.getMessage());
-        }
-        catch (IOException ioe)
-        {
-            logger.log(Level.SEVERE, ioe.getMessage(), ioe);
-            throw new CannotWriteException(file + ":" + ioe.getMessage());
+            if (DebugLogging.isLoggable(logger, Level.CONFIG))
+            {
+                logger.config(fileName + ":Audio must be shifted "+ "NewTagSize:" + newTagSize + ":AvailableRoom:" + availableRoom + ":MinimumAdditionalRoomRequired:"+(neededRoom - availableRoom));
+            }
+            //As we are having to move both anyway may as well put in the default padding
+            insertUsingChunks(fileName, tag, fc, blockInfo, flacStream, neededRoom + FlacTagCreator.DEFAULT_PADDING, availableRoom);
         }
     }
 
@@ -322,7 +350,10 @@ public class FlacTagWriter
     public ByteBuffer addPaddingBlock(int paddingSize) throws UnsupportedEncodingException
     {
         //Padding
-        logger.config("padding:" + paddingSize);
+        if (DebugLogging.isLoggable(logger, Level.CONFIG))
+        {
+            logger.config("padding:" + paddingSize);
+        }
         ByteBuffer buf = ByteBuffer.allocate(paddingSize);
         if (paddingSize > 0)
         {
@@ -347,7 +378,7 @@ public class FlacTagWriter
      *
      * @throws IOException
      */
-    private void writeAllNonAudioData(Tag tag, FileChannel fc, MetadataBlockInfo blockInfo, FlacStreamReader flacStream, int padding) throws IOException
+    private void writeAllNonAudioData(Tag tag, SeekableByteChannel fc, MetadataBlockInfo blockInfo, FlacStreamReader flacStream, int padding) throws IOException
     {
         //Jump over Id3 (if exists) and flac header
         fc.position(flacStream.getStartOfFlacInFile() + FlacStreamReader.FLAC_STREAM_IDENTIFIER_LENGTH);
@@ -406,7 +437,7 @@ public class FlacTagWriter
      * @throws IOException
      * @throws UnsupportedEncodingException
      */
-    private void insertUsingChunks(Path file, Tag tag, FileChannel fc, MetadataBlockInfo blockInfo, FlacStreamReader flacStream, int neededRoom, int availableRoom) throws IOException, UnsupportedEncodingException
+    private void insertUsingChunks(String fileName, Tag tag, SeekableByteChannel fc, MetadataBlockInfo blockInfo, FlacStreamReader flacStream, int neededRoom, int availableRoom) throws IOException, UnsupportedEncodingException
     {
         //Find end of metadata blocks (start of Audio), i.e start of Flac + 4 bytes for 'fLaC', 4 bytes for streaminfo header and
         //34 bytes for streaminfo and then size of all the other existing blocks
@@ -418,7 +449,10 @@ public class FlacTagWriter
 
         //Extra Space Required for larger metadata block
         int extraSpaceRequired = neededRoom - availableRoom;
-        logger.config(file + " Audio needs shifting:"+extraSpaceRequired);
+        if (DebugLogging.isLoggable(logger, Level.CONFIG))
+        {
+            logger.config(fileName + " Audio needs shifting:"+extraSpaceRequired);
+        }
 
         fc.position(audioStart);
         ShiftData.shiftDataByOffsetToMakeSpace(fc, extraSpaceRequired);
@@ -428,7 +462,7 @@ public class FlacTagWriter
         writeAllNonAudioData(tag, fc, blockInfo, flacStream, FlacTagCreator.DEFAULT_PADDING);
     }
 
-    private void writeStreamBlock(FileChannel fc, MetadataBlockInfo blockInfo) throws IOException
+    private void writeStreamBlock(SeekableByteChannel fc, MetadataBlockInfo blockInfo) throws IOException
     {
         //Write StreamInfo, we always write this first even if wasn't first in original spec
         fc.write(ByteBuffer.wrap(blockInfo.streamInfoBlock.getHeader().getBytesWithoutIsLastBlockFlag()));
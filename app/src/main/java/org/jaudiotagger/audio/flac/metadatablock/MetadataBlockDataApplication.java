@@ -20,7 +20,7 @@ package org.jaudiotagger.audio.flac.metadatablock;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
-import java.nio.channels.FileChannel;
+import java.nio.channels.SeekableByteChannel;
 
 
 /**
@@ -34,7 +34,7 @@ public class MetadataBlockDataApplication implements MetadataBlockData
 {
     private ByteBuffer data;
 
-    public MetadataBlockDataApplication(MetadataBlockHeader header, FileChannel fc) throws IOException
+    public MetadataBlockDataApplication(MetadataBlockHeader header, SeekableByteChannel fc) throws IOException
     {
         data = ByteBuffer.allocate(header.getDataLength());
         fc.read(data);
@@ -1,6 +1,7 @@
 package org.jaudiotagger.audio.flac.metadatablock;
 
 import org.jaudiotagger.audio.generic.Utils;
+import org.jaudiotagger.logging.DebugLogging;
 import org.jaudiotagger.tag.FieldKey;
 import org.jaudiotagger.tag.InvalidFrameException;
 import org.jaudiotagger.tag.TagField;
@@ -9,9 +10,11 @@ import org.jaudiotagger.tag.reference.PictureTypes;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.UnsupportedEncodingException;
+import java.nio.BufferUnderflowException;
 import java.nio.ByteBuffer;
-import java.nio.channels.FileChannel;
+import java.nio.channels.SeekableByteChannel;
 import java.nio.charset.StandardCharsets;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 
@@ -58,10 +61,41 @@ public class MetadataBlockDataPicture implements MetadataBlockData, TagField
     private int lengthOfPictureInBytes;
     private byte[] imageData;
 
+    //Set when the image data was skipped over rather than read, see readSummary()
+    private boolean isImageDataDeferred = false;
+    private long imageDataOffset = -1;
+
+    //Enough to hold the fields before the image data for any sensible mimetype and description
+    private static final int SUMMARY_HEADER_READ_SIZE = 4096;
+
     // Logger Object
     public static Logger logger = Logger.getLogger("org.jaudiotagger.audio.flac.MetadataBlockDataPicture");
 
     private void initFromByteBuffer(ByteBuffer rawdata) throws IOException, InvalidFrameException
+    {
+        initHeaderFromByteBuffer(rawdata);
+
+        //ImageData
+        if(lengthOfPictureInBytes > rawdata.remaining())
+        {
+            throw new InvalidFrameException("PictureType Size was:" + lengthOfPictureInBytes + " but remaining bytes size " +rawdata.remaining());
+        }
+        imageData = new byte[lengthOfPictureInBytes];
+        rawdata.get(imageData);
+        if (DebugLogging.isLoggable(logger, Level.CONFIG))
+        {
+            logger.config("Read image:" + this.toString());
+        }
+    }
+
+    /**
+     * Read the fields up to but not including the image data
+     *
+     * @param rawdata
+     * @throws IOException
+     * @throws InvalidFrameException
+     */
+    private void initHeaderFromByteBuffer(ByteBuffer rawdata) throws IOException, InvalidFrameException
     {
         //Picture Type
         pictureType = rawdata.getInt();
@@ -99,15 +133,6 @@ public class MetadataBlockDataPicture implements MetadataBlockData, TagField
         indexedColouredCount = rawdata.getInt();
 
         lengthOfPictureInBytes =  rawdata.getInt();
-
-        //ImageData
-        if(lengthOfPictureInBytes > rawdata.remaining())
-        {
-            throw new InvalidFrameException("PictureType Size was:" + lengthOfPictureInBytes + " but remaining bytes size " +rawdata.remaining());
-        }
-        imageData = new byte[lengthOfPictureInBytes];
-        rawdata.get(imageData);
-        logger.config("Read image:" + this.toString());
     }
 
     /**
@@ -130,7 +155,7 @@ public class MetadataBlockDataPicture implements MetadataBlockData, TagField
      * @throws java.io.IOException
      * @throws org.jaudiotagger.tag.InvalidFrameException
      */
-    public MetadataBlockDataPicture(MetadataBlockHeader header, FileChannel fc ) throws IOException, InvalidFrameException
+    public MetadataBlockDataPicture(MetadataBlockHeader header, SeekableByteChannel fc ) throws IOException, InvalidFrameException
     {
         if (header.getDataLength()==0)
         {
@@ -150,6 +175,85 @@ public class MetadataBlockDataPicture implements MetadataBlockData, TagField
 
     }
 
+    /**
+     * Initialize MetaBlockDataPicture from byteBuffer but without reading the image data, used when only a summary
+     * of the vorbis comment is required
+     *
+     * @param rawdata
+     * @return picture whose image data is deferred
+     * @throws IOException
+     * @throws InvalidFrameException
+     */
+    public static MetadataBlockDataPicture readSummary(ByteBuffer rawdata) throws IOException, InvalidFrameException
+    {
+        MetadataBlockDataPicture picture = new MetadataBlockDataPicture();
+        picture.initHeaderFromByteBuffer(rawdata);
+        picture.deferImageData(-1);
+        return picture;
+    }
+
+    /**
+     * Construct picture block by reading from file but skip over the image data itself, only recording where it
+     * is in the file
+     *
+     * @param header
+     * @param fc
+     * @return picture whose image data is deferred
+     * @throws IOException
+     * @throws InvalidFrameException
+     */
+    public static MetadataBlockDataPicture readSummary(MetadataBlockHeader header, SeekableByteChannel fc) throws IOException, InvalidFrameException
+    {
+        if (header.getDataLength()==0)
+        {
+            throw new IOException("MetadataBlockDataPicture HeaderDataSize is zero");
+        }
+
+        long blockStart = fc.position();
+        ByteBuffer rawdata = ByteBuffer.allocate(Math.min(header.getDataLength(), SUMMARY_HEADER_READ_SIZE));
+        fc.read(rawdata);
+        rawdata.flip();
+
+        MetadataBlockDataPicture picture = new MetadataBlockDataPicture();
+        try
+        {
+            picture.initHeaderFromByteBuffer(rawdata);
+        }
+        catch(BufferUnderflowException bue)
+        {
+            //Unusually long mimetype or description so just read the whole block
+            fc.position(blockStart);
+            return new MetadataBlockDataPicture(header, fc);
+        }
+
+        long imageStart = blockStart + rawdata.position();
+        if(picture.lengthOfPictureInBytes > header.getDataLength() - rawdata.position())
+        {
+            throw new InvalidFrameException("PictureType Size was:" + picture.lengthOfPictureInBytes + " but remaining bytes size " + (header.getDataLength() - rawdata.position()));
+        }
+
+        //Url is small and needed to make sense of the picture so always read it
+        if(picture.isImageUrl())
+        {
+            fc.position(blockStart);
+            return new MetadataBlockDataPicture(header, fc);
+        }
+        picture.deferImageData(imageStart);
+        fc.position(blockStart + header.getDataLength());
+        return picture;
+    }
+
+    private MetadataBlockDataPicture()
+    {
+    }
+
+    private void deferImageData(long offset)
+    {
+        imageData = new byte[0];
+        isImageDataDeferred = true;
+        imageDataOffset = offset;
+    }
+
     /**
      * Construct new MetadataPicture block
      *
@@ -254,6 +358,30 @@ public class MetadataBlockDataPicture implements MetadataBlockData, TagField
         return imageData;
     }
 
+    /**
+     * @return true if the image data was skipped because only a summary was read
+     */
+    public boolean isImageDataDeferred()
+    {
+        return isImageDataDeferred;
+    }
+
+    /**
+     * @return offset of the image data within the file if it was deferred, otherwise -1
+     */
+    public long getImageDataOffset()
+    {
+        return imageDataOffset;
+    }
+
+    /**
+     * @return length of the image data, even if it was not read
+     */
+    public int getImageDataLength()
+    {
+        return isImageDataDeferred ? lengthOfPictureInBytes : imageData.length;
+    }
+
     /**
      * @return true if imagedata  is held as a url rather than actually being imagedata
      */
@@ -23,7 +23,7 @@ import org.jaudiotagger.audio.generic.Utils;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
-import java.nio.channels.FileChannel;
+import java.nio.channels.SeekableByteChannel;
 import java.util.logging.Logger;
 
 /**
@@ -64,7 +64,7 @@ public class MetadataBlockDataStreamInfo  implements MetadataBlockData
 
     private ByteBuffer rawdata;
 
-    public MetadataBlockDataStreamInfo(MetadataBlockHeader header, FileChannel fc) throws IOException
+    public MetadataBlockDataStreamInfo(MetadataBlockHeader header, SeekableByteChannel fc) throws IOException
     {
         if (header.getDataLength() < STREAM_INFO_DATA_LENGTH)
         {
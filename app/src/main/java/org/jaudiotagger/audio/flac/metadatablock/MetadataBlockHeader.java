@@ -23,7 +23,7 @@ import org.jaudiotagger.logging.ErrorMessage;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
-import java.nio.channels.FileChannel;
+import java.nio.channels.SeekableByteChannel;
 import java.util.logging.Logger;
 
 /**
@@ -49,7 +49,7 @@ public class MetadataBlockHeader
      * @return
      * @throws IOException
      */
-    public static MetadataBlockHeader readHeader(FileChannel fc) throws CannotReadException, IOException
+    public static MetadataBlockHeader readHeader(SeekableByteChannel fc) throws CannotReadException, IOException
     {
         ByteBuffer rawdata = ByteBuffer.allocate(HEADER_LENGTH);
         long startByte = fc.position();
@@ -23,14 +23,17 @@ import org.jaudiotagger.audio.exceptions.CannotReadException;
 import org.jaudiotagger.audio.exceptions.InvalidAudioFrameException;
 import org.jaudiotagger.audio.exceptions.NoReadPermissionsException;
 import org.jaudiotagger.audio.exceptions.ReadOnlyFileException;
+import org.jaudiotagger.logging.DebugLogging;
 import org.jaudiotagger.logging.ErrorMessage;
 import org.jaudiotagger.tag.Tag;
 import org.jaudiotagger.tag.TagException;
+import org.jaudiotagger.tag.TagOptions;
 
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.RandomAccessFile;
+import java.nio.channels.SeekableByteChannel;
 import java.nio.file.Files;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -75,6 +78,104 @@ public abstract class AudioFileReader
       */
     protected abstract Tag getTag(RandomAccessFile raf) throws CannotReadException, IOException;
 
+    /*
+      * Reads the given file as a summary, the same as read() except that large binary data such as artwork is not
+      * loaded, see ReadMode. The returned AudioFile cannot be written back to file.
+      *
+      * @param f The file to read
+      * @exception CannotReadException If anything went bad during the read of this file
+      */
+    public AudioFile readSummary(File f) throws CannotReadException, IOException, TagException, ReadOnlyFileException, InvalidAudioFrameException
+    {
+        ReadMode.beginSummary();
+        try
+        {
+            AudioFile audioFile = read(f);
+            audioFile.setSummary(true);
+            return audioFile;
+        }
+        finally
+        {
+            ReadMode.endSummary();
+        }
+    }
+
+    /*
+      * Reads the given file as a summary using options instead of the default options, see TagOptions
+      *
+      * @param f The file to read
+      * @param options The options to use for the whole of the read
+      * @exception CannotReadException If anything went bad during the read of this file
+      */
+    public AudioFile readSummary(File f, TagOptions options) throws CannotReadException, IOException, TagException, ReadOnlyFileException, InvalidAudioFrameException
+    {
+        TagOptions previous = TagOptions.bind(options);
+        try
+        {
+            return readSummary(f);
+        }
+        finally
+        {
+            TagOptions.restore(previous);
+        }
+    }
+
+    /*
+      * Reads the given file using options instead of the default options, see TagOptions
+      *
+      * @param f The file to read
+      * @param options The options to use for the whole of the read
+      * @exception CannotReadException If anything went bad during the read of this file
+      */
+    public AudioFile read(File f, TagOptions options) throws CannotReadException, IOException, TagException, ReadOnlyFileException, InvalidAudioFrameException
+    {
+        TagOptions previous = TagOptions.bind(options);
+        try
+        {
+            return read(f);
+        }
+        finally
+        {
+            TagOptions.restore(previous);
+        }
+    }
+
+    /*
+      * Reads the audio header and tag from a channel instead of a file, such as a channel opened from a file
+      * descriptor. The channel is left open and the returned AudioFile has no associated File.
+      *
+      * Only supported by formats that override this method.
+      *
+      * @param fc The channel to read, positioned anywhere
+      * @param name Used in log and error messages in place of the file name
+      * @exception CannotReadException If anything went bad during the read, or the format cannot be read from a channel
+      */
+    public AudioFile read(SeekableByteChannel fc, String name) throws CannotReadException, IOException, TagException, ReadOnlyFileException, InvalidAudioFrameException
+    {
+        throw new CannotReadException(ErrorMessage.NO_CHANNEL_READER_FOR_THIS_FORMAT.getMsg(name));
+    }
+
+    /*
+      * Reads from a channel using options instead of the default options, see TagOptions
+      *
+      * @param fc The channel to read
+      * @param name Used in log and error messages in place of the file name
+      * @param options The options to use for the whole of the read
+      * @exception CannotReadException If anything went bad during the read
+      */
+    public AudioFile read(SeekableByteChannel fc, String name, TagOptions options) throws CannotReadException, IOException, TagException, ReadOnlyFileException, InvalidAudioFrameException
+    {
+        TagOptions previous = TagOptions.bind(options);
+        try
+        {
+            return read(fc, name);
+        }
+        finally
+        {
+            TagOptions.restore(previous);
+        }
+    }
+
     /*
       * Reads the given file, and return an AudioFile object containing the Tag
       * and the encoding infos present in the file. If the file has no tag, an
@@ -85,7 +186,7 @@ public abstract class AudioFileReader
       */
     public AudioFile read(File f) throws CannotReadException, IOException, TagException, ReadOnlyFileException, InvalidAudioFrameException
     {
-        if(logger.isLoggable(Level.CONFIG))
+        if(DebugLogging.isLoggable(logger, Level.CONFIG))
         {
             logger.config(ErrorMessage.GENERAL_READ.getMsg(f.getAbsolutePath()));
         }
@@ -111,7 +212,7 @@ public abstract class AudioFileReader
         RandomAccessFile raf = null;
         try
         {
-            raf = new RandomAccessFile(f, "r");
+            raf = new BufferedRandomAccessFile(f);
             raf.seek(0);
 
             GenericAudioHeader info = getEncodingInfo(raf);
@@ -5,6 +5,7 @@ import org.jaudiotagger.audio.exceptions.CannotReadException;
 import org.jaudiotagger.audio.exceptions.InvalidAudioFrameException;
 import org.jaudiotagger.audio.exceptions.NoReadPermissionsException;
 import org.jaudiotagger.audio.exceptions.ReadOnlyFileException;
+import org.jaudiotagger.logging.DebugLogging;
 import org.jaudiotagger.logging.ErrorMessage;
 import org.jaudiotagger.tag.Tag;
 import org.jaudiotagger.tag.TagException;
@@ -13,6 +14,8 @@ import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.RandomAccessFile;
+import java.nio.channels.FileChannel;
+import java.nio.channels.SeekableByteChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.logging.Level;
@@ -34,7 +37,7 @@ public abstract class AudioFileReader2 extends AudioFileReader
     public AudioFile read(File f) throws CannotReadException, IOException, TagException, ReadOnlyFileException, InvalidAudioFrameException
     {
         Path path = f.toPath();
-        if(logger.isLoggable(Level.CONFIG))
+        if(DebugLogging.isLoggable(logger, Level.CONFIG))
         {
             logger.config(ErrorMessage.GENERAL_READ.getMsg(path));
         }
@@ -57,11 +60,89 @@ public abstract class AudioFileReader2 extends AudioFileReader
             throw new CannotReadException(ErrorMessage.GENERAL_READ_FAILED_FILE_TOO_SMALL.getMsg(path));
         }
 
+        return readEncodingInfoAndTag(f, path);
+    }
+
+    /*
+     * Reads the audio header and tag from a channel, only supported by readers that override
+     * readEncodingInfoAndTag(SeekableByteChannel, String)
+     *
+     * @param fc The channel to read, it is left open
+     * @param name Used in log and error messages in place of the file name
+     * @exception CannotReadException If anything went bad during the read of this channel
+     */
+    @Override
+    public AudioFile read(SeekableByteChannel fc, String name) throws CannotReadException, IOException, TagException, ReadOnlyFileException, InvalidAudioFrameException
+    {
+        if(DebugLogging.isLoggable(logger, Level.CONFIG))
+        {
+            logger.config(ErrorMessage.GENERAL_READ.getMsg(name));
+        }
+
+        if (fc.size() <= MINIMUM_SIZE_FOR_VALID_AUDIO_FILE)
+        {
+            throw new CannotReadException(ErrorMessage.GENERAL_READ_FAILED_FILE_TOO_SMALL.getMsg(name));
+        }
+
+        fc.position(0);
+        return readEncodingInfoAndTag(fc, name);
+    }
+
+    /**
+     * Read Encoding Information and Tag
+     *
+     * By default they are read separately, readers that can get both from a single pass over the file override this
+     * so the file is only opened and walked once
+     *
+     * @param f
+     * @param path
+     * @return
+     * @throws CannotReadException
+     * @throws IOException
+     */
+    protected AudioFile readEncodingInfoAndTag(File f, Path path) throws CannotReadException, IOException
+    {
         GenericAudioHeader info = getEncodingInfo(path);
         Tag tag = getTag(path);
         return new AudioFile(f, info, tag);
     }
 
+    /**
+     * Read Encoding Information and Tag from a channel positioned at the start of the file
+     *
+     * Readers that support reading from a channel override this, and can then implement
+     * {@link #readEncodingInfoAndTag(File, Path)} with {@link #readEncodingInfoAndTagFromChannel(File, Path)}
+     *
+     * @param fc
+     * @param name used in log and error messages
+     * @return AudioFile with no associated File
+     * @throws CannotReadException
+     * @throws IOException
+     */
+    protected AudioFile readEncodingInfoAndTag(SeekableByteChannel fc, String name) throws CannotReadException, IOException
+    {
+        throw new CannotReadException(ErrorMessage.NO_CHANNEL_READER_FOR_THIS_FORMAT.getMsg(name));
+    }
+
+    /**
+     * Read Encoding Information and Tag by opening a channel on the file
+     *
+     * @param f
+     * @param path
+     * @return
+     * @throws CannotReadException
+     * @throws IOException
+     */
+    protected AudioFile readEncodingInfoAndTagFromChannel(File f, Path path) throws CannotReadException, IOException
+    {
+        try (FileChannel fc = FileChannel.open(path))
+        {
+            AudioFile audioFile = readEncodingInfoAndTag(fc, path.toString());
+            audioFile.setFile(f);
+            return audioFile;
+        }
+    }
+
     /**
      *
      * Read Encoding Information
@@ -21,17 +21,21 @@ package org.jaudiotagger.audio.generic;
 import org.jaudiotagger.audio.AudioFile;
 import org.jaudiotagger.audio.exceptions.CannotReadException;
 import org.jaudiotagger.audio.exceptions.CannotWriteException;
+import org.jaudiotagger.audio.exceptions.CannotWriteInPlaceException;
 import org.jaudiotagger.audio.exceptions.ModifyVetoException;
 import org.jaudiotagger.audio.mp3.MP3File;
+import org.jaudiotagger.logging.DebugLogging;
 import org.jaudiotagger.logging.ErrorMessage;
 import org.jaudiotagger.tag.Tag;
-import org.jaudiotagger.tag.TagOptionSingleton;
+import org.jaudiotagger.tag.TagOptions;
 
 import java.io.*;
 import java.nio.channels.FileChannel;
 import java.nio.channels.FileLock;
+import java.nio.channels.SeekableByteChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.nio.file.attribute.BasicFileAttributes;
 import java.nio.file.attribute.FileTime;
 import java.util.logging.Level;
@@ -80,7 +84,7 @@ public abstract class AudioFileWriter
     public void delete(AudioFile af) throws CannotReadException, CannotWriteException
     {
         Path file = af.getFile().toPath();
-        if (TagOptionSingleton.getInstance().isCheckIsWritable() && !Files.isWritable(file))
+        if (TagOptions.current().isCheckIsWritable() && !Files.isWritable(file))
         {
             logger.severe(Permissions.displayPermissions(file));
             throw new CannotWriteException(ErrorMessage.GENERAL_DELETE_FAILED.getMsg(file));
@@ -268,7 +272,7 @@ public abstract class AudioFileWriter
         }
 
         Path file = af.getFile().toPath();
-        if (TagOptionSingleton.getInstance().isCheckIsWritable() && !Files.isWritable(file))
+        if (TagOptions.current().isCheckIsWritable() && !Files.isWritable(file))
         {
             logger.severe(Permissions.displayPermissions(file));
             logger.severe(ErrorMessage.GENERAL_WRITE_FAILED.getMsg(af.getFile().getPath()));
@@ -294,7 +298,10 @@ public abstract class AudioFileWriter
     @SuppressWarnings("unused")
 	public void write(AudioFile af) throws CannotWriteException
     {
-        logger.config("Started writing tag data for file:" + af.getFile().getName());
+        if (DebugLogging.isLoggable(logger, Level.CONFIG))
+        {
+            logger.config("Started writing tag data for file:" + af.getFile().getName());
+        }
 
         // Prechecks
         precheckWrite(af);
@@ -306,6 +313,22 @@ public abstract class AudioFileWriter
             return;
         }
 
+        //If the tag fits within the space the file already has for it there is no need to copy the audio
+        boolean listenerNotified = false;
+        if (isWritableInPlace())
+        {
+            notifyFileWillBeModified(af);
+            listenerNotified = true;
+            if (writeInPlaceIfFits(af))
+            {
+                if (DebugLogging.isLoggable(logger, Level.CONFIG))
+                {
+                    logger.config("Written tag data in place for file:" + af.getFile().getName());
+                }
+                return;
+            }
+        }
+
         RandomAccessFile raf = null;
         RandomAccessFile rafTemp = null;
         File newFile;
@@ -391,7 +414,8 @@ public abstract class AudioFileWriter
             rafTemp.seek(0);
             try
             {
-                if (this.modificationListener != null)
+                //Already told about the modification if the tag did not fit in place
+                if (this.modificationListener != null && !listenerNotified)
                 {
                     this.modificationListener.fileWillBeModified(af, false);
                 }
@@ -464,7 +488,7 @@ public abstract class AudioFileWriter
         // If the temporary file was used
         if (newFile.length() > 0)
         {
-             transferNewFileToOriginalFile(newFile, af.getFile(), TagOptionSingleton.getInstance().isPreserveFileIdentity());
+             transferNewFileToOriginalFile(newFile, af.getFile(), TagOptions.current().isPreserveFileIdentity());
         }
         else
         {
@@ -482,6 +506,248 @@ public abstract class AudioFileWriter
         }
     }
 
+    /**
+     * Write the tag present in the AudioFile directly into the associated File without creating a temporary file, for
+     * when the folder holding the file cannot be written to. Only supported by formats that override
+     * {@link #writeTagInPlace(AudioFile, Tag, FileChannel)}.
+     * <p/>
+     * Unlike {@link #write(AudioFile)} the change is not atomic, if writing fails the file may be left damaged.
+     *
+     * @param af The file we want to process
+     * @throws CannotWriteInPlaceException if the format could not update this file in place, the file is unchanged
+     * @throws CannotWriteException if anything else went wrong
+     */
+    public void writeInPlace(AudioFile af) throws CannotWriteException
+    {
+        if (DebugLogging.isLoggable(logger, Level.CONFIG))
+        {
+            logger.config("Started writing tag data in place for file:" + af.getFile().getName());
+        }
+
+        Path file = af.getFile().toPath();
+        if (TagOptions.current().isCheckIsWritable() && !Files.isWritable(file))
+        {
+            logger.severe(Permissions.displayPermissions(file));
+            throw new CannotWriteException(ErrorMessage.GENERAL_WRITE_FAILED_TO_OPEN_FILE_FOR_EDITING.getMsg(file));
+        }
+
+        if (af.getFile().length() <= MINIMUM_FILESIZE)
+        {
+            logger.severe(ErrorMessage.GENERAL_WRITE_FAILED_BECAUSE_FILE_IS_TOO_SMALL.getMsg(file));
+            throw new CannotWriteException(ErrorMessage.GENERAL_WRITE_FAILED_BECAUSE_FILE_IS_TOO_SMALL.getMsg(file));
+        }
+
+        notifyFileWillBeModified(af);
+        writeInPlace(af, false);
+    }
+
+    /**
+     * Write the tag present in the AudioFile to a channel instead of the associated File, such as a channel opened
+     * from a file descriptor. The channel must be open for reading and writing and is left open. Only supported by
+     * formats that override this method.
+     * <p/>
+     * Like {@link #writeInPlace(AudioFile)} the change is not atomic, if writing fails the file may be left damaged.
+     *
+     * @param af The file we want to process
+     * @param fc The channel to write to
+     * @throws CannotWriteException if anything went wrong, or the format cannot be written to a channel
+     */
+    public void write(AudioFile af, SeekableByteChannel fc) throws CannotWriteException
+    {
+        throw new CannotWriteException(ErrorMessage.NO_CHANNEL_WRITER_FOR_THIS_FORMAT.getMsg(af.getExt()));
+    }
+
+    /**
+     * Write the tag present in the AudioFile to a channel using options instead of the default options, see
+     * {@link #write(AudioFile, SeekableByteChannel)}
+     *
+     * @param af The file we want to process
+     * @param fc The channel to write to
+     * @param options The options to use for the whole of the write
+     * @throws CannotWriteException if anything went wrong
+     */
+    public void write(AudioFile af, SeekableByteChannel fc, TagOptions options) throws CannotWriteException
+    {
+        TagOptions previous = TagOptions.bind(options);
+        try
+        {
+            write(af, fc);
+        }
+        finally
+        {
+            TagOptions.restore(previous);
+        }
+    }
+
+    /**
+     * Write the tag present in the AudioFile using options instead of the default options, see
+     * {@link org.jaudiotagger.tag.TagOptions}
+     *
+     * @param af The file we want to process
+     * @param options The options to use for the whole of the write
+     * @throws CannotWriteException if anything went wrong
+     */
+    public void write(AudioFile af, TagOptions options) throws CannotWriteException
+    {
+        TagOptions previous = TagOptions.bind(options);
+        try
+        {
+            write(af);
+        }
+        finally
+        {
+            TagOptions.restore(previous);
+        }
+    }
+
+    /**
+     * Write the tag present in the AudioFile directly into the associated File using options instead of the default
+     * options, see {@link #writeInPlace(AudioFile)}
+     *
+     * @param af The file we want to process
+     * @param options The options to use for the whole of the write
+     * @throws CannotWriteException if anything went wrong
+     */
+    public void writeInPlace(AudioFile af, TagOptions options) throws CannotWriteException
+    {
+        TagOptions previous = TagOptions.bind(options);
+        try
+        {
+            writeInPlace(af);
+        }
+        finally
+        {
+            TagOptions.restore(previous);
+        }
+    }
+
+    /**
+     * Delete the tag (if any) present in the given file using options instead of the default options
+     *
+     * @param af The file to process
+     * @param options The options to use for the whole of the delete
+     * @throws CannotWriteException if anything went wrong
+     * @throws org.jaudiotagger.audio.exceptions.CannotReadException
+     */
+    public void delete(AudioFile af, TagOptions options) throws CannotReadException, CannotWriteException
+    {
+        TagOptions previous = TagOptions.bind(options);
+        try
+        {
+            delete(af);
+        }
+        finally
+        {
+            TagOptions.restore(previous);
+        }
+    }
+
+    /**
+     * Tell the listener (if any) that the file is about to be modified
+     *
+     * @param af
+     * @throws CannotWriteException if the listener vetoed the modification
+     */
+    private void notifyFileWillBeModified(AudioFile af) throws CannotWriteException
+    {
+        if (this.modificationListener != null)
+        {
+            try
+            {
+                this.modificationListener.fileWillBeModified(af, false);
+            }
+            catch (ModifyVetoException veto)
+            {
+                throw new CannotWriteException(veto);
+            }
+        }
+    }
+
+    /**
+     * Try to write the tag directly into the file, if the file cannot be updated in place and has been left unchanged
+     * it is left for the temporary file to handle instead
+     *
+     * @param af
+     * @return true if the tag was written, false if the file is unchanged
+     * @throws CannotWriteException if the write was vetoed, or failed after the file had started to be changed
+     */
+    private boolean writeInPlaceIfFits(AudioFile af) throws CannotWriteException
+    {
+        try
+        {
+            return writeInPlace(af, true);
+        }
+        catch (CannotWriteInPlaceException cwe)
+        {
+            logger.warning(ErrorMessage.GENERAL_WRITE_IN_PLACE_FAILED.getMsg(af.getFile(), cwe.getCause().getMessage()));
+            return false;
+        }
+    }
+
+    /**
+     * Write the tag directly into the file, the listener must already have been told the file will be modified
+     *
+     * @param af
+     * @param onlyIfFits only write the tag if it fits within the space the file already has for it
+     * @return true if the tag was written, false if the file is unchanged
+     * @throws CannotWriteInPlaceException if the tag could not be written and the file is unchanged
+     * @throws CannotWriteException if writing failed after the file had started to be changed
+     */
+    private boolean writeInPlace(AudioFile af, boolean onlyIfFits) throws CannotWriteException
+    {
+        FileChannel channel;
+        try
+        {
+            channel = FileChannel.open(af.getFile().toPath(), StandardOpenOption.READ, StandardOpenOption.WRITE);
+        }
+        catch (IOException ioe)
+        {
+            logger.log(onlyIfFits ? Level.FINE : Level.SEVERE, ErrorMessage.GENERAL_WRITE_FAILED_BECAUSE.getMsg(af.getFile(), ioe.getMessage()), ioe);
+            throw new CannotWriteInPlaceException(ErrorMessage.GENERAL_WRITE_FAILED_BECAUSE.getMsg(af.getFile(), ioe.getMessage()), ioe);
+        }
+
+        boolean written;
+        try (FileChannel fc = channel)
+        {
+            if (onlyIfFits)
+            {
+                written = writeTagIfFits(af, af.getTag(), fc);
+            }
+            else
+            {
+                writeTagInPlace(af, af.getTag(), fc);
+                written = true;
+            }
+            if (written && this.modificationListener != null)
+            {
+                this.modificationListener.fileModified(af, af.getFile());
+            }
+        }
+        catch (ModifyVetoException veto)
+        {
+            throw new CannotWriteException(veto);
+        }
+        catch (CannotReadException | CannotWriteException e)
+        {
+            //Formats only refuse this way before writing anything, only worth logging as an error if there is nothing
+            //to fall back to
+            logger.log(onlyIfFits ? Level.FINE : Level.SEVERE, ErrorMessage.GENERAL_WRITE_FAILED_BECAUSE.getMsg(af.getFile(), e.getMessage()), e);
+            throw new CannotWriteInPlaceException(ErrorMessage.GENERAL_WRITE_FAILED_BECAUSE.getMsg(af.getFile(), e.getMessage()), e);
+        }
+        catch (IOException ioe)
+        {
+            //The file may already have been partly written so must not be copied for another attempt
+            logger.log(Level.SEVERE, ErrorMessage.GENERAL_WRITE_FAILED_BECAUSE.getMsg(af.getFile(), ioe.getMessage()), ioe);
+            throw new CannotWriteException(ErrorMessage.GENERAL_WRITE_FAILED_BECAUSE.getMsg(af.getFile(), ioe.getMessage()), ioe);
+        }
+
+        if (written && this.modificationListener != null)
+        {
+            this.modificationListener.fileOperationFinished(af.getFile());
+        }
+        return written;
+    }
+
     /**
      * <p>
      * Transfers the content from {@code newFile} to a file named {@code originalFile}.
@@ -795,4 +1061,45 @@ public abstract class AudioFileWriter
      * @throws org.jaudiotagger.audio.exceptions.CannotReadException
      */
     protected abstract void writeTag(AudioFile audioFile, Tag tag, RandomAccessFile raf, RandomAccessFile rafTemp) throws CannotReadException, CannotWriteException, IOException;
+
+    /**
+     * Write tag to the original file, overridden by formats that can update their tag without a temporary file
+     *
+     * @param audioFile
+     * @param tag
+     * @param fc channel of the file opened for reading and writing
+     * @throws CannotReadException only before anything has been written
+     * @throws CannotWriteException only before anything has been written
+     * @throws IOException the file may have been partly written
+     */
+    protected void writeTagInPlace(AudioFile audioFile, Tag tag, FileChannel fc) throws CannotReadException, CannotWriteException, IOException
+    {
+        throw new CannotWriteException(ErrorMessage.GENERAL_WRITE_FAILED_BECAUSE.getMsg(audioFile.getFile(), "the format cannot be written in place"));
+    }
+
+    /**
+     * Write tag to the original file only if it fits within the existing metadata, such as padding left by a previous
+     * write, so that the audio does not need to be moved. Only called if {@link #isWritableInPlace()}.
+     *
+     * @param audioFile
+     * @param tag
+     * @param fc channel of the file opened for reading and writing
+     * @return true if the tag was written, false if the file is unchanged and has to be rewritten using a temporary file
+     * @throws CannotReadException only before anything has been written
+     * @throws CannotWriteException only before anything has been written
+     * @throws IOException the file may have been partly written
+     */
+    protected boolean writeTagIfFits(AudioFile audioFile, Tag tag, FileChannel fc) throws CannotReadException, CannotWriteException, IOException
+    {
+        return false;
+    }
+
+    /**
+     * @return true if the format overrides {@link #writeTagIfFits(AudioFile, Tag, FileChannel)} so that
+     *         {@link #write(AudioFile)} tries to write the tag in place before using a temporary file
+     */
+    protected boolean isWritableInPlace()
+    {
+        return false;
+    }
 }
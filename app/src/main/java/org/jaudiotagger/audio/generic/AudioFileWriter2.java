@@ -3,12 +3,16 @@ package org.jaudiotagger.audio.generic;
 import org.jaudiotagger.audio.AudioFile;
 import org.jaudiotagger.audio.exceptions.CannotReadException;
 import org.jaudiotagger.audio.exceptions.CannotWriteException;
+import org.jaudiotagger.audio.exceptions.NoWritePermissionsException;
 import org.jaudiotagger.logging.ErrorMessage;
 import org.jaudiotagger.tag.Tag;
-import org.jaudiotagger.tag.TagOptionSingleton;
+import org.jaudiotagger.tag.TagOptions;
 
 import java.io.IOException;
 import java.io.RandomAccessFile;
+import java.nio.channels.NonReadableChannelException;
+import java.nio.channels.NonWritableChannelException;
+import java.nio.channels.SeekableByteChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
 
@@ -30,7 +34,7 @@ public abstract class AudioFileWriter2 extends AudioFileWriter
     {
         Path file = af.getFile().toPath();
 
-        if (TagOptionSingleton.getInstance().isCheckIsWritable() && !Files.isWritable(file))
+        if (TagOptions.current().isCheckIsWritable() && !Files.isWritable(file))
         {
             logger.severe(Permissions.displayPermissions(file));
             throw new CannotWriteException(ErrorMessage.GENERAL_DELETE_FAILED
@@ -56,7 +60,7 @@ public abstract class AudioFileWriter2 extends AudioFileWriter
     {
         Path file = af.getFile().toPath();
 
-        if (TagOptionSingleton.getInstance().isCheckIsWritable() && !Files.isWritable(file))
+        if (TagOptions.current().isCheckIsWritable() && !Files.isWritable(file))
         {
             logger.severe(Permissions.displayPermissions(file));
             logger.severe(ErrorMessage.GENERAL_WRITE_FAILED.getMsg(af.getFile()
@@ -73,6 +77,43 @@ public abstract class AudioFileWriter2 extends AudioFileWriter
         writeTag(af.getTag(), file);
     }
 
+    /**
+     * Replace with new tag, writing to a channel, see {@link AudioFileWriter#write(AudioFile, SeekableByteChannel)}
+     *
+     * @param af The file we want to process
+     * @param fc The channel to write to, open for reading and writing
+     * @throws CannotWriteException
+     */
+    @Override
+    public void write(AudioFile af, SeekableByteChannel fc) throws CannotWriteException
+    {
+        String name = af.getFile() != null ? af.getFile().getPath() : af.getExt() + " channel";
+        try
+        {
+            if (fc.size() <= MINIMUM_FILESIZE)
+            {
+                throw new CannotWriteException(ErrorMessage.GENERAL_WRITE_FAILED_BECAUSE_FILE_IS_TOO_SMALL
+                        .getMsg(name));
+            }
+            fc.position(0);
+            writeTag(af.getTag(), fc, name);
+        }
+        catch (NonWritableChannelException nwce)
+        {
+            throw new NoWritePermissionsException(ErrorMessage.GENERAL_WRITE_FAILED_TO_OPEN_FILE_FOR_EDITING
+                    .getMsg(name));
+        }
+        catch (NonReadableChannelException nrce)
+        {
+            throw new CannotWriteException(ErrorMessage.GENERAL_WRITE_FAILED_BECAUSE
+                    .getMsg(name, "the channel must also be open for reading"));
+        }
+        catch (IOException ioe)
+        {
+            throw new CannotWriteException(name + ":" + ioe.getMessage());
+        }
+    }
+
     /**
      * Must be implemented by each audio format
      *
@@ -98,6 +139,20 @@ public abstract class AudioFileWriter2 extends AudioFileWriter
      */
     protected abstract void writeTag(Tag tag, Path file) throws CannotWriteException;
 
+    /**
+     * Implemented by formats that can write their tag to a channel positioned at the start of the file
+     *
+     * @param tag
+     * @param fc
+     * @param fileName used in log and error messages
+     * @throws CannotWriteException
+     * @throws IOException
+     */
+    protected void writeTag(Tag tag, SeekableByteChannel fc, String fileName) throws CannotWriteException, IOException
+    {
+        throw new CannotWriteException(ErrorMessage.NO_CHANNEL_WRITER_FOR_THIS_FORMAT.getMsg(fileName));
+    }
+
     protected   void writeTag(AudioFile audioFile, Tag tag, RandomAccessFile raf, RandomAccessFile rafTemp) throws CannotReadException, CannotWriteException, IOException
     {
         throw new UnsupportedOperationException("Old method not used in version 2");
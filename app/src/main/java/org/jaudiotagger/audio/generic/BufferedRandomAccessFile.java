@@ -0,0 +1,143 @@
+package org.jaudiotagger.audio.generic;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * Read only RandomAccessFile that reads ahead into a buffer
+ *
+ * <p>The legacy readers parse files with many small reads and seeks (a page header, a four byte length, a single byte)
+ * and each of these is a separate system call on a plain RandomAccessFile. This class reads a window of the file at
+ * a time with a positional read on its channel and serves the small reads from that window, seeks within the window
+ * just move the logical file pointer. Reads at least as large as the window go straight to the caller's array.
+ *
+ * <p>The file's own pointer is not moved by reads, so {@link #getChannel()} should not be used to read from the
+ * current position, use positional channel reads instead.
+ */
+public class BufferedRandomAccessFile extends RandomAccessFile
+{
+    public static final int DEFAULT_BUFFER_SIZE = 8192;
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer;
+
+    //File offset of the first byte in buffer
+    private long bufferStart;
+
+    //Logical file pointer, the file's own pointer is not moved
+    private long position;
+
+    public BufferedRandomAccessFile(File file) throws FileNotFoundException
+    {
+        this(file, DEFAULT_BUFFER_SIZE);
+    }
+
+    public BufferedRandomAccessFile(File file, int bufferSize) throws FileNotFoundException
+    {
+        super(file, "r");
+        channel = getChannel();
+        buffer = ByteBuffer.allocate(bufferSize);
+        buffer.limit(0);
+    }
+
+    @Override
+    public int read() throws IOException
+    {
+        if (!isBuffered(position) && !fill(position))
+        {
+            return -1;
+        }
+        int b = buffer.get((int) (position - bufferStart)) & 0xff;
+        position++;
+        return b;
+    }
+
+    @Override
+    public int read(byte[] b) throws IOException
+    {
+        return read(b, 0, b.length);
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException
+    {
+        if (len == 0)
+        {
+            return 0;
+        }
+
+        int total = 0;
+        while (total < len)
+        {
+            if (isBuffered(position))
+            {
+                int index = (int) (position - bufferStart);
+                int count = Math.min(len - total, buffer.limit() - index);
+                System.arraycopy(buffer.array(), index, b, off + total, count);
+                position += count;
+                total += count;
+            }
+            else if (len - total >= buffer.capacity())
+            {
+                //Too big to be worth buffering so read straight into the caller's array
+                int count = channel.read(ByteBuffer.wrap(b, off + total, len - total), position);
+                if (count < 0)
+                {
+                    break;
+                }
+                position += count;
+                total += count;
+            }
+            else if (!fill(position))
+            {
+                break;
+            }
+        }
+        return total == 0 ? -1 : total;
+    }
+
+    @Override
+    public long getFilePointer() throws IOException
+    {
+        return position;
+    }
+
+    @Override
+    public void seek(long pos) throws IOException
+    {
+        if (pos < 0)
+        {
+            throw new IOException("Negative seek offset");
+        }
+        position = pos;
+    }
+
+    private boolean isBuffered(long pos)
+    {
+        return pos >= bufferStart && pos < bufferStart + buffer.limit();
+    }
+
+    /**
+     * Read the window starting at pos
+     *
+     * @return false if pos is at or beyond the end of the file
+     */
+    private boolean fill(long pos) throws IOException
+    {
+        buffer.clear();
+        bufferStart = pos;
+        while (buffer.hasRemaining())
+        {
+            if (channel.read(buffer, pos + buffer.position()) < 0)
+            {
+                break;
+            }
+        }
+        buffer.flip();
+        return buffer.hasRemaining();
+    }
+}
@@ -0,0 +1,41 @@
+package org.jaudiotagger.audio.generic;
+
+/**
+ * Controls how much of a file is loaded by the readers on the current thread
+ *
+ * <p>When reading a summary (see {@link org.jaudiotagger.audio.AudioFileIO#readSummary(java.io.File)}) the readers
+ * still parse every text field but skip over large binary payloads such as embedded artwork. The artwork is still
+ * reported by the tag but its image data is not loaded, instead the location of the image within the file is recorded
+ * where the format allows it.
+ *
+ * <p>The mode is held per thread so that summary reads can run alongside normal reads of the same file.
+ */
+public final class ReadMode
+{
+    private static final ThreadLocal<Boolean> summary = new ThreadLocal<Boolean>();
+
+    private ReadMode()
+    {
+    }
+
+    /**
+     * @return true if the current read should skip large binary payloads
+     */
+    public static boolean isSummary()
+    {
+        return Boolean.TRUE.equals(summary.get());
+    }
+
+    /**
+     * Start reading in summary mode on this thread, must be paired with {@link #endSummary()}
+     */
+    public static void beginSummary()
+    {
+        summary.set(Boolean.TRUE);
+    }
+
+    public static void endSummary()
+    {
+        summary.remove();
+    }
+}
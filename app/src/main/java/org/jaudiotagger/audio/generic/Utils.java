@@ -19,12 +19,14 @@
 package org.jaudiotagger.audio.generic;
 
 import org.jaudiotagger.audio.AudioFile;
+import org.jaudiotagger.logging.DebugLogging;
 import org.jaudiotagger.utils.FileTypeUtil;
 
 import java.io.*;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.nio.channels.FileChannel;
+import java.nio.channels.SeekableByteChannel;
 import java.nio.charset.Charset;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -367,7 +369,10 @@ public class Utils
      */
     public static boolean rename(final File fromFile, final File toFile)
     {
-        logger.log(Level.CONFIG,"Renaming From:"+fromFile.getAbsolutePath() + " to "+toFile.getAbsolutePath());
+        if (DebugLogging.isLoggable(logger, Level.CONFIG))
+        {
+            logger.log(Level.CONFIG,"Renaming From:"+fromFile.getAbsolutePath() + " to "+toFile.getAbsolutePath());
+        }
 
         if(toFile.exists())
         {
@@ -496,7 +501,7 @@ public class Utils
      * @return
      * @throws IOException
      */
-    public static ByteBuffer readFileDataIntoBufferLE(FileChannel fc, final int size) throws IOException
+    public static ByteBuffer readFileDataIntoBufferLE(SeekableByteChannel fc, final int size) throws IOException
     {
         final ByteBuffer tagBuffer = ByteBuffer.allocateDirect(size);
         fc.read(tagBuffer);
@@ -512,7 +517,7 @@ public class Utils
      * @return
      * @throws IOException
      */
-    public static ByteBuffer readFileDataIntoBufferBE(FileChannel fc, final int size) throws IOException
+    public static ByteBuffer readFileDataIntoBufferBE(SeekableByteChannel fc, final int size) throws IOException
     {
         final ByteBuffer tagBuffer = ByteBuffer.allocateDirect(size);
         fc.read(tagBuffer);
@@ -6,7 +6,7 @@ import java.io.IOException;
 import java.io.RandomAccessFile;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
-import java.nio.channels.FileChannel;
+import java.nio.channels.SeekableByteChannel;
 import java.nio.charset.StandardCharsets;
 
 /**
@@ -32,7 +32,7 @@ public class ChunkHeader
      *
      * @return {@code true}, if we were able to read a chunk header and believe we found a valid chunk id.
      */
-    public boolean readHeader(final FileChannel fc) throws IOException
+    public boolean readHeader(final SeekableByteChannel fc) throws IOException
     {
         ByteBuffer header = ByteBuffer.allocate(CHUNK_HEADER_SIZE);
         startLocationInFile = fc.position();
@@ -23,6 +23,7 @@ import org.jaudiotagger.audio.AudioHeader;
 import org.jaudiotagger.audio.SupportedFileFormat;
 import org.jaudiotagger.audio.exceptions.InvalidAudioFrameException;
 import org.jaudiotagger.audio.generic.Utils;
+import org.jaudiotagger.logging.DebugLogging;
 import org.jaudiotagger.logging.ErrorMessage;
 import org.jaudiotagger.logging.Hex;
 
@@ -147,6 +148,24 @@ public class MP3AudioHeader implements AudioHeader
         }
     }
 
+    /**
+     * Search for the first MP3Header in the file from location startByte, reading from a channel the caller
+     * already has open on the file rather than opening it again, see {@link #MP3AudioHeader(File, long)}
+     *
+     * @param seekFile the file fc is open on
+     * @param fc
+     * @param startByte
+     * @throws IOException
+     * @throws InvalidAudioFrameException
+     */
+    public MP3AudioHeader(final File seekFile, final FileChannel fc, long startByte) throws IOException, InvalidAudioFrameException
+    {
+        if (!seek(seekFile, fc, startByte))
+        {
+            throw new InvalidAudioFrameException(ErrorMessage.NO_AUDIO_HEADER_FOUND.getMsg(seekFile.getName()));
+        }
+    }
+
     /**
      * Returns true if the first MP3 frame can be found for the MP3 file
      *
@@ -158,6 +177,23 @@ public class MP3AudioHeader implements AudioHeader
      * @throws IOException on any I/O error
      */
     public boolean seek(final File seekFile, long startByte) throws IOException
+    {
+        try (FileInputStream fis = new FileInputStream(seekFile))
+        {
+            return seek(seekFile, fis.getChannel(), startByte);
+        }
+    }
+
+    /**
+     * Returns true if the first MP3 frame can be found reading from fc, which is left open
+     *
+     * @param seekFile  MP3 file fc is open on
+     * @param fc        channel to read the file from
+     * @param startByte if there is an ID3v2tag we dont want to start reading from the start of the tag
+     * @return true if the first MP3 frame can be found
+     * @throws IOException on any I/O error
+     */
+    public boolean seek(final File seekFile, final FileChannel fc, long startByte) throws IOException
     {
         //References to Xing/VRbi Header
         ByteBuffer header;
@@ -165,9 +201,6 @@ public class MP3AudioHeader implements AudioHeader
         //This is substantially faster than updating the filechannels position
         long filePointerCount;
 
-        final FileInputStream fis = new FileInputStream(seekFile);
-        final FileChannel fc = fis.getChannel();
-
         //Read into Byte Buffer in Chunks
         ByteBuffer bb = ByteBuffer.allocateDirect(FILE_BUFFER_SIZE);
 
@@ -206,7 +239,7 @@ public class MP3AudioHeader implements AudioHeader
                 {
                     try
                     {
-                        if (MP3AudioHeader.logger.isLoggable(Level.FINEST))
+                        if (DebugLogging.isLoggable(MP3AudioHeader.logger, Level.FINEST))
                         {
                             MP3AudioHeader.logger.finest("Found Possible header at:" + filePointerCount);
                         }
@@ -217,7 +250,7 @@ public class MP3AudioHeader implements AudioHeader
 
                         if ((header = XingFrame.isXingFrame(bb, mp3FrameHeader)) != null)
                         {
-                            if (MP3AudioHeader.logger.isLoggable(Level.FINEST))
+                            if (DebugLogging.isLoggable(MP3AudioHeader.logger, Level.FINEST))
                             {
                                 MP3AudioHeader.logger.finest("Found Possible XingHeader");
                             }
@@ -235,7 +268,7 @@ public class MP3AudioHeader implements AudioHeader
                         }
                         else if ((header = VbriFrame.isVbriFrame(bb, mp3FrameHeader)) != null)
                         {
-                            if (MP3AudioHeader.logger.isLoggable(Level.FINEST))
+                            if (DebugLogging.isLoggable(MP3AudioHeader.logger, Level.FINEST))
                             {
                                 MP3AudioHeader.logger.finest("Found Possible VbriHeader");
                             }
@@ -296,25 +329,13 @@ public class MP3AudioHeader implements AudioHeader
             syncFound = false;
             throw iox;
         }
-        finally
-        {
-            if (fc != null)
-            {
-                fc.close();
-            }
-
-            if (fis != null)
-            {
-                fis.close();
-            }
-        }
 
         //Return to start of audio header
-        if (MP3AudioHeader.logger.isLoggable(Level.FINEST))
+        if (DebugLogging.isLoggable(MP3AudioHeader.logger, Level.FINEST))
         {
             MP3AudioHeader.logger.finer("Return found matching mp3 header starting at" + filePointerCount);
         }
-        setFileSize(seekFile.length());
+        setFileSize(fc.size());
         setMp3StartByte(filePointerCount);
         setTimePerFrame();
         setNumberOfFrames();
@@ -341,7 +362,7 @@ public class MP3AudioHeader implements AudioHeader
      */
     private boolean isNextFrameValid(File seekFile, long filePointerCount, ByteBuffer bb, FileChannel fc) throws IOException
     {
-        if (MP3AudioHeader.logger.isLoggable(Level.FINEST))
+        if (DebugLogging.isLoggable(MP3AudioHeader.logger, Level.FINEST))
         {
             MP3AudioHeader.logger.finer("Checking next frame" + seekFile.getName() + ":fpc:" + filePointerCount + "skipping to:" + (filePointerCount + mp3FrameHeader.getFrameLength()));
         }
@@ -354,14 +375,20 @@ public class MP3AudioHeader implements AudioHeader
         //bad frame header
         if (mp3FrameHeader.getFrameLength() > (FILE_BUFFER_SIZE - MIN_BUFFER_REMAINING_REQUIRED))
         {
-            MP3AudioHeader.logger.finer("Frame size is too large to be a frame:" + mp3FrameHeader.getFrameLength());
+            if (DebugLogging.isLoggable(MP3AudioHeader.logger, Level.FINER))
+            {
+                MP3AudioHeader.logger.finer("Frame size is too large to be a frame:" + mp3FrameHeader.getFrameLength());
+            }
             return false;
         }
 
         //Check for end of buffer if not enough room get some more
         if (bb.remaining() <= MIN_BUFFER_REMAINING_REQUIRED + mp3FrameHeader.getFrameLength())
         {
-            MP3AudioHeader.logger.finer("Buffer too small, need to reload, buffer size:" + bb.remaining());
+            if (DebugLogging.isLoggable(MP3AudioHeader.logger, Level.FINER))
+            {
+                MP3AudioHeader.logger.finer("Buffer too small, need to reload, buffer size:" + bb.remaining());
+            }
             bb.clear();
             fc.position(filePointerCount);
             fc.read(bb, fc.position());
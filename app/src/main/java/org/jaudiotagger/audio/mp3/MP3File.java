@@ -29,7 +29,7 @@ import org.jaudiotagger.logging.*;
 import org.jaudiotagger.tag.Tag;
 import org.jaudiotagger.tag.TagException;
 import org.jaudiotagger.tag.TagNotFoundException;
-import org.jaudiotagger.tag.TagOptionSingleton;
+import org.jaudiotagger.tag.TagOptions;
 import org.jaudiotagger.tag.id3.*;
 import org.jaudiotagger.tag.lyrics3.AbstractLyrics3;
 import org.jaudiotagger.tag.reference.ID3V2Version;
@@ -168,69 +168,77 @@ public class MP3File extends AudioFile
      * TODO:shouldn't we be handing TagExceptions:when will they be thrown
      *
      * @param file the file to read tags from
+     * @param fc channel open on the file
      * @param loadOptions load options
      * @throws IOException IO issues
      * @throws TagException tag issues
      */
-    private void readV2Tag(File file, int loadOptions, int startByte) throws IOException, TagException
+    private void readV2Tag(File file, FileChannel fc, int loadOptions, int startByte) throws IOException, TagException
     {
         //We know where the actual Audio starts so load all the file from start to that point into
         //a buffer then we can read the IDv2 information without needing any more File I/O
         if (startByte >= AbstractID3v2Tag.TAG_HEADER_LENGTH)
         {
             logger.finer("Attempting to read id3v2tags");
-            try (final FileInputStream fis = new FileInputStream(file))
+            if ((loadOptions & LOAD_IDV2TAG) != 0)
             {
                 final ByteBuffer bb = ByteBuffer.allocateDirect(startByte);
-                fis.getChannel().read(bb,0);
+                fc.read(bb,0);
                 bb.rewind();
 
-                if ((loadOptions & LOAD_IDV2TAG) != 0)
+                logger.config("Attempting to read id3v2tags");
+                try
                 {
-                    logger.config("Attempting to read id3v2tags");
-                    try
-                    {
-                        this.setID3v2Tag(new ID3v24Tag(bb, file.getName()));
-                    }
-                    catch (TagNotFoundException ex)
-                    {
-                        logger.config("No id3v24 tag found");
-                    }
+                    this.setID3v2Tag(new ID3v24Tag(bb, file.getName()));
+                }
+                catch (TagNotFoundException ex)
+                {
+                    logger.config("No id3v24 tag found");
+                }
 
-                    try
-                    {
-                        if (id3v2tag == null)
-                        {
-                            this.setID3v2Tag(new ID3v23Tag(bb, file.getName()));
-                        }
-                    }
-                    catch (TagNotFoundException ex)
+                try
+                {
+                    if (id3v2tag == null)
                     {
-                        logger.config("No id3v23 tag found");
+                        this.setID3v2Tag(new ID3v23Tag(bb, file.getName()));
                     }
+                }
+                catch (TagNotFoundException ex)
+                {
+                    logger.config("No id3v23 tag found");
+                }
 
-                    try
-                    {
-                        if (id3v2tag == null)
-                        {
-                            this.setID3v2Tag(new ID3v22Tag(bb, file.getName()));
-                        }
-                    }
-                    catch (TagNotFoundException ex)
+                try
+                {
+                    if (id3v2tag == null)
                     {
-                        logger.config("No id3v22 tag found");
+                        this.setID3v2Tag(new ID3v22Tag(bb, file.getName()));
                     }
                 }
+                catch (TagNotFoundException ex)
+                {
+                    logger.config("No id3v22 tag found");
+                }
+
+                //Tag was read from a buffer starting at the beginning of the file
+                if (id3v2tag != null)
+                {
+                    id3v2tag.setStartLocationInFile(0);
+                }
             }
         }
         else
         {
-            logger.config("Not enough room for valid id3v2 tag:" + startByte);
+            if (DebugLogging.isLoggable(logger, Level.CONFIG))
+            {
+                logger.config("Not enough room for valid id3v2 tag:" + startByte);
+            }
         }
     }
 
     /**
      *
+     * @param fc
      * @param startByte
      * @param endByte
      * @return
@@ -239,36 +247,20 @@ public class MP3File extends AudioFile
      * @return true if all the bytes between in the file between startByte and endByte are null, false
      * otherwise
      */
-    private boolean isFilePortionNull(int startByte, int endByte) throws IOException
+    private boolean isFilePortionNull(FileChannel fc, int startByte, int endByte) throws IOException
     {
-        logger.config("Checking file portion:" + Hex.asHex(startByte) + ":" + Hex.asHex(endByte));
-        FileInputStream fis=null;
-        FileChannel     fc=null;
-        try
+        if (DebugLogging.isLoggable(logger, Level.CONFIG))
         {
-            fis = new FileInputStream(file);
-            fc = fis.getChannel();
-            fc.position(startByte);
-            ByteBuffer bb = ByteBuffer.allocateDirect(endByte - startByte);
-            fc.read(bb);
-            while(bb.hasRemaining())
-            {
-                if(bb.get()!=0)
-                {
-                    return false;
-                }
-            }
+            logger.config("Checking file portion:" + Hex.asHex(startByte) + ":" + Hex.asHex(endByte));
         }
-        finally
+        ByteBuffer bb = ByteBuffer.allocate(endByte - startByte);
+        fc.read(bb, startByte);
+        bb.flip();
+        while(bb.hasRemaining())
         {
-            if (fc != null)
-            {
-                fc.close();
-            }
-
-            if (fis != null)
+            if(bb.get()!=0)
             {
-                fis.close();
+                return false;
             }
         }
         return true;
@@ -277,13 +269,14 @@ public class MP3File extends AudioFile
      * Regets the audio header starting from start of file, and write appropriate logging to indicate
      * potential problem to user.
      *
+     * @param fc
      * @param startByte
      * @param firstHeaderAfterTag
      * @return
      * @throws IOException
      * @throws InvalidAudioFrameException
      */
-    private MP3AudioHeader checkAudioStart(long startByte, MP3AudioHeader firstHeaderAfterTag) throws IOException, InvalidAudioFrameException
+    private MP3AudioHeader checkAudioStart(FileChannel fc, long startByte, MP3AudioHeader firstHeaderAfterTag) throws IOException, InvalidAudioFrameException
     {
         MP3AudioHeader headerOne;
         MP3AudioHeader headerTwo;
@@ -293,24 +286,33 @@ public class MP3File extends AudioFile
         //because we cant agree on start location we reread the audioheader from the start of the file, at least
         //this way we cant overwrite the audio although we might overwrite part of the tag if we write this file
         //back later
-        headerOne = new MP3AudioHeader(file, 0);
-        logger.config("Checking from start:" + headerOne);
+        headerOne = new MP3AudioHeader(file, fc, 0);
+        if (DebugLogging.isLoggable(logger, Level.CONFIG))
+        {
+            logger.config("Checking from start:" + headerOne);
+        }
 
         //Although the id3 tag size appears to be incorrect at least we have found the same location for the start
         //of audio whether we start searching from start of file or at the end of the alleged of file so no real
         //problem
         if (firstHeaderAfterTag.getMp3StartByte() == headerOne.getMp3StartByte())
         {
-            logger.config(ErrorMessage.MP3_START_OF_AUDIO_CONFIRMED.getMsg(file.getPath(),
-                    Hex.asHex(headerOne.getMp3StartByte())));
+            if (DebugLogging.isLoggable(logger, Level.CONFIG))
+            {
+                logger.config(ErrorMessage.MP3_START_OF_AUDIO_CONFIRMED.getMsg(file.getPath(),
+                        Hex.asHex(headerOne.getMp3StartByte())));
+            }
             return firstHeaderAfterTag;
         }
         else
         {
 
             //We get a different value if read from start, can't guarantee 100% correct lets do some more checks
-            logger.config((ErrorMessage.MP3_RECALCULATED_POSSIBLE_START_OF_MP3_AUDIO.getMsg(file.getPath(),
-                            Hex.asHex(headerOne.getMp3StartByte()))));
+            if (DebugLogging.isLoggable(logger, Level.CONFIG))
+            {
+                logger.config((ErrorMessage.MP3_RECALCULATED_POSSIBLE_START_OF_MP3_AUDIO.getMsg(file.getPath(),
+                                Hex.asHex(headerOne.getMp3StartByte()))));
+            }
 
             //Same frame count so probably both audio headers with newAudioHeader being the first one
             if (firstHeaderAfterTag.getNumberOfFrames() == headerOne.getNumberOfFrames())
@@ -323,13 +325,13 @@ public class MP3File extends AudioFile
             //If the size reported by the tag header is a little short and there is only nulls between the recorded value
             //and the start of the first audio found then we stick with the original header as more likely that currentHeader
             //DataInputStream not really a header
-            if(isFilePortionNull((int) startByte,(int) firstHeaderAfterTag.getMp3StartByte()))
+            if(isFilePortionNull(fc, (int) startByte,(int) firstHeaderAfterTag.getMp3StartByte()))
             {
                 return firstHeaderAfterTag;
             }
 
             //Skip to the next header (header 2, counting from start of file)
-            headerTwo = new MP3AudioHeader(file, headerOne.getMp3StartByte()
+            headerTwo = new MP3AudioHeader(file, fc, headerOne.getMp3StartByte()
                     + headerOne.mp3FrameHeader.getFrameLength());
 
             //It matches the header we found when doing the original search from after the ID3Tag therefore it
@@ -378,26 +380,33 @@ public class MP3File extends AudioFile
         {
             this.file = file;
 
-            //Check File accessibility
+            //Check File accessibility, the file is then only opened this once and everything is read through fc
             newFile = checkFilePermissions(file, readOnly);
+            FileChannel fc = newFile.getChannel();
 
             //Read ID3v2 tag size (if tag exists) to allow audioHeader parsing to skip over tag
-            long tagSizeReportedByHeader = AbstractID3v2Tag.getV2TagSizeIfExists(file);
-            logger.config("TagHeaderSize:" + Hex.asHex(tagSizeReportedByHeader));
-            audioHeader = new MP3AudioHeader(file, tagSizeReportedByHeader);
+            long tagSizeReportedByHeader = AbstractID3v2Tag.getV2TagSizeIfExists(fc);
+            if (DebugLogging.isLoggable(logger, Level.CONFIG))
+            {
+                logger.config("TagHeaderSize:" + Hex.asHex(tagSizeReportedByHeader));
+            }
+            audioHeader = new MP3AudioHeader(file, fc, tagSizeReportedByHeader);
 
             //If the audio header is not straight after the end of the tag then search from start of file
             if (tagSizeReportedByHeader != ((MP3AudioHeader) audioHeader).getMp3StartByte())
             {
-                logger.config("First header found after tag:" + audioHeader);
-                audioHeader = checkAudioStart(tagSizeReportedByHeader, (MP3AudioHeader) audioHeader);
+                if (DebugLogging.isLoggable(logger, Level.CONFIG))
+                {
+                    logger.config("First header found after tag:" + audioHeader);
+                }
+                audioHeader = checkAudioStart(fc, tagSizeReportedByHeader, (MP3AudioHeader) audioHeader);
             }
 
             //Read v1 tags (if any)
             readV1Tag(file, newFile, loadOptions);
 
             //Read v2 tags (if any)
-            readV2Tag(file, loadOptions, (int)((MP3AudioHeader) audioHeader).getMp3StartByte());
+            readV2Tag(file, fc, loadOptions, (int)((MP3AudioHeader) audioHeader).getMp3StartByte());
 
             //If we have a v2 tag use that, if we do not but have v1 tag use that
             //otherwise use nothing
@@ -431,16 +440,21 @@ public class MP3File extends AudioFile
      */
     public long getMP3StartByte(File file) throws InvalidAudioFrameException, IOException
     {
-        try
+        try (FileInputStream fis = new FileInputStream(file))
         {
+            FileChannel fc = fis.getChannel();
+
             //Read ID3v2 tag size (if tag exists) to allow audio header parsing to skip over tag
-            long startByte = AbstractID3v2Tag.getV2TagSizeIfExists(file);
+            long startByte = AbstractID3v2Tag.getV2TagSizeIfExists(fc);
 
-            MP3AudioHeader audioHeader = new MP3AudioHeader(file, startByte);
+            MP3AudioHeader audioHeader = new MP3AudioHeader(file, fc, startByte);
             if (startByte != audioHeader.getMp3StartByte())
             {
-                logger.config("First header found after tag:" + audioHeader);
-                audioHeader = checkAudioStart(startByte, audioHeader);
+                if (DebugLogging.isLoggable(logger, Level.CONFIG))
+                {
+                    logger.config("First header found after tag:" + audioHeader);
+                }
+                audioHeader = checkAudioStart(fc, startByte, audioHeader);
             }
             return audioHeader.getMp3StartByte();
         }
@@ -866,7 +880,7 @@ public class MP3File extends AudioFile
             throw new IOException(ErrorMessage.GENERAL_WRITE_FAILED_BECAUSE_FILE_NOT_FOUND.getMsg(file.getName()));
         }
 
-        if (TagOptionSingleton.getInstance().isCheckIsWritable() && !Files.isWritable(path))
+        if (TagOptions.current().isCheckIsWritable() && !Files.isWritable(path))
         {
             logger.severe(Permissions.displayPermissions(path));
             logger.severe(ErrorMessage.GENERAL_WRITE_FAILED.getMsg(file.getName()));
@@ -890,10 +904,14 @@ public class MP3File extends AudioFile
      */
     public void save(File fileToSave) throws IOException
     {
+        TagOptions options = TagOptions.current();
         //Ensure we are dealing with absolute filepaths not relative ones
         File file = fileToSave.getAbsoluteFile();
 
-        logger.config("Saving  : " + file.getPath());
+        if (DebugLogging.isLoggable(logger, Level.CONFIG))
+        {
+            logger.config("Saving  : " + file.getPath());
+        }
 
         //Checks before starting write
         precheck(file);
@@ -902,7 +920,7 @@ public class MP3File extends AudioFile
         try
         {
             //ID3v2 Tag
-            if (TagOptionSingleton.getInstance().isId3v2Save())
+            if (options.isId3v2Save())
             {
                 if (id3v2tag == null)
                 {
@@ -910,17 +928,26 @@ public class MP3File extends AudioFile
                     (new ID3v24Tag()).delete(rfile);
                     (new ID3v23Tag()).delete(rfile);
                     (new ID3v22Tag()).delete(rfile);
-                    logger.config("Deleting ID3v2 tag:"+file.getName());
+                    if (DebugLogging.isLoggable(logger, Level.CONFIG))
+                    {
+                        logger.config("Deleting ID3v2 tag:"+file.getName());
+                    }
                     rfile.close();
                 }
                 else
                 {
-                    logger.config("Writing ID3v2 tag:"+file.getName());
+                    if (DebugLogging.isLoggable(logger, Level.CONFIG))
+                    {
+                        logger.config("Writing ID3v2 tag:"+file.getName());
+                    }
                     final MP3AudioHeader mp3AudioHeader = (MP3AudioHeader) this.getAudioHeader();
                     final long mp3StartByte = mp3AudioHeader.getMp3StartByte();
                     final long newMp3StartByte = id3v2tag.write(file, mp3StartByte);
                     if (mp3StartByte != newMp3StartByte) {
-                        logger.config("New mp3 start byte: " + newMp3StartByte);
+                        if (DebugLogging.isLoggable(logger, Level.CONFIG))
+                        {
+                            logger.config("New mp3 start byte: " + newMp3StartByte);
+                        }
                         mp3AudioHeader.setMp3StartByte(newMp3StartByte);
                     }
 
@@ -929,7 +956,7 @@ public class MP3File extends AudioFile
             rfile = new RandomAccessFile(file, "rw");
 
             //Lyrics 3 Tag
-            if (TagOptionSingleton.getInstance().isLyrics3Save())
+            if (options.isLyrics3Save())
             {
                 if (lyrics3tag != null)
                 {
@@ -937,7 +964,7 @@ public class MP3File extends AudioFile
                 }
             }
             //ID3v1 tag
-            if (TagOptionSingleton.getInstance().isId3v1Save())
+            if (options.isId3v1Save())
             {
                 logger.config("Processing ID3v1");
                 if (id3v1tag == null)
@@ -1057,15 +1084,16 @@ public class MP3File extends AudioFile
     @Override
     public Tag createDefaultTag()
     {
-        if(TagOptionSingleton.getInstance().getID3V2Version()==ID3V2Version.ID3_V24)
+        TagOptions options = TagOptions.current();
+        if(options.getID3V2Version()==ID3V2Version.ID3_V24)
         {    
             return new ID3v24Tag();
         }
-        else if(TagOptionSingleton.getInstance().getID3V2Version()==ID3V2Version.ID3_V23)
+        else if(options.getID3V2Version()==ID3V2Version.ID3_V23)
         {
             return new ID3v23Tag();
         }
-        else if(TagOptionSingleton.getInstance().getID3V2Version()==ID3V2Version.ID3_V22)
+        else if(options.getID3V2Version()==ID3V2Version.ID3_V22)
         {
             return new ID3v22Tag();
         }
@@ -1102,7 +1130,7 @@ public class MP3File extends AudioFile
     public Tag getTagAndConvertOrCreateDefault()
     {
         Tag tag          = getTagOrCreateDefault();
-        Tag convertedTag = convertID3Tag((AbstractID3v2Tag)tag, TagOptionSingleton.getInstance().getID3V2Version());
+        Tag convertedTag = convertID3Tag((AbstractID3v2Tag)tag, TagOptions.current().getID3V2Version());
         if(convertedTag!=null)
         {
             return convertedTag;
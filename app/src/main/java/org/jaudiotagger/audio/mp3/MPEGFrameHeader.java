@@ -12,6 +12,7 @@ import org.jaudiotagger.FileConstants;
 import org.jaudiotagger.audio.exceptions.InvalidAudioFrameException;
 import org.jaudiotagger.logging.AbstractTagDisplayFormatter;
 
+import java.nio.BufferUnderflowException;
 import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
@@ -43,8 +44,6 @@ public class MPEGFrameHeader
     public static final int SYNC_BYTE2 = 0xE0;
     public static final int SYNC_BIT_ANDSAMPING_BYTE3 = 0xFC;
 
-    private static final byte[] header = new byte[HEADER_SIZE];
-
 
     /**
      * Constants for MPEG Version
@@ -367,7 +366,10 @@ public class MPEGFrameHeader
     private static final int MASK_MP3_EMPHASIS = FileConstants.BIT1 | FileConstants.BIT0;
 
 
-    private byte[] mpegBytes;
+    /**
+     * The four header bytes packed into an int, first byte in the most significant position
+     */
+    private final int mpegHeader;
 
     /**
      * The version of this MPEG frame (see the constants)
@@ -461,7 +463,7 @@ public class MPEGFrameHeader
      */
     private void setCopyrighted()
     {
-        isCopyrighted = (mpegBytes[BYTE_4] & MASK_MP3_COPY) != 0;
+        isCopyrighted = (getHeaderByte(BYTE_4) & MASK_MP3_COPY) != 0;
     }
 
 
@@ -472,7 +474,7 @@ public class MPEGFrameHeader
     private void setVersion() throws InvalidAudioFrameException
     {
         //MPEG Version
-        version = (byte) ((mpegBytes[BYTE_2] & MASK_MP3_VERSION) >> 3);
+        version = (byte) ((getHeaderByte(BYTE_2) & MASK_MP3_VERSION) >> 3);
         versionAsString = mpegVersionMap.get(version);
         if (versionAsString == null)
         {
@@ -485,7 +487,7 @@ public class MPEGFrameHeader
      */
     private void setOriginal()
     {
-        isOriginal = (mpegBytes[BYTE_4] & MASK_MP3_HOME) != 0;
+        isOriginal = (getHeaderByte(BYTE_4) & MASK_MP3_HOME) != 0;
     }
 
     /**
@@ -493,7 +495,7 @@ public class MPEGFrameHeader
      */
     private void setProtected()
     {
-        isProtected = (mpegBytes[BYTE_2] & MASK_MP3_PROTECTION) == 0x00;
+        isProtected = (getHeaderByte(BYTE_2) & MASK_MP3_PROTECTION) == 0x00;
     }
 
     /**
@@ -501,7 +503,7 @@ public class MPEGFrameHeader
      */
     private void setPrivate()
     {
-        isPrivate = (mpegBytes[BYTE_3] & MASK_MP3_PRIVACY) != 0;
+        isPrivate = (getHeaderByte(BYTE_3) & MASK_MP3_PRIVACY) != 0;
     }
 
     /**
@@ -511,7 +513,7 @@ public class MPEGFrameHeader
     private void setBitrate() throws InvalidAudioFrameException
     {
         /* BitRate, get by checking header setBitrate bits and MPEG Version and Layer */
-        int bitRateIndex = mpegBytes[BYTE_3] & MASK_MP3_BITRATE | mpegBytes[BYTE_2] & MASK_MP3_ID | mpegBytes[BYTE_2] & MASK_MP3_LAYER;
+        int bitRateIndex = getHeaderByte(BYTE_3) & MASK_MP3_BITRATE | getHeaderByte(BYTE_2) & MASK_MP3_ID | getHeaderByte(BYTE_2) & MASK_MP3_LAYER;
 
         bitRate = bitrateMap.get(bitRateIndex);
         if (bitRate == null)
@@ -527,7 +529,7 @@ public class MPEGFrameHeader
      */
     private void setChannelMode() throws InvalidAudioFrameException
     {
-        channelMode = (mpegBytes[BYTE_4] & MASK_MP3_MODE) >>> 6;
+        channelMode = (getHeaderByte(BYTE_4) & MASK_MP3_MODE) >>> 6;
         channelModeAsString = modeMap.get(channelMode);
         if (channelModeAsString == null)
         {
@@ -541,7 +543,7 @@ public class MPEGFrameHeader
      */
     private void setEmphasis() throws InvalidAudioFrameException
     {
-        emphasis = mpegBytes[BYTE_4] & MASK_MP3_EMPHASIS;
+        emphasis = getHeaderByte(BYTE_4) & MASK_MP3_EMPHASIS;
         emphasisAsString = emphasisMap.get(emphasis);
         if (getEmphasisAsString() == null)
         {
@@ -555,7 +557,7 @@ public class MPEGFrameHeader
      */
     private void setPadding()
     {
-        isPadding = (mpegBytes[BYTE_3] & MASK_MP3_PADDING) != 0;
+        isPadding = (getHeaderByte(BYTE_3) & MASK_MP3_PADDING) != 0;
     }
 
 
@@ -565,7 +567,7 @@ public class MPEGFrameHeader
      */
     private void setLayer() throws InvalidAudioFrameException
     {
-        layer = (mpegBytes[BYTE_2] & MASK_MP3_LAYER) >>> 1;
+        layer = (getHeaderByte(BYTE_2) & MASK_MP3_LAYER) >>> 1;
         layerAsString = mpegLayerMap.get(layer);
         if (layerAsString == null)
         {
@@ -580,7 +582,7 @@ public class MPEGFrameHeader
      */
     private void setModeExtension() throws InvalidAudioFrameException
     {
-        int index = (mpegBytes[BYTE_4] & MASK_MP3_MODE_EXTENSION) >> 4;
+        int index = (getHeaderByte(BYTE_4) & MASK_MP3_MODE_EXTENSION) >> 4;
         if (layer == LAYER_III)
         {
             modeExtension = modeExtensionLayerIIIMap.get(index);
@@ -606,7 +608,7 @@ public class MPEGFrameHeader
     private void setSamplingRate() throws InvalidAudioFrameException
     {
         //Frequency
-        int index = (mpegBytes[BYTE_3] & MASK_MP3_FREQUENCY) >>> 2;
+        int index = (getHeaderByte(BYTE_3) & MASK_MP3_FREQUENCY) >>> 2;
         Map<Integer, Integer> samplingRateMapForVersion = samplingRateMap.get(version);
         if (samplingRateMapForVersion == null)
         {
@@ -819,19 +821,19 @@ public class MPEGFrameHeader
      */
     private MPEGFrameHeader() throws InvalidAudioFrameException
     {
-
+        mpegHeader = 0;
     }
 
     /**
-     * Try and create a new MPEG frame with the given byte array and decodes its contents
+     * Try and create a new MPEG frame with the given header bytes and decodes its contents
      * If decoding header causes a problem it is not a valid header
      *
-     * @param b the array of bytes representing this mpeg frame
+     * @param header the four bytes representing this mpeg frame header packed into an int
      * @throws InvalidAudioFrameException if does not match expected format
      */
-    private MPEGFrameHeader(byte[] b) throws InvalidAudioFrameException
+    private MPEGFrameHeader(int header) throws InvalidAudioFrameException
     {
-        mpegBytes = b;
+        mpegHeader = header;
         setBitrate();
         setVersion();
         setLayer();
@@ -855,12 +857,26 @@ public class MPEGFrameHeader
      */
     public static MPEGFrameHeader parseMPEGHeader(ByteBuffer bb) throws InvalidAudioFrameException
     {
+        //Absolute reads so nothing is shared between calls and the buffer position is left alone
         int position = bb.position();
-        bb.get(header, 0, HEADER_SIZE);
-        bb.position(position);
-        MPEGFrameHeader frameHeader = new MPEGFrameHeader(header);
+        if (bb.limit() - position < HEADER_SIZE)
+        {
+            throw new BufferUnderflowException();
+        }
+        int header = ((bb.get(position + BYTE_1) & 0xFF) << 24)
+                | ((bb.get(position + BYTE_2) & 0xFF) << 16)
+                | ((bb.get(position + BYTE_3) & 0xFF) << 8)
+                | (bb.get(position + BYTE_4) & 0xFF);
+        return new MPEGFrameHeader(header);
+    }
 
-        return frameHeader;
+    /**
+     * @param index one of BYTE_1 to BYTE_4
+     * @return the unsigned value of that byte of the header
+     */
+    private int getHeaderByte(int index)
+    {
+        return (mpegHeader >>> ((BYTE_4 - index) * 8)) & 0xFF;
     }
 
     /**
@@ -896,10 +912,10 @@ public class MPEGFrameHeader
                 + "\tisOriginal:" + isCopyrighted +"\n"
                 + "\tisVariableBitRate" + this.isVariableBitRate() +"\n"
                 + "\theader as binary:" +"\n"
-                + "\t" + AbstractTagDisplayFormatter.displayAsBinary(mpegBytes[BYTE_1]) + " "
-                + "\t" + AbstractTagDisplayFormatter.displayAsBinary(mpegBytes[BYTE_2]) + " "
-                + "\t" + AbstractTagDisplayFormatter.displayAsBinary(mpegBytes[BYTE_3]) + " "
-                + "\t" + AbstractTagDisplayFormatter.displayAsBinary(mpegBytes[BYTE_4]) +"\n";
+                + "\t" + AbstractTagDisplayFormatter.displayAsBinary((byte) getHeaderByte(BYTE_1)) + " "
+                + "\t" + AbstractTagDisplayFormatter.displayAsBinary((byte) getHeaderByte(BYTE_2)) + " "
+                + "\t" + AbstractTagDisplayFormatter.displayAsBinary((byte) getHeaderByte(BYTE_3)) + " "
+                + "\t" + AbstractTagDisplayFormatter.displayAsBinary((byte) getHeaderByte(BYTE_4)) +"\n";
     }
 }
 
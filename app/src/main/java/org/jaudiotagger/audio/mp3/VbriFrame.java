@@ -1,9 +1,11 @@
 package org.jaudiotagger.audio.mp3;
 
 import org.jaudiotagger.audio.exceptions.InvalidAudioFrameException;
+import org.jaudiotagger.logging.DebugLogging;
 
 import java.nio.ByteBuffer;
 import java.util.Arrays;
+import java.util.logging.Level;
 
 /**
  * Vrbi Frame
@@ -135,7 +137,10 @@ public class VbriFrame
 
         //We store this so can return here after scanning through buffer
         int startPosition = bb.position();
-        MP3File.logger.finest("Checking VBRI Frame at" + startPosition);
+        if (DebugLogging.isLoggable(MP3File.logger, Level.FINEST))
+        {
+            MP3File.logger.finest("Checking VBRI Frame at" + startPosition);
+        }
 
         bb.position(startPosition + VBRI_OFFSET);
 
@@ -1,61 +1,93 @@
 package org.jaudiotagger.audio.mp4;
 
 import org.jaudiotagger.audio.exceptions.CannotReadException;
+import org.jaudiotagger.audio.exceptions.InvalidBoxHeaderException;
 import org.jaudiotagger.audio.exceptions.NullBoxIdException;
 import org.jaudiotagger.audio.mp4.atom.Mp4BoxHeader;
 import org.jaudiotagger.audio.mp4.atom.Mp4MetaBox;
 import org.jaudiotagger.audio.mp4.atom.Mp4StcoBox;
 import org.jaudiotagger.audio.mp4.atom.NullPadding;
+import org.jaudiotagger.logging.DebugLogging;
 import org.jaudiotagger.logging.ErrorMessage;
-import org.jaudiotagger.utils.tree.DefaultMutableTreeNode;
-import org.jaudiotagger.utils.tree.DefaultTreeModel;
 
 import java.io.File;
 import java.io.IOException;
 import java.nio.ByteBuffer;
-import java.nio.ByteOrder;
 import java.nio.channels.SeekableByteChannel;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
-import java.util.Enumeration;
+import java.util.Arrays;
 import java.util.List;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
- * Tree representing atoms in the mp4 file
+ * Index of the atoms in the mp4 file
  *
- * Note it doesn't create the complete tree it delves into subtrees for atom we know about and are interested in. (Note
- * it would be impossible to create a complete tree for any file without understanding all the nodes because
+ * Note it doesn't index every atom it delves into subtrees for atom we know about and are interested in. (Note
+ * it would be impossible to index every atom for any file without understanding all the nodes because
  * some atoms such as meta contain data and children and therefore need to be specially preprocessed)
  *
- * This class is currently only used when writing tags because it better handles the difficulties of mdat and free
- * atoms being optional/multiple places then the older sequential method. It is expected this class will eventually
- * be used when reading tags as well.
+ * The index is built from the atom headers alone, the id, position, length and parent of each atom are held in
+ * arrays in the order the atoms appear in the file, and an atom is referred to by its position in these arrays. The
+ * data of the atoms is only read from the file when asked for, so large tables such as stco do not have to be held in
+ * memory just to find the metadata.
  *
- * Uses a TreeModel for the tree, with convenience methods holding onto references to most common nodes so they
- * can be used without having to traverse the tree again.
+ * Convenience methods hold onto the index of the most common atoms so they can be used without having to search the
+ * index again.
  */
 public class Mp4AtomTree
 {
-    private DefaultMutableTreeNode rootNode;
-    private DefaultTreeModel dataTree;
-    private DefaultMutableTreeNode moovNode;
-    private DefaultMutableTreeNode mdatNode;
-    private DefaultMutableTreeNode ilstNode;
-    private DefaultMutableTreeNode metaNode;
-    private DefaultMutableTreeNode tagsNode;
-    private DefaultMutableTreeNode udtaNode;
-    private DefaultMutableTreeNode hdlrWithinMdiaNode;
-    private DefaultMutableTreeNode hdlrWithinMetaNode;
-    private List<DefaultMutableTreeNode> stcoNodes = new ArrayList<DefaultMutableTreeNode>();
-    private List<DefaultMutableTreeNode> freeNodes = new ArrayList<DefaultMutableTreeNode>();
-    private List<DefaultMutableTreeNode> mdatNodes = new ArrayList<DefaultMutableTreeNode>();
-    private List<DefaultMutableTreeNode> trakNodes = new ArrayList<DefaultMutableTreeNode>();
-
-    private List<Mp4StcoBox> stcos = new ArrayList<Mp4StcoBox>();
-    private ByteBuffer moovBuffer; //Contains all the data under moov
-    private Mp4BoxHeader moovHeader;
+    /**
+     * Returned when there is no such atom, and as the parent of top level atoms
+     */
+    public static final int NO_ATOM = -1;
+
+    //Id of the pseudo atom recorded for null padding at the end of the file
+    private static final int NULL_PADDING = 0;
+
+    private static final int INITIAL_CAPACITY = 32;
+
+    private static final int MOOV = toId(Mp4AtomIdentifier.MOOV.getFieldName());
+    private static final int MDAT = toId(Mp4AtomIdentifier.MDAT.getFieldName());
+    private static final int FREE = toId(Mp4AtomIdentifier.FREE.getFieldName());
+    private static final int TRAK = toId(Mp4AtomIdentifier.TRAK.getFieldName());
+    private static final int MDIA = toId(Mp4AtomIdentifier.MDIA.getFieldName());
+    private static final int MINF = toId(Mp4AtomIdentifier.MINF.getFieldName());
+    private static final int STBL = toId(Mp4AtomIdentifier.STBL.getFieldName());
+    private static final int STCO = toId(Mp4AtomIdentifier.STCO.getFieldName());
+    private static final int UDTA = toId(Mp4AtomIdentifier.UDTA.getFieldName());
+    private static final int META = toId(Mp4AtomIdentifier.META.getFieldName());
+    private static final int HDLR = toId(Mp4AtomIdentifier.HDLR.getFieldName());
+    private static final int ILST = toId(Mp4AtomIdentifier.ILST.getFieldName());
+    private static final int TAGS = toId(Mp4AtomIdentifier.TAGS.getFieldName());
+
+    private SeekableByteChannel fc;
+    private final ByteBuffer headerBuffer = ByteBuffer.allocate(Mp4BoxHeader.REALDATA_64BITLENGTH);
+
+    //The index, one entry per atom in file order, so the children of an atom always follow it
+    private int atomCount;
+    private int[] ids = new int[INITIAL_CAPACITY];
+    private int[] parents = new int[INITIAL_CAPACITY];
+    private long[] filePositions = new long[INITIAL_CAPACITY];
+    private int[] lengths = new int[INITIAL_CAPACITY];
+
+    private int moovNode = NO_ATOM;
+    private int mdatNode = NO_ATOM;
+    private int ilstNode = NO_ATOM;
+    private int metaNode = NO_ATOM;
+    private int tagsNode = NO_ATOM;
+    private int udtaNode = NO_ATOM;
+    private int hdlrWithinMdiaNode = NO_ATOM;
+    private int hdlrWithinMetaNode = NO_ATOM;
+
+    //Where the last top level atom that was read ends
+    private long endOfAtoms;
+
+    private List<Mp4StcoBox> stcos;
+    private ByteBuffer moovBuffer; //Contains all the data under moov, only read if asked for
 
     //Logger Object
     public static Logger logger = Logger.getLogger("org.jaudiotagger.audio.mp4");
@@ -87,6 +119,8 @@ public class Mp4AtomTree
      * Create Atom Tree and maintain open channel to raf, should only be used if will continue
      * to use raf after this call, you will have to close raf yourself.
      *
+     * The channel is used to read the data of atoms when asked for, so must not be closed until finished with the tree.
+     *
      * @param fc
      * @param closeOnExit to keep randomfileaccess open, only used when randomaccessfile already being used
      * @throws IOException
@@ -98,49 +132,44 @@ public class Mp4AtomTree
     }
 
     /**
-     * Build a tree of the atoms in the file
+     * Build an index of the atoms in the file
+     *
+     * If the channel is closed on exit the moov data and stco atoms are read first so that they are still available.
      *
      * @param fc
      * @param closeExit false to keep randomfileacces open, only used when randomaccessfile already being used
-     * @return
      * @throws java.io.IOException
      * @throws org.jaudiotagger.audio.exceptions.CannotReadException
      */
-    public DefaultTreeModel buildTree(SeekableByteChannel fc, boolean closeExit) throws IOException, CannotReadException
+    public void buildTree(SeekableByteChannel fc, boolean closeExit) throws IOException, CannotReadException
     {
+        this.fc = fc;
         try
         {
-            //make sure at start of file
-            fc.position(0);
-
-            //Build up map of nodes
-            rootNode = new DefaultMutableTreeNode();
-            dataTree = new DefaultTreeModel(rootNode);
-
-            //Iterate though all the top level Nodes
-            ByteBuffer headerBuffer = ByteBuffer.allocate(Mp4BoxHeader.HEADER_LENGTH);
-            // we need to have at least enough data in the file left
-            // to read a box header
-            while (fc.position() < fc.size() - Mp4BoxHeader.HEADER_LENGTH)
+            long fileSize = fc.size();
+            long position = 0;
+
+            //Iterate though all the top level atoms, we need to have at least enough data in the file left
+            //to read a box header
+            while (position < fileSize - Mp4BoxHeader.HEADER_LENGTH)
             {
-                Mp4BoxHeader boxHeader = new Mp4BoxHeader();
-                headerBuffer.clear();          
-                fc.read(headerBuffer);
-                headerBuffer.rewind();
+                readHeader(position, Mp4BoxHeader.HEADER_LENGTH);
+                int length = headerBuffer.getInt(Mp4BoxHeader.OFFSET_POS);
+                int id = headerBuffer.getInt(Mp4BoxHeader.IDENTIFIER_POS);
 
                 try
                 {
-                    boxHeader.update(headerBuffer);
+                    checkHeader(length, id);
                 }
                 catch(NullBoxIdException ne)
                 {
                     //If we only get this error after all the expected data has been found we allow it
-                    if(moovNode!=null&mdatNode!=null)
+                    if(moovNode!=NO_ATOM&mdatNode!=NO_ATOM)
                     {
-                        NullPadding np = new NullPadding(fc.position() - Mp4BoxHeader.HEADER_LENGTH,fc.size());
-                        DefaultMutableTreeNode trailingPaddingNode = new DefaultMutableTreeNode(np);
-                        rootNode.add(trailingPaddingNode);
-                        logger.warning(ErrorMessage.NULL_PADDING_FOUND_AT_END_OF_MP4.getMsg(np.getFilePos()));
+                        endOfAtoms = position;
+                        addAtom(NULL_PADDING, NO_ATOM, position, (int) (fileSize - position));
+                        logger.warning(ErrorMessage.NULL_PADDING_FOUND_AT_END_OF_MP4.getMsg(position));
+                        position = fileSize;
                         break;
                     }
                     else
@@ -149,287 +178,379 @@ public class Mp4AtomTree
                         throw ne;
                     }
                 }
-                                   
-                boxHeader.setFilePos(fc.position() - Mp4BoxHeader.HEADER_LENGTH);
-                DefaultMutableTreeNode newAtom = new DefaultMutableTreeNode(boxHeader);
 
                 //Go down moov
-                if (boxHeader.getId().equals(Mp4AtomIdentifier.MOOV.getFieldName()))
+                if (id == MOOV)
                 {
                     //A second Moov atom, this is illegal but may just be mess at the end of the file so ignore
                     //and finish
-                    if(moovNode!=null&mdatNode!=null)
+                    if(moovNode!=NO_ATOM&mdatNode!=NO_ATOM)
                     {
-                        logger.warning(ErrorMessage.ADDITIONAL_MOOV_ATOM_AT_END_OF_MP4.getMsg(fc.position() - Mp4BoxHeader.HEADER_LENGTH));
+                        logger.warning(ErrorMessage.ADDITIONAL_MOOV_ATOM_AT_END_OF_MP4.getMsg(position));
+                        endOfAtoms = position;
                         break;
                     }
-                    moovNode    = newAtom;
-                    moovHeader  = boxHeader;
-
-                    long filePosStart = fc.position();
-                    moovBuffer = ByteBuffer.allocate(boxHeader.getDataLength());
-                    int bytesRead = fc.read(moovBuffer);
 
                     //If Moov atom is incomplete we are not going to be able to read this file properly
-                    if(bytesRead < boxHeader.getDataLength())
+                    long moovEnd = position + length;
+                    if (moovEnd > fileSize)
                     {
-                        String msg = ErrorMessage.ATOM_LENGTH_LARGER_THAN_DATA.getMsg(boxHeader.getId(), boxHeader.getDataLength(),bytesRead);
+                        String msg = ErrorMessage.ATOM_LENGTH_LARGER_THAN_DATA.getMsg(toFieldName(id), length - Mp4BoxHeader.HEADER_LENGTH, fileSize - position - Mp4BoxHeader.HEADER_LENGTH);
                         throw new CannotReadException(msg);
                     }
-                    moovBuffer.rewind();
-                    buildChildrenOfNode(moovBuffer, newAtom);
-                    fc.position(filePosStart);
+                    moovNode = addAtom(id, NO_ATOM, position, length);
+                    indexChildren(moovNode, position + Mp4BoxHeader.HEADER_LENGTH, moovEnd, moovEnd);
                 }
-                else if (boxHeader.getId().equals(Mp4AtomIdentifier.FREE.getFieldName()))
-                {
-                    //Might be multiple in different locations
-                    freeNodes.add(newAtom);
-                }
-                else if (boxHeader.getId().equals(Mp4AtomIdentifier.MDAT.getFieldName()))
+                else if (id == MDAT)
                 {
                     //mdatNode always points to the last mDatNode, normally there is just one mdatnode but do have
                     //a valid example of multiple mdatnode
-
-                    //if(mdatNode!=null)
-                    //{
-                    //    throw new CannotReadException(ErrorMessage.MP4_FILE_CONTAINS_MULTIPLE_DATA_ATOMS.getMsg());
-                    //}
-                    mdatNode = newAtom;
-                    mdatNodes.add(newAtom);
+                    mdatNode = addAtom(id, NO_ATOM, position, length);
+                }
+                else
+                {
+                    addAtom(id, NO_ATOM, position, length);
                 }
-                rootNode.add(newAtom);
 
                 //64bit data length
-                if(boxHeader.getLength() == 1)
+                if(length == 1)
                 {
-                    ByteBuffer data64bitLengthBuffer = ByteBuffer.allocate(Mp4BoxHeader.DATA_64BITLENGTH);
-                    data64bitLengthBuffer.order(ByteOrder.BIG_ENDIAN);
-                    int  bytesRead = fc.read(data64bitLengthBuffer);
-                    if (bytesRead != Mp4BoxHeader.DATA_64BITLENGTH)
+                    if (!readHeader(position + Mp4BoxHeader.HEADER_LENGTH, Mp4BoxHeader.DATA_64BITLENGTH))
                     {
-                        return null;
+                        return;
                     }
-                    data64bitLengthBuffer.rewind();
-                    long length = data64bitLengthBuffer.getLong();
-                    if (length < Mp4BoxHeader.HEADER_LENGTH){
-                        return null;
+                    long length64 = headerBuffer.getLong(0);
+                    if (length64 < Mp4BoxHeader.HEADER_LENGTH)
+                    {
+                        return;
                     }
-
-                    fc.position(fc.position() + length - Mp4BoxHeader.REALDATA_64BITLENGTH);
+                    position += length64;
                 }
                 else
                 {
-                    fc.position(fc.position() + boxHeader.getDataLength());
+                    position += length & 0xFFFFFFFFL;
                 }
+                endOfAtoms = position;
             }
-            final long extraDataLength = fc.size() - fc.position();
+            final long extraDataLength = fileSize - position;
             if (extraDataLength != 0) {
                 logger.warning(ErrorMessage.EXTRA_DATA_AT_END_OF_MP4.getMsg(extraDataLength));
             }
-            return dataTree;
         }
         finally
         {
             //If we cant find the audio then we cannot modify this file so better to throw exception
             //now rather than later when try and write to it.
-            if(mdatNode==null)
+            if(mdatNode==NO_ATOM)
             {
                 throw new CannotReadException(ErrorMessage.MP4_CANNOT_FIND_AUDIO.getMsg());
             }
 
             if (closeExit)
             {
-                fc.close();
-            }
-        }
-    }
-
-    /**
-     * Display atom tree
-     */
-    @SuppressWarnings("unchecked")
-    public void printAtomTree()
-    {
-        Enumeration<DefaultMutableTreeNode> e = rootNode.preorderEnumeration();
-        DefaultMutableTreeNode nextNode;
-        while (e.hasMoreElements())
-        {
-            nextNode = e.nextElement();
-            Mp4BoxHeader header = (Mp4BoxHeader) nextNode.getUserObject();
-            if (header != null)
-            {
-                String tabbing = "";
-                for (int i = 1; i < nextNode.getLevel(); i++)
-                {
-                    tabbing += "\t";
-                }
-
-                if(header instanceof NullPadding)
+                try
                 {
-                    if(header.getLength()==1)
-                    {
-                        System.out.println(tabbing + "Null pad " + " @ " + header.getFilePos() + " 64bitDataSize" + " ,ends @ " + (header.getFilePos() + header.getLength()));
-                    }
-                    else
+                    if (moovNode != NO_ATOM)
                     {
-                        System.out.println(tabbing + "Null pad " + " @ " + header.getFilePos() + " of size:" + header.getLength() + " ,ends @ " + (header.getFilePos() + header.getLength()));
+                        getStcos();
                     }
                 }
-                else
+                finally
                 {
-                    if(header.getLength()==1)
-                    {
-                        System.out.println(tabbing + "Atom " + header.getId() + " @ " + header.getFilePos() + " 64BitDataSize"  + " ,ends @ " + (header.getFilePos() + header.getLength()));
-                    }
-                    else
-                    {
-                        System.out.println(tabbing + "Atom " + header.getId() + " @ " + header.getFilePos() + " of size:" + header.getLength() + " ,ends @ " + (header.getFilePos() + header.getLength()));
-                    }
+                    fc.close();
                 }
             }
         }
     }
 
     /**
+     * Add the children of the atom parentNode, which lie between start and end, to the index
      *
-     * @param moovBuffer
      * @param parentNode
+     * @param start
+     * @param end
+     * @param moovEnd
      * @throws IOException
      * @throws CannotReadException
      */
-    public void buildChildrenOfNode(ByteBuffer moovBuffer, DefaultMutableTreeNode parentNode) throws IOException, CannotReadException
+    private void indexChildren(int parentNode, long start, long end, long moovEnd) throws IOException, CannotReadException
     {
-        Mp4BoxHeader boxHeader;
-
-        //Preprocessing for nodes that contain data before their children atoms
-        Mp4BoxHeader parentBoxHeader = (Mp4BoxHeader) parentNode.getUserObject();
+        int parentId = ids[parentNode];
 
-        //We set the buffers position back to this after processing the children
-        int justAfterHeaderPos = moovBuffer.position();
+        //Defines where to start looking for the first child node
+        long position = start;
 
         //Preprocessing for meta that normally contains 4 data bytes, but doesn't where found under track or tags atom
-        if (parentBoxHeader.getId().equals(Mp4AtomIdentifier.META.getFieldName()))
+        if (parentId == META && start + Mp4MetaBox.FLAGS_LENGTH + Mp4BoxHeader.HEADER_LENGTH <= moovEnd)
         {
-            Mp4MetaBox meta = new Mp4MetaBox(parentBoxHeader, moovBuffer);
-            meta.processData();
+            readHeader(start, Mp4MetaBox.FLAGS_LENGTH + Mp4BoxHeader.HEADER_LENGTH);
+            if (headerBuffer.get(0) != 0)
+            {
+                throw new CannotReadException(ErrorMessage.MP4_FILE_META_ATOM_CHILD_DATA_NOT_NULL.getMsg());
+            }
 
-            try
+            //It might be that the meta box didn't actually have any data before its children
+            int id = headerBuffer.getInt(Mp4MetaBox.FLAGS_LENGTH + Mp4BoxHeader.IDENTIFIER_POS);
+            if (id != 0)
             {
-                boxHeader = new Mp4BoxHeader(moovBuffer);
+                checkHeader(headerBuffer.getInt(Mp4MetaBox.FLAGS_LENGTH + Mp4BoxHeader.OFFSET_POS), id);
+                position += Mp4MetaBox.FLAGS_LENGTH;
             }
-            catch(NullBoxIdException nbe)
+        }
+
+        //The children are looked for within the data length of the parent counted from where they start, so when
+        //meta has flags the last few bytes of the following atom are checked as well
+        long limit = position + (end - start) - Mp4BoxHeader.HEADER_LENGTH;
+        while (position < limit && position + Mp4BoxHeader.HEADER_LENGTH <= moovEnd)
+        {
+            readHeader(position, Mp4BoxHeader.HEADER_LENGTH);
+            int length = headerBuffer.getInt(Mp4BoxHeader.OFFSET_POS);
+            int id = headerBuffer.getInt(Mp4BoxHeader.IDENTIFIER_POS);
+            checkHeader(length, id);
+
+            //Everything we index is within moov, so anything reaching beyond it (including 64bit lengths) is corrupt
+            if (length < Mp4BoxHeader.HEADER_LENGTH || position + length > moovEnd)
             {
-                //It might be that the meta box didn't actually have any additional data after it so we adjust the buffer
-                //to be immediately after metabox and code can retry
-                moovBuffer.position(moovBuffer.position() - Mp4MetaBox.FLAGS_LENGTH);
+                String msg = ErrorMessage.ATOM_LENGTH_LARGER_THAN_DATA.getMsg(toFieldName(id), length - Mp4BoxHeader.HEADER_LENGTH, moovEnd - position - Mp4BoxHeader.HEADER_LENGTH);
+                throw new CannotReadException(msg);
             }
-            finally
+            if (DebugLogging.isLoggable(logger, Level.FINEST))
             {
-                //Skip back last header cos this was only a test 
-                moovBuffer.position(moovBuffer.position()-  Mp4BoxHeader.HEADER_LENGTH);
+                logger.finest("Atom " + toFieldName(id) + " @ " + position + " of size:" + length + " ,ends @ " + (position + length));
             }
+            int newAtom = addAtom(id, parentNode, position, length);
+
+            if (id == UDTA)
+            {
+                udtaNode = newAtom;
+            }
+            //only interested in metaNode that is child of udta node
+            else if (id == META && parentId == UDTA)
+            {
+                metaNode = newAtom;
+            }
+            else if (id == HDLR && parentId == META)
+            {
+                hdlrWithinMetaNode = newAtom;
+            }
+            else if (id == HDLR)
+            {
+                hdlrWithinMdiaNode = newAtom;
+            }
+            else if (id == TAGS)
+            {
+                tagsNode = newAtom;
+            }
+            else if (id == ILST)
+            {
+                int parentsParent = parents[parentNode];
+                if (parentId == META && parentsParent != NO_ATOM && ids[parentsParent] == UDTA)
+                {
+                    ilstNode = newAtom;
+                }
+            }
+
+            //For these atoms iterate down to index their children
+            if (id == TRAK || id == MDIA || id == MINF || id == STBL || id == UDTA || id == META)
+            {
+                indexChildren(newAtom, position + Mp4BoxHeader.HEADER_LENGTH, position + length, moovEnd);
+            }
+            //Now adjust position for the next atom header at this level
+            position += length;
         }
+    }
 
-        //Defines where to start looking for the first child node
-        int startPos = moovBuffer.position();        
-        while (moovBuffer.position() < ((startPos + parentBoxHeader.getDataLength()) - Mp4BoxHeader.HEADER_LENGTH))
+    /**
+     * Read length bytes from the file at position into the header buffer
+     *
+     * @param position
+     * @param length
+     * @return false if the end of the file was reached first
+     * @throws IOException
+     */
+    private boolean readHeader(long position, int length) throws IOException
+    {
+        headerBuffer.clear();
+        headerBuffer.limit(length);
+        fc.position(position);
+        while (headerBuffer.hasRemaining())
+        {
+            if (fc.read(headerBuffer) < 0)
+            {
+                return false;
+            }
+        }
+        headerBuffer.flip();
+        return true;
+    }
+
+    /**
+     * Make the same checks as {@link Mp4BoxHeader#update(ByteBuffer)}
+     *
+     * @param length
+     * @param id
+     */
+    private static void checkHeader(int length, int id)
+    {
+        if (id == 0)
+        {
+            throw new NullBoxIdException(ErrorMessage.MP4_UNABLE_TO_FIND_NEXT_ATOM_BECAUSE_IDENTIFIER_IS_INVALID.getMsg(toFieldName(id)));
+        }
+
+        //Length 1 indicates 64bit, we need to read body to find true length
+        if (length < Mp4BoxHeader.HEADER_LENGTH && length != 1)
         {
-            boxHeader = new Mp4BoxHeader(moovBuffer);
+            throw new InvalidBoxHeaderException(ErrorMessage.MP4_UNABLE_TO_FIND_NEXT_ATOM_BECAUSE_IDENTIFIER_IS_INVALID.getMsg(toFieldName(id), length));
+        }
+    }
+
+    private int addAtom(int id, int parent, long filePos, int length)
+    {
+        if (atomCount == ids.length)
+        {
+            int capacity = atomCount * 2;
+            ids = Arrays.copyOf(ids, capacity);
+            parents = Arrays.copyOf(parents, capacity);
+            filePositions = Arrays.copyOf(filePositions, capacity);
+            lengths = Arrays.copyOf(lengths, capacity);
+        }
+        ids[atomCount] = id;
+        parents[atomCount] = parent;
+        filePositions[atomCount] = filePos;
+        lengths[atomCount] = length;
+        return atomCount++;
+    }
+
+    private static int toId(String fieldName)
+    {
+        byte[] b = fieldName.getBytes(StandardCharsets.ISO_8859_1);
+        return ((b[0] & 0xff) << 24) | ((b[1] & 0xff) << 16) | ((b[2] & 0xff) << 8) | (b[3] & 0xff);
+    }
+
+    private static String toFieldName(int id)
+    {
+        byte[] b = {(byte) (id >>> 24), (byte) (id >>> 16), (byte) (id >>> 8), (byte) id};
+        return new String(b, StandardCharsets.ISO_8859_1);
+    }
 
-            if (boxHeader != null)
+    /**
+     * Display atom tree
+     */
+    public void printAtomTree()
+    {
+        for (int node = 0; node < atomCount; node++)
+        {
+            Mp4BoxHeader header = getBoxHeader(node);
+            String tabbing = "";
+            for (int parent = parents[node]; parent != NO_ATOM; parent = parents[parent])
             {
-                boxHeader.setFilePos(moovHeader.getFilePos() + moovBuffer.position());
-                logger.finest("Atom " + boxHeader.getId() + " @ " + boxHeader.getFilePos() + " of size:" + boxHeader.getLength() + " ,ends @ " + (boxHeader.getFilePos() + boxHeader.getLength()));
-                DefaultMutableTreeNode newAtom = new DefaultMutableTreeNode(boxHeader);
-                parentNode.add(newAtom);
+                tabbing += "\t";
+            }
 
-                if (boxHeader.getId().equals(Mp4AtomIdentifier.UDTA.getFieldName()))
-                {
-                    udtaNode = newAtom;
-                }
-                //only interested in metaNode that is child of udta node
-                else if (boxHeader.getId().equals(Mp4AtomIdentifier.META.getFieldName())&&parentBoxHeader.getId().equals(Mp4AtomIdentifier.UDTA.getFieldName()))
-                {
-                    metaNode = newAtom;
-                }
-                else if (boxHeader.getId().equals(Mp4AtomIdentifier.HDLR.getFieldName())&&parentBoxHeader.getId().equals(Mp4AtomIdentifier.META.getFieldName()))
-                {
-                    hdlrWithinMetaNode = newAtom;
-                }
-                else if (boxHeader.getId().equals(Mp4AtomIdentifier.HDLR.getFieldName()))
-                {
-                    hdlrWithinMdiaNode = newAtom;
-                }
-                else if (boxHeader.getId().equals(Mp4AtomIdentifier.TAGS.getFieldName()))
-                {
-                    tagsNode = newAtom;
-                }
-                else if (boxHeader.getId().equals(Mp4AtomIdentifier.STCO.getFieldName()))
+            if(header instanceof NullPadding)
+            {
+                if(header.getLength()==1)
                 {
-                    stcos.add(new Mp4StcoBox(boxHeader, moovBuffer));
-                    stcoNodes.add(newAtom);
+                    System.out.println(tabbing + "Null pad " + " @ " + header.getFilePos() + " 64bitDataSize" + " ,ends @ " + (header.getFilePos() + header.getLength()));
                 }
-                else if (boxHeader.getId().equals(Mp4AtomIdentifier.ILST.getFieldName()))
+                else
                 {
-                    DefaultMutableTreeNode parent = (DefaultMutableTreeNode)parentNode.getParent();
-                    if(parent!=null)
-                    {
-                        Mp4BoxHeader parentsParent = (Mp4BoxHeader)(parent).getUserObject();
-                        if(parentsParent!=null)
-                        {
-                            if(parentBoxHeader.getId().equals(Mp4AtomIdentifier.META.getFieldName())&&parentsParent.getId().equals(Mp4AtomIdentifier.UDTA.getFieldName()))
-                            {
-                                ilstNode = newAtom;
-                            }
-                        }
-                    }    
+                    System.out.println(tabbing + "Null pad " + " @ " + header.getFilePos() + " of size:" + header.getLength() + " ,ends @ " + (header.getFilePos() + header.getLength()));
                 }
-                else if (boxHeader.getId().equals(Mp4AtomIdentifier.FREE.getFieldName()))
+            }
+            else
+            {
+                if(header.getLength()==1)
                 {
-                    //Might be multiple in different locations
-                    freeNodes.add(newAtom);
+                    System.out.println(tabbing + "Atom " + header.getId() + " @ " + header.getFilePos() + " 64BitDataSize"  + " ,ends @ " + (header.getFilePos() + header.getLength()));
                 }
-                else if (boxHeader.getId().equals(Mp4AtomIdentifier.TRAK.getFieldName()))
+                else
                 {
-                    //Might be multiple in different locations, although only one should be audio track
-                    trakNodes.add(newAtom);
+                    System.out.println(tabbing + "Atom " + header.getId() + " @ " + header.getFilePos() + " of size:" + header.getLength() + " ,ends @ " + (header.getFilePos() + header.getLength()));
                 }
+            }
+        }
+    }
 
-                //For these atoms iterate down to build their children
-                if ((boxHeader.getId().equals(Mp4AtomIdentifier.TRAK.getFieldName())) ||
-                        (boxHeader.getId().equals(Mp4AtomIdentifier.MDIA.getFieldName())) ||
-                        (boxHeader.getId().equals(Mp4AtomIdentifier.MINF.getFieldName())) ||
-                        (boxHeader.getId().equals(Mp4AtomIdentifier.STBL.getFieldName())) ||
-                        (boxHeader.getId().equals(Mp4AtomIdentifier.UDTA.getFieldName())) ||
-                        (boxHeader.getId().equals(Mp4AtomIdentifier.META.getFieldName())) ||
-                        (boxHeader.getId().equals(Mp4AtomIdentifier.ILST.getFieldName())))
-                {                
-                    buildChildrenOfNode(moovBuffer, newAtom);
-                }
-                //Now  adjust buffer for the next atom header at this level
-                moovBuffer.position(moovBuffer.position() + boxHeader.getDataLength());
+    /**
+     *
+     * @param node
+     * @return the parent of node, or {@link #NO_ATOM} if node is a top level atom
+     */
+    public int getParent(int node)
+    {
+        return parents[node];
+    }
 
+    /**
+     *
+     * @param node
+     * @return the atom before node with the same parent, or {@link #NO_ATOM} if node is the first child
+     */
+    public int getPreviousSibling(int node)
+    {
+        int parent = parents[node];
+        for (int sibling = node - 1; sibling > parent; sibling--)
+        {
+            if (parents[sibling] == parent)
+            {
+                return sibling;
             }
         }
-        moovBuffer.position(justAfterHeaderPos);
+        return NO_ATOM;
     }
 
-
     /**
      *
-     * @return
+     * @param parent the atom to search, or {@link #NO_ATOM} to search the top level atoms
+     * @param id
+     * @return the first indexed child of parent with this id, or {@link #NO_ATOM} if there is none
      */
-    public DefaultTreeModel getDataTree()
+    public int getChild(int parent, String id)
     {
-        return dataTree;
+        int childId = toId(id);
+        for (int node = parent + 1; node < atomCount; node++)
+        {
+            if (parents[node] == parent && ids[node] == childId)
+            {
+                return node;
+            }
+        }
+        return NO_ATOM;
     }
 
+    /**
+     *
+     * @param id
+     * @return every indexed atom with this id, in file order
+     */
+    private int[] getNodes(int id)
+    {
+        int count = 0;
+        for (int node = 0; node < atomCount; node++)
+        {
+            if (ids[node] == id)
+            {
+                count++;
+            }
+        }
+        int[] nodes = new int[count];
+        count = 0;
+        for (int node = 0; node < atomCount; node++)
+        {
+            if (ids[node] == id)
+            {
+                nodes[count++] = node;
+            }
+        }
+        return nodes;
+    }
 
     /**
      *
      * @return
      */
-    public DefaultMutableTreeNode getMoovNode()
+    public int getMoovNode()
     {
         return moovNode;
     }
@@ -438,39 +559,83 @@ public class Mp4AtomTree
      *
      * @return
      */
-    public List<DefaultMutableTreeNode> getStcoNodes()
+    public int[] getStcoNodes()
     {
-        return stcoNodes;
+        return getNodes(STCO);
     }
 
     /**
      *
      * @return
      */
-    public DefaultMutableTreeNode getIlstNode()
+    public int getIlstNode()
     {
         return ilstNode;
     }
 
     /**
+     * Create a header for the atom, a new header is returned each time so it can be modified by the caller
      *
      * @param node
      * @return
      */
-    public Mp4BoxHeader getBoxHeader(DefaultMutableTreeNode node)
+    public Mp4BoxHeader getBoxHeader(int node)
     {
-        if (node == null)
+        if (node == NO_ATOM)
         {
             return null;
         }
-        return (Mp4BoxHeader) node.getUserObject();
+        if (ids[node] == NULL_PADDING)
+        {
+            return new NullPadding(filePositions[node], filePositions[node] + lengths[node]);
+        }
+        Mp4BoxHeader header = new Mp4BoxHeader(toFieldName(ids[node]));
+        header.setLength(lengths[node]);
+        header.setFilePos(filePositions[node]);
+        return header;
+    }
+
+    /**
+     * Read the data of the atom (not including its header) from the file
+     *
+     * @param node
+     * @return
+     * @throws IOException
+     */
+    public ByteBuffer readAtomData(int node) throws IOException
+    {
+        return readAtomData(node, lengths[node] - Mp4BoxHeader.HEADER_LENGTH);
+    }
+
+    /**
+     * Read the first length bytes of the data of the atom from the file, useful when only the start of a large atom
+     * is of interest
+     *
+     * @param node
+     * @param length
+     * @return buffer of length bytes, if the file ends first the remainder is left zeroed
+     * @throws IOException
+     */
+    public ByteBuffer readAtomData(int node, int length) throws IOException
+    {
+        ByteBuffer data = ByteBuffer.allocate(length);
+        fc.position(filePositions[node] + Mp4BoxHeader.HEADER_LENGTH);
+        while (data.hasRemaining())
+        {
+            if (fc.read(data) < 0)
+            {
+                break;
+            }
+        }
+        data.rewind();
+        return data;
     }
 
     /**
      *
      * @return
      */
-    public DefaultMutableTreeNode getMdatNode()
+    public int getMdatNode()
     {
         return mdatNode;
     }
@@ -479,7 +644,7 @@ public class Mp4AtomTree
      *
      * @return
      */
-    public DefaultMutableTreeNode getUdtaNode()
+    public int getUdtaNode()
     {
         return udtaNode;
     }
@@ -488,7 +653,7 @@ public class Mp4AtomTree
      *
      * @return
      */
-    public DefaultMutableTreeNode getMetaNode()
+    public int getMetaNode()
     {
         return metaNode;
     }
@@ -497,7 +662,7 @@ public class Mp4AtomTree
      *
      * @return
      */
-    public DefaultMutableTreeNode getHdlrWithinMetaNode()
+    public int getHdlrWithinMetaNode()
     {
         return hdlrWithinMetaNode;
     }
@@ -506,7 +671,7 @@ public class Mp4AtomTree
      *
      * @return
      */
-    public DefaultMutableTreeNode getHdlrWithinMdiaNode()
+    public int getHdlrWithinMdiaNode()
     {
         return hdlrWithinMdiaNode;
     }
@@ -515,7 +680,7 @@ public class Mp4AtomTree
      *
      * @return
      */
-    public DefaultMutableTreeNode getTagsNode()
+    public int getTagsNode()
     {
         return tagsNode;
     }
@@ -524,44 +689,74 @@ public class Mp4AtomTree
      *
      * @return
      */
-    public List<DefaultMutableTreeNode> getFreeNodes()
+    public int[] getFreeNodes()
     {
-        return freeNodes;
+        return getNodes(FREE);
     }
 
     /**
      *
      * @return
      */
-    public List<DefaultMutableTreeNode> getTrakNodes()
+    public int[] getTrakNodes()
     {
-        return trakNodes;
+        return getNodes(TRAK);
     }
 
     /**
+     * The stco atoms are backed by {@link #getMoovBuffer()} so any changes made to their offsets are made to it
      *
      * @return
+     * @throws IOException
      */
-    public List<Mp4StcoBox> getStcos()
+    public List<Mp4StcoBox> getStcos() throws IOException
     {
+        if (stcos == null)
+        {
+            ByteBuffer moovData = getMoovBuffer();
+            long moovDataStart = filePositions[moovNode] + Mp4BoxHeader.HEADER_LENGTH;
+            stcos = new ArrayList<Mp4StcoBox>();
+            for (int stcoNode : getStcoNodes())
+            {
+                moovData.position((int) (filePositions[stcoNode] + Mp4BoxHeader.HEADER_LENGTH - moovDataStart));
+                stcos.add(new Mp4StcoBox(getBoxHeader(stcoNode), moovData));
+            }
+            moovData.rewind();
+        }
         return stcos;
     }
 
     /**
+     * Read the data under moov from the file the first time it is asked for
      *
      * @return
+     * @throws IOException
      */
-    public ByteBuffer getMoovBuffer()
+    public ByteBuffer getMoovBuffer() throws IOException
     {
+        if (moovBuffer == null && moovNode != NO_ATOM)
+        {
+            moovBuffer = readAtomData(moovNode);
+        }
         return moovBuffer;
     }
 
+    /**
+     *
+     * @return location in file of the end of the last top level atom, the size of the file unless it ends with
+     * null padding or data that isn't an atom
+     */
+    public long getEndOfAtoms()
+    {
+        return endOfAtoms;
+    }
+
     /**
      *
      * @return
      */
     public Mp4BoxHeader getMoovHeader()
     {
-        return moovHeader;
+        return getBoxHeader(moovNode);
     }
 }
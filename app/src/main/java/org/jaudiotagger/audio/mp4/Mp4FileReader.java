@@ -18,12 +18,16 @@
  */
 package org.jaudiotagger.audio.mp4;
 
+import org.jaudiotagger.audio.AudioFile;
 import org.jaudiotagger.audio.exceptions.CannotReadException;
 import org.jaudiotagger.audio.generic.AudioFileReader2;
 import org.jaudiotagger.audio.generic.GenericAudioHeader;
+import org.jaudiotagger.audio.mp4.atom.Mp4FtypBox;
 import org.jaudiotagger.tag.Tag;
 
+import java.io.File;
 import java.io.IOException;
+import java.nio.channels.SeekableByteChannel;
 import java.nio.file.Path;
 
 /**
@@ -47,4 +51,23 @@ public class Mp4FileReader extends AudioFileReader2
     {
         return tr.read(path);
     }
+
+    @Override
+    protected AudioFile readEncodingInfoAndTag(File f, Path path) throws CannotReadException, IOException
+    {
+        return readEncodingInfoAndTagFromChannel(f, path);
+    }
+
+    /**
+     * Read the audio header and the tag from a single index of the atoms
+     */
+    @Override
+    protected AudioFile readEncodingInfoAndTag(SeekableByteChannel fc, String name) throws CannotReadException, IOException
+    {
+        Mp4FtypBox ftyp = ir.readFtyp(fc);
+        Mp4AtomTree atomTree = new Mp4AtomTree(fc, false);
+        GenericAudioHeader info = ir.read(fc, ftyp, atomTree);
+        Tag tag = tr.read(atomTree);
+        return new AudioFile((File) null, info, tag);
+    }
 }
@@ -22,6 +22,8 @@ import org.jaudiotagger.audio.exceptions.CannotWriteException;
 import org.jaudiotagger.audio.generic.AudioFileWriter2;
 import org.jaudiotagger.tag.Tag;
 
+import java.io.IOException;
+import java.nio.channels.SeekableByteChannel;
 import java.nio.file.Path;
 
 /**
@@ -37,6 +39,12 @@ public class Mp4FileWriter extends AudioFileWriter2
         new Mp4TagWriter(file.toString()).write(tag, file);
     }
 
+    @Override
+    protected void writeTag(Tag tag, SeekableByteChannel fc, String fileName) throws CannotWriteException, IOException
+    {
+        new Mp4TagWriter(fileName).write(tag, fc);
+    }
+
     @Override
     protected void deleteTag(Tag tag, Path file) throws CannotWriteException
     {
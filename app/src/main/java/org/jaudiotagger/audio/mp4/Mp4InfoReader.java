@@ -23,14 +23,15 @@ import org.jaudiotagger.audio.exceptions.CannotReadVideoException;
 import org.jaudiotagger.audio.generic.GenericAudioHeader;
 import org.jaudiotagger.audio.generic.Utils;
 import org.jaudiotagger.audio.mp4.atom.*;
+import org.jaudiotagger.logging.DebugLogging;
 import org.jaudiotagger.logging.ErrorMessage;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
-import java.nio.ByteOrder;
 import java.nio.channels.SeekableByteChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
@@ -61,27 +62,23 @@ public class Mp4InfoReader
     // Logger Object
     public static Logger logger = Logger.getLogger("org.jaudiotagger.audio.mp4.atom");
 
-    private boolean isTrackAtomVideo(Mp4FtypBox ftyp,  Mp4BoxHeader boxHeader, ByteBuffer mvhdBuffer )
-            throws IOException
+    private boolean isTrackAtomVideo(Mp4AtomTree atomTree, int trakNode)
     {
-        boxHeader = Mp4BoxHeader.seekWithinLevel(mvhdBuffer, Mp4AtomIdentifier.MDIA.getFieldName());
-        if (boxHeader == null)
+        int mdiaNode = atomTree.getChild(trakNode, Mp4AtomIdentifier.MDIA.getFieldName());
+        if (mdiaNode == Mp4AtomTree.NO_ATOM)
         {
             return false;
         }
-        boxHeader = Mp4BoxHeader.seekWithinLevel(mvhdBuffer, Mp4AtomIdentifier.MDHD.getFieldName());
-        if (boxHeader == null)
+        if (atomTree.getChild(mdiaNode, Mp4AtomIdentifier.MDHD.getFieldName()) == Mp4AtomTree.NO_ATOM)
         {
             return false;
         }
-        mvhdBuffer.position(mvhdBuffer.position() + boxHeader.getDataLength());
-        boxHeader = Mp4BoxHeader.seekWithinLevel(mvhdBuffer, Mp4AtomIdentifier.MINF.getFieldName());
-        if (boxHeader == null)
+        int minfNode = atomTree.getChild(mdiaNode, Mp4AtomIdentifier.MINF.getFieldName());
+        if (minfNode == Mp4AtomTree.NO_ATOM)
         {
             return false;
         }
-        boxHeader = Mp4BoxHeader.seekWithinLevel(mvhdBuffer, Mp4AtomIdentifier.VMHD.getFieldName());
-        if (boxHeader != null)
+        if (atomTree.getChild(minfNode, Mp4AtomIdentifier.VMHD.getFieldName()) != Mp4AtomTree.NO_ATOM)
         {
             return true;
         }
@@ -91,280 +88,293 @@ public class Mp4InfoReader
     public GenericAudioHeader read(Path file) throws CannotReadException, IOException
     {
         try(SeekableByteChannel fc = Files.newByteChannel(file)) {
-            Mp4AudioHeader info = new Mp4AudioHeader();
-    
-            //File Identification
-            Mp4BoxHeader ftypHeader = Mp4BoxHeader.seekWithinLevel(fc, Mp4AtomIdentifier.FTYP.getFieldName());
-            if (ftypHeader == null)
-            {
-                throw new CannotReadException(ErrorMessage.MP4_FILE_NOT_CONTAINER.getMsg());
-            }
-            ByteBuffer ftypBuffer = ByteBuffer.allocate(ftypHeader.getLength() - Mp4BoxHeader.HEADER_LENGTH);
-            fc.read(ftypBuffer);
-            ftypBuffer.rewind();
-            Mp4FtypBox ftyp = new Mp4FtypBox(ftypHeader, ftypBuffer);
-            ftyp.processData();
-            info.setBrand(ftyp.getMajorBrand());
-    
-            //Get to the facts everything we are interested in is within the moov box, so just load data from file
-            //once so no more file I/O needed
-            Mp4BoxHeader moovHeader = Mp4BoxHeader.seekWithinLevel(fc, Mp4AtomIdentifier.MOOV.getFieldName());
-            if (moovHeader == null)
-            {
-                throw new CannotReadException(ErrorMessage.MP4_FILE_NOT_AUDIO.getMsg());
-            }
-            ByteBuffer moovBuffer = ByteBuffer.allocate(moovHeader.getLength() - Mp4BoxHeader.HEADER_LENGTH);
-            moovBuffer.order(ByteOrder.LITTLE_ENDIAN);
-            fc.read(moovBuffer);
-            moovBuffer.rewind();
-    
-            //Level 2-Searching for "mvhd" somewhere within "moov", we make a slice after finding header
-            //so all get() methods will be relative to mvdh positions
-            Mp4BoxHeader boxHeader = Mp4BoxHeader.seekWithinLevel(moovBuffer, Mp4AtomIdentifier.MVHD.getFieldName());
-            if (boxHeader == null)
-            {
-                throw new CannotReadException(ErrorMessage.MP4_FILE_NOT_AUDIO.getMsg());
-            }
-            ByteBuffer mvhdBuffer = moovBuffer.slice();
-            Mp4MvhdBox mvhd = new Mp4MvhdBox(boxHeader, mvhdBuffer);
-            info.setPreciseLength(mvhd.getPreciseLength());
-            //Advance position, TODO should we put this in box code ?
-            mvhdBuffer.position(mvhdBuffer.position() + boxHeader.getDataLength());
-    
-            //Level 2-Searching for "trak" within "moov"
-            boxHeader = Mp4BoxHeader.seekWithinLevel(mvhdBuffer, Mp4AtomIdentifier.TRAK.getFieldName());    
-            if (boxHeader == null)
-            {
-                throw new CannotReadException(ErrorMessage.MP4_FILE_NOT_AUDIO.getMsg());
-            }
+            Mp4FtypBox ftyp = readFtyp(fc);
 
-            int endOfFirstTrackInBuffer = mvhdBuffer.position() + boxHeader.getDataLength();
+            //Build AtomTree to ensure it is valid, this means we can detect any problems early on, then everything
+            //we are interested in is within the moov box so just read the atoms we need from file
+            Mp4AtomTree atomTree = new Mp4AtomTree(fc, false);
+            return read(fc, ftyp, atomTree);
+        }
+    }
 
-            //Level 3-Searching for "mdia" within "trak"
-            boxHeader = Mp4BoxHeader.seekWithinLevel(mvhdBuffer, Mp4AtomIdentifier.MDIA.getFieldName());
-            if (boxHeader == null)
-            {
-                throw new CannotReadException(ErrorMessage.MP4_FILE_NOT_AUDIO.getMsg());
-            }
-            //Level 4-Searching for "mdhd" within "mdia"
-            boxHeader = Mp4BoxHeader.seekWithinLevel(mvhdBuffer, Mp4AtomIdentifier.MDHD.getFieldName());
-            if (boxHeader == null)
-            {
-                throw new CannotReadException(ErrorMessage.MP4_FILE_NOT_AUDIO.getMsg());
-            }
-            Mp4MdhdBox mdhd = new Mp4MdhdBox(boxHeader, mvhdBuffer.slice());
-            info.setSamplingRate(mdhd.getSampleRate());
-            
-            //Level 4-Searching for "hdlr" within "mdia"
-            /*We dont currently need to process this because contains nothing we want
-            mvhdBuffer.position(mvhdBuffer.position() + boxHeader.getDataLength());
-            boxHeader = Mp4BoxHeader.seekWithinLevel(mvhdBuffer, Mp4NotMetaFieldKey.HDLR.getFieldName());
-            if (boxHeader == null)
+    /**
+     * Read the file identification, this is done before anything else so that a file that is not an mp4 file at all is
+     * reported as such
+     *
+     * @param fc
+     * @return
+     * @throws CannotReadException
+     * @throws IOException
+     */
+    Mp4FtypBox readFtyp(SeekableByteChannel fc) throws CannotReadException, IOException
+    {
+        Mp4BoxHeader ftypHeader = Mp4BoxHeader.seekWithinLevel(fc, Mp4AtomIdentifier.FTYP.getFieldName());
+        if (ftypHeader == null)
+        {
+            throw new CannotReadException(ErrorMessage.MP4_FILE_NOT_CONTAINER.getMsg());
+        }
+        ByteBuffer ftypBuffer = ByteBuffer.allocate(ftypHeader.getLength() - Mp4BoxHeader.HEADER_LENGTH);
+        fc.read(ftypBuffer);
+        ftypBuffer.rewind();
+        Mp4FtypBox ftyp = new Mp4FtypBox(ftypHeader, ftypBuffer);
+        ftyp.processData();
+        return ftyp;
+    }
+
+    /**
+     * Read the audio info from the atoms already found in the file
+     *
+     * @param fc
+     * @param ftyp
+     * @param atomTree
+     * @return
+     * @throws CannotReadException
+     * @throws IOException
+     */
+    GenericAudioHeader read(SeekableByteChannel fc, Mp4FtypBox ftyp, Mp4AtomTree atomTree) throws CannotReadException, IOException
+    {
+        Mp4AudioHeader info = new Mp4AudioHeader();
+        info.setBrand(ftyp.getMajorBrand());
+
+        int moovNode = atomTree.getMoovNode();
+        if (moovNode == Mp4AtomTree.NO_ATOM)
+        {
+            throw new CannotReadException(ErrorMessage.MP4_FILE_NOT_AUDIO.getMsg());
+        }
+
+        //Level 2-Searching for "mvhd" somewhere within "moov"
+        int node = atomTree.getChild(moovNode, Mp4AtomIdentifier.MVHD.getFieldName());
+        if (node == Mp4AtomTree.NO_ATOM)
+        {
+            throw new CannotReadException(ErrorMessage.MP4_FILE_NOT_AUDIO.getMsg());
+        }
+        Mp4MvhdBox mvhd = new Mp4MvhdBox(atomTree.getBoxHeader(node), atomTree.readAtomData(node));
+        info.setPreciseLength(mvhd.getPreciseLength());
+
+        //Level 2-Searching for "trak" within "moov"
+        int firstTrakNode = atomTree.getChild(moovNode, Mp4AtomIdentifier.TRAK.getFieldName());
+        if (firstTrakNode == Mp4AtomTree.NO_ATOM)
+        {
+            throw new CannotReadException(ErrorMessage.MP4_FILE_NOT_AUDIO.getMsg());
+        }
+
+        //Level 3-Searching for "mdia" within "trak"
+        int mdiaNode = atomTree.getChild(firstTrakNode, Mp4AtomIdentifier.MDIA.getFieldName());
+        if (mdiaNode == Mp4AtomTree.NO_ATOM)
+        {
+            throw new CannotReadException(ErrorMessage.MP4_FILE_NOT_AUDIO.getMsg());
+        }
+        //Level 4-Searching for "mdhd" within "mdia"
+        node = atomTree.getChild(mdiaNode, Mp4AtomIdentifier.MDHD.getFieldName());
+        if (node == Mp4AtomTree.NO_ATOM)
+        {
+            throw new CannotReadException(ErrorMessage.MP4_FILE_NOT_AUDIO.getMsg());
+        }
+        Mp4MdhdBox mdhd = new Mp4MdhdBox(atomTree.getBoxHeader(node), atomTree.readAtomData(node));
+        info.setSamplingRate(mdhd.getSampleRate());
+
+        //Level 4-Searching for "hdlr" within "mdia"
+        /*We dont currently need to process this because contains nothing we want
+        node = atomTree.getChild(mdiaNode, Mp4NotMetaFieldKey.HDLR.getFieldName());
+        if (node == Mp4AtomTree.NO_ATOM)
+        {
+            throw new CannotReadException(ErrorMessage.MP4_FILE_NOT_AUDIO.getMsg());
+        }
+        Mp4HdlrBox hdlr = new Mp4HdlrBox(atomTree.getBoxHeader(node), atomTree.readAtomData(node));
+        hdlr.processData();
+        */
+
+        //Level 4-Searching for "minf" within "mdia"
+        int minfNode = atomTree.getChild(mdiaNode, Mp4AtomIdentifier.MINF.getFieldName());
+        if (minfNode == Mp4AtomTree.NO_ATOM)
+        {
+            throw new CannotReadException(ErrorMessage.MP4_FILE_NOT_AUDIO.getMsg());
+        }
+
+        //Level 5-Searching for "smhd" within "minf"
+        //Only an audio track would have a smhd frame
+        if (atomTree.getChild(minfNode, Mp4AtomIdentifier.SMHD.getFieldName()) == Mp4AtomTree.NO_ATOM)
+        {
+            //try easy check to confirm that it is video
+            if(atomTree.getChild(minfNode, Mp4AtomIdentifier.VMHD.getFieldName()) != Mp4AtomTree.NO_ATOM)
             {
-                throw new CannotReadException(ErrorMessage.MP4_FILE_NOT_AUDIO.getMsg());
+                throw new CannotReadVideoException(ErrorMessage.MP4_FILE_IS_VIDEO.getMsg());
             }
-            Mp4HdlrBox hdlr = new Mp4HdlrBox(boxHeader, mvhdBuffer.slice());
-            hdlr.processData();
-            */
-    
-            //Level 4-Searching for "minf" within "mdia"
-            mvhdBuffer.position(mvhdBuffer.position() + boxHeader.getDataLength());
-            boxHeader = Mp4BoxHeader.seekWithinLevel(mvhdBuffer, Mp4AtomIdentifier.MINF.getFieldName());
-            if (boxHeader == null)
+            else
             {
                 throw new CannotReadException(ErrorMessage.MP4_FILE_NOT_AUDIO.getMsg());
             }
-    
-            //Level 5-Searching for "smhd" within "minf"
-            //Only an audio track would have a smhd frame
-            int pos = mvhdBuffer.position();
-            boxHeader = Mp4BoxHeader.seekWithinLevel(mvhdBuffer, Mp4AtomIdentifier.SMHD.getFieldName());
-            if (boxHeader == null)
+        }
+
+        //Level 5-Searching for "stbl within "minf"
+        int stblNode = atomTree.getChild(minfNode, Mp4AtomIdentifier.STBL.getFieldName());
+        if (stblNode == Mp4AtomTree.NO_ATOM)
+        {
+            throw new CannotReadException(ErrorMessage.MP4_FILE_NOT_AUDIO.getMsg());
+        }
+
+
+
+        //Level 6-Searching for "stsd within "stbl" and process it direct data, dont think these are mandatory so dont throw
+        //exception if unable to find
+        node = atomTree.getChild(stblNode, Mp4AtomIdentifier.STSD.getFieldName());
+        if (node != Mp4AtomTree.NO_ATOM)
+        {
+            ByteBuffer stsdBuffer = atomTree.readAtomData(node);
+            Mp4StsdBox stsd = new Mp4StsdBox(atomTree.getBoxHeader(node), stsdBuffer);
+            stsd.processData();
+            int positionAfterStsdHeaderAndData = stsdBuffer.position();
+            Mp4BoxHeader boxHeader;
+
+            ///Level 7-Searching for "mp4a within "stsd"
+            boxHeader = Mp4BoxHeader.seekWithinLevel(stsdBuffer, Mp4AtomIdentifier.MP4A.getFieldName());
+            if (boxHeader != null)
             {
-                mvhdBuffer.position(pos);
-                boxHeader = Mp4BoxHeader.seekWithinLevel(mvhdBuffer, Mp4AtomIdentifier.VMHD.getFieldName());
-                //try easy check to confirm that it is video
-                if(boxHeader!=null)
-                {
-                    throw new CannotReadVideoException(ErrorMessage.MP4_FILE_IS_VIDEO.getMsg());
-                }
-                else
+                ByteBuffer mp4aBuffer = stsdBuffer.slice();
+                Mp4Mp4aBox mp4a = new Mp4Mp4aBox(boxHeader, mp4aBuffer);
+                mp4a.processData();
+                //Level 8-Searching for "esds" within mp4a to get No Of Channels and bitrate
+                boxHeader = Mp4BoxHeader.seekWithinLevel(mp4aBuffer, Mp4AtomIdentifier.ESDS.getFieldName());
+                if (boxHeader != null)
                 {
-                    throw new CannotReadException(ErrorMessage.MP4_FILE_NOT_AUDIO.getMsg());
+                    Mp4EsdsBox esds = new Mp4EsdsBox(boxHeader, mp4aBuffer.slice());
+
+                    //Set Bitrate in kbps
+                    info.setBitRate(esds.getAvgBitrate() / Utils.KILOBYTE_MULTIPLIER);
+
+                    //Set Number of Channels
+                    info.setChannelNumber(esds.getNumberOfChannels());
+
+                    info.setKind(esds.getKind());
+                    info.setProfile(esds.getAudioProfile());
+
+                    info.setEncodingType(EncoderType.AAC.getDescription());
                 }
             }
-            mvhdBuffer.position(pos);
-    
-            //Level 5-Searching for "stbl within "minf"
-            boxHeader = Mp4BoxHeader.seekWithinLevel(mvhdBuffer, Mp4AtomIdentifier.STBL.getFieldName());
-            if (boxHeader == null)
+            else
             {
-                throw new CannotReadException(ErrorMessage.MP4_FILE_NOT_AUDIO.getMsg());
-            }
-    
-    
-    
-            //Level 6-Searching for "stsd within "stbl" and process it direct data, dont think these are mandatory so dont throw
-            //exception if unable to find
-            int positionBeforeStsdSearch = mvhdBuffer.position();
-            boxHeader = Mp4BoxHeader.seekWithinLevel(mvhdBuffer, Mp4AtomIdentifier.STSD.getFieldName());
-            if (boxHeader != null)
-            {
-                Mp4StsdBox stsd = new Mp4StsdBox(boxHeader, mvhdBuffer);
-                stsd.processData();
-                int positionAfterStsdHeaderAndData = mvhdBuffer.position();
-    
-                ///Level 7-Searching for "mp4a within "stsd"
-                boxHeader = Mp4BoxHeader.seekWithinLevel(mvhdBuffer, Mp4AtomIdentifier.MP4A.getFieldName());
+                //Level 7 -Searching for drms within stsd instead (m4p files)
+                stsdBuffer.position(positionAfterStsdHeaderAndData);
+                boxHeader = Mp4BoxHeader.seekWithinLevel(stsdBuffer, Mp4AtomIdentifier.DRMS.getFieldName());
                 if (boxHeader != null)
                 {
-                    ByteBuffer mp4aBuffer = mvhdBuffer.slice();
-                    Mp4Mp4aBox mp4a = new Mp4Mp4aBox(boxHeader, mp4aBuffer);
-                    mp4a.processData();
-                    //Level 8-Searching for "esds" within mp4a to get No Of Channels and bitrate
-                    boxHeader = Mp4BoxHeader.seekWithinLevel(mp4aBuffer, Mp4AtomIdentifier.ESDS.getFieldName());
+                    Mp4DrmsBox drms = new Mp4DrmsBox(boxHeader, stsdBuffer);
+                    drms.processData();
+
+                    //Level 8-Searching for "esds" within drms to get No Of Channels and bitrate
+                    boxHeader = Mp4BoxHeader.seekWithinLevel(stsdBuffer, Mp4AtomIdentifier.ESDS.getFieldName());
                     if (boxHeader != null)
                     {
-                        Mp4EsdsBox esds = new Mp4EsdsBox(boxHeader, mp4aBuffer.slice());
-    
+                        Mp4EsdsBox esds = new Mp4EsdsBox(boxHeader, stsdBuffer.slice());
+
                         //Set Bitrate in kbps
                         info.setBitRate(esds.getAvgBitrate() / Utils.KILOBYTE_MULTIPLIER);
-    
+
                         //Set Number of Channels
                         info.setChannelNumber(esds.getNumberOfChannels());
-    
+
                         info.setKind(esds.getKind());
                         info.setProfile(esds.getAudioProfile());
-    
-                        info.setEncodingType(EncoderType.AAC.getDescription());
+
+                        info.setEncodingType(EncoderType.DRM_AAC.getDescription());
                     }
                 }
+                //Level 7-Searching for alac (Apple Lossless) instead
                 else
                 {
-                    //Level 7 -Searching for drms within stsd instead (m4p files)
-                    mvhdBuffer.position(positionAfterStsdHeaderAndData);
-                    boxHeader = Mp4BoxHeader.seekWithinLevel(mvhdBuffer, Mp4AtomIdentifier.DRMS.getFieldName());
+                    stsdBuffer.position(positionAfterStsdHeaderAndData);
+                    boxHeader = Mp4BoxHeader.seekWithinLevel(stsdBuffer, Mp4AtomIdentifier.ALAC.getFieldName());
                     if (boxHeader != null)
                     {
-                        Mp4DrmsBox drms = new Mp4DrmsBox(boxHeader, mvhdBuffer);
-                        drms.processData();
-    
-                        //Level 8-Searching for "esds" within drms to get No Of Channels and bitrate
-                        boxHeader = Mp4BoxHeader.seekWithinLevel(mvhdBuffer, Mp4AtomIdentifier.ESDS.getFieldName());
+                        //Process First Alac
+                        Mp4AlacBox alac = new Mp4AlacBox(boxHeader, stsdBuffer);
+                        alac.processData();
+                        
+                        //Level 8-Searching for 2nd "alac" within box that contains the info we really want
+                        boxHeader = Mp4BoxHeader.seekWithinLevel(stsdBuffer, Mp4AtomIdentifier.ALAC.getFieldName());
                         if (boxHeader != null)
                         {
-                            Mp4EsdsBox esds = new Mp4EsdsBox(boxHeader, mvhdBuffer.slice());
-    
-                            //Set Bitrate in kbps
-                            info.setBitRate(esds.getAvgBitrate() / Utils.KILOBYTE_MULTIPLIER);
-    
-                            //Set Number of Channels
-                            info.setChannelNumber(esds.getNumberOfChannels());
-    
-                            info.setKind(esds.getKind());
-                            info.setProfile(esds.getAudioProfile());
-    
-                            info.setEncodingType(EncoderType.DRM_AAC.getDescription());
+                            alac = new Mp4AlacBox(boxHeader, stsdBuffer);
+                            alac.processData();
+                            info.setEncodingType(EncoderType.APPLE_LOSSLESS.getDescription());
+                            info.setChannelNumber(alac.getChannels());
+                            info.setBitRate(alac.getBitRate() / Utils.KILOBYTE_MULTIPLIER);
+                            info.setBitsPerSample(alac.getSampleSize());
                         }
                     }
-                    //Level 7-Searching for alac (Apple Lossless) instead
+                    //Catch all when there is no audio header
                     else
                     {
-                        mvhdBuffer.position(positionAfterStsdHeaderAndData);
-                        boxHeader = Mp4BoxHeader.seekWithinLevel(mvhdBuffer, Mp4AtomIdentifier.ALAC.getFieldName());
-                        if (boxHeader != null)
-                        {
-                            //Process First Alac
-                            Mp4AlacBox alac = new Mp4AlacBox(boxHeader, mvhdBuffer);
-                            alac.processData();
-                            
-                            //Level 8-Searching for 2nd "alac" within box that contains the info we really want
-                            boxHeader = Mp4BoxHeader.seekWithinLevel(mvhdBuffer, Mp4AtomIdentifier.ALAC.getFieldName());
-                            if (boxHeader != null)
-                            {
-                                alac = new Mp4AlacBox(boxHeader, mvhdBuffer);
-                                alac.processData();
-                                info.setEncodingType(EncoderType.APPLE_LOSSLESS.getDescription());
-                                info.setChannelNumber(alac.getChannels());
-                                info.setBitRate(alac.getBitRate() / Utils.KILOBYTE_MULTIPLIER);
-                                info.setBitsPerSample(alac.getSampleSize());
-                            }
-                        }
-                        //Catch all when there is no audio header
-                        else
-                        {
-                            info.setEncodingType("");
-                            info.setChannelNumber(0);
-                            info.setBitRate(0);
-                            info.setBitsPerSample(0);
-                        }
+                        info.setEncodingType("");
+                        info.setChannelNumber(0);
+                        info.setBitRate(0);
+                        info.setBitsPerSample(0);
                     }
                 }
             }
-    
-            //Level 6-Searching for "stco within "stbl" to get size of audio data
-            mvhdBuffer.position(positionBeforeStsdSearch);
-            boxHeader = Mp4BoxHeader.seekWithinLevel(mvhdBuffer, Mp4AtomIdentifier.STCO.getFieldName());
-            if (boxHeader != null)
-            {
-                Mp4StcoBox stco = new Mp4StcoBox(boxHeader, mvhdBuffer);
-                info.setAudioDataStartPosition((long)stco.getFirstOffSet());
-                info.setAudioDataEndPosition((long)fc.size());
-                info.setAudioDataLength(fc.size() - stco.getFirstOffSet());
-            }
-    
-            //Set default channels if couldn't calculate it
-            if (info.getChannelNumber() == -1)
-            {
-                info.setChannelNumber(2);
-            }
-    
-            //Set default bitrate if couldnt calculate it
-            if (info.getBitRateAsNumber() == -1)
-            {
-                info.setBitRate(128);
-            }
-            
-            //Set default bits per sample if couldn't calculate it
-            if (info.getBitsPerSample() == -1)
-            {
-                info.setBitsPerSample(16);
-            }
-    
-            //This is the most likely option if cant find a match
-            if (info.getEncodingType().equals(""))
+        }
+
+        //Level 6-Searching for "stco within "stbl" to get size of audio data
+        node = atomTree.getChild(stblNode, Mp4AtomIdentifier.STCO.getFieldName());
+        if (node != Mp4AtomTree.NO_ATOM)
+        {
+            //Only the start of the table is needed, not every offset
+            ByteBuffer stcoBuffer = atomTree.readAtomData(node, Mp4StcoBox.VERSION_FLAG_LENGTH + Mp4StcoBox.OTHER_FLAG_LENGTH + Mp4StcoBox.NO_OF_OFFSETS_LENGTH + Mp4StcoBox.OFFSET_LENGTH);
+            Mp4StcoBox stco = new Mp4StcoBox(atomTree.getBoxHeader(node), stcoBuffer);
+            //Audio finishes at the end of mdat, not the end of the file as moov may have been moved after it
+            long audioDataEnd = fc.size();
+            Mp4BoxHeader mdatHeader = atomTree.getBoxHeader(atomTree.getMdatNode());
+            if (mdatHeader != null && mdatHeader.getFileEndPos() > stco.getFirstOffSet())
             {
-                info.setEncodingType(EncoderType.AAC.getDescription());
+                audioDataEnd = Math.min(audioDataEnd, mdatHeader.getFileEndPos());
             }
-    
+            info.setAudioDataStartPosition((long)stco.getFirstOffSet());
+            info.setAudioDataEndPosition(audioDataEnd);
+            info.setAudioDataLength(audioDataEnd - stco.getFirstOffSet());
+        }
+
+        //Set default channels if couldn't calculate it
+        if (info.getChannelNumber() == -1)
+        {
+            info.setChannelNumber(2);
+        }
+
+        //Set default bitrate if couldnt calculate it
+        if (info.getBitRateAsNumber() == -1)
+        {
+            info.setBitRate(128);
+        }
+        
+        //Set default bits per sample if couldn't calculate it
+        if (info.getBitsPerSample() == -1)
+        {
+            info.setBitsPerSample(16);
+        }
+
+        //This is the most likely option if cant find a match
+        if (info.getEncodingType().equals(""))
+        {
+            info.setEncodingType(EncoderType.AAC.getDescription());
+        }
+
+        if (DebugLogging.isLoggable(logger, Level.CONFIG))
+        {
             logger.config(info.toString());
-    
-            //Level 2-Searching for others "trak" within "moov", if we find any traks containing video
-            //then reject it if no track if not video then we allow it because many encoders seem to contain all sorts
-            //of stuff that you wouldn't expect in an audio track
-            mvhdBuffer.position(endOfFirstTrackInBuffer);
-            while(mvhdBuffer.hasRemaining())
+        }
+
+        //Level 2-Searching for others "trak" within "moov", if we find any traks containing video
+        //then reject it if no track if not video then we allow it because many encoders seem to contain all sorts
+        //of stuff that you wouldn't expect in an audio track
+        for (int trakNode : atomTree.getTrakNodes())
+        {
+            if (trakNode != firstTrakNode && atomTree.getParent(trakNode) == moovNode && isTrackAtomVideo(atomTree, trakNode))
             {
-                boxHeader = Mp4BoxHeader.seekWithinLevel(mvhdBuffer, Mp4AtomIdentifier.TRAK.getFieldName());
-                if (boxHeader != null)
-                {
-                    if(isTrackAtomVideo(ftyp,boxHeader,mvhdBuffer))
-                    {
-                        throw new CannotReadVideoException(ErrorMessage.MP4_FILE_IS_VIDEO.getMsg());
-                    }
-                }
-                else
-                {
-                    break;
-                }
+                throw new CannotReadVideoException(ErrorMessage.MP4_FILE_IS_VIDEO.getMsg());
             }
-    
-            //Because Mp4 is container format we set format to encoder
-            info.setFormat(info.getEncodingType());
-    
-            //Build AtomTree to ensure it is valid, this means we can detect any problems early on
-            new Mp4AtomTree(fc,false);
-            return info;
         }
+
+        //Because Mp4 is container format we set format to encoder
+        info.setFormat(info.getEncodingType());
+        return info;
     }
 }
@@ -21,7 +21,7 @@ package org.jaudiotagger.audio.mp4;
 import org.jaudiotagger.audio.exceptions.CannotReadException;
 import org.jaudiotagger.audio.generic.Utils;
 import org.jaudiotagger.audio.mp4.atom.Mp4BoxHeader;
-import org.jaudiotagger.audio.mp4.atom.Mp4MetaBox;
+import org.jaudiotagger.logging.DebugLogging;
 import org.jaudiotagger.logging.ErrorMessage;
 import org.jaudiotagger.tag.TagField;
 import org.jaudiotagger.tag.mp4.Mp4FieldKey;
@@ -37,6 +37,7 @@ import java.nio.channels.SeekableByteChannel;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
@@ -87,89 +88,93 @@ public class Mp4TagReader
     public Mp4Tag read(Path file) throws CannotReadException, IOException
     {
         try(SeekableByteChannel fc = Files.newByteChannel(file)) {
-            Mp4Tag tag = new Mp4Tag();
-    
-            //Get to the facts everything we are interested in is within the moov box, so just load data from file
-            //once so no more file I/O needed
-            Mp4BoxHeader moovHeader = Mp4BoxHeader.seekWithinLevel(fc, Mp4AtomIdentifier.MOOV.getFieldName());
-            if (moovHeader == null)
-            {
-                throw new CannotReadException(ErrorMessage.MP4_FILE_NOT_CONTAINER.getMsg());
-            }
-            ByteBuffer moovBuffer = ByteBuffer.allocate(moovHeader.getLength() - Mp4BoxHeader.HEADER_LENGTH);
-            fc.read(moovBuffer);
-            moovBuffer.rewind();
-    
-            //Level 2-Searching for "udta" within "moov"
-            Mp4BoxHeader boxHeader = Mp4BoxHeader.seekWithinLevel(moovBuffer, Mp4AtomIdentifier.UDTA.getFieldName());
-            if (boxHeader != null)
-            {
-                //Level 3-Searching for "meta" within udta
-                boxHeader = Mp4BoxHeader.seekWithinLevel(moovBuffer, Mp4AtomIdentifier.META.getFieldName());
-                if (boxHeader == null)
-                {
-                    logger.warning(ErrorMessage.MP4_FILE_HAS_NO_METADATA.getMsg());
-                    return tag;
-                }
-                Mp4MetaBox meta = new Mp4MetaBox(boxHeader, moovBuffer);
-                meta.processData();
-    
-                //Level 4- Search for "ilst" within meta
-                boxHeader = Mp4BoxHeader.seekWithinLevel(moovBuffer, Mp4AtomIdentifier.ILST.getFieldName());
-                 //This file does not actually contain a tag
-                if (boxHeader == null)
-                {
-                    logger.warning(ErrorMessage.MP4_FILE_HAS_NO_METADATA.getMsg());
-                    return tag;
-                }
-            }
-            else
-            {
-                //Level 2-Searching for "meta" not within udta
-                boxHeader = Mp4BoxHeader.seekWithinLevel(moovBuffer, Mp4AtomIdentifier.META.getFieldName());
-                if (boxHeader == null)
-                {
-                    logger.warning(ErrorMessage.MP4_FILE_HAS_NO_METADATA.getMsg());
-                    return tag;
-                }
-                Mp4MetaBox meta = new Mp4MetaBox(boxHeader, moovBuffer);
-                meta.processData();
-    
-    
-                //Level 3- Search for "ilst" within meta
-                boxHeader = Mp4BoxHeader.seekWithinLevel(moovBuffer, Mp4AtomIdentifier.ILST.getFieldName());
-                //This file does not actually contain a tag
-                if (boxHeader == null)
-                {
-                    logger.warning(ErrorMessage.MP4_FILE_HAS_NO_METADATA.getMsg());
-                    return tag;
-                }
-            }
-    
-            //Size of metadata (exclude the size of the ilst parentHeader), take a slice starting at
-            //metadata children to make things safer
-            int length = boxHeader.getLength() - Mp4BoxHeader.HEADER_LENGTH;
-            ByteBuffer metadataBuffer = moovBuffer.slice();
-            //Datalength is longer are there boxes after ilst at this level?
+            //Everything we are interested in is within the moov box, find where the metadata is so just that needs
+            //to be read from file
+            Mp4AtomTree atomTree = new Mp4AtomTree(fc, false);
+            return read(atomTree);
+        }
+    }
+
+    /**
+     * Read the tag from the atoms already found in the file
+     *
+     * @param atomTree
+     * @return
+     * @throws CannotReadException
+     * @throws IOException
+     */
+    Mp4Tag read(Mp4AtomTree atomTree) throws CannotReadException, IOException
+    {
+        Mp4Tag tag = new Mp4Tag();
+
+        int moovNode = atomTree.getMoovNode();
+        if (moovNode == Mp4AtomTree.NO_ATOM)
+        {
+            throw new CannotReadException(ErrorMessage.MP4_FILE_NOT_CONTAINER.getMsg());
+        }
+
+        //Level 2-Searching for "udta" within "moov"
+        int metaNode;
+        int node = atomTree.getChild(moovNode, Mp4AtomIdentifier.UDTA.getFieldName());
+        if (node != Mp4AtomTree.NO_ATOM)
+        {
+            //Level 3-Searching for "meta" within udta
+            metaNode = atomTree.getChild(node, Mp4AtomIdentifier.META.getFieldName());
+        }
+        else
+        {
+            //Level 2-Searching for "meta" not within udta
+            metaNode = atomTree.getChild(moovNode, Mp4AtomIdentifier.META.getFieldName());
+        }
+        if (metaNode == Mp4AtomTree.NO_ATOM)
+        {
+            logger.warning(ErrorMessage.MP4_FILE_HAS_NO_METADATA.getMsg());
+            return tag;
+        }
+
+        //Level 3/4- Search for "ilst" within meta
+        int ilstNode = atomTree.getChild(metaNode, Mp4AtomIdentifier.ILST.getFieldName());
+        //This file does not actually contain a tag
+        if (ilstNode == Mp4AtomTree.NO_ATOM)
+        {
+            logger.warning(ErrorMessage.MP4_FILE_HAS_NO_METADATA.getMsg());
+            return tag;
+        }
+        Mp4BoxHeader boxHeader = atomTree.getBoxHeader(ilstNode);
+        long ilstDataStart = boxHeader.getFilePos() + Mp4BoxHeader.HEADER_LENGTH;
+
+        //Size of metadata (exclude the size of the ilst parentHeader), take a slice starting at
+        //metadata children to make things safer
+        int length = boxHeader.getLength() - Mp4BoxHeader.HEADER_LENGTH;
+        ByteBuffer metadataBuffer = atomTree.readAtomData(ilstNode);
+        //Datalength is longer are there boxes after ilst at this level?
+        if (DebugLogging.isLoggable(logger, Level.CONFIG))
+        {
             logger.config("headerlengthsays:" + length + "datalength:" + metadataBuffer.limit());
-            int read = 0;
+        }
+        int read = 0;
+        if (DebugLogging.isLoggable(logger, Level.CONFIG))
+        {
             logger.config("Started to read metadata fields at position is in metadata buffer:" + metadataBuffer.position());
-            while (read < length)
+        }
+        while (read < length)
+        {
+            //Read the boxHeader
+            boxHeader.update(metadataBuffer);
+
+            //Create the corresponding datafield from the id, and slice the buffer so position of main buffer
+            //wont get affected
+            if (DebugLogging.isLoggable(logger, Level.CONFIG))
             {
-                //Read the boxHeader
-                boxHeader.update(metadataBuffer);
-    
-                //Create the corresponding datafield from the id, and slice the buffer so position of main buffer
-                //wont get affected
                 logger.config("Next position is at:" + metadataBuffer.position());
-                createMp4Field(tag, boxHeader, metadataBuffer.slice());
-    
-                //Move position in buffer to the start of the next parentHeader
-                metadataBuffer.position(metadataBuffer.position() + boxHeader.getDataLength());
-                read += boxHeader.getLength();
             }
-            return tag;
+            createMp4Field(tag, boxHeader, metadataBuffer.slice(), ilstDataStart);
+
+            //Move position in buffer to the start of the next parentHeader
+            metadataBuffer.position(metadataBuffer.position() + boxHeader.getDataLength());
+            read += boxHeader.getLength();
         }
+        return tag;
     }
 
     /**
@@ -181,10 +186,11 @@ public class Mp4TagReader
      * @param tag
      * @param header
      * @param raw
+     * @param bufferFileOffset file offset of the buffer raw was sliced from, used to locate skipped artwork
      * @return
      * @throws UnsupportedEncodingException
      */
-    private void createMp4Field(Mp4Tag tag, Mp4BoxHeader header, ByteBuffer raw) throws UnsupportedEncodingException
+    private void createMp4Field(Mp4Tag tag, Mp4BoxHeader header, ByteBuffer raw, long bufferFileOffset) throws UnsupportedEncodingException
     {
         //Header with no data #JAUDIOTAGGER-463
          if(header.getDataLength()==0)
@@ -218,7 +224,10 @@ public class Mp4TagReader
                 //Need this to decide what type of Field to create
                 int type = Utils.getIntBE(raw, Mp4DataBox.TYPE_POS_INCLUDING_HEADER, Mp4DataBox.TYPE_POS_INCLUDING_HEADER + Mp4DataBox.TYPE_LENGTH - 1);
                 Mp4FieldType fieldType = Mp4FieldType.getFieldType(type);
-                logger.config("Box Type id:" + header.getId() + ":type:" + fieldType);
+                if (DebugLogging.isLoggable(logger, Level.CONFIG))
+                {
+                    logger.config("Box Type id:" + header.getId() + ":type:" + fieldType);
+                }
 
                 //Special handling for some specific identifiers otherwise just base on class id
                 if (header.getId().equals(Mp4FieldKey.TRACK.getFieldName()))
@@ -252,6 +261,7 @@ public class Mp4TagReader
                             fieldType = Mp4FieldType.getFieldType(type);
                         }
                         Mp4TagCoverField field = new Mp4TagCoverField(raw,fieldType);
+                        field.setBufferFileOffset(bufferFileOffset);
                         tag.addField(field);
                         processedDataSize += field.getDataAndHeaderSize();
                         imageCount++;
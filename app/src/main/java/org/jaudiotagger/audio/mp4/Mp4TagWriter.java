@@ -21,13 +21,13 @@ package org.jaudiotagger.audio.mp4;
 import org.jaudiotagger.audio.exceptions.CannotReadException;
 import org.jaudiotagger.audio.exceptions.CannotWriteException;
 import org.jaudiotagger.audio.mp4.atom.*;
+import org.jaudiotagger.logging.DebugLogging;
 import org.jaudiotagger.logging.ErrorMessage;
 import org.jaudiotagger.tag.Tag;
-import org.jaudiotagger.tag.TagOptionSingleton;
+import org.jaudiotagger.tag.TagOptions;
 import org.jaudiotagger.tag.mp4.Mp4Tag;
 import org.jaudiotagger.tag.mp4.Mp4TagCreator;
 import org.jaudiotagger.utils.ShiftData;
-import org.jaudiotagger.utils.tree.DefaultMutableTreeNode;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
@@ -36,6 +36,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
 import java.util.List;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 
@@ -52,7 +53,11 @@ import java.util.logging.Logger;
  * <p/>
  * If there is not enough space even if using both of the {@code free} atoms, then the {@code mdat} atom has to be
  * shifted down accordingly to make space, and the {@code stco} atoms have to have their offsets to {@code mdat}
- * chunks table adjusted accordingly.
+ * chunks table adjusted accordingly. Unless disabled with {@link TagOptions#isMp4RelocateMoov()} this is avoided by
+ * instead writing {@code moov} at the end of the file and replacing the original {@code moov} with a {@code free}
+ * atom. This is only done when the data that would be shifted is larger than the new {@code moov}, otherwise shifting
+ * writes less and the file does not grow by a whole {@code moov}. Either way a {@code free} atom of
+ * {@link TagOptions#getMp4PaddingSize()} is written after {@code ilst} in {@code meta} to leave room for later edits.
  * <p/>
  * Exceptions are that the meta/udta/ilst do not currently exist, in which udta/meta/ilst are created. Note it is valid
  * to have meta/ilst without udta but this is less common so we always try to write files according to the Apple/iTunes
@@ -201,7 +206,10 @@ public class Mp4TagWriter
         int sizeOfNewIlstAtom = newIlstData.limit();
         if (sizeOfExistingMetaLevelFreeAtom > 0)
         {
-            logger.config("Writing:Option 2:Smaller Size have free atom:" + ilstHeader.getLength() + ":" + sizeOfNewIlstAtom);
+            if (DebugLogging.isLoggable(logger, Level.CONFIG))
+            {
+                logger.config("Writing:Option 2:Smaller Size have free atom:" + ilstHeader.getLength() + ":" + sizeOfNewIlstAtom);
+            }
             fc.position(ilstHeader.getFilePos());
             fc.write(newIlstData);
 
@@ -291,7 +299,7 @@ public class Mp4TagWriter
         //Position for reading after the tag
         fc.position(startDeleteFrom);
 
-        final ByteBuffer buffer = ByteBuffer.allocate((int) TagOptionSingleton.getInstance().getWriteChunkSize());
+        final ByteBuffer buffer = ByteBuffer.allocate((int) TagOptions.current().getWriteChunkSize());
         while (fc.read(buffer) >= 0 || buffer.position() != 0)
         {
             buffer.flip();
@@ -303,7 +311,10 @@ public class Mp4TagWriter
         }
         //Truncate the file after the last chunk
         final long newLength = fc.size() - deleteSize;
-        logger.config(loggingName + "-------------Setting new length to:" + newLength);
+        if (DebugLogging.isLoggable(logger, Level.CONFIG))
+        {
+            logger.config(loggingName + "-------------Setting new length to:" + newLength);
+        }
         fc.truncate(newLength);
     }
     /**
@@ -322,7 +333,10 @@ public class Mp4TagWriter
         //Shrink existing free atom size
         int newFreeSize = sizeOfExistingMetaLevelFreeAtom - additionalSpaceRequiredForMetadata;
 
-        logger.config("Writing:Option 5;Larger Size can use meta free atom need extra:" + newFreeSize + "bytes");
+        if (DebugLogging.isLoggable(logger, Level.CONFIG))
+        {
+            logger.config("Writing:Option 5;Larger Size can use meta free atom need extra:" + newFreeSize + "bytes");
+        }
         fc.position(ilstHeader.getFilePos());
         fc.write(newIlstData);
 
@@ -342,257 +356,332 @@ public class Mp4TagWriter
      */
     public void write(Tag tag, Path file) throws CannotWriteException
     {
-        logger.config("Started writing tag data");
         try(SeekableByteChannel fc = Files.newByteChannel(file, StandardOpenOption.READ, StandardOpenOption.WRITE))
         {
-            int sizeOfExistingIlstAtom = 0;
-            int sizeRequiredByNewIlstAtom;
-            int positionOfNewIlstAtomRelativeToMoovAtom;
-            int positionOfStartOfIlstAtomInMoovBuffer;
-            int sizeOfExistingMetaLevelFreeAtom;
-            int positionOfTopLevelFreeAtom;
-            int sizeOfExistingTopLevelFreeAtom;
-            //Found top level free atom that comes after moov and before mdat, (also true if no free atom ?)
-            boolean topLevelFreeAtomComesBeforeMdatAtomAndAfterMetadata;
-            Mp4BoxHeader topLevelFreeHeader;
-            Mp4AtomTree atomTree;
-
-            //Build AtomTree based on existing metadata
-            try
-            {
-                atomTree = new Mp4AtomTree(fc, false);
-            }
-            catch (CannotReadException cre)
-            {
-                throw new CannotWriteException(cre.getMessage());
-            }
+            write(tag, fc);
+        }
+        catch(IOException ioe)
+        {
+            throw new CannotWriteException(file + ":" + ioe.getMessage());
+        }
 
-            Mp4BoxHeader mdatHeader = atomTree.getBoxHeader(atomTree.getMdatNode());
-            //Unable to find audio so no chance of saving any changes
-            if (mdatHeader == null)
-            {
-                throw new CannotWriteException(ErrorMessage.MP4_CHANGES_TO_FILE_FAILED_CANNOT_FIND_AUDIO.getMsg());
-            }
+    }
+
+    /**
+     * Write tag to a channel opened for reading and writing, the channel is left open
+     *
+     * @param tag     tag data
+     * @param fc
+     * @throws CannotWriteException
+     * @throws IOException
+     */
+    public void write(Tag tag, SeekableByteChannel fc) throws CannotWriteException, IOException
+    {
+        logger.config("Started writing tag data");
+        TagOptions options = TagOptions.current();
+        int sizeOfExistingIlstAtom = 0;
+        int sizeRequiredByNewIlstAtom;
+        int positionOfNewIlstAtomRelativeToMoovAtom;
+        int positionOfStartOfIlstAtomInMoovBuffer;
+        int sizeOfExistingMetaLevelFreeAtom;
+        int positionOfTopLevelFreeAtom;
+        int sizeOfExistingTopLevelFreeAtom;
+        //Found top level free atom that comes after moov and before mdat, (also true if no free atom ?)
+        boolean topLevelFreeAtomComesBeforeMdatAtomAndAfterMetadata;
+        Mp4BoxHeader topLevelFreeHeader;
+        Mp4AtomTree atomTree;
+
+        //Build AtomTree based on existing metadata
+        try
+        {
+            atomTree = new Mp4AtomTree(fc, false);
+        }
+        catch (CannotReadException cre)
+        {
+            throw new CannotWriteException(cre.getMessage());
+        }
+
+        Mp4BoxHeader mdatHeader = atomTree.getBoxHeader(atomTree.getMdatNode());
+        //Unable to find audio so no chance of saving any changes
+        if (mdatHeader == null)
+        {
+            throw new CannotWriteException(ErrorMessage.MP4_CHANGES_TO_FILE_FAILED_CANNOT_FIND_AUDIO.getMsg());
+        }
 
-            //Go through every field constructing the data that will appear starting from ilst box
-            ByteBuffer newIlstData = tc.convertMetadata(tag);
-            newIlstData.rewind();
-            sizeRequiredByNewIlstAtom = newIlstData.limit();
-
-            //Moov Box header
-            Mp4BoxHeader moovHeader = atomTree.getBoxHeader(atomTree.getMoovNode());
-            List<Mp4StcoBox> stcos = atomTree.getStcos();
-            Mp4BoxHeader ilstHeader = atomTree.getBoxHeader(atomTree.getIlstNode());
-            Mp4BoxHeader udtaHeader = atomTree.getBoxHeader(atomTree.getUdtaNode());
-            Mp4BoxHeader metaHeader = atomTree.getBoxHeader(atomTree.getMetaNode());
-            Mp4BoxHeader hdlrMetaHeader = atomTree.getBoxHeader(atomTree.getHdlrWithinMetaNode());
-            Mp4BoxHeader neroTagsHeader = atomTree.getBoxHeader(atomTree.getTagsNode());
-            Mp4BoxHeader trakHeader = atomTree.getBoxHeader(atomTree.getTrakNodes().get(atomTree.getTrakNodes().size() - 1));
-            ByteBuffer moovBuffer = atomTree.getMoovBuffer();
-
-
-            //Work out if we/what kind of metadata hierarchy we currently have in the file
-            //Udta
-            if (udtaHeader != null)
+        //Go through every field constructing the data that will appear starting from ilst box
+        ByteBuffer newIlstData = tc.convertMetadata(tag);
+        newIlstData.rewind();
+        sizeRequiredByNewIlstAtom = newIlstData.limit();
+
+        //Moov Box header
+        Mp4BoxHeader moovHeader = atomTree.getBoxHeader(atomTree.getMoovNode());
+        List<Mp4StcoBox> stcos = atomTree.getStcos();
+        Mp4BoxHeader ilstHeader = atomTree.getBoxHeader(atomTree.getIlstNode());
+        Mp4BoxHeader udtaHeader = atomTree.getBoxHeader(atomTree.getUdtaNode());
+        Mp4BoxHeader metaHeader = atomTree.getBoxHeader(atomTree.getMetaNode());
+        Mp4BoxHeader hdlrMetaHeader = atomTree.getBoxHeader(atomTree.getHdlrWithinMetaNode());
+        Mp4BoxHeader neroTagsHeader = atomTree.getBoxHeader(atomTree.getTagsNode());
+        int[] trakNodes = atomTree.getTrakNodes();
+        Mp4BoxHeader trakHeader = atomTree.getBoxHeader(trakNodes[trakNodes.length - 1]);
+        ByteBuffer moovBuffer = atomTree.getMoovBuffer();
+
+
+        //Work out if we/what kind of metadata hierarchy we currently have in the file
+        //Udta
+        if (udtaHeader != null)
+        {
+            //Meta
+            if (metaHeader != null)
             {
-                //Meta
-                if (metaHeader != null)
+                //ilst - record where ilst is,and where it ends
+                if (ilstHeader != null)
                 {
-                    //ilst - record where ilst is,and where it ends
-                    if (ilstHeader != null)
-                    {
-                        sizeOfExistingIlstAtom = ilstHeader.getLength();
+                    sizeOfExistingIlstAtom = ilstHeader.getLength();
 
-                        //Relative means relative to moov buffer after moov header
-                        positionOfStartOfIlstAtomInMoovBuffer = (int) ilstHeader.getFilePos();
+                    //Relative means relative to moov buffer after moov header
+                    positionOfStartOfIlstAtomInMoovBuffer = (int) ilstHeader.getFilePos();
+                    positionOfNewIlstAtomRelativeToMoovAtom = (int) (positionOfStartOfIlstAtomInMoovBuffer - (moovHeader.getFilePos() + Mp4BoxHeader.HEADER_LENGTH));
+                }
+                else
+                {
+                    //Place ilst immediately after existing hdlr atom
+                    if (hdlrMetaHeader != null)
+                    {
+                        positionOfStartOfIlstAtomInMoovBuffer = (int) hdlrMetaHeader.getFileEndPos();
                         positionOfNewIlstAtomRelativeToMoovAtom = (int) (positionOfStartOfIlstAtomInMoovBuffer - (moovHeader.getFilePos() + Mp4BoxHeader.HEADER_LENGTH));
                     }
+                    //Place ilst after data fields in meta atom
+                    //TODO Should we create a hdlr atom
                     else
                     {
-                        //Place ilst immediately after existing hdlr atom
-                        if (hdlrMetaHeader != null)
-                        {
-                            positionOfStartOfIlstAtomInMoovBuffer = (int) hdlrMetaHeader.getFileEndPos();
-                            positionOfNewIlstAtomRelativeToMoovAtom = (int) (positionOfStartOfIlstAtomInMoovBuffer - (moovHeader.getFilePos() + Mp4BoxHeader.HEADER_LENGTH));
-                        }
-                        //Place ilst after data fields in meta atom
-                        //TODO Should we create a hdlr atom
-                        else
-                        {
-                            positionOfStartOfIlstAtomInMoovBuffer = (int) metaHeader.getFilePos() + Mp4BoxHeader.HEADER_LENGTH + Mp4MetaBox.FLAGS_LENGTH;
-                            positionOfNewIlstAtomRelativeToMoovAtom = (int) ((positionOfStartOfIlstAtomInMoovBuffer) - (moovHeader.getFilePos() + Mp4BoxHeader.HEADER_LENGTH));
-                        }
+                        positionOfStartOfIlstAtomInMoovBuffer = (int) metaHeader.getFilePos() + Mp4BoxHeader.HEADER_LENGTH + Mp4MetaBox.FLAGS_LENGTH;
+                        positionOfNewIlstAtomRelativeToMoovAtom = (int) ((positionOfStartOfIlstAtomInMoovBuffer) - (moovHeader.getFilePos() + Mp4BoxHeader.HEADER_LENGTH));
                     }
                 }
-                else
-                {
-                    //There no ilst or meta header so we set to position where it would be if it existed
-                    positionOfNewIlstAtomRelativeToMoovAtom = moovHeader.getLength() - Mp4BoxHeader.HEADER_LENGTH;
-                    positionOfStartOfIlstAtomInMoovBuffer = (int) (moovHeader.getFileEndPos());
-                }
             }
-            //There no udta header so we are going to create a new structure, but we have to be aware that there might be
-            //an existing meta box structure in which case we preserve it but with our new structure before it.
             else
             {
-                //Create new structure just after the end of the last trak atom, as that means
-                // all modifications to trak atoms and its children (stco atoms) are *explicitly* written
-                // as part of the moov atom (and not just bulk copied via writeDataAfterIlst())
-                if (metaHeader != null)
-                {
-                    positionOfStartOfIlstAtomInMoovBuffer = (int) trakHeader.getFileEndPos();
-                    positionOfNewIlstAtomRelativeToMoovAtom = (int) (positionOfStartOfIlstAtomInMoovBuffer - (moovHeader.getFilePos() + Mp4BoxHeader.HEADER_LENGTH));
-                }
-                else
-                {
-                    //There no udta,ilst or meta header so we set to position where it would be if it existed
-                    positionOfStartOfIlstAtomInMoovBuffer = (int) (moovHeader.getFileEndPos());
-                    positionOfNewIlstAtomRelativeToMoovAtom = moovHeader.getLength() - Mp4BoxHeader.HEADER_LENGTH;
-                }
+                //There no ilst or meta header so we set to position where it would be if it existed
+                positionOfNewIlstAtomRelativeToMoovAtom = moovHeader.getLength() - Mp4BoxHeader.HEADER_LENGTH;
+                positionOfStartOfIlstAtomInMoovBuffer = (int) (moovHeader.getFileEndPos());
             }
+        }
+        //There no udta header so we are going to create a new structure, but we have to be aware that there might be
+        //an existing meta box structure in which case we preserve it but with our new structure before it.
+        else
+        {
+            //Create new structure just after the end of the last trak atom, as that means
+            // all modifications to trak atoms and its children (stco atoms) are *explicitly* written
+            // as part of the moov atom (and not just bulk copied via writeDataAfterIlst())
+            if (metaHeader != null)
+            {
+                positionOfStartOfIlstAtomInMoovBuffer = (int) trakHeader.getFileEndPos();
+                positionOfNewIlstAtomRelativeToMoovAtom = (int) (positionOfStartOfIlstAtomInMoovBuffer - (moovHeader.getFilePos() + Mp4BoxHeader.HEADER_LENGTH));
+            }
+            else
+            {
+                //There no udta,ilst or meta header so we set to position where it would be if it existed
+                positionOfStartOfIlstAtomInMoovBuffer = (int) (moovHeader.getFileEndPos());
+                positionOfNewIlstAtomRelativeToMoovAtom = moovHeader.getLength() - Mp4BoxHeader.HEADER_LENGTH;
+            }
+        }
 
-            //Find size of Level-4 Free atom (if any) immediately after ilst atom
-            sizeOfExistingMetaLevelFreeAtom = getMetaLevelFreeAtomSize(atomTree);
+        //Find size of Level-4 Free atom (if any) immediately after ilst atom
+        sizeOfExistingMetaLevelFreeAtom = getMetaLevelFreeAtomSize(atomTree);
 
 
-            //Level-1 free atom
-            positionOfTopLevelFreeAtom = 0;
-            sizeOfExistingTopLevelFreeAtom = 0;
-            topLevelFreeAtomComesBeforeMdatAtomAndAfterMetadata = true;
-            for (DefaultMutableTreeNode freeNode : atomTree.getFreeNodes())
+        //Level-1 free atom
+        positionOfTopLevelFreeAtom = 0;
+        sizeOfExistingTopLevelFreeAtom = 0;
+        topLevelFreeAtomComesBeforeMdatAtomAndAfterMetadata = true;
+        for (int freeNode : atomTree.getFreeNodes())
+        {
+            if (atomTree.getParent(freeNode) == Mp4AtomTree.NO_ATOM)
             {
-                DefaultMutableTreeNode parentNode = (DefaultMutableTreeNode) freeNode.getParent();
-                if (parentNode.isRoot())
-                {
-                    topLevelFreeHeader = ((Mp4BoxHeader) freeNode.getUserObject());
-                    sizeOfExistingTopLevelFreeAtom = topLevelFreeHeader.getLength();
-                    positionOfTopLevelFreeAtom = (int) topLevelFreeHeader.getFilePos();
-                    break;
-                }
+                topLevelFreeHeader = atomTree.getBoxHeader(freeNode);
+                sizeOfExistingTopLevelFreeAtom = topLevelFreeHeader.getLength();
+                positionOfTopLevelFreeAtom = (int) topLevelFreeHeader.getFilePos();
+                break;
             }
+        }
 
-            if (sizeOfExistingTopLevelFreeAtom > 0)
+        if (sizeOfExistingTopLevelFreeAtom > 0)
+        {
+            if (positionOfTopLevelFreeAtom > mdatHeader.getFilePos())
             {
-                if (positionOfTopLevelFreeAtom > mdatHeader.getFilePos())
-                {
-                    topLevelFreeAtomComesBeforeMdatAtomAndAfterMetadata = false;
-                }
-                else if (positionOfTopLevelFreeAtom < moovHeader.getFilePos())
-                {
-                    topLevelFreeAtomComesBeforeMdatAtomAndAfterMetadata = false;
-                }
+                topLevelFreeAtomComesBeforeMdatAtomAndAfterMetadata = false;
             }
-            else
+            else if (positionOfTopLevelFreeAtom < moovHeader.getFilePos())
             {
-                positionOfTopLevelFreeAtom = (int) mdatHeader.getFilePos();
+                topLevelFreeAtomComesBeforeMdatAtomAndAfterMetadata = false;
             }
+        }
+        else
+        {
+            positionOfTopLevelFreeAtom = (int) mdatHeader.getFilePos();
+        }
 
-            logger.config("Read header successfully ready for writing");
-            //The easiest option since no difference in the size of the metadata so all we have to do is
-            //replace the ilst atom (and children)
-            if (sizeOfExistingIlstAtom == sizeRequiredByNewIlstAtom)
-            {
-                writeMetadataSameSize(fc, ilstHeader, newIlstData);
-            }
-            //.. we just need to increase the size of the free atom below the meta atom, and replace the metadata
-            //no other changes necessary and total file size remains the same
-            else if (sizeOfExistingIlstAtom > sizeRequiredByNewIlstAtom)
+        logger.config("Read header successfully ready for writing");
+        //The easiest option since no difference in the size of the metadata so all we have to do is
+        //replace the ilst atom (and children)
+        if (sizeOfExistingIlstAtom == sizeRequiredByNewIlstAtom)
+        {
+            writeMetadataSameSize(fc, ilstHeader, newIlstData);
+        }
+        //.. we just need to increase the size of the free atom below the meta atom, and replace the metadata
+        //no other changes necessary and total file size remains the same
+        else if (sizeOfExistingIlstAtom > sizeRequiredByNewIlstAtom)
+        {
+            writeOldMetadataLargerThanNewMetadata(
+                    fc,
+                    moovHeader,
+                    udtaHeader,
+                    metaHeader,
+                    ilstHeader,
+                    mdatHeader,
+                    neroTagsHeader,
+                    moovBuffer,
+                    newIlstData,
+                    stcos,
+                    sizeOfExistingMetaLevelFreeAtom);
+        }
+        //Size of metadata has increased, the most complex situation, more atoms affected
+        else
+        {
+            //We have enough space in existing meta level free atom
+            int additionalSpaceRequiredForMetadata = sizeRequiredByNewIlstAtom - sizeOfExistingIlstAtom;
+            if (additionalSpaceRequiredForMetadata <= (sizeOfExistingMetaLevelFreeAtom - Mp4BoxHeader.HEADER_LENGTH))
             {
-                writeOldMetadataLargerThanNewMetadata(
+                writeNewMetadataLargerButCanUseFreeAtom(
                         fc,
-                        moovHeader,
-                        udtaHeader,
-                        metaHeader,
                         ilstHeader,
-                        mdatHeader,
-                        neroTagsHeader,
-                        moovBuffer,
+                        sizeOfExistingMetaLevelFreeAtom,
                         newIlstData,
-                        stcos,
-                        sizeOfExistingMetaLevelFreeAtom);
+                        additionalSpaceRequiredForMetadata);
             }
-            //Size of metadata has increased, the most complex situation, more atoms affected
+            //There is not enough padding in the metadata free atom
             else
             {
-                //We have enough space in existing meta level free atom
-                int additionalSpaceRequiredForMetadata = sizeRequiredByNewIlstAtom - sizeOfExistingIlstAtom;
-                if (additionalSpaceRequiredForMetadata <= (sizeOfExistingMetaLevelFreeAtom - Mp4BoxHeader.HEADER_LENGTH))
+                int additionalMetaSizeThatWontFitWithinMetaAtom = additionalSpaceRequiredForMetadata - sizeOfExistingMetaLevelFreeAtom;
+
+                //How much moov grows by if the metadata is written where it is now
+                int increaseInSizeOfMoovAtom;
+                if (udtaHeader == null)
                 {
-                    writeNewMetadataLargerButCanUseFreeAtom(
-                            fc,
-                            ilstHeader,
-                            sizeOfExistingMetaLevelFreeAtom,
-                            newIlstData,
-                            additionalSpaceRequiredForMetadata);
+                    increaseInSizeOfMoovAtom = Mp4BoxHeader.HEADER_LENGTH + getNewMetaAtomSize(newIlstData);
+                }
+                else if (metaHeader == null)
+                {
+                    increaseInSizeOfMoovAtom = getNewMetaAtomSize(newIlstData);
                 }
-                //There is not enough padding in the metadata free atom
                 else
                 {
-                    int additionalMetaSizeThatWontFitWithinMetaAtom = additionalSpaceRequiredForMetadata - sizeOfExistingMetaLevelFreeAtom;
+                    increaseInSizeOfMoovAtom = sizeRequiredByNewIlstAtom - sizeOfExistingIlstAtom;
+                }
 
-                    //Go up to position of start of Moov Header
-                    fc.position(moovHeader.getFilePos());
+                //Go up to position of start of Moov Header
+                fc.position(moovHeader.getFilePos());
 
-                    //No existing Metadata
-                    if (udtaHeader == null)
+                //Rather than move the audio to make space rewrite moov at the end of the file, but only if the new moov
+                //is less to write than the data that would be moved, as the old moov is left behind as a free atom
+                boolean isMdatDataMoved = isMdatDataMoved(sizeOfExistingTopLevelFreeAtom, topLevelFreeAtomComesBeforeMdatAtomAndAfterMetadata, increaseInSizeOfMoovAtom, moovHeader, mdatHeader);
+                long sizeOfRelocatedMoov = moovHeader.getLength() + increaseInSizeOfMoovAtom + options.getMp4PaddingSize();
+                boolean isMoovRelocated = options.isMp4RelocateMoov()
+                        && isMdatDataMoved
+                        && atomTree.getEndOfAtoms() == fc.size()
+                        && fc.size() - moovHeader.getFileEndPos() > sizeOfRelocatedMoov;
+
+                //If the audio has to be shifted anyway also shift it by the padding, so the free atom after ilst
+                //leaves room for later edits, this replaces the existing meta level free atom
+                int sizeOfExistingMetadata = sizeOfExistingIlstAtom;
+                if (!isMoovRelocated && isMdatDataMoved && options.getMp4PaddingSize() > 0)
+                {
+                    newIlstData = addPaddingAfterIlst(newIlstData, options.getMp4PaddingSize());
+                    if (ilstHeader != null)
                     {
-                        writeNoExistingUdtaAtom(
-                                fc,
-                                newIlstData,
-                                moovHeader,
-                                moovBuffer,
-                                mdatHeader,
-                                stcos,
-                                sizeOfExistingTopLevelFreeAtom,
-                                topLevelFreeAtomComesBeforeMdatAtomAndAfterMetadata,
-                                neroTagsHeader
-                        );
+                        sizeOfExistingMetadata += sizeOfExistingMetaLevelFreeAtom;
                     }
-                    else if (metaHeader == null)
+                }
+
+                if (isMoovRelocated)
+                {
+                    int positionToInsertMetadataInMoovBuffer;
+                    if (udtaHeader != null && metaHeader == null)
                     {
-                        writeNoExistingMetaAtom(
-                                udtaHeader,
-                                fc,
-                                newIlstData,
-                                moovHeader,
-                                moovBuffer,
-                                mdatHeader,
-                                stcos,
-                                sizeOfExistingTopLevelFreeAtom,
-                                topLevelFreeAtomComesBeforeMdatAtomAndAfterMetadata,
-                                neroTagsHeader,
-                                positionOfStartOfIlstAtomInMoovBuffer,
-                                sizeOfExistingIlstAtom,
-                                positionOfTopLevelFreeAtom,
-                                additionalMetaSizeThatWontFitWithinMetaAtom);
+                        //Add meta to the end of the existing udta
+                        positionToInsertMetadataInMoovBuffer = (int) (udtaHeader.getFileEndPos() - (moovHeader.getFilePos() + Mp4BoxHeader.HEADER_LENGTH));
                     }
-                    //Has Existing Metadata
                     else
                     {
-                        writeHaveExistingMetadata(udtaHeader,
-                                metaHeader,
-                                fc,
-                                positionOfNewIlstAtomRelativeToMoovAtom,
-                                moovHeader,
-                                moovBuffer,
-                                mdatHeader,
-                                stcos,
-                                sizeOfExistingTopLevelFreeAtom,
-                                topLevelFreeAtomComesBeforeMdatAtomAndAfterMetadata,
-                                newIlstData,
-                                neroTagsHeader,
-                                sizeOfExistingIlstAtom);
+                        positionToInsertMetadataInMoovBuffer = positionOfNewIlstAtomRelativeToMoovAtom;
                     }
+                    writeRelocatedMoov(
+                            fc,
+                            atomTree.getEndOfAtoms(),
+                            moovHeader,
+                            moovBuffer,
+                            udtaHeader,
+                            metaHeader,
+                            neroTagsHeader,
+                            newIlstData,
+                            positionToInsertMetadataInMoovBuffer,
+                            ilstHeader != null ? sizeOfExistingIlstAtom + sizeOfExistingMetaLevelFreeAtom : 0,
+                            options.getMp4PaddingSize());
+                }
+                //No existing Metadata
+                else if (udtaHeader == null)
+                {
+                    writeNoExistingUdtaAtom(
+                            fc,
+                            newIlstData,
+                            moovHeader,
+                            moovBuffer,
+                            mdatHeader,
+                            stcos,
+                            sizeOfExistingTopLevelFreeAtom,
+                            topLevelFreeAtomComesBeforeMdatAtomAndAfterMetadata,
+                            neroTagsHeader
+                    );
+                }
+                else if (metaHeader == null)
+                {
+                    writeNoExistingMetaAtom(
+                            udtaHeader,
+                            fc,
+                            newIlstData,
+                            moovHeader,
+                            moovBuffer,
+                            mdatHeader,
+                            stcos,
+                            sizeOfExistingTopLevelFreeAtom,
+                            topLevelFreeAtomComesBeforeMdatAtomAndAfterMetadata,
+                            neroTagsHeader,
+                            positionOfStartOfIlstAtomInMoovBuffer,
+                            sizeOfExistingIlstAtom,
+                            positionOfTopLevelFreeAtom,
+                            additionalMetaSizeThatWontFitWithinMetaAtom);
+                }
+                //Has Existing Metadata
+                else
+                {
+                    writeHaveExistingMetadata(udtaHeader,
+                            metaHeader,
+                            fc,
+                            positionOfNewIlstAtomRelativeToMoovAtom,
+                            moovHeader,
+                            moovBuffer,
+                            mdatHeader,
+                            stcos,
+                            sizeOfExistingTopLevelFreeAtom,
+                            topLevelFreeAtomComesBeforeMdatAtomAndAfterMetadata,
+                            newIlstData,
+                            neroTagsHeader,
+                            sizeOfExistingMetadata);
                 }
             }
-            //Ensure we have written correctly, reject if not
-            checkFileWrittenCorrectly(mdatHeader, fc, stcos);
         }
-        catch(IOException ioe)
-        {
-            throw new CannotWriteException(file + ":" + ioe.getMessage());
-        }
-
+        //Ensure we have written correctly, reject if not
+        checkFileWrittenCorrectly(mdatHeader, fc, stcos);
     }
 
 
@@ -622,19 +711,19 @@ public class Mp4TagWriter
         int oldMetaLevelFreeAtomSize;//Level 4 - Free
         oldMetaLevelFreeAtomSize = 0;
 
-        for (DefaultMutableTreeNode freeNode : atomTree.getFreeNodes())
+        for (int freeNode : atomTree.getFreeNodes())
         {
-            DefaultMutableTreeNode parentNode = (DefaultMutableTreeNode) freeNode.getParent();
-            DefaultMutableTreeNode brotherNode = freeNode.getPreviousSibling();
-            if (!parentNode.isRoot())
+            int parentNode = atomTree.getParent(freeNode);
+            int brotherNode = atomTree.getPreviousSibling(freeNode);
+            if (parentNode != Mp4AtomTree.NO_ATOM)
             {
-                Mp4BoxHeader parentHeader = ((Mp4BoxHeader) parentNode.getUserObject());
-                Mp4BoxHeader freeHeader = ((Mp4BoxHeader) freeNode.getUserObject());
+                Mp4BoxHeader parentHeader = atomTree.getBoxHeader(parentNode);
+                Mp4BoxHeader freeHeader = atomTree.getBoxHeader(freeNode);
 
                 //We are only interested in free atoms at this level if they come after the ilst node
-                if (brotherNode != null)
+                if (brotherNode != Mp4AtomTree.NO_ATOM)
                 {
-                    Mp4BoxHeader brotherHeader = ((Mp4BoxHeader) brotherNode.getUserObject());
+                    Mp4BoxHeader brotherHeader = atomTree.getBoxHeader(brotherNode);
 
                     if (parentHeader.getId().equals(Mp4AtomIdentifier.META.getFieldName()) && brotherHeader.getId().equals(Mp4AtomIdentifier.ILST.getFieldName()))
                     {
@@ -710,12 +799,30 @@ public class Mp4TagWriter
             {
                 final Mp4StcoBox newStco = newStcos.get(i);
                 final Mp4StcoBox stco = stcos.get(i);
-                logger.finer("stco:Original First Offset" + stco.getFirstOffSet());
-                logger.finer("stco:Original Diff" + (int) (stco.getFirstOffSet() - mdatHeader.getFilePos()));
-                logger.finer("stco:Original Mdat Pos" + mdatHeader.getFilePos());
-                logger.finer("stco:New First Offset" + newStco.getFirstOffSet());
-                logger.finer("stco:New Diff" + (int) ((newStco.getFirstOffSet() - newMdatHeader.getFilePos())));
-                logger.finer("stco:New Mdat Pos" + newMdatHeader.getFilePos());
+                if (DebugLogging.isLoggable(logger, Level.FINER))
+                {
+                    logger.finer("stco:Original First Offset" + stco.getFirstOffSet());
+                }
+                if (DebugLogging.isLoggable(logger, Level.FINER))
+                {
+                    logger.finer("stco:Original Diff" + (int) (stco.getFirstOffSet() - mdatHeader.getFilePos()));
+                }
+                if (DebugLogging.isLoggable(logger, Level.FINER))
+                {
+                    logger.finer("stco:Original Mdat Pos" + mdatHeader.getFilePos());
+                }
+                if (DebugLogging.isLoggable(logger, Level.FINER))
+                {
+                    logger.finer("stco:New First Offset" + newStco.getFirstOffSet());
+                }
+                if (DebugLogging.isLoggable(logger, Level.FINER))
+                {
+                    logger.finer("stco:New Diff" + (int) ((newStco.getFirstOffSet() - newMdatHeader.getFilePos())));
+                }
+                if (DebugLogging.isLoggable(logger, Level.FINER))
+                {
+                    logger.finer("stco:New Mdat Pos" + newMdatHeader.getFilePos());
+                }
 
                 if (i == 0)
                 {
@@ -1199,29 +1306,188 @@ public class Mp4TagWriter
                                                         Mp4BoxHeader mdatHeader)
     {
         //We don't bother using the top level free atom because not big enough anyway, we need to adjust offsets
-        //by the amount mdat is going to be shifted as long as mdat is after moov
+        //by the amount mdat is going to be shifted
+        if (isMdatDataMoved(topLevelFreeSize, topLevelFreeAtomComesBeforeMdatAtomAndAfterMetadata, additionalSizeRequired, moovHeader, mdatHeader))
+        {
+            for (final Mp4StcoBox stoc : stcos)
+            {
+                stoc.adjustOffsets(additionalSizeRequired);
+            }
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Will the {@code mdat} (audio) have to be shifted down if moov grows by additionalSizeRequired
+     *
+     * @param topLevelFreeSize
+     * @param topLevelFreeAtomComesBeforeMdatAtomAndAfterMetadata
+     * @param additionalSizeRequired
+     * @param moovHeader
+     * @param mdatHeader
+     * @return
+     */
+    private boolean isMdatDataMoved(int topLevelFreeSize,
+                                    boolean topLevelFreeAtomComesBeforeMdatAtomAndAfterMetadata,
+                                    int additionalSizeRequired,
+                                    Mp4BoxHeader moovHeader,
+                                    Mp4BoxHeader mdatHeader)
+    {
+        //Only if mdat is after moov
         if (mdatHeader.getFilePos() > moovHeader.getFilePos())
         {
-            //Edit stco atoms within moov header, if the free atom comes after mdat OR
+            //if the free atom comes after mdat OR
             //(there is not enough space in the top level free atom
             //or special case (of not matching exactly the free atom plus header so could remove free atom completely)
-            if (
-                    (!topLevelFreeAtomComesBeforeMdatAtomAndAfterMetadata)
+            return (!topLevelFreeAtomComesBeforeMdatAtomAndAfterMetadata)
                     ||
                     (
                             (topLevelFreeSize - Mp4BoxHeader.HEADER_LENGTH < additionalSizeRequired)
                             &&
                             (topLevelFreeSize != additionalSizeRequired)
-                    )
-            )
+                    );
+        }
+        return false;
+    }
+
+    /**
+     * @param newIlstData
+     * @return size of a new {@code meta} atom holding {@code hdlr} and the new {@code ilst}
+     */
+    private int getNewMetaAtomSize(ByteBuffer newIlstData)
+    {
+        return Mp4BoxHeader.HEADER_LENGTH + Mp4MetaBox.FLAGS_LENGTH + Mp4BoxHeader.HEADER_LENGTH + Mp4HdlrBox.ITUNES_META_HDLR_DAT_LENGTH + newIlstData.limit();
+    }
+
+    /**
+     * @param newIlstData
+     * @param paddingSize
+     * @return the new {@code ilst} followed by a {@code free} atom of paddingSize
+     */
+    private ByteBuffer addPaddingAfterIlst(ByteBuffer newIlstData, int paddingSize)
+    {
+        Mp4FreeBox paddingBox = new Mp4FreeBox(paddingSize);
+        ByteBuffer paddedIlstData = ByteBuffer.allocate(newIlstData.limit() + paddingBox.getHeader().getLength());
+        paddedIlstData.put(newIlstData);
+        paddedIlstData.put(paddingBox.getHeader().getHeaderData());
+        paddedIlstData.put(paddingBox.getData());
+        paddedIlstData.flip();
+        return paddedIlstData;
+    }
+
+    /**
+     * Write moov with the new metadata to the end of the file and replace the original moov with a {@code free} atom,
+     * used when there isn't room for the metadata in front of {@code mdat}. Only the moov atom is written so the cost
+     * does not depend on the size of the audio, and because {@code mdat} doesn't move the {@code stco} offsets stay
+     * the same.
+     * <p/>
+     * A {@code free} atom of paddingSize is written after the new {@code ilst} so later edits can grow into it.
+     * <p/>
+     * The new moov is written before the original is freed, if writing is interrupted in between the new moov comes
+     * after {@code mdat} and is ignored, so the file is still readable as it was.
+     *
+     * @param fc
+     * @param endOfAtoms where to write moov, the end of the last top level atom
+     * @param moovHeader
+     * @param moovBuffer
+     * @param udtaHeader null if there is no {@code udta}, in which case one is created
+     * @param metaHeader null if there is no {@code meta} in {@code udta}, in which case one is created
+     * @param neroTagsHeader
+     * @param newIlstData
+     * @param positionOfNewMetadataInMoovBuffer where the new metadata goes, relative to the moov data
+     * @param sizeOfExistingMetadata size of existing {@code ilst} and {@code free} after it which are replaced
+     * @param paddingSize
+     * @throws IOException
+     */
+    private void writeRelocatedMoov(SeekableByteChannel fc,
+                                    long endOfAtoms,
+                                    Mp4BoxHeader moovHeader,
+                                    ByteBuffer moovBuffer,
+                                    Mp4BoxHeader udtaHeader,
+                                    Mp4BoxHeader metaHeader,
+                                    Mp4BoxHeader neroTagsHeader,
+                                    ByteBuffer newIlstData,
+                                    int positionOfNewMetadataInMoovBuffer,
+                                    int sizeOfExistingMetadata,
+                                    int paddingSize)
+            throws IOException
+    {
+        logger.config("Writing:Option 8;Not enough free space, moving moov to end of file");
+        long originalMoovFilePos = moovHeader.getFilePos();
+        int originalMoovLength = moovHeader.getLength();
+
+        //Build the new metadata, with any atoms we have to create to hold it
+        Mp4FreeBox paddingBox = new Mp4FreeBox(Math.max(paddingSize, 0));
+        int sizeOfNewMetadata = newIlstData.limit() + paddingBox.getHeader().getLength();
+        Mp4HdlrBox hdlrBox = null;
+        Mp4MetaBox metaBox = null;
+        Mp4BoxHeader newUdtaHeader = null;
+        if (metaHeader == null)
+        {
+            hdlrBox = Mp4HdlrBox.createiTunesStyleHdlrBox();
+            metaBox = Mp4MetaBox.createiTunesStyleMetaBox(hdlrBox.getHeader().getLength() + sizeOfNewMetadata);
+            sizeOfNewMetadata = metaBox.getHeader().getLength();
+            if (udtaHeader == null)
             {
-                for (final Mp4StcoBox stoc : stcos)
-                {
-                    stoc.adjustOffsets(additionalSizeRequired);
-                }
-                return true;
+                newUdtaHeader = new Mp4BoxHeader(Mp4AtomIdentifier.UDTA.getFieldName());
+                newUdtaHeader.setLength(Mp4BoxHeader.HEADER_LENGTH + sizeOfNewMetadata);
+                sizeOfNewMetadata = newUdtaHeader.getLength();
             }
         }
-        return false;
+
+        //Replace any nero tags atom by a free atom as these cause problems
+        if (neroTagsHeader != null)
+        {
+            Mp4FreeBox freeBox = new Mp4FreeBox(neroTagsHeader.getDataLength());
+            moovBuffer.position((int) (neroTagsHeader.getFilePos() - (originalMoovFilePos + Mp4BoxHeader.HEADER_LENGTH)));
+            moovBuffer.put(freeBox.getHeader().getHeaderData());
+            moovBuffer.put(freeBox.getData());
+        }
+
+        //Edit the moov, udta and meta headers in moov buffer
+        adjustSizeOfMoovHeader(moovHeader, moovBuffer, sizeOfNewMetadata - sizeOfExistingMetadata, udtaHeader, metaHeader);
+
+        //Write moov header and moov data up to the metadata
+        fc.position(endOfAtoms);
+        fc.write(moovHeader.getHeaderData());
+        moovBuffer.rewind();
+        moovBuffer.limit(positionOfNewMetadataInMoovBuffer);
+        fc.write(moovBuffer);
+
+        //Write the new metadata
+        if (newUdtaHeader != null)
+        {
+            fc.write(newUdtaHeader.getHeaderData());
+        }
+        if (metaBox != null)
+        {
+            fc.write(metaBox.getHeader().getHeaderData());
+            fc.write(metaBox.getData());
+            fc.write(hdlrBox.getHeader().getHeaderData());
+            fc.write(hdlrBox.getData());
+        }
+        fc.write(newIlstData);
+        fc.write(paddingBox.getHeader().getHeaderData());
+        fc.write(paddingBox.getData());
+
+        //Write the rest of moov data after the replaced metadata
+        moovBuffer.limit(moovBuffer.capacity());
+        moovBuffer.position(positionOfNewMetadataInMoovBuffer + sizeOfExistingMetadata);
+        fc.write(moovBuffer);
+
+        //Now the new moov is complete turn the original into a free atom, and clear its contents
+        Mp4BoxHeader freeHeader = new Mp4BoxHeader(Mp4AtomIdentifier.FREE.getFieldName());
+        freeHeader.setLength(originalMoovLength);
+        fc.position(originalMoovFilePos);
+        fc.write(freeHeader.getHeaderData());
+        ByteBuffer zeroes = ByteBuffer.allocate((int) Math.min(TagOptions.current().getWriteChunkSize(), originalMoovLength));
+        long remaining = originalMoovLength - Mp4BoxHeader.HEADER_LENGTH;
+        while (remaining > 0)
+        {
+            zeroes.clear();
+            zeroes.limit((int) Math.min(zeroes.capacity(), remaining));
+            remaining -= fc.write(zeroes);
+        }
     }
 }
\ No newline at end of file
@@ -21,6 +21,7 @@ package org.jaudiotagger.audio.mp4.atom;
 import org.jaudiotagger.audio.exceptions.InvalidBoxHeaderException;
 import org.jaudiotagger.audio.exceptions.NullBoxIdException;
 import org.jaudiotagger.audio.generic.Utils;
+import org.jaudiotagger.logging.DebugLogging;
 import org.jaudiotagger.logging.ErrorMessage;
 
 import java.io.IOException;
@@ -30,6 +31,7 @@ import java.nio.ByteOrder;
 import java.nio.channels.SeekableByteChannel;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
@@ -148,7 +150,10 @@ public class Mp4BoxHeader
         this.length = dataBuffer.getInt();
         this.id = Utils.readFourBytesAsChars(dataBuffer);
 
-        logger.finest("Mp4BoxHeader id:"+id+":length:"+length);
+        if (DebugLogging.isLoggable(logger, Level.FINEST))
+        {
+            logger.finest("Mp4BoxHeader id:"+id+":length:"+length);
+        }
         if (id.equals("\0\0\0\0"))
         {
             throw new NullBoxIdException(ErrorMessage.MP4_UNABLE_TO_FIND_NEXT_ATOM_BECAUSE_IDENTIFIER_IS_INVALID.getMsg(id));
@@ -268,7 +273,10 @@ public class Mp4BoxHeader
      */
     public static Mp4BoxHeader seekWithinLevel(SeekableByteChannel fc, String id) throws IOException
     {
-        logger.finer("Started searching for:" + id + " in file at:" + fc.position());
+        if (DebugLogging.isLoggable(logger, Level.FINER))
+        {
+            logger.finer("Started searching for:" + id + " in file at:" + fc.position());
+        }
 
         Mp4BoxHeader boxHeader = new Mp4BoxHeader();
         ByteBuffer headerBuffer = ByteBuffer.allocate(HEADER_LENGTH);
@@ -281,7 +289,10 @@ public class Mp4BoxHeader
         boxHeader.update(headerBuffer);
         while (!boxHeader.getId().equals(id))
         {
-            logger.finer("Found:" + boxHeader.getId() + " Still searching for:" + id + " in file at:" + fc.position());
+            if (DebugLogging.isLoggable(logger, Level.FINER))
+            {
+                logger.finer("Found:" + boxHeader.getId() + " Still searching for:" + id + " in file at:" + fc.position());
+            }
 
             //64bit data length
             if(boxHeader.getLength() == 1)
@@ -318,7 +329,10 @@ public class Mp4BoxHeader
             }
             headerBuffer.rewind();
             bytesRead = fc.read(headerBuffer);
-            logger.finer("Header Bytes Read:" + bytesRead);
+            if (DebugLogging.isLoggable(logger, Level.FINER))
+            {
+                logger.finer("Header Bytes Read:" + bytesRead);
+            }
             headerBuffer.rewind();
             if (bytesRead == Mp4BoxHeader.HEADER_LENGTH)
             {
@@ -348,7 +362,10 @@ public class Mp4BoxHeader
      */
     public static Mp4BoxHeader seekWithinLevel(ByteBuffer data, String id) throws IOException
     {
-        logger.finer("Started searching for:" + id + " in bytebuffer at" + data.position());
+        if (DebugLogging.isLoggable(logger, Level.FINER))
+        {
+            logger.finer("Started searching for:" + id + " in bytebuffer at" + data.position());
+        }
 
         Mp4BoxHeader boxHeader = new Mp4BoxHeader();
         if (data.remaining() >= Mp4BoxHeader.HEADER_LENGTH)
@@ -361,7 +378,10 @@ public class Mp4BoxHeader
         }
         while (!boxHeader.getId().equals(id))
         {
-            logger.finer("Found:" + boxHeader.getId() + " Still searching for:" + id + " in bytebuffer at" + data.position());
+            if (DebugLogging.isLoggable(logger, Level.FINER))
+            {
+                logger.finer("Found:" + boxHeader.getId() + " Still searching for:" + id + " in bytebuffer at" + data.position());
+            }
             //Something gone wrong probably not at the start of an atom so return null;
             if (boxHeader.getLength() < Mp4BoxHeader.HEADER_LENGTH)
             {
@@ -382,7 +402,10 @@ public class Mp4BoxHeader
                 return null;
             }
         }
-        logger.finer("Found:" + id + " in bytebuffer at" + data.position());
+        if (DebugLogging.isLoggable(logger, Level.FINER))
+        {
+            logger.finer("Found:" + id + " in bytebuffer at" + data.position());
+        }
 
         return boxHeader;
     }
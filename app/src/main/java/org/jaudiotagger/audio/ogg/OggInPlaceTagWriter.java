@@ -0,0 +1,556 @@
+package org.jaudiotagger.audio.ogg;
+
+import org.jaudiotagger.audio.exceptions.CannotReadException;
+import org.jaudiotagger.audio.exceptions.CannotWriteException;
+import org.jaudiotagger.audio.ogg.util.OggCRCFactory;
+import org.jaudiotagger.audio.ogg.util.OggPageHeader;
+import org.jaudiotagger.logging.DebugLogging;
+import org.jaudiotagger.logging.ErrorMessage;
+import org.jaudiotagger.tag.TagOptions;
+import org.jaudiotagger.tag.id3.AbstractID3v2Tag;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Replace the comment header of an ogg stream within the original file
+ *
+ * <p>The first page holds the identification header and is left as is, as is any ID3v2 tag in front of it. If the new
+ * comment is no larger than the existing one (and not much smaller) it is padded with zeros to the existing length, then
+ * only the pages holding the comment are rewritten with new checksums. Otherwise the header pages are laid out again
+ * with padding ({@link TagOptions#getOggPaddingSize()}) added to the comment, and the pages following them are moved
+ * and given new page sequence numbers a chunk at a time, so the file is never held in memory as a whole.
+ *
+ * <p>Unlike writing to a temporary file this is not atomic, if it fails while moving the audio pages the file is left
+ * damaged.
+ */
+public class OggInPlaceTagWriter
+{
+    // Logger Object
+    public static Logger logger = Logger.getLogger("org.jaudiotagger.audio.ogg");
+
+    //If the new comment is smaller by no more than this it is padded instead of moving the audio
+    private static final int MAXIMUM_PADDING = 64 * 1024;
+
+    //Pages are moved in chunks of this size, large enough for any complete page
+    private static final int CHUNK_SIZE = 256 * 1024;
+
+    //Capture pattern as read from a little endian buffer
+    private static final int CAPTURE_PATTERN_LE = ByteBuffer.wrap(OggPageHeader.CAPTURE_PATTERN).order(ByteOrder.LITTLE_ENDIAN).getInt();
+
+    private final int headerPacketCount;
+    private final int identifierLength;
+
+    /**
+     * @param headerPacketCount number of header packets after the identification header, including the comment header
+     * @param identifierLength  length of the identifier at the start of the comment header that must match the existing one
+     */
+    public OggInPlaceTagWriter(int headerPacketCount, int identifierLength)
+    {
+        this.headerPacketCount = headerPacketCount;
+        this.identifierLength = identifierLength;
+    }
+
+    /**
+     * Replace the comment header
+     *
+     * @param newComment complete comment header packet
+     * @param fc         channel of the audio file opened for reading and writing
+     * @throws CannotReadException  if the file is not a valid ogg stream
+     * @throws CannotWriteException if the header pages are laid out in a way that cannot be updated
+     * @throws IOException
+     */
+    public void write(ByteBuffer newComment, FileChannel fc) throws CannotReadException, CannotWriteException, IOException
+    {
+        write(newComment, fc, true);
+    }
+
+    /**
+     * Replace the comment header only if it fits in the space of the existing one, leaving the file unchanged otherwise
+     *
+     * @param newComment complete comment header packet
+     * @param fc         channel of the audio file opened for reading and writing
+     * @return true if the comment header was replaced
+     * @throws CannotReadException  if the file is not a valid ogg stream
+     * @throws CannotWriteException if the header pages are laid out in a way that cannot be updated
+     * @throws IOException
+     */
+    public boolean writeIfFits(ByteBuffer newComment, FileChannel fc) throws CannotReadException, CannotWriteException, IOException
+    {
+        return write(newComment, fc, false);
+    }
+
+    /**
+     * Add zeros to the end of the comment header packet so that it can grow by that much before the audio needs to move
+     *
+     * @param comment complete comment header packet
+     * @param padding number of zeros to add
+     * @return padded comment header packet
+     */
+    public static ByteBuffer addPadding(ByteBuffer comment, int padding)
+    {
+        ByteBuffer paddedComment = ByteBuffer.allocate(comment.remaining() + padding);
+        paddedComment.put(comment.duplicate());
+        paddedComment.rewind();
+        return paddedComment;
+    }
+
+    private boolean write(ByteBuffer newComment, FileChannel fc, boolean moveAudio) throws CannotReadException, CannotWriteException, IOException
+    {
+        //1st page: Identification Header
+        OggPageHeader firstPage = readPageHeader(fc, getFirstPageStart(fc));
+
+        //Remaining header pages, they must finish at the end of a packet
+        List<OggPageHeader> headerPages = new ArrayList<OggPageHeader>();
+        List<Integer> packetLengths = new ArrayList<Integer>();
+        long position = getPageEnd(firstPage);
+        int packetLength = 0;
+        while (packetLengths.size() < headerPacketCount)
+        {
+            OggPageHeader pageHeader = readPageHeader(fc, position);
+            if (pageHeader.getSerialNumber() != firstPage.getSerialNumber())
+            {
+                throw new CannotWriteException(ErrorMessage.OGG_HEADER_PAGES_CANNOT_BE_UPDATED_IN_PLACE.getMsg("the headers are interleaved with another stream"));
+            }
+            if (headerPages.isEmpty() && (pageHeader.getHeaderType() & OggPageHeader.HeaderTypeFlag.CONTINUED_PACKET.getFileValue()) != 0)
+            {
+                throw new CannotWriteException(ErrorMessage.OGG_HEADER_PAGES_CANNOT_BE_UPDATED_IN_PLACE.getMsg("the identification header continues onto the second page"));
+            }
+            for (byte lacingValue : pageHeader.getSegmentTable())
+            {
+                packetLength += lacingValue & 0xFF;
+                if ((lacingValue & 0xFF) < OggPageHeader.MAXIMUM_SEGMENT_SIZE)
+                {
+                    packetLengths.add(packetLength);
+                    packetLength = 0;
+                }
+            }
+            headerPages.add(pageHeader);
+            position = getPageEnd(pageHeader);
+            if (position > fc.size())
+            {
+                throw new CannotReadException(ErrorMessage.OGG_VORBIS_NO_SETUP_BLOCK.getMsg());
+            }
+        }
+        if (packetLength != 0)
+        {
+            throw new CannotWriteException(ErrorMessage.OGG_HEADER_PAGES_CANNOT_BE_UPDATED_IN_PLACE.getMsg("the last header page continues into the audio"));
+        }
+
+        OggPageHeader secondPage = headerPages.get(0);
+        checkIdentifier(fc, secondPage, newComment);
+
+        int oldCommentLength = packetLengths.get(0);
+        int newCommentLength = newComment.remaining();
+        if (newCommentLength <= oldCommentLength && oldCommentLength - newCommentLength <= MAXIMUM_PADDING)
+        {
+            if (DebugLogging.isLoggable(logger, Level.CONFIG))
+            {
+                logger.config("Replacing comment header in place, padding:" + (oldCommentLength - newCommentLength));
+            }
+            replaceCommentPages(headerPages, oldCommentLength, newComment, fc);
+            return true;
+        }
+        else if (moveAudio)
+        {
+            //As the audio has to be moved anyway leave room so the next change does not have to move it
+            if (DebugLogging.isLoggable(logger, Level.CONFIG))
+            {
+                logger.config("Replacing header pages and moving audio, old comment:" + oldCommentLength + ":new comment:" + newCommentLength);
+            }
+            replaceHeaderPages(headerPages, packetLengths, addPadding(newComment, TagOptions.current().getOggPaddingSize()), position, fc);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Check the second page starts with the same kind of header as the new comment
+     */
+    private void checkIdentifier(FileChannel fc, OggPageHeader secondPage, ByteBuffer newComment) throws IOException, CannotReadException
+    {
+        ByteBuffer identifier = ByteBuffer.allocate(identifierLength);
+        fc.read(identifier, getDataStart(secondPage));
+        byte[] expected = new byte[identifierLength];
+        newComment.duplicate().get(expected);
+        if (!Arrays.equals(identifier.array(), expected))
+        {
+            throw new CannotReadException(ErrorMessage.OGG_COMMENT_HEADER_NOT_FOUND.getMsg(new String(identifier.array(), 0, identifier.position())));
+        }
+    }
+
+    /**
+     * New comment fits in the space of the old one, pad it to the same length so the page layout is unchanged and
+     * only rewrite the pages that hold the comment
+     */
+    private void replaceCommentPages(List<OggPageHeader> headerPages, int oldCommentLength, ByteBuffer newComment, FileChannel fc) throws IOException
+    {
+        ByteBuffer paddedComment = addPadding(newComment, oldCommentLength - newComment.remaining());
+
+        for (OggPageHeader pageHeader : headerPages)
+        {
+            if (!paddedComment.hasRemaining())
+            {
+                break;
+            }
+            int headerLength = pageHeader.getRawHeaderData().length;
+            ByteBuffer page = ByteBuffer.allocate(headerLength + pageHeader.getPageLength());
+            page.order(ByteOrder.LITTLE_ENDIAN);
+            readFully(fc, page, pageHeader.getStartByte());
+
+            ByteBuffer commentPart = paddedComment.slice();
+            commentPart.limit(Math.min(commentPart.remaining(), pageHeader.getPageLength()));
+            page.position(headerLength);
+            page.put(commentPart);
+            paddedComment.position(paddedComment.position() + commentPart.limit());
+
+            calculateChecksumOverPage(page, 0, page.capacity());
+            page.rewind();
+            writeFully(fc, page, pageHeader.getStartByte());
+        }
+    }
+
+    /**
+     * Lay out the header packets with the new comment into new pages, moving the audio pages to follow them
+     *
+     * @param audioStart position of the first page after the header pages
+     */
+    private void replaceHeaderPages(List<OggPageHeader> headerPages, List<Integer> packetLengths, ByteBuffer newComment, long audioStart, FileChannel fc) throws IOException, CannotWriteException
+    {
+        OggPageHeader secondPage = headerPages.get(0);
+        OggPageHeader lastHeaderPage = headerPages.get(headerPages.size() - 1);
+
+        //Keep the other header packets (and any extra packets) as they are
+        List<Integer> newPacketLengths = new ArrayList<Integer>(packetLengths);
+        newPacketLengths.set(0, newComment.remaining());
+        int packetsLength = 0;
+        for (int length : newPacketLengths)
+        {
+            packetsLength += length;
+        }
+        ByteBuffer packets = ByteBuffer.allocate(packetsLength);
+        packets.put(newComment.duplicate());
+        int oldCommentRemaining = packetLengths.get(0);
+        for (OggPageHeader pageHeader : headerPages)
+        {
+            int skip = Math.min(oldCommentRemaining, pageHeader.getPageLength());
+            oldCommentRemaining -= skip;
+            if (skip < pageHeader.getPageLength())
+            {
+                ByteBuffer part = packets.slice();
+                part.limit(pageHeader.getPageLength() - skip);
+                readFully(fc, part, getDataStart(pageHeader) + skip);
+                packets.position(packets.position() + part.limit());
+            }
+        }
+        if (packets.hasRemaining())
+        {
+            throw new CannotWriteException(ErrorMessage.OGG_HEADER_PAGES_CANNOT_BE_UPDATED_IN_PLACE.getMsg("the header packets are split across pages"));
+        }
+        packets.rewind();
+
+        ByteBuffer newHeaderPages = createHeaderPages(secondPage, lastHeaderPage, newPacketLengths, packets);
+        long newAudioStart = secondPage.getStartByte() + newHeaderPages.limit();
+        int sequenceDelta = getPageCount(newPacketLengths) - headerPages.size();
+
+        if (newAudioStart > audioStart)
+        {
+            //Make room for the larger header, then renumber the pages where they now are
+            moveTowardsEnd(fc, audioStart, newAudioStart - audioStart);
+            writeFully(fc, newHeaderPages, secondPage.getStartByte());
+            if (sequenceDelta != 0)
+            {
+                movePages(fc, newAudioStart, newAudioStart, sequenceDelta, secondPage.getSerialNumber());
+            }
+        }
+        else
+        {
+            //Header is now smaller so write it first, then move the pages back behind it
+            writeFully(fc, newHeaderPages, secondPage.getStartByte());
+            if (newAudioStart < audioStart || sequenceDelta != 0)
+            {
+                movePages(fc, audioStart, newAudioStart, sequenceDelta, secondPage.getSerialNumber());
+            }
+        }
+    }
+
+    /**
+     * Create the pages for the header packets, as many packets are put on each page as will fit
+     *
+     * @param secondPage     original second page, its stream serial number is kept
+     * @param lastHeaderPage original last header page, its granule position is kept
+     * @param packetLengths  length of each packet
+     * @param packets        packet data
+     * @return pages ready to be written
+     */
+    private ByteBuffer createHeaderPages(OggPageHeader secondPage, OggPageHeader lastHeaderPage, List<Integer> packetLengths, ByteBuffer packets)
+    {
+        int lacingValueCount = getLacingValueCount(packetLengths);
+        byte[] lacingValues = new byte[lacingValueCount];
+        int index = 0;
+        for (int length : packetLengths)
+        {
+            for (int i = 0; i < length / OggPageHeader.MAXIMUM_SEGMENT_SIZE; i++)
+            {
+                lacingValues[index++] = (byte) OggPageHeader.MAXIMUM_SEGMENT_SIZE;
+            }
+            lacingValues[index++] = (byte) (length % OggPageHeader.MAXIMUM_SEGMENT_SIZE);
+        }
+
+        ByteBuffer pages = ByteBuffer.allocate(getPageCount(packetLengths) * OggPageHeader.OGG_PAGE_HEADER_FIXED_LENGTH + lacingValueCount + packets.remaining());
+        pages.order(ByteOrder.LITTLE_ENDIAN);
+        int pageSequence = secondPage.getPageSequence();
+        boolean continued = false;
+        for (int lacingStart = 0; lacingStart < lacingValueCount; lacingStart += OggPageHeader.MAXIMUM_NO_OF_SEGMENT_SIZE)
+        {
+            int segmentCount = Math.min(OggPageHeader.MAXIMUM_NO_OF_SEGMENT_SIZE, lacingValueCount - lacingStart);
+            int dataLength = 0;
+            boolean packetEnds = false;
+            for (int i = lacingStart; i < lacingStart + segmentCount; i++)
+            {
+                dataLength += lacingValues[i] & 0xFF;
+                packetEnds |= (lacingValues[i] & 0xFF) < OggPageHeader.MAXIMUM_SEGMENT_SIZE;
+            }
+            boolean lastPage = lacingStart + segmentCount == lacingValueCount;
+
+            int pageStart = pages.position();
+            pages.put(secondPage.getRawHeaderData(), 0, OggPageHeader.OGG_PAGE_HEADER_FIXED_LENGTH - 1);
+            pages.put(pageStart + OggPageHeader.FIELD_HEADER_TYPE_FLAG_POS, continued
+                    ? OggPageHeader.HeaderTypeFlag.CONTINUED_PACKET.getFileValue()
+                    : OggPageHeader.HeaderTypeFlag.FRESH_PACKET.getFileValue());
+            if (lastPage)
+            {
+                pages.position(pageStart + OggPageHeader.FIELD_ABSOLUTE_GRANULE_POS);
+                pages.put(lastHeaderPage.getRawHeaderData(), OggPageHeader.FIELD_ABSOLUTE_GRANULE_POS, OggPageHeader.FIELD_ABSOLUTE_GRANULE_LENGTH);
+                pages.position(pageStart + OggPageHeader.FIELD_PAGE_SEGMENTS_POS);
+            }
+            else
+            {
+                //No packet finishing on the page is marked by a granule position of -1
+                pages.putLong(pageStart + OggPageHeader.FIELD_ABSOLUTE_GRANULE_POS, packetEnds ? 0 : -1);
+            }
+            pages.putInt(pageStart + OggPageHeader.FIELD_PAGE_SEQUENCE_NO_POS, pageSequence++);
+            pages.put((byte) segmentCount);
+            pages.put(lacingValues, lacingStart, segmentCount);
+            ByteBuffer data = packets.slice();
+            data.limit(dataLength);
+            pages.put(data);
+            packets.position(packets.position() + dataLength);
+
+            calculateChecksumOverPage(pages, pageStart, pages.position());
+            continued = (lacingValues[lacingStart + segmentCount - 1] & 0xFF) == OggPageHeader.MAXIMUM_SEGMENT_SIZE;
+        }
+        pages.flip();
+        return pages;
+    }
+
+    /**
+     * @return number of lacing values needed for the packets, a packet that is a multiple of 255 long ends with a zero
+     *         lacing value
+     */
+    private int getLacingValueCount(List<Integer> packetLengths)
+    {
+        int lacingValueCount = 0;
+        for (int length : packetLengths)
+        {
+            lacingValueCount += length / OggPageHeader.MAXIMUM_SEGMENT_SIZE + 1;
+        }
+        return lacingValueCount;
+    }
+
+    /**
+     * @return number of pages needed for the packets
+     */
+    private int getPageCount(List<Integer> packetLengths)
+    {
+        return (getLacingValueCount(packetLengths) + OggPageHeader.MAXIMUM_NO_OF_SEGMENT_SIZE - 1) / OggPageHeader.MAXIMUM_NO_OF_SEGMENT_SIZE;
+    }
+
+    /**
+     * Move everything from start to the end of the file further along by distance, working back from the end so that
+     * nothing is overwritten before it has been moved
+     */
+    private void moveTowardsEnd(FileChannel fc, long start, long distance) throws IOException
+    {
+        ByteBuffer buffer = ByteBuffer.allocate(CHUNK_SIZE);
+        long position = fc.size();
+        while (position > start)
+        {
+            int length = (int) Math.min(CHUNK_SIZE, position - start);
+            position -= length;
+            buffer.clear();
+            buffer.limit(length);
+            readFully(fc, buffer, position);
+            buffer.flip();
+            writeFully(fc, buffer, position + distance);
+        }
+    }
+
+    /**
+     * Move the pages from the given position to the end of the file back to the new position (which may be the same),
+     * adding sequenceDelta to the page sequence number of each page of the stream. Anything that is not an ogg page,
+     * such as a tag at the end of the file, is moved as it is.
+     */
+    private void movePages(FileChannel fc, long from, long to, int sequenceDelta, int serialNumber) throws IOException
+    {
+        ByteBuffer buffer = ByteBuffer.allocate(CHUNK_SIZE);
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        long end = fc.size();
+        long readPosition = from;
+        long writePosition = to;
+        boolean renumber = sequenceDelta != 0;
+        while (true)
+        {
+            while (buffer.hasRemaining() && readPosition < end)
+            {
+                int read = fc.read(buffer, readPosition);
+                if (read < 0)
+                {
+                    break;
+                }
+                readPosition += read;
+            }
+            boolean endOfFile = readPosition >= end;
+            buffer.flip();
+            if (!buffer.hasRemaining())
+            {
+                break;
+            }
+
+            //Renumber the complete pages in the buffer, an incomplete page is kept for the next chunk
+            int processed = 0;
+            while (renumber)
+            {
+                int remaining = buffer.limit() - processed;
+                if (remaining < OggPageHeader.OGG_PAGE_HEADER_FIXED_LENGTH)
+                {
+                    renumber = !endOfFile;
+                    break;
+                }
+                if (buffer.getInt(processed) != CAPTURE_PATTERN_LE)
+                {
+                    logger.warning(ErrorMessage.OGG_HEADER_CANNOT_BE_FOUND.getMsg(writePosition + processed));
+                    renumber = false;
+                    break;
+                }
+                int segmentCount = buffer.get(processed + OggPageHeader.FIELD_PAGE_SEGMENTS_POS) & 0xFF;
+                int pageLength = OggPageHeader.OGG_PAGE_HEADER_FIXED_LENGTH + segmentCount;
+                if (remaining >= pageLength)
+                {
+                    for (int i = 0; i < segmentCount; i++)
+                    {
+                        pageLength += buffer.get(processed + OggPageHeader.FIELD_SEGMENT_TABLE_POS + i) & 0xFF;
+                    }
+                }
+                if (remaining < pageLength)
+                {
+                    renumber = !endOfFile;
+                    break;
+                }
+                if (buffer.getInt(processed + OggPageHeader.FIELD_STREAM_SERIAL_NO_POS) == serialNumber)
+                {
+                    int pageSequence = buffer.getInt(processed + OggPageHeader.FIELD_PAGE_SEQUENCE_NO_POS);
+                    buffer.putInt(processed + OggPageHeader.FIELD_PAGE_SEQUENCE_NO_POS, pageSequence + sequenceDelta);
+                    calculateChecksumOverPage(buffer, processed, processed + pageLength);
+                }
+                processed += pageLength;
+            }
+            if (!renumber)
+            {
+                processed = buffer.limit();
+            }
+
+            ByteBuffer done = buffer.duplicate();
+            done.position(0);
+            done.limit(processed);
+            writeFully(fc, done, writePosition);
+            writePosition += processed;
+
+            buffer.position(processed);
+            buffer.compact();
+            if (endOfFile && buffer.position() == 0)
+            {
+                break;
+            }
+        }
+
+        if (writePosition < end)
+        {
+            fc.truncate(writePosition);
+        }
+    }
+
+    /**
+     * Calculate checkSum over the page held in the buffer between start and end
+     */
+    private void calculateChecksumOverPage(ByteBuffer buffer, int start, int end)
+    {
+        OggCRCFactory.putCRC(buffer, start, end);
+    }
+
+    /**
+     * @return position of the first page, which follows the ID3v2 tag if the file starts with one
+     */
+    private long getFirstPageStart(FileChannel fc) throws IOException
+    {
+        long id3TagSize = AbstractID3v2Tag.getV2TagSizeIfExists(fc);
+        if (id3TagSize > 0)
+        {
+            logger.warning(ErrorMessage.OGG_CONTAINS_ID3TAG.getMsg(id3TagSize));
+        }
+        return id3TagSize;
+    }
+
+    private OggPageHeader readPageHeader(FileChannel fc, long position) throws IOException, CannotReadException
+    {
+        ByteBuffer buffer = ByteBuffer.allocate(OggPageHeader.MAXIMUM_PAGE_HEADER_SIZE);
+        fc.read(buffer, position);
+        buffer.flip();
+        if (buffer.remaining() < OggPageHeader.OGG_PAGE_HEADER_FIXED_LENGTH
+                || buffer.remaining() < OggPageHeader.OGG_PAGE_HEADER_FIXED_LENGTH + (buffer.get(OggPageHeader.FIELD_PAGE_SEGMENTS_POS) & 0xFF))
+        {
+            throw new CannotReadException(ErrorMessage.OGG_HEADER_CANNOT_BE_FOUND.getMsg(position));
+        }
+        OggPageHeader pageHeader = OggPageHeader.read(buffer);
+        pageHeader.setStartByte(position);
+        return pageHeader;
+    }
+
+    private long getDataStart(OggPageHeader pageHeader)
+    {
+        return pageHeader.getStartByte() + pageHeader.getRawHeaderData().length;
+    }
+
+    private long getPageEnd(OggPageHeader pageHeader)
+    {
+        return getDataStart(pageHeader) + pageHeader.getPageLength();
+    }
+
+    private void readFully(FileChannel fc, ByteBuffer buffer, long position) throws IOException
+    {
+        while (buffer.hasRemaining())
+        {
+            int read = fc.read(buffer, position);
+            if (read < 0)
+            {
+                throw new IOException("Unexpected end of file at " + position);
+            }
+            position += read;
+        }
+    }
+
+    private void writeFully(FileChannel fc, ByteBuffer buffer, long position) throws IOException
+    {
+        while (buffer.hasRemaining())
+        {
+            position += fc.write(buffer, position);
+        }
+    }
+}
@@ -23,6 +23,7 @@ import org.jaudiotagger.audio.exceptions.CannotReadException;
 import org.jaudiotagger.audio.ogg.util.OggPageHeader;
 import org.jaudiotagger.audio.ogg.util.VorbisHeader;
 import org.jaudiotagger.audio.ogg.util.VorbisPacketType;
+import org.jaudiotagger.logging.DebugLogging;
 import org.jaudiotagger.logging.ErrorMessage;
 import org.jaudiotagger.tag.Tag;
 import org.jaudiotagger.tag.vorbiscomment.VorbisCommentReader;
@@ -34,6 +35,7 @@ import java.io.RandomAccessFile;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
@@ -429,7 +431,10 @@ public class OggVorbisTagReader
             throw new CannotReadException("Cannot find comment block (no vorbiscomment header)");
         }
         raf.seek(raf.getFilePointer() - (VorbisHeader.FIELD_PACKET_TYPE_LENGTH + VorbisHeader.FIELD_CAPTURE_PATTERN_LENGTH));
-        logger.config("Found start of comment header at:" + raf.getFilePointer());
+        if (DebugLogging.isLoggable(logger, Level.CONFIG))
+        {
+            logger.config("Found start of comment header at:" + raf.getFilePointer());
+        }
 
         //Calculate Comment Size (not inc header)
         while (true)
@@ -443,7 +448,10 @@ public class OggVorbisTagReader
             if (packetList.size() > 1 || !pageHeader.isLastPacketIncomplete())
             {
                 //done comment size
-                logger.config("Found end of comment:size:" + commentHeaderSize + "finishes at file position:" + raf.getFilePointer());
+                if (DebugLogging.isLoggable(logger, Level.CONFIG))
+                {
+                    logger.config("Found end of comment:size:" + commentHeaderSize + "finishes at file position:" + raf.getFilePointer());
+                }
                 break;
             }
             pageHeader = OggPageHeader.read(raf);
@@ -465,14 +473,20 @@ public class OggVorbisTagReader
                 throw new CannotReadException(ErrorMessage.OGG_VORBIS_NO_VORBIS_HEADER_FOUND.getMsg());
             }
             raf.seek(raf.getFilePointer() - (VorbisHeader.FIELD_PACKET_TYPE_LENGTH + VorbisHeader.FIELD_CAPTURE_PATTERN_LENGTH));
-            logger.config("Found start of vorbis setup header at file position:" + raf.getFilePointer());
+            if (DebugLogging.isLoggable(logger, Level.CONFIG))
+            {
+                logger.config("Found start of vorbis setup header at file position:" + raf.getFilePointer());
+            }
 
             //Set this to the  start of the OggPage that setupheader was found on
             setupHeaderStartPosition = raf.getFilePointer() - (OggPageHeader.OGG_PAGE_HEADER_FIXED_LENGTH + pageHeader.getSegmentTable().length);
 
             //Add packet data to size to the setup header size
             setupHeaderSize = packet.getLength();
-            logger.fine("Adding:" + packet.getLength() + " to setup header size");
+            if (DebugLogging.isLoggable(logger, Level.FINE))
+            {
+                logger.fine("Adding:" + packet.getLength() + " to setup header size");
+            }
 
             //Skip over the packet data
             raf.skipBytes(packet.getLength());
@@ -481,7 +495,10 @@ public class OggVorbisTagReader
             //got the size of the setup header.
             if (packetList.size() > 1 || !pageHeader.isLastPacketIncomplete())
             {
-                logger.config("Found end of setupheader:size:" + setupHeaderSize + "finishes at:" + raf.getFilePointer());
+                if (DebugLogging.isLoggable(logger, Level.CONFIG))
+                {
+                    logger.config("Found end of setupheader:size:" + setupHeaderSize + "finishes at:" + raf.getFilePointer());
+                }
                 if (packetList.size() > 1)
                 {
                     extraPackets = packetList.subList(1, packetList.size());
@@ -495,12 +512,18 @@ public class OggVorbisTagReader
                 while (true)
                 {
                     setupHeaderSize += packetList.get(0).getLength();
-                    logger.fine("Adding:" + packetList.get(0).getLength() + " to setup header size");
+                    if (DebugLogging.isLoggable(logger, Level.FINE))
+                    {
+                        logger.fine("Adding:" + packetList.get(0).getLength() + " to setup header size");
+                    }
                     raf.skipBytes(packetList.get(0).getLength());
                     if (packetList.size() > 1 || !pageHeader.isLastPacketIncomplete())
                     {
                         //done setup size
-                        logger.fine("Found end of setupheader:size:" + setupHeaderSize + "finishes at:" + raf.getFilePointer());
+                        if (DebugLogging.isLoggable(logger, Level.FINE))
+                        {
+                            logger.fine("Found end of setupheader:size:" + setupHeaderSize + "finishes at:" + raf.getFilePointer());
+                        }
                         if (packetList.size() > 1)
                         {
                             extraPackets = packetList.subList(1, packetList.size());
@@ -527,7 +550,10 @@ public class OggVorbisTagReader
                 throw new CannotReadException(ErrorMessage.OGG_VORBIS_NO_VORBIS_HEADER_FOUND.getMsg());
             }
             raf.seek(raf.getFilePointer() - (VorbisHeader.FIELD_PACKET_TYPE_LENGTH + VorbisHeader.FIELD_CAPTURE_PATTERN_LENGTH));
-            logger.config("Found start of vorbis setup header at file position:" + raf.getFilePointer());
+            if (DebugLogging.isLoggable(logger, Level.CONFIG))
+            {
+                logger.config("Found start of vorbis setup header at file position:" + raf.getFilePointer());
+            }
 
             //Set this to the  start of the OggPage that setupheader was found on
             setupHeaderStartPosition = raf.getFilePointer() - (OggPageHeader.OGG_PAGE_HEADER_FIXED_LENGTH + pageHeader.getSegmentTable().length)
@@ -535,7 +561,10 @@ public class OggVorbisTagReader
 
             //Add packet data to size to the setup header size
             setupHeaderSize = packet.getLength();
-            logger.fine("Adding:" + packet.getLength() + " to setup header size");
+            if (DebugLogging.isLoggable(logger, Level.FINE))
+            {
+                logger.fine("Adding:" + packet.getLength() + " to setup header size");
+            }
 
             //Skip over the packet data
             raf.skipBytes(packet.getLength());
@@ -544,7 +573,10 @@ public class OggVorbisTagReader
             //got the size of the setup header.
             if (packetList.size() > 2 || !pageHeader.isLastPacketIncomplete())
             {
-                logger.fine("Found end of setupheader:size:" + setupHeaderSize + "finishes at:" + raf.getFilePointer());
+                if (DebugLogging.isLoggable(logger, Level.FINE))
+                {
+                    logger.fine("Found end of setupheader:size:" + setupHeaderSize + "finishes at:" + raf.getFilePointer());
+                }
                 if (packetList.size() > 2)
                 {
                     extraPackets = packetList.subList(2, packetList.size());
@@ -558,12 +590,18 @@ public class OggVorbisTagReader
                 while (true)
                 {
                     setupHeaderSize += packetList.get(0).getLength();
-                    logger.fine("Adding:" + packetList.get(0).getLength() + " to setup header size");
+                    if (DebugLogging.isLoggable(logger, Level.FINE))
+                    {
+                        logger.fine("Adding:" + packetList.get(0).getLength() + " to setup header size");
+                    }
                     raf.skipBytes(packetList.get(0).getLength());
                     if (packetList.size() > 1 || !pageHeader.isLastPacketIncomplete())
                     {
                         //done setup size
-                        logger.fine("Found end of setupheader:size:" + setupHeaderSize + "finishes at:" + raf.getFilePointer());
+                        if (DebugLogging.isLoggable(logger, Level.FINE))
+                        {
+                            logger.fine("Found end of setupheader:size:" + setupHeaderSize + "finishes at:" + raf.getFilePointer());
+                        }
                         if (packetList.size() > 1)
                         {
                             extraPackets = packetList.subList(1, packetList.size());
@@ -24,7 +24,10 @@ import org.jaudiotagger.audio.exceptions.CannotWriteException;
 import org.jaudiotagger.audio.generic.Utils;
 import org.jaudiotagger.audio.ogg.util.OggCRCFactory;
 import org.jaudiotagger.audio.ogg.util.OggPageHeader;
+import org.jaudiotagger.audio.ogg.util.VorbisHeader;
+import org.jaudiotagger.logging.DebugLogging;
 import org.jaudiotagger.tag.Tag;
+import org.jaudiotagger.tag.TagOptions;
 import org.jaudiotagger.tag.id3.AbstractID3v1Tag;
 import org.jaudiotagger.tag.vorbiscomment.VorbisCommentTag;
 
@@ -33,7 +36,9 @@ import java.io.IOException;
 import java.io.RandomAccessFile;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
 import java.util.List;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
@@ -49,6 +54,9 @@ public class OggVorbisTagWriter
     private OggVorbisCommentTagCreator tc = new OggVorbisCommentTagCreator();
     private OggVorbisTagReader reader = new OggVorbisTagReader();
 
+    //Comment and setup headers follow the identification header
+    private OggInPlaceTagWriter inPlaceWriter = new OggInPlaceTagWriter(2, VorbisHeader.FIELD_PACKET_TYPE_LENGTH + VorbisHeader.FIELD_CAPTURE_PATTERN_LENGTH);
+
     public void delete(RandomAccessFile raf, RandomAccessFile tempRaf) throws IOException, CannotReadException, CannotWriteException
     {
         try
@@ -68,6 +76,36 @@ public class OggVorbisTagWriter
         write(emptyTag, raf, tempRaf);
     }
 
+    /**
+     * Write the tag within the original file, see {@link OggInPlaceTagWriter}
+     *
+     * @param tag
+     * @param fc
+     * @throws CannotReadException
+     * @throws CannotWriteException
+     * @throws IOException
+     */
+    public void writeInPlace(Tag tag, FileChannel fc) throws CannotReadException, CannotWriteException, IOException
+    {
+        logger.config("Starting to write file in place:");
+        inPlaceWriter.write(tc.convert(tag), fc);
+    }
+
+    /**
+     * Write the tag within the original file if it fits in the space of the existing one
+     *
+     * @param tag
+     * @param fc
+     * @return true if the tag was written, false if the file is unchanged
+     * @throws CannotReadException
+     * @throws CannotWriteException
+     * @throws IOException
+     */
+    public boolean writeInPlaceIfFits(Tag tag, FileChannel fc) throws CannotReadException, CannotWriteException, IOException
+    {
+        return inPlaceWriter.writeIfFits(tc.convert(tag), fc);
+    }
+
     public void write(Tag tag, RandomAccessFile raf, RandomAccessFile rafTemp) throws CannotReadException, CannotWriteException, IOException
     {
         logger.config("Starting to write file:");
@@ -87,29 +125,59 @@ public class OggVorbisTagWriter
 
         //2nd Page:Store the end of Header
         long secondPageHeaderEndPos = raf.getFilePointer();
-        logger.fine("Read 2nd Page:comment and setup and possibly audio:Header finishes at file position:" + secondPageHeaderEndPos);
+        if (DebugLogging.isLoggable(logger, Level.FINE))
+        {
+            logger.fine("Read 2nd Page:comment and setup and possibly audio:Header finishes at file position:" + secondPageHeaderEndPos);
+        }
 
         //Get header sizes
         raf.seek(0);
         OggVorbisTagReader.OggVorbisHeaderSizes vorbisHeaderSizes = reader.readOggVorbisHeaderSizes(raf);
 
-        //Convert the OggVorbisComment header to raw packet data
-        ByteBuffer newComment = tc.convert(tag);
+        //Convert the OggVorbisComment header to raw packet data, leaving room so the next change can be written in place
+        ByteBuffer newComment = OggInPlaceTagWriter.addPadding(tc.convert(tag), TagOptions.current().getOggPaddingSize());
 
         //Compute new comment length(this may need to be spread over multiple pages)
         int newCommentLength = newComment.capacity();
 
         //Calculate new size of new 2nd page
         int newSecondPageDataLength = vorbisHeaderSizes.getSetupHeaderSize() + newCommentLength + vorbisHeaderSizes.getExtraPacketDataSize();
-        logger.fine("Old 2nd Page no of packets: " + secondPageHeader.getPacketList().size());
-        logger.fine("Old 2nd Page size: " + secondPageHeader.getPageLength());
-        logger.fine("Old last packet incomplete: " + secondPageHeader.isLastPacketIncomplete());
-        logger.fine("Setup Header Size: " + vorbisHeaderSizes.getSetupHeaderSize());
-        logger.fine("Extra Packets: " + vorbisHeaderSizes.getExtraPacketList().size());
-        logger.fine("Extra Packet Data Size: " + vorbisHeaderSizes.getExtraPacketDataSize());
-        logger.fine("Old comment: " + vorbisHeaderSizes.getCommentHeaderSize());
-        logger.fine("New comment: " + newCommentLength);
-        logger.fine("New Page Data Size: " + newSecondPageDataLength);
+        if (DebugLogging.isLoggable(logger, Level.FINE))
+        {
+            logger.fine("Old 2nd Page no of packets: " + secondPageHeader.getPacketList().size());
+        }
+        if (DebugLogging.isLoggable(logger, Level.FINE))
+        {
+            logger.fine("Old 2nd Page size: " + secondPageHeader.getPageLength());
+        }
+        if (DebugLogging.isLoggable(logger, Level.FINE))
+        {
+            logger.fine("Old last packet incomplete: " + secondPageHeader.isLastPacketIncomplete());
+        }
+        if (DebugLogging.isLoggable(logger, Level.FINE))
+        {
+            logger.fine("Setup Header Size: " + vorbisHeaderSizes.getSetupHeaderSize());
+        }
+        if (DebugLogging.isLoggable(logger, Level.FINE))
+        {
+            logger.fine("Extra Packets: " + vorbisHeaderSizes.getExtraPacketList().size());
+        }
+        if (DebugLogging.isLoggable(logger, Level.FINE))
+        {
+            logger.fine("Extra Packet Data Size: " + vorbisHeaderSizes.getExtraPacketDataSize());
+        }
+        if (DebugLogging.isLoggable(logger, Level.FINE))
+        {
+            logger.fine("Old comment: " + vorbisHeaderSizes.getCommentHeaderSize());
+        }
+        if (DebugLogging.isLoggable(logger, Level.FINE))
+        {
+            logger.fine("New comment: " + newCommentLength);
+        }
+        if (DebugLogging.isLoggable(logger, Level.FINE))
+        {
+            logger.fine("New Page Data Size: " + newSecondPageDataLength);
+        }
         //Second Page containing new vorbis, setup and possibly some extra packets can fit on one page
         if (isCommentAndSetupHeaderFitsOnASinglePage(newCommentLength, vorbisHeaderSizes.getSetupHeaderSize(), vorbisHeaderSizes.getExtraPacketList()))
         {
@@ -149,15 +217,8 @@ public class OggVorbisTagWriter
      */
     private void calculateChecksumOverPage(ByteBuffer page)
     {           
-        //CRC should be zero before calculating it
-        page.putInt(OggPageHeader.FIELD_PAGE_CHECKSUM_POS, 0);
-
-        //Compute CRC over the  page  //TODO shouldnt really use array();
-        byte[] crc = OggCRCFactory.computeCRC(page.array());
-        for (int i = 0; i < crc.length; i++)
-        {
-            page.put(OggPageHeader.FIELD_PAGE_CHECKSUM_POS + i, crc[i]);
-        }
+        //Compute CRC over the whole page, straight into its header
+        OggCRCFactory.putCRC(page, 0, page.capacity());
 
         //Rewind to start of Page
         page.rewind();
@@ -184,8 +245,14 @@ public class OggVorbisTagWriter
         logger.fine("WriteOgg Type 1");
         byte[] segmentTable = createSegmentTable(newCommentLength, vorbisHeaderSizes.getSetupHeaderSize(), vorbisHeaderSizes.getExtraPacketList());
         int newSecondPageHeaderLength = OggPageHeader.OGG_PAGE_HEADER_FIXED_LENGTH + segmentTable.length;
-        logger.fine("New second page header length:" + newSecondPageHeaderLength);
-        logger.fine("No of segments:" + segmentTable.length);
+        if (DebugLogging.isLoggable(logger, Level.FINE))
+        {
+            logger.fine("New second page header length:" + newSecondPageHeaderLength);
+        }
+        if (DebugLogging.isLoggable(logger, Level.FINE))
+        {
+            logger.fine("No of segments:" + segmentTable.length);
+        }
 
         ByteBuffer secondPageBuffer = ByteBuffer.allocate(newSecondPageLength + newSecondPageHeaderLength);
         secondPageBuffer.order(ByteOrder.LITTLE_ENDIAN);
@@ -269,7 +336,10 @@ public class OggVorbisTagWriter
         //Add setup header and packets
         int pageSequence = secondPageHeader.getPageSequence();
         byte[] setupHeaderData = reader.convertToVorbisSetupHeaderPacketAndAdditionalPackets(originalHeaderSizes.getSetupHeaderStartPosition(), raf);
-        logger.finest(setupHeaderData.length + ":" + secondPageBuffer.position() + ":" + secondPageBuffer.capacity());
+        if (DebugLogging.isLoggable(logger, Level.FINEST))
+        {
+            logger.finest(setupHeaderData.length + ":" + secondPageBuffer.position() + ":" + secondPageBuffer.capacity());
+        }
         secondPageBuffer.put(setupHeaderData);
 
         calculateChecksumOverPage(secondPageBuffer);
@@ -297,7 +367,10 @@ public class OggVorbisTagWriter
 
         //We need to work out how to split the newcommentlength over the pages
         int noOfCompletePagesNeededForComment = newCommentLength / OggPageHeader.MAXIMUM_PAGE_DATA_SIZE;
-        logger.config("Comment requires:" + noOfCompletePagesNeededForComment + " complete pages");
+        if (DebugLogging.isLoggable(logger, Level.CONFIG))
+        {
+            logger.config("Comment requires:" + noOfCompletePagesNeededForComment + " complete pages");
+        }
 
         //Create the Pages
         int newCommentOffset = 0;
@@ -342,7 +415,10 @@ public class OggVorbisTagWriter
         }
 
         int lastPageCommentPacketSize = newCommentLength % OggPageHeader.MAXIMUM_PAGE_DATA_SIZE;
-        logger.fine("Last comment packet size:" + lastPageCommentPacketSize);
+        if (DebugLogging.isLoggable(logger, Level.FINE))
+        {
+            logger.fine("Last comment packet size:" + lastPageCommentPacketSize);
+        }
 
         //End of comment and setup header cannot fit on the last page
         if (!isCommentAndSetupHeaderFitsOnASinglePage(lastPageCommentPacketSize, originalHeaderSizes.getSetupHeaderSize(), originalHeaderSizes.getExtraPacketList()))
@@ -369,7 +445,10 @@ public class OggVorbisTagWriter
                 {
                     pageBuffer.put(OggPageHeader.FIELD_HEADER_TYPE_FLAG_POS, OggPageHeader.HeaderTypeFlag.CONTINUED_PACKET.getFileValue());
                 }
-                logger.fine("Writing Last Comment Page "+pageSequence +" to file");
+                if (DebugLogging.isLoggable(logger, Level.FINE))
+                {
+                    logger.fine("Writing Last Comment Page "+pageSequence +" to file");
+                }
                 pageSequence++;
                 calculateChecksumOverPage(pageBuffer);
                 rafTemp.getChannel().write(pageBuffer);
@@ -391,7 +470,10 @@ public class OggVorbisTagWriter
                 pageBuffer.put(setupHeaderData);
                 pageBuffer.putInt(OggPageHeader.FIELD_PAGE_SEQUENCE_NO_POS, pageSequence);
                 //pageBuffer.put(OggPageHeader.FIELD_HEADER_TYPE_FLAG_POS, OggPageHeader.HeaderTypeFlag.CONTINUED_PACKET.getFileValue());
-                logger.fine("Writing Setup Header and packets Page "+pageSequence +" to file");
+                if (DebugLogging.isLoggable(logger, Level.FINE))
+                {
+                    logger.fine("Writing Setup Header and packets Page "+pageSequence +" to file");
+                }
 
                 calculateChecksumOverPage(pageBuffer);
                 rafTemp.getChannel().write(pageBuffer);
@@ -451,6 +533,8 @@ public class OggVorbisTagWriter
         //TODO there is a risk we wont have enough memory to create these buffers
         ByteBuffer bb       = ByteBuffer.allocate((int) (raf.length() - raf.getFilePointer()));
         ByteBuffer bbTemp   = ByteBuffer.allocate((int)(raf.length() - raf.getFilePointer()));
+        //LE so we can use putInt method for the page sequence
+        bbTemp.order(ByteOrder.LITTLE_ENDIAN);
 
         //Read in the rest of the data into bytebuffer and rewind it to start
         raf.getChannel().read(bb);
@@ -478,20 +562,16 @@ public class OggVorbisTagWriter
                     throw cre;
                 }
             }
-            //Create buffer large enough for next page (header and data) and set byte order to LE so we can use
-            //putInt method
-            ByteBuffer nextPageHeaderBuffer = ByteBuffer.allocate(nextPage.getRawHeaderData().length + nextPage.getPageLength());
-            nextPageHeaderBuffer.order(ByteOrder.LITTLE_ENDIAN);
-            nextPageHeaderBuffer.put(nextPage.getRawHeaderData());
+            //Copy the page (header and data) straight into the output, then renumber it and recalculate its
+            //checksum in place
+            int pageStart = bbTemp.position();
+            bbTemp.put(nextPage.getRawHeaderData());
             ByteBuffer data = bb.slice();
             data.limit(nextPage.getPageLength());
-            nextPageHeaderBuffer.put(data);
-            nextPageHeaderBuffer.putInt(OggPageHeader.FIELD_PAGE_SEQUENCE_NO_POS, ++pageSequence);
-            calculateChecksumOverPage(nextPageHeaderBuffer);
+            bbTemp.put(data);
+            bbTemp.putInt(pageStart + OggPageHeader.FIELD_PAGE_SEQUENCE_NO_POS, ++pageSequence);
+            OggCRCFactory.putCRC(bbTemp, pageStart, bbTemp.position());
             bb.position(bb.position() + nextPage.getPageLength());
-
-            nextPageHeaderBuffer.rewind();
-            bbTemp.put(nextPageHeaderBuffer);
         }
         //Now just write as a single IO operation
         bbTemp.flip();
@@ -518,7 +598,10 @@ public class OggVorbisTagWriter
      */
     private byte[] createSegmentTable(int newCommentLength, int setupHeaderLength, List<OggPageHeader.PacketStartAndLength> extraPackets)
     {
-        logger.finest("Create SegmentTable CommentLength:" + newCommentLength + ":SetupHeaderLength:" + setupHeaderLength);
+        if (DebugLogging.isLoggable(logger, Level.FINEST))
+        {
+            logger.finest("Create SegmentTable CommentLength:" + newCommentLength + ":SetupHeaderLength:" + setupHeaderLength);
+        }
         ByteArrayOutputStream resultBaos = new ByteArrayOutputStream();
 
         byte[] newStart;
@@ -550,8 +633,14 @@ public class OggVorbisTagWriter
             restShouldBe = createSegments(setupHeaderLength, false);
         }
 
-        logger.finest("Created " + newStart.length + " segments for header");
-        logger.finest("Created " + restShouldBe.length + " segments for setup");
+        if (DebugLogging.isLoggable(logger, Level.FINEST))
+        {
+            logger.finest("Created " + newStart.length + " segments for header");
+        }
+        if (DebugLogging.isLoggable(logger, Level.FINEST))
+        {
+            logger.finest("Created " + restShouldBe.length + " segments for setup");
+        }
 
         try
         {
@@ -561,7 +650,10 @@ public class OggVorbisTagWriter
             {
                 //Packets are being copied literally not converted from a length, so always pass
                 //false parameter, TODO is this statement correct
-                logger.finer("Creating segments for " + extraPackets.size() + " packets");
+                if (DebugLogging.isLoggable(logger, Level.FINER))
+                {
+                    logger.finer("Creating segments for " + extraPackets.size() + " packets");
+                }
                 for (OggPageHeader.PacketStartAndLength packet : extraPackets)
                 {
                     nextPacket = createSegments(packet.getLength(), false);
@@ -635,7 +727,10 @@ public class OggVorbisTagWriter
     //this will return 256 segments which is illegal, should be checked somewhere
     private byte[] createSegments(int length, boolean quitStream)
     {
-        logger.finest("Create Segments for length:" + length + ":QuitStream:" + quitStream);
+        if (DebugLogging.isLoggable(logger, Level.FINEST))
+        {
+            logger.finest("Create Segments for length:" + length + ":QuitStream:" + quitStream);
+        }
         //It is valid to have nil length packets
         if (length == 0)
         {
@@ -677,7 +772,10 @@ public class OggVorbisTagWriter
                 totalDataSize++;
             }
         }
-        logger.finest("Require:" + totalDataSize + " segments for comment");
+        if (DebugLogging.isLoggable(logger, Level.FINEST))
+        {
+            logger.finest("Require:" + totalDataSize + " segments for comment");
+        }
 
         if (setupHeaderLength == 0)
         {
@@ -691,7 +789,10 @@ public class OggVorbisTagWriter
                 totalDataSize++;
             }
         }
-        logger.finest("Require:" + totalDataSize + " segments for comment plus setup");
+        if (DebugLogging.isLoggable(logger, Level.FINEST))
+        {
+            logger.finest("Require:" + totalDataSize + " segments for comment plus setup");
+        }
 
         for (OggPageHeader.PacketStartAndLength extraPacket : extraPacketList)
         {
@@ -709,7 +810,10 @@ public class OggVorbisTagWriter
             }
         }
 
-        logger.finest("Total No Of Segment If New Comment And Header Put On One Page:" + totalDataSize);
+        if (DebugLogging.isLoggable(logger, Level.FINEST))
+        {
+            logger.finest("Total No Of Segment If New Comment And Header Put On One Page:" + totalDataSize);
+        }
         return totalDataSize <= OggPageHeader.MAXIMUM_NO_OF_SEGMENT_SIZE;
     }
 
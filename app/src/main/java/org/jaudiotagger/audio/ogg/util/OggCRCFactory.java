@@ -18,12 +18,17 @@
  */
 package org.jaudiotagger.audio.ogg.util;
 
+import java.nio.ByteBuffer;
 import java.util.logging.Logger;
 
 
 /**
  * OffCRC Calculations
  *
+ * Ogg uses a CRC32 with polynomial 0x04c11db7, no reflection, no initial value and no final xor. The checksum is
+ * calculated eight bytes at a time using slicing-by-8 tables, and can be built up incrementally with
+ * {@link #update(int, ByteBuffer)} so that a page does not have to be copied into a single array first.
+ *
  * $Id$
  *
  * @author Raphael Slinckx (KiKiDonK)
@@ -34,21 +39,22 @@ public class OggCRCFactory
     // Logger Object
     public static Logger logger = Logger.getLogger("org.jaudiotagger.audio.ogg");
 
-    private static long[] crc_lookup = new long[256];
-    private static boolean init = false;
+    private static final int POLYNOMIAL = 0x04c11db7;
 
+    //Eight tables of 256 entries, table k holds the crc of a byte followed by k zero bytes
+    private static final int[] CRC_LOOKUP = new int[8 * 256];
 
-    public static void init()
+    static
     {
         for (int i = 0; i < 256; i++)
         {
-            long r = i << 24;
+            int r = i << 24;
 
             for (int j = 0; j < 8; j++)
             {
-                if ((r & 0x80000000L) != 0)
+                if ((r & 0x80000000) != 0)
                 {
-                    r = (r << 1) ^ 0x04c11db7L;
+                    r = (r << 1) ^ POLYNOMIAL;
                 }
                 else
                 {
@@ -56,49 +62,134 @@ public class OggCRCFactory
                 }
             }
 
-            crc_lookup[i] = (r);
+            CRC_LOOKUP[i] = r;
+        }
+
+        for (int k = 1; k < 8; k++)
+        {
+            for (int i = 0; i < 256; i++)
+            {
+                int previous = CRC_LOOKUP[(k - 1) * 256 + i];
+                CRC_LOOKUP[k * 256 + i] = (previous << 8) ^ CRC_LOOKUP[previous >>> 24];
+            }
         }
-        init = true;
     }
 
+    /**
+     * Tables are now built when the class is loaded, kept for compatibility
+     */
+    public static void init()
+    {
+    }
 
     public boolean checkCRC(byte[] data, byte[] crc)
     {
-        return new String(crc).equals(new String(computeCRC(data)));
+        byte[] computed = computeCRC(data);
+        return crc.length == computed.length
+                && crc[0] == computed[0]
+                && crc[1] == computed[1]
+                && crc[2] == computed[2]
+                && crc[3] == computed[3];
     }
 
     public static byte[] computeCRC(byte[] data)
     {
-
-        if (!init)
-        {
-            init();
-        }
-
-        long crc_reg = 0;
-
-        for (byte aData : data)
-        {
-            int tmp = (int) (((crc_reg >>> 24) & 0xff) ^ u(aData));
-
-            crc_reg = (crc_reg << 8) ^ crc_lookup[tmp];
-            crc_reg &= 0xffffffff;
-        }
+        int crc = update(0, ByteBuffer.wrap(data));
 
         byte[] sum = new byte[4];
 
-        sum[0] = (byte) (crc_reg & 0xffL);
-        sum[1] = (byte) ((crc_reg >>> 8) & 0xffL);
-        sum[2] = (byte) ((crc_reg >>> 16) & 0xffL);
-        sum[3] = (byte) ((crc_reg >>> 24) & 0xffL);
+        sum[0] = (byte) crc;
+        sum[1] = (byte) (crc >>> 8);
+        sum[2] = (byte) (crc >>> 16);
+        sum[3] = (byte) (crc >>> 24);
 
         return sum;
     }
 
+    /**
+     * Calculate the checksum of the page held in the buffer between start and end, and write it into the checksum
+     * field of the page header. The position of the buffer is not changed.
+     *
+     * @param page
+     * @param start offset of the page header in the buffer
+     * @param end offset just after the last byte of the page
+     */
+    public static void putCRC(ByteBuffer page, int start, int end)
+    {
+        int checksumPos = start + OggPageHeader.FIELD_PAGE_CHECKSUM_POS;
+
+        //CRC should be zero before calculating it
+        page.put(checksumPos, (byte) 0);
+        page.put(checksumPos + 1, (byte) 0);
+        page.put(checksumPos + 2, (byte) 0);
+        page.put(checksumPos + 3, (byte) 0);
+
+        ByteBuffer data = page.duplicate();
+        data.limit(end);
+        data.position(start);
+        int crc = update(0, data);
+
+        page.put(checksumPos, (byte) crc);
+        page.put(checksumPos + 1, (byte) (crc >>> 8));
+        page.put(checksumPos + 2, (byte) (crc >>> 16));
+        page.put(checksumPos + 3, (byte) (crc >>> 24));
+    }
 
-    private static int u(int n)
+    /**
+     * Continue a checksum over the remaining bytes of the buffer, the position of the buffer is moved to its limit
+     *
+     * @param crc checksum of the data before this buffer, 0 at the start of a page
+     * @param data
+     * @return checksum including the data
+     */
+    public static int update(int crc, ByteBuffer data)
     {
-        return n & 0xff;
+        int pos = data.position();
+        int end = data.limit();
+        if (data.hasArray())
+        {
+            crc = update(crc, data.array(), data.arrayOffset() + pos, data.arrayOffset() + end);
+        }
+        else
+        {
+            for (; pos + 8 <= end; pos += 8)
+            {
+                crc = update8(crc, data.get(pos), data.get(pos + 1), data.get(pos + 2), data.get(pos + 3),
+                        data.get(pos + 4), data.get(pos + 5), data.get(pos + 6), data.get(pos + 7));
+            }
+            for (; pos < end; pos++)
+            {
+                crc = (crc << 8) ^ CRC_LOOKUP[((crc >>> 24) ^ data.get(pos)) & 0xff];
+            }
+        }
+        data.position(end);
+        return crc;
     }
-}
 
+    private static int update(int crc, byte[] data, int pos, int end)
+    {
+        for (; pos + 8 <= end; pos += 8)
+        {
+            crc = update8(crc, data[pos], data[pos + 1], data[pos + 2], data[pos + 3],
+                    data[pos + 4], data[pos + 5], data[pos + 6], data[pos + 7]);
+        }
+        for (; pos < end; pos++)
+        {
+            crc = (crc << 8) ^ CRC_LOOKUP[((crc >>> 24) ^ data[pos]) & 0xff];
+        }
+        return crc;
+    }
+
+    private static int update8(int crc, byte b0, byte b1, byte b2, byte b3, byte b4, byte b5, byte b6, byte b7)
+    {
+        int x = crc ^ (((b0 & 0xff) << 24) | ((b1 & 0xff) << 16) | ((b2 & 0xff) << 8) | (b3 & 0xff));
+        return CRC_LOOKUP[7 * 256 + (x >>> 24)]
+                ^ CRC_LOOKUP[6 * 256 + ((x >>> 16) & 0xff)]
+                ^ CRC_LOOKUP[5 * 256 + ((x >>> 8) & 0xff)]
+                ^ CRC_LOOKUP[4 * 256 + (x & 0xff)]
+                ^ CRC_LOOKUP[3 * 256 + (b4 & 0xff)]
+                ^ CRC_LOOKUP[2 * 256 + (b5 & 0xff)]
+                ^ CRC_LOOKUP[256 + (b6 & 0xff)]
+                ^ CRC_LOOKUP[b7 & 0xff];
+    }
+}
@@ -30,6 +30,7 @@ import org.jaudiotagger.tag.id3.AbstractID3v2Tag;
 
 import java.io.IOException;
 import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.logging.Logger;
 
@@ -41,12 +42,16 @@ public class OggInfoReader
     // Logger Object
     public static Logger logger = Logger.getLogger("org.jaudiotagger.audio.ogg.atom");
 
+    //Size of the blocks the end of the file is read in when looking for the last page
+    private static final int TAIL_BLOCK_SIZE = 64 * 1024;
+
+    private static final byte[] EMPTY_CHECKSUM = new byte[OggPageHeader.FIELD_PAGE_CHECKSUM_LENGTH];
+
     public GenericAudioHeader read(RandomAccessFile raf) throws CannotReadException, IOException
     {
         long start = raf.getFilePointer();
         GenericAudioHeader info = new GenericAudioHeader();
         logger.fine("Started");
-        long oldPos;
 
         //Check start of file does it have Ogg pattern
         byte[] b = new byte[OggPageHeader.CAPTURE_PATTERN.length];
@@ -70,36 +75,13 @@ public class OggInfoReader
 
         //Now work backwards from file looking for the last ogg page, it reads the granule position for this last page
         //which must be set.
-        //TODO should do buffering to cut down the number of file reads
         raf.seek(start);
         double pcmSamplesNumber = -1;
-        raf.seek(raf.length() - 2);
-        while (raf.getFilePointer() >= 4)
+        OggPageHeader lastPageHeader = findLastPageHeader(raf);
+        if (lastPageHeader != null)
         {
-            if (raf.read() == OggPageHeader.CAPTURE_PATTERN[3])
-            {
-                raf.seek(raf.getFilePointer() - OggPageHeader.FIELD_CAPTURE_PATTERN_LENGTH);
-                byte[] ogg = new byte[3];
-                raf.readFully(ogg);
-                if (ogg[0] == OggPageHeader.CAPTURE_PATTERN[0] && ogg[1] == OggPageHeader.CAPTURE_PATTERN[1] && ogg[2] == OggPageHeader.CAPTURE_PATTERN[2])
-                {
-                    raf.seek(raf.getFilePointer() - 3);
-
-                    oldPos = raf.getFilePointer();
-                    raf.seek(raf.getFilePointer() + OggPageHeader.FIELD_PAGE_SEGMENTS_POS);
-                    int pageSegments = raf.readByte() & 0xFF; //Unsigned
-                    raf.seek(oldPos);
-
-                    b = new byte[OggPageHeader.OGG_PAGE_HEADER_FIXED_LENGTH + pageSegments];
-                    raf.readFully(b);
-
-                    OggPageHeader pageHeader = new OggPageHeader(b);
-                    raf.seek(0);
-                    pcmSamplesNumber = pageHeader.getAbsoluteGranulePosition();
-                    break;
-                }
-            }
-            raf.seek(raf.getFilePointer() - 2);
+            raf.seek(0);
+            pcmSamplesNumber = lastPageHeader.getAbsoluteGranulePosition();
         }
 
         if (pcmSamplesNumber == -1)
@@ -151,6 +133,113 @@ public class OggInfoReader
         return info;
     }
 
+    /**
+     * Find the header of the last page in the file
+     *
+     * The end of the file is read in blocks of {@link #TAIL_BLOCK_SIZE} working backwards, each block is searched in
+     * memory for the capture pattern. Every block is kept together with the start of the block after it, so a page that
+     * starts in the block can always be checked against its checksum. A match that fails the checksum may just be
+     * audio data that happens to contain the capture pattern, so the search carries on. If no page that starts within
+     * a page length of the first match is valid, the first match is used as the original search would have done.
+     *
+     * @param raf
+     * @return header of the last page, or null if no page could be found
+     * @throws IOException
+     */
+    private OggPageHeader findLastPageHeader(RandomAccessFile raf) throws IOException
+    {
+        long fileLength = raf.length();
+        byte[] window = new byte[TAIL_BLOCK_SIZE + OggPageHeader.MAXIMUM_PAGE_SIZE];
+        byte[] previousWindow = new byte[window.length];
+        int windowLength = 0;
+        OggPageHeader firstMatch = null;
+        long firstMatchPos = -1;
+
+        long blockEnd = fileLength;
+        while (blockEnd > 0)
+        {
+            long blockStart = Math.max(0, blockEnd - TAIL_BLOCK_SIZE);
+            int blockLength = (int) (blockEnd - blockStart);
+
+            //Keep the start of the previous block after this one, so any page starting in this block is in the window
+            byte[] swap = previousWindow;
+            previousWindow = window;
+            window = swap;
+            int overlap = Math.min(windowLength, OggPageHeader.MAXIMUM_PAGE_SIZE);
+            System.arraycopy(previousWindow, 0, window, blockLength, overlap);
+            raf.seek(blockStart);
+            raf.readFully(window, 0, blockLength);
+            windowLength = blockLength + overlap;
+
+            //First page is the identification header, it never holds the final granule position
+            for (int i = blockLength - 1; i >= 0 && blockStart + i > 0; i--)
+            {
+                if (firstMatch != null && firstMatchPos - (blockStart + i) > OggPageHeader.MAXIMUM_PAGE_SIZE)
+                {
+                    return firstMatch;
+                }
+
+                if (window[i] != OggPageHeader.CAPTURE_PATTERN[0]
+                        || i + OggPageHeader.OGG_PAGE_HEADER_FIXED_LENGTH > windowLength
+                        || window[i + 1] != OggPageHeader.CAPTURE_PATTERN[1]
+                        || window[i + 2] != OggPageHeader.CAPTURE_PATTERN[2]
+                        || window[i + 3] != OggPageHeader.CAPTURE_PATTERN[3])
+                {
+                    continue;
+                }
+
+                int pageSegments = window[i + OggPageHeader.FIELD_PAGE_SEGMENTS_POS] & 0xFF;
+                int headerLength = OggPageHeader.OGG_PAGE_HEADER_FIXED_LENGTH + pageSegments;
+                if (i + headerLength > windowLength)
+                {
+                    continue;
+                }
+
+                OggPageHeader pageHeader = new OggPageHeader(Arrays.copyOfRange(window, i, i + headerLength));
+                if (isPageValid(window, i, headerLength, windowLength))
+                {
+                    return pageHeader;
+                }
+                if (firstMatch == null)
+                {
+                    firstMatch = pageHeader;
+                    firstMatchPos = blockStart + i;
+                }
+            }
+            blockEnd = blockStart;
+        }
+        return firstMatch;
+    }
+
+    /**
+     * @return true if the whole page starting at offset is within the buffer and matches its checksum
+     */
+    private boolean isPageValid(byte[] buffer, int offset, int headerLength, int bufferLength)
+    {
+        int pageLength = headerLength;
+        for (int i = OggPageHeader.FIELD_SEGMENT_TABLE_POS; i < headerLength; i++)
+        {
+            pageLength += buffer[offset + i] & 0xFF;
+        }
+        if (offset + pageLength > bufferLength)
+        {
+            return false;
+        }
+
+        //Checksum is calculated with the checksum field set to zero
+        int checksumPos = offset + OggPageHeader.FIELD_PAGE_CHECKSUM_POS;
+        int crc = OggCRCFactory.update(0, ByteBuffer.wrap(buffer, offset, OggPageHeader.FIELD_PAGE_CHECKSUM_POS));
+        crc = OggCRCFactory.update(crc, ByteBuffer.wrap(EMPTY_CHECKSUM));
+        crc = OggCRCFactory.update(crc, ByteBuffer.wrap(buffer, checksumPos + OggPageHeader.FIELD_PAGE_CHECKSUM_LENGTH,
+                offset + pageLength - checksumPos - OggPageHeader.FIELD_PAGE_CHECKSUM_LENGTH));
+
+        int storedCrc = (buffer[checksumPos] & 0xFF)
+                | (buffer[checksumPos + 1] & 0xFF) << 8
+                | (buffer[checksumPos + 2] & 0xFF) << 16
+                | (buffer[checksumPos + 3] & 0xFF) << 24;
+        return crc == storedCrc;
+    }
+
     private int computeBitrate(int length, long size)
     {
         //Protect against audio less than 0.5 seconds that can be rounded to zero causing Arithmetic Exception
@@ -20,6 +20,7 @@ package org.jaudiotagger.audio.ogg.util;
 
 import org.jaudiotagger.audio.exceptions.CannotReadException;
 import org.jaudiotagger.audio.generic.Utils;
+import org.jaudiotagger.logging.DebugLogging;
 import org.jaudiotagger.logging.ErrorMessage;
 import org.jaudiotagger.tag.id3.AbstractID3v2Tag;
 
@@ -115,7 +116,10 @@ public class OggPageHeader
        {
            //byteBuffer
            int start = byteBuffer.position();
-           logger.fine("Trying to read OggPage at:" + start);
+           if (DebugLogging.isLoggable(logger, Level.FINE))
+           {
+               logger.fine("Trying to read OggPage at:" + start);
+           }
 
            byte[] b = new byte[OggPageHeader.CAPTURE_PATTERN.length];
            byteBuffer.get(b);
@@ -146,7 +150,10 @@ public class OggPageHeader
     public static OggPageHeader read(RandomAccessFile raf) throws IOException, CannotReadException
     {
         long start = raf.getFilePointer();
-        logger.fine("Trying to read OggPage at:" + start);
+        if (DebugLogging.isLoggable(logger, Level.FINE))
+        {
+            logger.fine("Trying to read OggPage at:" + start);
+        }
 
         byte[] b = new byte[OggPageHeader.CAPTURE_PATTERN.length];
         raf.read(b);
@@ -232,7 +239,7 @@ public class OggPageHeader
             isValid = true;
         }
 
-        if(logger.isLoggable(Level.CONFIG))
+        if(DebugLogging.isLoggable(logger, Level.CONFIG))
         {
             logger.config("Constructed OggPage:" + this.toString());
         }
@@ -253,7 +260,10 @@ public class OggPageHeader
 
     public double getAbsoluteGranulePosition()
     {
-        logger.fine("Number Of Samples: " + absoluteGranulePosition);
+        if (DebugLogging.isLoggable(logger, Level.FINE))
+        {
+            logger.fine("Number Of Samples: " + absoluteGranulePosition);
+        }
         return this.absoluteGranulePosition;
     }
 
@@ -272,7 +282,10 @@ public class OggPageHeader
 
     public int getPageLength()
     {
-        logger.finer("This page length: " + pageLength);
+        if (DebugLogging.isLoggable(logger, Level.FINER))
+        {
+            logger.finer("This page length: " + pageLength);
+        }
         return this.pageLength;
     }
 
@@ -19,8 +19,10 @@
 package org.jaudiotagger.audio.ogg.util;
 
 import org.jaudiotagger.audio.ogg.VorbisVersion;
+import org.jaudiotagger.logging.DebugLogging;
 
 import java.nio.charset.StandardCharsets;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 
@@ -125,18 +127,33 @@ public class VorbisIdentificationHeader implements VorbisHeader
     public void decodeHeader(byte[] b)
     {
         int packetType = b[FIELD_PACKET_TYPE_POS];
-        logger.fine("packetType" + packetType);
+        if (DebugLogging.isLoggable(logger, Level.FINE))
+        {
+            logger.fine("packetType" + packetType);
+        }
         String vorbis = new String(b, VorbisHeader.FIELD_CAPTURE_PATTERN_POS, VorbisHeader.FIELD_CAPTURE_PATTERN_LENGTH, StandardCharsets.ISO_8859_1);
 
         if (packetType == VorbisPacketType.IDENTIFICATION_HEADER.getType() && vorbis.equals(CAPTURE_PATTERN))
         {
             this.vorbisVersion = b[7] + (b[8] << 8) + (b[9] << 16) + (b[10] << 24);
-            logger.fine("vorbisVersion" + vorbisVersion);
+            if (DebugLogging.isLoggable(logger, Level.FINE))
+            {
+                logger.fine("vorbisVersion" + vorbisVersion);
+            }
             this.audioChannels = u(b[FIELD_AUDIO_CHANNELS_POS]);
-            logger.fine("audioChannels" + audioChannels);
+            if (DebugLogging.isLoggable(logger, Level.FINE))
+            {
+                logger.fine("audioChannels" + audioChannels);
+            }
             this.audioSampleRate = u(b[12]) + (u(b[13]) << 8) + (u(b[14]) << 16) + (u(b[15]) << 24);
-            logger.fine("audioSampleRate" + audioSampleRate);
-            logger.fine("audioSampleRate" + b[12] + " " + b[13] + " " + b[14]);
+            if (DebugLogging.isLoggable(logger, Level.FINE))
+            {
+                logger.fine("audioSampleRate" + audioSampleRate);
+            }
+            if (DebugLogging.isLoggable(logger, Level.FINE))
+            {
+                logger.fine("audioSampleRate" + b[12] + " " + b[13] + " " + b[14]);
+            }
 
             //TODO is this right spec says signed
             this.bitrateMinimal = u(b[16]) + (u(b[17]) << 8) + (u(b[18]) << 16) + (u(b[19]) << 24);
@@ -146,7 +163,10 @@ public class VorbisIdentificationHeader implements VorbisHeader
             //byte blockSize1 = (byte) ( b[28] & 15 );
 
             int framingFlag = b[FIELD_FRAMING_FLAG_POS];
-            logger.fine("framingFlag" + framingFlag);
+            if (DebugLogging.isLoggable(logger, Level.FINE))
+            {
+                logger.fine("framingFlag" + framingFlag);
+            }
             if (framingFlag != 0)
             {
                 isValid = true;
@@ -1,6 +1,9 @@
 package org.jaudiotagger.audio.ogg.util;
 
+import org.jaudiotagger.logging.DebugLogging;
+
 import java.nio.charset.StandardCharsets;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
@@ -32,7 +35,10 @@ public class VorbisSetupHeader implements VorbisHeader
     public void decodeHeader(byte[] b)
     {
         int packetType = b[FIELD_PACKET_TYPE_POS];
-        logger.fine("packetType" + packetType);
+        if (DebugLogging.isLoggable(logger, Level.FINE))
+        {
+            logger.fine("packetType" + packetType);
+        }
         String vorbis = new String(b, FIELD_CAPTURE_PATTERN_POS, FIELD_CAPTURE_PATTERN_LENGTH, StandardCharsets.ISO_8859_1);
         if (packetType == VorbisPacketType.SETUP_HEADER.getType() && vorbis.equals(CAPTURE_PATTERN))
         {
@@ -25,9 +25,11 @@ import android.util.Log;
 import org.jaudiotagger.audio.exceptions.CannotReadException;
 import org.jaudiotagger.audio.exceptions.CannotWriteException;
 import org.jaudiotagger.audio.generic.Utils;
+import org.jaudiotagger.audio.ogg.OggInPlaceTagWriter;
 import org.jaudiotagger.audio.ogg.util.OggCRCFactory;
 import org.jaudiotagger.audio.ogg.util.OggPageHeader;
 import org.jaudiotagger.tag.Tag;
+import org.jaudiotagger.tag.TagOptions;
 import org.jaudiotagger.tag.id3.AbstractID3v1Tag;
 import org.jaudiotagger.tag.vorbiscomment.VorbisCommentTag;
 
@@ -35,6 +37,7 @@ import java.io.IOException;
 import java.io.RandomAccessFile;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
 
 /**
  * Write VorbisComment Tag within an ogg opus file
@@ -45,6 +48,9 @@ public class OggOpusTagWriter
     private final OggOpusCommentTagCreator tc = new OggOpusCommentTagCreator();
     private final OggOpusTagReader reader = new OggOpusTagReader();
 
+    //Only the comment header follows the identification header
+    private final OggInPlaceTagWriter inPlaceWriter = new OggInPlaceTagWriter(1, OpusHeader.FIELD_CAPTURE_PATTERN_LENGTH);
+
     public void delete(RandomAccessFile raf, RandomAccessFile tempRaf) throws IOException, CannotReadException, CannotWriteException
     {
         try
@@ -64,6 +70,35 @@ public class OggOpusTagWriter
         write(emptyTag, raf, tempRaf);
     }
 
+    /**
+     * Write the tag within the original file, see {@link OggInPlaceTagWriter}
+     *
+     * @param tag
+     * @param fc
+     * @throws CannotReadException
+     * @throws CannotWriteException
+     * @throws IOException
+     */
+    public void writeInPlace(Tag tag, FileChannel fc) throws CannotReadException, CannotWriteException, IOException
+    {
+        inPlaceWriter.write(tc.convert(tag), fc);
+    }
+
+    /**
+     * Write the tag within the original file if it fits in the space of the existing one
+     *
+     * @param tag
+     * @param fc
+     * @return true if the tag was written, false if the file is unchanged
+     * @throws CannotReadException
+     * @throws CannotWriteException
+     * @throws IOException
+     */
+    public boolean writeInPlaceIfFits(Tag tag, FileChannel fc) throws CannotReadException, CannotWriteException, IOException
+    {
+        return inPlaceWriter.writeIfFits(tc.convert(tag), fc);
+    }
+
     public void write(Tag tag, RandomAccessFile raf, RandomAccessFile rafTemp) throws CannotReadException, CannotWriteException, IOException
     {
 
@@ -85,8 +120,8 @@ public class OggOpusTagWriter
         raf.seek(0);
         int opusHeaderSize = reader.readOggOpusHeaderSizes(raf);
 
-        //Convert the OggVorbisComment header to raw packet data
-        ByteBuffer newComment = tc.convert(tag);
+        //Convert the OggVorbisComment header to raw packet data, leaving room so the next change can be written in place
+        ByteBuffer newComment = OggInPlaceTagWriter.addPadding(tc.convert(tag), TagOptions.current().getOggPaddingSize());
 
         //Compute new comment length(this may need to be spread over multiple pages)
         int newCommentLength = newComment.capacity();
@@ -125,15 +160,8 @@ public class OggOpusTagWriter
      * @param page raw page data to calculate checksum from
      */
     private void calculateChecksumOverPage(ByteBuffer page) {
-        //CRC should be zero before calculating it
-        page.putInt(OggPageHeader.FIELD_PAGE_CHECKSUM_POS, 0);
-
-        //Compute CRC over the  page  //TODO shouldn't really use array();
-        byte[] crc = OggCRCFactory.computeCRC(page.array());
-        for (int i = 0; i < crc.length; i++)
-        {
-            page.put(OggPageHeader.FIELD_PAGE_CHECKSUM_POS + i, crc[i]);
-        }
+        //Compute CRC over the whole page, straight into its header
+        OggCRCFactory.putCRC(page, 0, page.capacity());
 
         //Rewind to start of Page
         page.rewind();
@@ -231,6 +259,7 @@ public class OggOpusTagWriter
         if(rafTemp.getChannel().write(secondPageBuffer) < 1){
             throw new CannotWriteException("No header data written to file");
         }
+        skipOriginalCommentPages(secondPageHeader, raf);
         writeRemainingPages(pageSequence, raf, rafTemp);
     }
 
@@ -354,9 +383,27 @@ public class OggOpusTagWriter
         }
 
         //Write the rest of the original file
+        skipOriginalCommentPages(secondPageHeader, raf);
         writeRemainingPages(pageSequence, raf, rafTemp);
     }
 
+    /**
+     * Move past the pages holding the original comment header so only the audio pages are left to be copied
+     *
+     * @param secondPageHeader original second page header
+     * @param raf audio file
+     */
+    private void skipOriginalCommentPages(OggPageHeader secondPageHeader, RandomAccessFile raf) throws IOException, CannotReadException
+    {
+        OggPageHeader pageHeader = secondPageHeader;
+        raf.seek(pageHeader.getStartByte() + pageHeader.getRawHeaderData().length + pageHeader.getPageLength());
+        while (pageHeader.isLastPacketIncomplete())
+        {
+            pageHeader = OggPageHeader.read(raf);
+            raf.skipBytes(pageHeader.getPageLength());
+        }
+    }
+
     /**
      * Write all the remaining pages as they are except that the page sequence needs to be modified.
      *
@@ -372,6 +419,8 @@ public class OggOpusTagWriter
         //TODO there is a risk we wont have enough memory to create these buffers
         ByteBuffer bb       = ByteBuffer.allocate((int) (raf.length() - raf.getFilePointer()));
         ByteBuffer bbTemp   = ByteBuffer.allocate((int)(raf.length() - raf.getFilePointer()));
+        //LE so we can use putInt method for the page sequence
+        bbTemp.order(ByteOrder.LITTLE_ENDIAN);
 
         //Read in the rest of the data into bytebuffer and rewind it to start
         raf.getChannel().read(bb);
@@ -399,20 +448,16 @@ public class OggOpusTagWriter
                     throw cre;
                 }
             }
-            //Create buffer large enough for next page (header and data) and set byte order to LE so we can use
-            //putInt method
-            ByteBuffer nextPageHeaderBuffer = ByteBuffer.allocate(nextPage.getRawHeaderData().length + nextPage.getPageLength());
-            nextPageHeaderBuffer.order(ByteOrder.LITTLE_ENDIAN);
-            nextPageHeaderBuffer.put(nextPage.getRawHeaderData());
+            //Copy the page (header and data) straight into the output, then renumber it and recalculate its
+            //checksum in place
+            int pageStart = bbTemp.position();
+            bbTemp.put(nextPage.getRawHeaderData());
             ByteBuffer data = bb.slice();
             data.limit(nextPage.getPageLength());
-            nextPageHeaderBuffer.put(data);
-            nextPageHeaderBuffer.putInt(OggPageHeader.FIELD_PAGE_SEQUENCE_NO_POS, ++pageSequence);
-            calculateChecksumOverPage(nextPageHeaderBuffer);
+            bbTemp.put(data);
+            bbTemp.putInt(pageStart + OggPageHeader.FIELD_PAGE_SEQUENCE_NO_POS, ++pageSequence);
+            OggCRCFactory.putCRC(bbTemp, pageStart, bbTemp.position());
             bb.position(bb.position() + nextPage.getPageLength());
-
-            nextPageHeaderBuffer.rewind();
-            bbTemp.put(nextPageHeaderBuffer);
         }
         //Now just write as a single IO operation
         bbTemp.flip();
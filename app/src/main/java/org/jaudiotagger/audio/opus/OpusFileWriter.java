@@ -27,6 +27,7 @@ import org.jaudiotagger.tag.Tag;
 
 import java.io.IOException;
 import java.io.RandomAccessFile;
+import java.nio.channels.FileChannel;
 import java.util.logging.Logger;
 
 /**
@@ -45,6 +46,21 @@ public class OpusFileWriter extends AudioFileWriter
         vtw.write(tag, raf, rafTemp);
     }
 
+    protected void writeTagInPlace(AudioFile audioFile, Tag tag, FileChannel fc) throws CannotReadException, CannotWriteException, IOException
+    {
+        vtw.writeInPlace(tag, fc);
+    }
+
+    protected boolean writeTagIfFits(AudioFile audioFile, Tag tag, FileChannel fc) throws CannotReadException, CannotWriteException, IOException
+    {
+        return vtw.writeInPlaceIfFits(tag, fc);
+    }
+
+    protected boolean isWritableInPlace()
+    {
+        return true;
+    }
+
     protected void deleteTag(Tag tag, RandomAccessFile raf, RandomAccessFile tempRaf) throws CannotReadException, CannotWriteException, IOException
     {
         vtw.delete(raf, tempRaf);
@@ -3,15 +3,18 @@ package org.jaudiotagger.audio.wav;
 import org.jaudiotagger.audio.exceptions.CannotReadException;
 import org.jaudiotagger.audio.iff.ChunkHeader;
 import org.jaudiotagger.audio.iff.IffHeaderChunk;
+import org.jaudiotagger.logging.DebugLogging;
 import org.jaudiotagger.logging.Hex;
 
 import java.io.File;
 import java.io.IOException;
 import java.nio.ByteOrder;
 import java.nio.channels.FileChannel;
+import java.nio.channels.SeekableByteChannel;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardOpenOption;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
@@ -77,7 +80,7 @@ public class WavCleaner
      * @throws IOException
      * @throws CannotReadException
      */
-    private int readChunk(FileChannel fc) throws IOException, CannotReadException
+    private int readChunk(SeekableByteChannel fc) throws IOException, CannotReadException
     {
         ChunkHeader chunkHeader = new ChunkHeader(ByteOrder.LITTLE_ENDIAN);
         if (!chunkHeader.readHeader(fc))
@@ -86,9 +89,12 @@ public class WavCleaner
         }
 
         String id = chunkHeader.getID();
-        logger.config(loggingName + " Reading Chunk:" + id
-                + ":starting at:" +Hex.asDecAndHex(chunkHeader.getStartLocationInFile())
-                + ":sizeIncHeader:" + (chunkHeader.getSize() + ChunkHeader.CHUNK_HEADER_SIZE));
+        if (DebugLogging.isLoggable(logger, Level.CONFIG))
+        {
+            logger.config(loggingName + " Reading Chunk:" + id
+                    + ":starting at:" +Hex.asDecAndHex(chunkHeader.getStartLocationInFile())
+                    + ":sizeIncHeader:" + (chunkHeader.getSize() + ChunkHeader.CHUNK_HEADER_SIZE));
+        }
         final WavChunkType chunkType = WavChunkType.get(id);
 
         //If known chunkType
@@ -105,7 +111,10 @@ public class WavCleaner
 
                 //Dont need to do anything with these just skip
                 default:
-                    logger.config(loggingName + " Skipping chunk bytes:" + chunkHeader.getSize());
+                    if (DebugLogging.isLoggable(logger, Level.CONFIG))
+                    {
+                        logger.config(loggingName + " Skipping chunk bytes:" + chunkHeader.getSize());
+                    }
                     fc.position(fc.position() + chunkHeader.getSize());
             }
         }
@@ -18,14 +18,17 @@
  */
 package org.jaudiotagger.audio.wav;
 
+import org.jaudiotagger.audio.AudioFile;
 import org.jaudiotagger.audio.exceptions.CannotReadException;
 import org.jaudiotagger.audio.generic.AudioFileReader2;
 import org.jaudiotagger.audio.generic.GenericAudioHeader;
 import org.jaudiotagger.tag.Tag;
-import org.jaudiotagger.tag.TagOptionSingleton;
+import org.jaudiotagger.tag.TagOptions;
 import org.jaudiotagger.tag.wav.WavTag;
 
+import java.io.File;
 import java.io.IOException;
+import java.nio.channels.SeekableByteChannel;
 import java.nio.file.Path;
 
 /**
@@ -47,8 +50,30 @@ public class WavFileReader extends AudioFileReader2
     @Override
     protected Tag getTag(Path path) throws IOException, CannotReadException
     {           
-        WavTag tag =  new WavTagReader(path.toString()).read(path);
-        switch (TagOptionSingleton.getInstance().getWavOptions())
+        return syncTagsAfterRead(new WavTagReader(path.toString()).read(path));
+    }
+
+    @Override
+    protected AudioFile readEncodingInfoAndTag(File f, Path path) throws CannotReadException, IOException
+    {
+        return readEncodingInfoAndTagFromChannel(f, path);
+    }
+
+    /**
+     * Read the audio header and the tag using the same open channel
+     */
+    @Override
+    protected AudioFile readEncodingInfoAndTag(SeekableByteChannel fc, String name) throws CannotReadException, IOException
+    {
+        GenericAudioHeader info = new WavInfoReader(name).read(fc);
+        fc.position(0);
+        Tag tag = syncTagsAfterRead(new WavTagReader(name).read(fc));
+        return new AudioFile((File) null, info, tag);
+    }
+
+    private WavTag syncTagsAfterRead(WavTag tag)
+    {
+        switch (TagOptions.current().getWavOptions())
         {
             case READ_ID3_ONLY_AND_SYNC:
             case READ_ID3_UNLESS_ONLY_INFO_AND_SYNC:
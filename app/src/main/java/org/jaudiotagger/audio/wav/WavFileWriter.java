@@ -22,6 +22,8 @@ import org.jaudiotagger.audio.exceptions.CannotWriteException;
 import org.jaudiotagger.audio.generic.AudioFileWriter2;
 import org.jaudiotagger.tag.Tag;
 
+import java.io.IOException;
+import java.nio.channels.SeekableByteChannel;
 import java.nio.file.Path;
 
 public class WavFileWriter extends AudioFileWriter2
@@ -32,6 +34,12 @@ public class WavFileWriter extends AudioFileWriter2
         new WavTagWriter(file.toString()).write(tag, file);
     }
 
+    @Override
+    protected void writeTag(Tag tag, SeekableByteChannel fc, String fileName) throws CannotWriteException, IOException
+    {
+        new WavTagWriter(fileName).write(tag, fc);
+    }
+
     @Override
     protected void deleteTag(Tag tag, Path file) throws CannotWriteException
     {
@@ -20,10 +20,12 @@ package org.jaudiotagger.audio.wav;
 
 import org.jaudiotagger.audio.exceptions.CannotReadException;
 import org.jaudiotagger.audio.generic.Utils;
+import org.jaudiotagger.logging.DebugLogging;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
-import java.nio.channels.FileChannel;
+import java.nio.channels.SeekableByteChannel;
+import java.util.logging.Level;
 
 import static org.jaudiotagger.audio.iff.IffHeaderChunk.FORM_HEADER_LENGTH;
 import static org.jaudiotagger.audio.iff.IffHeaderChunk.logger;
@@ -38,7 +40,7 @@ public class WavRIFFHeader
     public static final String RIFF_SIGNATURE = "RIFF";
     public static final String WAVE_SIGNATURE = "WAVE";
 
-    public static boolean isValidHeader(String loggingName, FileChannel fc) throws IOException, CannotReadException
+    public static boolean isValidHeader(String loggingName, SeekableByteChannel fc) throws IOException, CannotReadException
     {
         if (fc.size() - fc.position() < FORM_HEADER_LENGTH)
         {
@@ -47,7 +49,11 @@ public class WavRIFFHeader
         ByteBuffer headerBuffer = Utils.readFileDataIntoBufferLE(fc, FORM_HEADER_LENGTH);
         if(Utils.readFourBytesAsChars(headerBuffer).equals(RIFF_SIGNATURE))
         {
-            logger.finer(loggingName+":Header:File:Size:"+headerBuffer.getInt()); //Size
+            int size = headerBuffer.getInt();
+            if (DebugLogging.isLoggable(logger, Level.FINER))
+            {
+                logger.finer(loggingName+":Header:File:Size:"+size); //Size
+            }
             if(Utils.readFourBytesAsChars(headerBuffer).equals(WAVE_SIGNATURE))
             {
                 return true;
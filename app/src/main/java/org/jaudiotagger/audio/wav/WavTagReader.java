@@ -24,8 +24,9 @@ import org.jaudiotagger.audio.iff.*;
 import org.jaudiotagger.audio.wav.chunk.WavCorruptChunkType;
 import org.jaudiotagger.audio.wav.chunk.WavId3Chunk;
 import org.jaudiotagger.audio.wav.chunk.WavListChunk;
+import org.jaudiotagger.logging.DebugLogging;
 import org.jaudiotagger.logging.Hex;
-import org.jaudiotagger.tag.TagOptionSingleton;
+import org.jaudiotagger.tag.TagOptions;
 import org.jaudiotagger.tag.wav.WavInfoTag;
 import org.jaudiotagger.tag.wav.WavTag;
 
@@ -33,8 +34,10 @@ import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.nio.channels.FileChannel;
+import java.nio.channels.SeekableByteChannel;
 import java.nio.file.Path;
 import java.util.List;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
@@ -61,24 +64,40 @@ public class WavTagReader
      */
     public WavTag read(Path path) throws CannotReadException, IOException
     {
-        logger.config(loggingName + " Read Tag:start");
-        WavTag tag = new WavTag(TagOptionSingleton.getInstance().getWavOptions());
         try(FileChannel fc = FileChannel.open(path))
         {
-            if (WavRIFFHeader.isValidHeader(loggingName, fc))
+            return read(fc);
+        }
+    }
+
+    /**
+     * Read tag metadata from an open channel positioned at the start of the file
+     *
+     * @param fc
+     * @return
+     * @throws CannotReadException
+     * @throws IOException
+     */
+    public WavTag read(SeekableByteChannel fc) throws CannotReadException, IOException
+    {
+        if (DebugLogging.isLoggable(logger, Level.CONFIG))
+        {
+            logger.config(loggingName + " Read Tag:start");
+        }
+        WavTag tag = new WavTag(TagOptions.current().getWavOptions());
+        if (WavRIFFHeader.isValidHeader(loggingName, fc))
+        {
+            while (fc.position() < fc.size())
             {
-                while (fc.position() < fc.size())
+                if (!readChunk(fc, tag))
                 {
-                    if (!readChunk(fc, tag))
-                    {
-                        break;
-                    }
+                    break;
                 }
             }
-            else
-            {
-                throw new CannotReadException(loggingName+ " Wav RIFF Header not valid");
-            }
+        }
+        else
+        {
+            throw new CannotReadException(loggingName+ " Wav RIFF Header not valid");
         }
 
         //Ensure we have read audio data chunk okay
@@ -98,7 +117,10 @@ public class WavTagReader
         }
 
         createDefaultMetadataTagsIfMissing(tag);
-        logger.config(loggingName + " Read Tag:end");
+        if (DebugLogging.isLoggable(logger, Level.CONFIG))
+        {
+            logger.config(loggingName + " Read Tag:end");
+        }
         return tag;
     }
 
@@ -129,7 +151,7 @@ public class WavTagReader
      * @return
      * @throws IOException
      */
-    protected boolean readChunk(FileChannel fc, WavTag tag)throws IOException, CannotReadException
+    protected boolean readChunk(SeekableByteChannel fc, WavTag tag)throws IOException, CannotReadException
     {
         Chunk chunk;
         ChunkHeader chunkHeader = new ChunkHeader(ByteOrder.LITTLE_ENDIAN);
@@ -28,6 +28,7 @@ import org.jaudiotagger.audio.iff.IffHeaderChunk;
 import org.jaudiotagger.audio.iff.PaddingChunkSummary;
 import org.jaudiotagger.audio.wav.chunk.WavChunkSummary;
 import org.jaudiotagger.audio.wav.chunk.WavInfoIdentifier;
+import org.jaudiotagger.logging.DebugLogging;
 import org.jaudiotagger.tag.*;
 import org.jaudiotagger.tag.wav.WavInfoTag;
 import org.jaudiotagger.tag.wav.WavTag;
@@ -38,11 +39,13 @@ import java.io.UnsupportedEncodingException;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.nio.channels.FileChannel;
+import java.nio.channels.SeekableByteChannel;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
 import java.util.*;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import static org.jaudiotagger.audio.iff.IffHeaderChunk.SIGNATURE_LENGTH;
@@ -85,6 +88,29 @@ public class WavTagWriter
         }
     }
 
+    /**
+     * Read existing metadata from the channel, leaving it positioned at the start of the file
+     *
+     * @param fc
+     * @return tags within Tag wrapper
+     * @throws IOException
+     * @throws CannotWriteException
+     */
+    private WavTag getExistingMetadata(SeekableByteChannel fc) throws IOException, CannotWriteException
+    {
+        try
+        {
+            fc.position(0);
+            WavTag existingTag = new WavTagReader(loggingName).read(fc);
+            fc.position(0);
+            return existingTag;
+        }
+        catch (CannotReadException ex)
+        {
+            throw new CannotWriteException("Failed to read file "+loggingName);
+        }
+    }
+
     /**
      * Seek in file to start of LIST Metadata chunk
      *
@@ -93,7 +119,7 @@ public class WavTagWriter
      * @throws IOException
      * @throws CannotWriteException
      */
-    public ChunkHeader seekToStartOfListInfoMetadata(FileChannel fc, WavTag existingTag) throws IOException, CannotWriteException
+    public ChunkHeader seekToStartOfListInfoMetadata(SeekableByteChannel fc, WavTag existingTag) throws IOException, CannotWriteException
     {
         fc.position(existingTag.getInfoTag().getStartLocationInFile());
         final ChunkHeader chunkHeader = new ChunkHeader(ByteOrder.LITTLE_ENDIAN);
@@ -107,7 +133,7 @@ public class WavTagWriter
         return chunkHeader;
     }
 
-    public ChunkHeader seekToStartOfListInfoMetadataForChunkSummaryHeader(FileChannel fc, ChunkSummary cs) throws IOException, CannotWriteException
+    public ChunkHeader seekToStartOfListInfoMetadataForChunkSummaryHeader(SeekableByteChannel fc, ChunkSummary cs) throws IOException, CannotWriteException
     {
         fc.position(cs.getFileStartLocation());
         final ChunkHeader chunkHeader = new ChunkHeader(ByteOrder.LITTLE_ENDIAN);
@@ -129,7 +155,7 @@ public class WavTagWriter
      * @throws IOException
      * @throws CannotWriteException
      */
-    public ChunkHeader seekToStartOfId3MetadataForChunkSummaryHeader(FileChannel fc, WavTag existingTag) throws IOException, CannotWriteException
+    public ChunkHeader seekToStartOfId3MetadataForChunkSummaryHeader(SeekableByteChannel fc, WavTag existingTag) throws IOException, CannotWriteException
     {
         logger.info(loggingName+":seekToStartOfIdMetadata:"+existingTag.getStartLocationInFileOfId3Chunk());
         fc.position(existingTag.getStartLocationInFileOfId3Chunk());
@@ -151,7 +177,7 @@ public class WavTagWriter
         return chunkHeader;
     }
 
-    public ChunkHeader seekToStartOfId3MetadataForChunkSummaryHeader(FileChannel fc, ChunkSummary chunkSummary) throws IOException, CannotWriteException
+    public ChunkHeader seekToStartOfId3MetadataForChunkSummaryHeader(SeekableByteChannel fc, ChunkSummary chunkSummary) throws IOException, CannotWriteException
     {
         logger.severe(loggingName+":seekToStartOfIdMetadata:"+chunkSummary.getFileStartLocation());
         fc.position(chunkSummary.getFileStartLocation());
@@ -302,7 +328,7 @@ public class WavTagWriter
      * @param chunkHeader
      * @throws IOException
      */
-    private void deleteInfoTagChunk(final FileChannel fc, final WavTag existingTag, final ChunkHeader chunkHeader) throws IOException
+    private void deleteInfoTagChunk(final SeekableByteChannel fc, final WavTag existingTag, final ChunkHeader chunkHeader) throws IOException
     {
         final WavInfoTag existingInfoTag = existingTag.getInfoTag();
         final int lengthTagChunk = (int) chunkHeader.getSize() + ChunkHeader.CHUNK_HEADER_SIZE;
@@ -317,7 +343,7 @@ public class WavTagWriter
      * @param chunkHeader
      * @throws IOException
      */
-    private void deleteId3TagChunk(FileChannel fc, final WavTag existingTag, final ChunkHeader chunkHeader) throws IOException
+    private void deleteId3TagChunk(SeekableByteChannel fc, final WavTag existingTag, final ChunkHeader chunkHeader) throws IOException
     {
         final int lengthTagChunk = (int) chunkHeader.getSize() + ChunkHeader.CHUNK_HEADER_SIZE;
         if (Utils.isOddLength(existingTag.getEndLocationInFileOfId3Chunk()))
@@ -344,12 +370,12 @@ public class WavTagWriter
      * @param lengthTagChunk
      * @throws IOException
      */
-    private void deleteTagChunk(final FileChannel fc, int endOfExistingChunk, final int lengthTagChunk) throws IOException
+    private void deleteTagChunk(final SeekableByteChannel fc, int endOfExistingChunk, final int lengthTagChunk) throws IOException
     {
         //Position for reading after the tag
         fc.position(endOfExistingChunk);
 
-        final ByteBuffer buffer = ByteBuffer.allocate((int) TagOptionSingleton.getInstance().getWriteChunkSize());
+        final ByteBuffer buffer = ByteBuffer.allocate((int) TagOptions.current().getWriteChunkSize());
         while (fc.read(buffer) >= 0 || buffer.position() != 0)
         {
             buffer.flip();
@@ -373,18 +399,37 @@ public class WavTagWriter
      */
     public void write(final Tag tag, Path file) throws CannotWriteException
     {
-        logger.config(loggingName + " Writing tag to file:start");
-
-        WavSaveOptions wso = TagOptionSingleton.getInstance().getWavSaveOptions();
-        WavTag existingTag = null;
-        try
+        try(FileChannel fc = FileChannel.open(file, StandardOpenOption.WRITE, StandardOpenOption.READ))
         {
-            existingTag = getExistingMetadata(file);
+            write(tag, fc);
+        }
+        catch(AccessDeniedException ade)
+        {
+            throw new NoWritePermissionsException(file + ":" + ade.getMessage());
         }
         catch(IOException ioe)
         {
             throw new CannotWriteException(file + ":" + ioe.getMessage());
         }
+    }
+
+    /**
+     * Write tag to a channel opened for reading and writing, the channel is left open
+     *
+     * @param tag
+     * @param fc
+     * @throws CannotWriteException
+     * @throws IOException
+     */
+    public void write(final Tag tag, SeekableByteChannel fc) throws CannotWriteException, IOException
+    {
+        if (DebugLogging.isLoggable(logger, Level.CONFIG))
+        {
+            logger.config(loggingName + " Writing tag to file:start");
+        }
+
+        WavSaveOptions wso = TagOptions.current().getWavSaveOptions();
+        WavTag existingTag = getExistingMetadata(fc);
 
         //TODO in some case we can fix the files, as we can only open the file if we have successfully
         //retrieved audio data
@@ -393,89 +438,77 @@ public class WavTagWriter
             throw new CannotWriteException("Unable to make changes to this file because contains bad chunk data");
         }
 
-        try(FileChannel fc = FileChannel.open(file, StandardOpenOption.WRITE, StandardOpenOption.READ))
+        final WavTag wavTag = (WavTag) tag;
+        if (wso == WavSaveOptions.SAVE_BOTH)
         {
-            final WavTag wavTag = (WavTag) tag;
-            if (wso == WavSaveOptions.SAVE_BOTH)
-            {
-                saveBoth(wavTag, fc, existingTag);
-            }
-            else if (wso == WavSaveOptions.SAVE_ACTIVE)
-            {
-                saveActive(wavTag, fc, existingTag);
-            }
-            else if (wso == WavSaveOptions.SAVE_EXISTING_AND_ACTIVE)
-            {
-                saveActiveExisting(wavTag, fc, existingTag);
-            }
-            else if (wso == WavSaveOptions.SAVE_BOTH_AND_SYNC)
-            {
-                wavTag.syncTagBeforeWrite();
-                saveBoth(wavTag, fc, existingTag);
-            }
-            else if (wso == WavSaveOptions.SAVE_EXISTING_AND_ACTIVE_AND_SYNC)
-            {
-                wavTag.syncTagBeforeWrite();
-                saveActiveExisting(wavTag, fc, existingTag);
-            }
-            //Invalid Option, should never happen
-            else
-            {
-                throw new RuntimeException(loggingName + " No setting for:WavSaveOptions");
-            }
+            saveBoth(wavTag, fc, existingTag);
+        }
+        else if (wso == WavSaveOptions.SAVE_ACTIVE)
+        {
+            saveActive(wavTag, fc, existingTag);
+        }
+        else if (wso == WavSaveOptions.SAVE_EXISTING_AND_ACTIVE)
+        {
+            saveActiveExisting(wavTag, fc, existingTag);
+        }
+        else if (wso == WavSaveOptions.SAVE_BOTH_AND_SYNC)
+        {
+            wavTag.syncTagBeforeWrite();
+            saveBoth(wavTag, fc, existingTag);
+        }
+        else if (wso == WavSaveOptions.SAVE_EXISTING_AND_ACTIVE_AND_SYNC)
+        {
+            wavTag.syncTagBeforeWrite();
+            saveActiveExisting(wavTag, fc, existingTag);
+        }
+        //Invalid Option, should never happen
+        else
+        {
+            throw new RuntimeException(loggingName + " No setting for:WavSaveOptions");
+        }
 
-            //If we had non-standard padding check it still exists and if so remove it
-            if(existingTag.isNonStandardPadding())
+        //If we had non-standard padding check it still exists and if so remove it
+        if(existingTag.isNonStandardPadding())
+        {
+            for(ChunkSummary cs: existingTag.getChunkSummaryList())
             {
-                for(ChunkSummary cs: existingTag.getChunkSummaryList())
+                //Note, can only delete a single padding section
+                if(cs instanceof PaddingChunkSummary)
                 {
-                    //Note, can only delete a single padding section
-                    if(cs instanceof PaddingChunkSummary)
+                    boolean isPaddingData = true;
+                    fc.position(cs.getFileStartLocation());
+                    ByteBuffer paddingData = ByteBuffer.allocate((int)cs.getChunkSize());
+                    fc.read(paddingData);
+                    paddingData.flip();
+                    while(paddingData.position() < paddingData.limit())
                     {
-                        boolean isPaddingData = true;
-                        fc.position(cs.getFileStartLocation());
-                        ByteBuffer paddingData = ByteBuffer.allocate((int)cs.getChunkSize());
-                        fc.read(paddingData);
-                        paddingData.flip();
-                        while(paddingData.position() < paddingData.limit())
+                        if(paddingData.get()!=0)
                         {
-                            if(paddingData.get()!=0)
-                            {
-                                isPaddingData =false;
-                            }
+                            isPaddingData =false;
                         }
+                    }
 
-                        if(isPaddingData)
-                        {
-                            fc.position(cs.getFileStartLocation());
-                            deletePaddingChunk(fc, (int)cs.getEndLocation(), (int)cs.getChunkSize() + ChunkHeader.CHUNK_HEADER_SIZE);
-                        }
-                        break;
+                    if(isPaddingData)
+                    {
+                        fc.position(cs.getFileStartLocation());
+                        deletePaddingChunk(fc, (int)cs.getEndLocation(), (int)cs.getChunkSize() + ChunkHeader.CHUNK_HEADER_SIZE);
                     }
+                    break;
                 }
             }
-
-            rewriteRiffHeaderSize(fc);
-        }
-        catch(AccessDeniedException ade)
-        {
-            throw new NoWritePermissionsException(file + ":" + ade.getMessage());
-        }
-        catch(IOException ioe)
-        {
-            throw new CannotWriteException(file + ":" + ioe.getMessage());
         }
 
+        rewriteRiffHeaderSize(fc);
 
         logger.severe(loggingName + " Writing tag to file:Done");
     }
 
-    private void deletePaddingChunk(final FileChannel fc, int endOfExistingChunk, final int lengthTagChunk) throws IOException
+    private void deletePaddingChunk(final SeekableByteChannel fc, int endOfExistingChunk, final int lengthTagChunk) throws IOException
     {
         //Position for reading after the tag
         fc.position(endOfExistingChunk);
 
-        final ByteBuffer buffer = ByteBuffer.allocate((int) TagOptionSingleton.getInstance().getWriteChunkSize());
+        final ByteBuffer buffer = ByteBuffer.allocate((int) TagOptions.current().getWriteChunkSize());
         while (fc.read(buffer) >= 0 || buffer.position() != 0)
         {
             buffer.flip();
@@ -487,7 +520,10 @@ public class WavTagWriter
         }
         //Truncate the file after the last chunk
         final long newLength = fc.size() - lengthTagChunk;
-        logger.config(loggingName + "-------------Setting new length to:" + newLength);
+        if (DebugLogging.isLoggable(logger, Level.CONFIG))
+        {
+            logger.config(loggingName + "-------------Setting new length to:" + newLength);
+        }
         fc.truncate(newLength);
     }
 
@@ -497,7 +533,7 @@ public class WavTagWriter
      * @param fc
      * @throws IOException
      */
-    private void rewriteRiffHeaderSize(FileChannel fc) throws IOException
+    private void rewriteRiffHeaderSize(SeekableByteChannel fc) throws IOException
     {
         fc.position(IffHeaderChunk.SIGNATURE_LENGTH);
         ByteBuffer bb = ByteBuffer.allocateDirect(IffHeaderChunk.SIZE_LENGTH);
@@ -517,7 +553,7 @@ public class WavTagWriter
      * @param chunkSize chunk size
      * @throws java.io.IOException
      */
-    private void writeInfoDataToFile(FileChannel fc, final ByteBuffer bb, final long chunkSize) throws IOException
+    private void writeInfoDataToFile(SeekableByteChannel fc, final ByteBuffer bb, final long chunkSize) throws IOException
     {
         if (Utils.isOddLength(fc.position()))
         {
@@ -543,7 +579,7 @@ public class WavTagWriter
      * @param bb
      * @throws IOException
      */
-    private void writeInfoDataToFile(final FileChannel fc, final ByteBuffer bb) throws IOException
+    private void writeInfoDataToFile(final SeekableByteChannel fc, final ByteBuffer bb) throws IOException
     {
         writeInfoDataToFile(fc, bb, bb.limit());
     }
@@ -556,7 +592,7 @@ public class WavTagWriter
      * @param bb        data to write
      * @throws java.io.IOException
      */
-    private void writeId3DataToFile(final FileChannel fc, final ByteBuffer bb) throws IOException
+    private void writeId3DataToFile(final SeekableByteChannel fc, final ByteBuffer bb) throws IOException
     {
         if(Utils.isOddLength(fc.position()))
         {
@@ -582,7 +618,7 @@ public class WavTagWriter
      * @param paddingSize
      * @throws IOException
      */
-    private void writePaddingToFile(final FileChannel  fc, final int paddingSize) throws IOException
+    private void writePaddingToFile(final SeekableByteChannel  fc, final int paddingSize) throws IOException
     {
         fc.write(ByteBuffer.allocateDirect(paddingSize));
     }
@@ -612,7 +648,10 @@ public class WavTagWriter
         try
         {
             baos.write(code.getBytes(StandardCharsets.US_ASCII));
-            logger.config(loggingName + " Writing:" + code + ":" + tagTextField.getContent());
+            if (DebugLogging.isLoggable(logger, Level.CONFIG))
+            {
+                logger.config(loggingName + " Writing:" + code + ":" + tagTextField.getContent());
+            }
 
             byte[] contentConvertedToBytes = tagTextField.getContent().getBytes(StandardCharsets.ISO_8859_1);
             baos.write(Utils.getSizeLEInt32(contentConvertedToBytes.length));
@@ -639,6 +678,7 @@ public class WavTagWriter
      */
     public ByteBuffer convertInfoChunk(final WavTag tag)
     {
+        TagOptions options = TagOptions.current();
 
         ByteArrayOutputStream baos = new ByteArrayOutputStream();
         WavInfoTag wif = tag.getInfoTag();
@@ -659,7 +699,7 @@ public class WavTagWriter
             //Add a duplicated record for Twonky if option enabled
             if(wii==WavInfoIdentifier.TRACKNO)
             {
-                if(TagOptionSingleton.getInstance().isWriteWavForTwonky())
+                if(options.isWriteWavForTwonky())
                 {
                     isTrackRewritten =true;
                     writeField( next, WavInfoIdentifier.TWONKY_TRACKNO.getCode(), baos);
@@ -676,7 +716,7 @@ public class WavTagWriter
             if(next.getId().equals(WavInfoIdentifier.TWONKY_TRACKNO.getCode()))
             {
                 //Write only if has option set and not already written
-                if(!isTrackRewritten && TagOptionSingleton.getInstance().isWriteWavForTwonky())
+                if(!isTrackRewritten && options.isWriteWavForTwonky())
                 {
                     isTrackRewritten =true;
                     writeField( next, WavInfoIdentifier.TWONKY_TRACKNO.getCode(), baos);
@@ -780,7 +820,7 @@ public class WavTagWriter
      * @return
      * @throws IOException
      */
-    private BothTagsFileStructure checkExistingLocations(WavTag wavTag, FileChannel fc) throws IOException
+    private BothTagsFileStructure checkExistingLocations(WavTag wavTag, SeekableByteChannel fc) throws IOException
     {
         BothTagsFileStructure fs = new BothTagsFileStructure();
         if(wavTag.getInfoTag().getStartLocationInFile() < wavTag.getID3Tag().getStartLocationInFile())
@@ -820,7 +860,7 @@ public class WavTagWriter
      * @throws CannotWriteException
      * @throws IOException
      */
-    private void writeInfoChunk(FileChannel fc, final WavInfoTag existingInfoTag, ByteBuffer newTagBuffer)
+    private void writeInfoChunk(SeekableByteChannel fc, final WavInfoTag existingInfoTag, ByteBuffer newTagBuffer)
             throws CannotWriteException, IOException
     {
         long newInfoTagSize = newTagBuffer.limit();
@@ -849,7 +889,7 @@ public class WavTagWriter
      * @param size
      * @throws IOException
      */
-    private void writeExtraByteIfChunkOddSize(FileChannel fc, long size )
+    private void writeExtraByteIfChunkOddSize(SeekableByteChannel fc, long size )
             throws IOException
     {
         if (Utils.isOddLength(size))
@@ -868,7 +908,7 @@ public class WavTagWriter
      *
      * @throws IOException
      */
-    private boolean isID3TagAtEndOfFileAllowingForPaddingByte(WavTag existingTag, FileChannel fc) throws IOException
+    private boolean isID3TagAtEndOfFileAllowingForPaddingByte(WavTag existingTag, SeekableByteChannel fc) throws IOException
     {
         return ((existingTag.getID3Tag().getEndLocationInFile() == fc.size())||
                 (((existingTag.getID3Tag().getEndLocationInFile() & 1) != 0) && existingTag.getID3Tag().getEndLocationInFile() + 1 == fc.size()));
@@ -881,7 +921,7 @@ public class WavTagWriter
      * @return
      * @throws IOException
      */
-    private boolean isInfoTagAtEndOfFileAllowingForPaddingByte(WavTag existingTag, FileChannel fc) throws IOException
+    private boolean isInfoTagAtEndOfFileAllowingForPaddingByte(WavTag existingTag, SeekableByteChannel fc) throws IOException
     {
         return ((existingTag.getInfoTag().getEndLocationInFile() == fc.size())||
                 (((existingTag.getInfoTag().getEndLocationInFile() & 1) != 0) && existingTag.getInfoTag().getEndLocationInFile() + 1 == fc.size()));
@@ -897,9 +937,10 @@ public class WavTagWriter
      * @throws CannotWriteException
      * @throws IOException
      */
-    private void saveBoth(WavTag wavTag, FileChannel fc,  final WavTag existingTag )
+    private void saveBoth(WavTag wavTag, SeekableByteChannel fc,  final WavTag existingTag )
             throws CannotWriteException, IOException
     {
+        TagOptions options = TagOptions.current();
         final ByteBuffer infoTagBuffer = convertInfoChunk(wavTag);
         final long newInfoTagSize = infoTagBuffer.limit();
 
@@ -910,7 +951,7 @@ public class WavTagWriter
         {
             deleteExistingMetadataTagsToEndOfFile(fc, existingTag);
 
-            if(TagOptionSingleton.getInstance().getWavSaveOrder()==WavSaveOrder.INFO_THEN_ID3)
+            if(options.getWavSaveOrder()==WavSaveOrder.INFO_THEN_ID3)
             {
                 writeInfoChunkAtFileEnd(fc, infoTagBuffer, newInfoTagSize);
                 writeId3ChunkAtFileEnd(fc, id3TagBuffer);
@@ -930,7 +971,10 @@ public class WavTagWriter
                 while (li.hasPrevious())
                 {
                     ChunkSummary next = li.previous();
-                    logger.config(">>>>Deleting--"+next.getChunkId()+"---"+next.getFileStartLocation()+"--"+next.getEndLocation());
+                    if (DebugLogging.isLoggable(logger, Level.CONFIG))
+                    {
+                        logger.config(">>>>Deleting--"+next.getChunkId()+"---"+next.getFileStartLocation()+"--"+next.getEndLocation());
+                    }
                     if (Utils.isOddLength(next.getEndLocation()))
                     {
                         deleteTagChunk(fc, (int) next.getEndLocation(), (int) ((next.getEndLocation() + 1) - next.getFileStartLocation()));
@@ -941,7 +985,7 @@ public class WavTagWriter
                     }
                 }
             }
-            if(TagOptionSingleton.getInstance().getWavSaveOrder()==WavSaveOrder.INFO_THEN_ID3)
+            if(options.getWavSaveOrder()==WavSaveOrder.INFO_THEN_ID3)
             {
                 writeInfoChunkAtFileEnd(fc, infoTagBuffer, newInfoTagSize);
                 writeId3ChunkAtFileEnd(fc, id3TagBuffer);
@@ -969,7 +1013,7 @@ public class WavTagWriter
      * @throws CannotWriteException
      * @throws IOException
      */
-    public void removeAllMetadata(FileChannel fc,WavTag existingTag)
+    public void removeAllMetadata(SeekableByteChannel fc,WavTag existingTag)
             throws CannotWriteException, IOException
     {
         if (existingTag.getStartLocationInFileOfId3Chunk() > existingTag.getInfoTag().getStartLocationInFile())
@@ -997,10 +1041,10 @@ public class WavTagWriter
      * @param id3TagBuffer
      * @throws IOException
      */
-    public void writeBothTags(FileChannel fc, ByteBuffer infoTagBuffer, ByteBuffer id3TagBuffer)
+    public void writeBothTags(SeekableByteChannel fc, ByteBuffer infoTagBuffer, ByteBuffer id3TagBuffer)
             throws IOException
     {
-        if(TagOptionSingleton.getInstance().getWavSaveOrder()==WavSaveOrder.INFO_THEN_ID3)
+        if(TagOptions.current().getWavSaveOrder()==WavSaveOrder.INFO_THEN_ID3)
         {
             writeInfoDataToFile(fc, infoTagBuffer);
             writeId3DataToFile(fc, id3TagBuffer);
@@ -1022,7 +1066,7 @@ public class WavTagWriter
      * @throws CannotWriteException
      * @throws IOException
      */
-    public void replaceInfoChunkAtFileEnd(FileChannel fc, WavTag existingTag, ByteBuffer infoTagBuffer) throws CannotWriteException, IOException
+    public void replaceInfoChunkAtFileEnd(SeekableByteChannel fc, WavTag existingTag, ByteBuffer infoTagBuffer) throws CannotWriteException, IOException
     {
         ChunkHeader infoChunkHeader = seekToStartOfListInfoMetadata(fc, existingTag);
         if (isInfoTagAtEndOfFileAllowingForPaddingByte(existingTag, fc))
@@ -1043,7 +1087,7 @@ public class WavTagWriter
      * @param existingTag
      * @throws IOException
      */
-    public void deleteOrTruncateId3Tag(FileChannel fc, WavTag existingTag) throws CannotWriteException, IOException
+    public void deleteOrTruncateId3Tag(SeekableByteChannel fc, WavTag existingTag) throws CannotWriteException, IOException
     {
         if (isID3TagAtEndOfFileAllowingForPaddingByte(existingTag, fc))
         {
@@ -1065,7 +1109,7 @@ public class WavTagWriter
      * @param infoTagBuffer
      * @throws IOException
      */
-    public void deleteInfoChunkAndCreateNewOneAtFileEnd(FileChannel fc, WavTag existingTag, ChunkHeader id3ChunkHeader, ByteBuffer infoTagBuffer)
+    public void deleteInfoChunkAndCreateNewOneAtFileEnd(SeekableByteChannel fc, WavTag existingTag, ChunkHeader id3ChunkHeader, ByteBuffer infoTagBuffer)
             throws IOException
     {
         deleteInfoTagChunk(fc, existingTag, id3ChunkHeader);
@@ -1080,7 +1124,7 @@ public class WavTagWriter
      * @throws CannotWriteException
      * @throws IOException
      */
-    public void saveInfo(WavTag wavTag, FileChannel fc,  final WavTag existingTag )
+    public void saveInfo(WavTag wavTag, SeekableByteChannel fc,  final WavTag existingTag )
             throws CannotWriteException, IOException
     {
         final ByteBuffer infoTagBuffer = convertInfoChunk(wavTag);
@@ -1101,7 +1145,10 @@ public class WavTagWriter
                 while (li.hasPrevious())
                 {
                     ChunkSummary next = li.previous();
-                    logger.config(">>>>Deleting--"+next.getChunkId()+"---"+next.getFileStartLocation()+"--"+next.getEndLocation());
+                    if (DebugLogging.isLoggable(logger, Level.CONFIG))
+                    {
+                        logger.config(">>>>Deleting--"+next.getChunkId()+"---"+next.getFileStartLocation()+"--"+next.getEndLocation());
+                    }
                     if (Utils.isOddLength(next.getEndLocation()))
                     {
                         deleteTagChunk(fc, (int) next.getEndLocation(), (int) ((next.getEndLocation() + 1) - next.getFileStartLocation()));
@@ -1127,7 +1174,7 @@ public class WavTagWriter
      * @param infoTagBuffer
      * @throws IOException
      */
-    private void writeInfoChunkAtFileEnd(FileChannel fc, ByteBuffer infoTagBuffer, long newInfoTagSize)
+    private void writeInfoChunkAtFileEnd(SeekableByteChannel fc, ByteBuffer infoTagBuffer, long newInfoTagSize)
             throws IOException
     {
         fc.position(fc.size());
@@ -1144,7 +1191,7 @@ public class WavTagWriter
      * @throws CannotWriteException
      * @throws IOException
      */
-    private void saveId3(WavTag wavTag, FileChannel fc,  final WavTag existingTag )
+    private void saveId3(WavTag wavTag, SeekableByteChannel fc,  final WavTag existingTag )
             throws CannotWriteException, IOException
     {
         final ByteBuffer id3TagBuffer = convertID3Chunk(wavTag, existingTag);
@@ -1164,7 +1211,10 @@ public class WavTagWriter
                 while (li.hasPrevious())
                 {
                     ChunkSummary next = li.previous();
-                    logger.config(">>>>Deleting--"+next.getChunkId()+"---"+next.getFileStartLocation()+"--"+next.getEndLocation());
+                    if (DebugLogging.isLoggable(logger, Level.CONFIG))
+                    {
+                        logger.config(">>>>Deleting--"+next.getChunkId()+"---"+next.getFileStartLocation()+"--"+next.getEndLocation());
+                    }
                     if (Utils.isOddLength(next.getEndLocation()))
                     {
                         deleteTagChunk(fc, (int) next.getEndLocation(), (int) ((next.getEndLocation() + 1) - next.getFileStartLocation()));
@@ -1192,7 +1242,7 @@ public class WavTagWriter
      * @throws CannotWriteException
      * @throws IOException
      */
-    public void replaceId3ChunkAtFileEnd(FileChannel fc, WavTag existingTag, ByteBuffer id3TagBuffer) throws CannotWriteException, IOException
+    public void replaceId3ChunkAtFileEnd(SeekableByteChannel fc, WavTag existingTag, ByteBuffer id3TagBuffer) throws CannotWriteException, IOException
     {
         ChunkHeader id3ChunkHeader = seekToStartOfId3MetadataForChunkSummaryHeader(fc, existingTag);
         if (isID3TagAtEndOfFileAllowingForPaddingByte(existingTag, fc))
@@ -1211,7 +1261,7 @@ public class WavTagWriter
      * @param existingTag
      * @throws IOException
      */
-    public void deleteOrTruncateInfoTag(FileChannel fc, WavTag existingTag) throws CannotWriteException, IOException
+    public void deleteOrTruncateInfoTag(SeekableByteChannel fc, WavTag existingTag) throws CannotWriteException, IOException
     {
         ChunkHeader infoChunkHeader = seekToStartOfListInfoMetadata(fc, existingTag);
         if (isInfoTagAtEndOfFileAllowingForPaddingByte(existingTag, fc))
@@ -1231,7 +1281,7 @@ public class WavTagWriter
      * @param id3TagBuffer
      * @throws IOException
      */
-    private void writeId3ChunkAtFileEnd(FileChannel fc, ByteBuffer id3TagBuffer)
+    private void writeId3ChunkAtFileEnd(SeekableByteChannel fc, ByteBuffer id3TagBuffer)
             throws IOException
     {
         fc.position(fc.size());
@@ -1247,7 +1297,7 @@ public class WavTagWriter
      * @param id3TagBuffer
      * @throws IOException
      */
-    private void deleteId3ChunkAndCreateNewOneAtFileEnd(FileChannel fc, WavTag existingTag, ChunkHeader id3ChunkHeader, ByteBuffer id3TagBuffer)
+    private void deleteId3ChunkAndCreateNewOneAtFileEnd(SeekableByteChannel fc, WavTag existingTag, ChunkHeader id3ChunkHeader, ByteBuffer id3TagBuffer)
             throws IOException
     {
         deleteId3TagChunk(fc, existingTag, id3ChunkHeader);
@@ -1263,7 +1313,7 @@ public class WavTagWriter
      * @throws CannotWriteException
      * @throws IOException
      */
-    private void saveActive(WavTag wavTag, FileChannel fc,  final WavTag existingTag )
+    private void saveActive(WavTag wavTag, SeekableByteChannel fc,  final WavTag existingTag )
             throws CannotWriteException, IOException
     {
         //Info is Active Tag
@@ -1287,7 +1337,7 @@ public class WavTagWriter
      * @throws CannotWriteException
      * @throws IOException
      */
-    private void saveActiveExisting(WavTag wavTag, FileChannel fc,  final WavTag existingTag )
+    private void saveActiveExisting(WavTag wavTag, SeekableByteChannel fc,  final WavTag existingTag )
             throws CannotWriteException, IOException
     {
         if(wavTag.getActiveTag() instanceof WavInfoTag)
@@ -1320,7 +1370,7 @@ public class WavTagWriter
      * @param existingTag
      * @throws IOException
      */
-    private void deleteExistingMetadataTagsToEndOfFile(final FileChannel fc, final WavTag existingTag) throws IOException
+    private void deleteExistingMetadataTagsToEndOfFile(final SeekableByteChannel fc, final WavTag existingTag) throws IOException
     {
         ChunkSummary precedingChunk = WavChunkSummary.getChunkBeforeFirstMetadataTag(existingTag);
         //Preceding chunk ends on odd boundary
@@ -2,9 +2,10 @@ package org.jaudiotagger.audio.wav.chunk;
 
 import org.jaudiotagger.audio.generic.Utils;
 import org.jaudiotagger.audio.iff.IffHeaderChunk;
+import org.jaudiotagger.logging.DebugLogging;
 import org.jaudiotagger.tag.FieldDataInvalidException;
 import org.jaudiotagger.tag.FieldKey;
-import org.jaudiotagger.tag.TagOptionSingleton;
+import org.jaudiotagger.tag.TagOptions;
 import org.jaudiotagger.tag.wav.WavInfoTag;
 import org.jaudiotagger.tag.wav.WavTag;
 
@@ -40,7 +41,8 @@ public class WavInfoChunk
      */
     public  boolean readChunks(ByteBuffer chunkData)
     {
-        EnumSet<FieldKey> overrideFieldKeys = TagOptionSingleton.getInstance().getOverrideCharsetFields();
+        TagOptions options = TagOptions.current();
+        EnumSet<FieldKey> overrideFieldKeys = options.getOverrideCharsetFields();
 
         while(chunkData.remaining()>= IffHeaderChunk.TYPE_LENGTH)
         {
@@ -71,12 +73,12 @@ public class WavInfoChunk
 
             //Sometimes applications default to users default charset than sticking by the spec which specifies UTF-8
             //if we have options to override set and the field key is one of the fields we want to override for use override chatset
-            if (TagOptionSingleton.getInstance().isOverrideCharsetForInfo() && TagOptionSingleton.getInstance().getOverrideCharset() != null)
+            if (options.isOverrideCharsetForInfo() && options.getOverrideCharset() != null)
             {
                 WavInfoIdentifier wii = WavInfoIdentifier.getByCode(id);
                 if (overrideFieldKeys.contains(wii.getFieldKey()))
                 {
-                    charset = TagOptionSingleton.getInstance().getOverrideCharset();
+                    charset = options.getOverrideCharset();
                     logger.severe(loggingName + "Charset used is:" + charset.displayName());
                 }
             }
@@ -94,7 +96,10 @@ public class WavInfoChunk
             }
 
             //Is it known identifer
-            logger.config(loggingName + "Result:" + id + ":" + size + ":" + value + ":");
+            if (DebugLogging.isLoggable(logger, Level.CONFIG))
+            {
+                logger.config(loggingName + "Result:" + id + ":" + size + ":" + value + ":");
+            }
             WavInfoIdentifier wii = WavInfoIdentifier.getByCode(id);
             if(wii!=null && wii.getFieldKey()!=null)
             {
@@ -0,0 +1,23 @@
+package org.jaudiotagger.logging;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Check made before building debug log messages
+ *
+ * <p>Release builds of the app assume {@link #isLoggable(Logger, Level)} is false and remove the guarded code, so only
+ * logging may be done inside the check. Warnings and errors are not debug logging and are never guarded by it.
+ */
+public class DebugLogging
+{
+    /**
+     * @param logger
+     * @param level  config or finer
+     * @return true if a message at this debug level would be logged
+     */
+    public static boolean isLoggable(Logger logger, Level level)
+    {
+        return level.intValue() <= Level.CONFIG.intValue() && logger.isLoggable(level);
+    }
+}
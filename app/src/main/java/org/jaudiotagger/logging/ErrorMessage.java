@@ -28,6 +28,7 @@ public enum ErrorMessage
     GENERAL_GET_CREATION_TIME_FAILED("Failed to read creation time for file {0}"),
     GENERAL_SET_CREATION_TIME_FAILED("Failed to write creation time for file {0}"),
     GENERAL_WRITE_FAILED("Cannot make changes to file {0}"),
+    GENERAL_WRITE_FAILED_FILE_WAS_READ_AS_SUMMARY("Cannot make changes to file {0} because it was only read as a summary"),
     GENERAL_WRITE_FAILED_FILE_LOCKED("Cannot make changes to file {0} because it is being used by another application"),
     GENERAL_WRITE_FAILED_BECAUSE_FILE_IS_TOO_SMALL("Cannot make changes to file {0} because too small to be an audio file"),
     GENERAL_WRITE_FAILED_TO_DELETE_ORIGINAL_FILE("Cannot make changes to file {0} because unable to delete the original file ready for updating from temporary file {1}"),
@@ -36,6 +37,7 @@ public enum ErrorMessage
     GENERAL_WRITE_FAILED_TO_RENAME_ORIGINAL_BACKUP_TO_ORIGINAL("Unable to rename backup {0} back to file {1}"),
     GENERAL_WRITE_FAILED_NEW_FILE_DOESNT_EXIST("New file {0} does not appear to exist"),
     GENERAL_WRITE_FAILED_BECAUSE("Cannot make changes to file {0} because {1}"),
+    GENERAL_WRITE_IN_PLACE_FAILED("Cannot make changes to file {0} in place because {1}, writing a new copy instead"),
     GENERAL_WRITE_FAILED_BECAUSE_FILE_NOT_FOUND("Cannot make changes to file {0} because the file cannot be found"),
     GENERAL_WRITE_WARNING_UNABLE_TO_DELETE_BACKUP_FILE("Unable to delete the backup file {0}"),
     GENERAL_WRITE_PROBLEM_CLOSING_FILE_HANDLE("Problem closing file handles for file {0} because {1}"),
@@ -110,10 +112,14 @@ public enum ErrorMessage
     NO_WRITER_FOR_THIS_FORMAT("No Writer associated with this extension:{0}"),
     NO_READER_FOR_THIS_FORMAT("No Reader associated with this extension:{0}"),
     NO_DELETER_FOR_THIS_FORMAT("No Deleter associated with this extension:{0}"),
+    NO_CHANNEL_READER_FOR_THIS_FORMAT("Reading from a channel is not supported for:{0}"),
+    NO_CHANNEL_WRITER_FOR_THIS_FORMAT("Writing to a channel is not supported for:{0}"),
     UNABLE_TO_FIND_FILE("Unable to find:{0}"),
     NO_PERMISSIONS_TO_WRITE_TO_FILE("Unable to write to:{0}"),
     DO_NOT_KNOW_HOW_TO_CREATE_THIS_ATOM_TYPE("DO not know how to create this atom type {0}"),
     OGG_CONTAINS_ID3TAG("Ogg File contains invalid ID3 Tag, skipping ID3 Tag of length:{0}"),
+    OGG_COMMENT_HEADER_NOT_FOUND("Cannot find the comment header on the second page of the ogg stream, found {0}"),
+    OGG_HEADER_PAGES_CANNOT_BE_UPDATED_IN_PLACE("Cannot update the ogg header pages in place because {0}"),
     FLAC_CONTAINS_ID3TAG("Flac File contains invalid ID3 Tag, skipping ID3 Tag of length:{0}"),
     ADDITIONAL_MOOV_ATOM_AT_END_OF_MP4("Additional moov atom found at end of file starting at offset {0}"),
     ATOM_LENGTH_LARGER_THAN_DATA("The atom {0} states its data length to be {1} but there are only {2} bytes remaining in the file"),
@@ -21,6 +21,9 @@
  * Description:
  * Options that are used for every datatype and class in this library.
  *
+ * Reads and writes use a snapshot of these options taken when they start (see TagOptions), so changes take
+ * effect from the next read or write.
+ *
  */
 package org.jaudiotagger.tag;
 
@@ -48,6 +51,7 @@ import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedList;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class TagOptionSingleton
 {
@@ -57,6 +61,7 @@ public class TagOptionSingleton
 
     public void setWavOptions(WavOptions wavOptions)
     {
+        optionsChanged();
         this.wavOptions = wavOptions;
     }
 
@@ -69,6 +74,7 @@ public class TagOptionSingleton
 
     public void setWavSaveOptions(WavSaveOptions wavSaveOptions)
     {
+        optionsChanged();
         this.wavSaveOptions = wavSaveOptions;
     }
 
@@ -81,6 +87,7 @@ public class TagOptionSingleton
 
     public void setWavSaveOrder(WavSaveOrder wavSaveOrder)
     {
+        optionsChanged();
         this.wavSaveOrder = wavSaveOrder;
     }
 
@@ -93,6 +100,7 @@ public class TagOptionSingleton
 
     public void setVorbisAlbumArtistSaveOptions(VorbisAlbumArtistSaveOptions vorbisAlbumArtistSaveOptions)
     {
+        optionsChanged();
         this.vorbisAlbumArtistSaveOptions = vorbisAlbumArtistSaveOptions;
     }
 
@@ -105,6 +113,7 @@ public class TagOptionSingleton
 
     public void setVorbisAlbumArtistReadOptions(VorbisAlbumArtistReadOptions vorbisAlbumArtistReadOptions)
     {
+        optionsChanged();
         this.vorbisAlbumArtistReadOptions = vorbisAlbumArtistReadOptions;
     }
 
@@ -116,7 +125,7 @@ public class TagOptionSingleton
     /**
      *
      */
-    private static HashMap<String, TagOptionSingleton> tagOptionTable = new HashMap<String, TagOptionSingleton>();
+    private static final ConcurrentHashMap<String, TagOptionSingleton> tagOptionTable = new ConcurrentHashMap<String, TagOptionSingleton>();
 
     /**
      *
@@ -126,7 +135,7 @@ public class TagOptionSingleton
     /**
      *
      */
-    private static String defaultOptions = DEFAULT;
+    private static volatile String defaultOptions = DEFAULT;
 
     /**
      *
@@ -367,6 +376,24 @@ public class TagOptionSingleton
 
     private boolean isWriteMp4GenresAsText=false;
 
+    /**
+     * size of the free atom left after the mp4 metadata when the moov atom has to be rewritten, so that later edits
+     * can grow into it without rewriting moov again
+     */
+    private int mp4PaddingSize = 2048;
+
+    /**
+     * when mp4 metadata no longer fits in front of the audio, whether moov can be moved to the end of the file
+     * rather than moving the audio
+     */
+    private boolean isMp4RelocateMoov = true;
+
+    /**
+     * number of zeros added to the end of an ogg comment header when the audio has to be moved to make room for it,
+     * so that later edits can grow into it without moving the audio again
+     */
+    private int oggPaddingSize = 4000;
+
     private boolean isWriteMp3GenresAsText=false;
 
     private ID3V2Version id3v2Version = ID3V2Version.ID3_V23;
@@ -390,6 +417,11 @@ public class TagOptionSingleton
 
     private EnumSet<FieldKey> overrideCharsetFields = EnumSet.noneOf(FieldKey.class);
 
+    /**
+     * snapshot of these options returned by {@link #getSnapshot()}, cleared whenever an option is changed
+     */
+    private volatile TagOptions snapshot;
+
 
     /**
      * 
@@ -423,18 +455,37 @@ public class TagOptionSingleton
 
         if (tagOptions == null)
         {
-            tagOptions = new TagOptionSingleton();
-            tagOptionTable.put(instanceKey, tagOptions);
+            tagOptions = tagOptionTable.computeIfAbsent(instanceKey, key -> new TagOptionSingleton());
         }
 
         return tagOptions;
     }
 
+    /**
+     * @return a snapshot of the current values of these options, only taken again after an option has been changed
+     */
+    TagOptions getSnapshot()
+    {
+        TagOptions options = snapshot;
+        if (options == null)
+        {
+            options = new TagOptions(this);
+            snapshot = options;
+        }
+        return options;
+    }
+
+    private void optionsChanged()
+    {
+        snapshot = null;
+    }
+
     /**
      * @param filenameTagSave
      */
     public void setFilenameTagSave(boolean filenameTagSave)
     {
+        optionsChanged();
         this.filenameTagSave = filenameTagSave;
     }
 
@@ -451,6 +502,7 @@ public class TagOptionSingleton
      */
     public void setID3V2Version(ID3V2Version  id3v2Version)
     {
+        optionsChanged();
         this.id3v2Version = id3v2Version;
     }
 
@@ -485,6 +537,7 @@ public class TagOptionSingleton
      */
     public void setId3v1Save(boolean id3v1Save)
     {
+        optionsChanged();
         this.id3v1Save = id3v1Save;
     }
 
@@ -501,6 +554,7 @@ public class TagOptionSingleton
      */
     public void setId3v1SaveAlbum(boolean id3v1SaveAlbum)
     {
+        optionsChanged();
         this.id3v1SaveAlbum = id3v1SaveAlbum;
     }
 
@@ -517,6 +571,7 @@ public class TagOptionSingleton
      */
     public void setId3v1SaveArtist(boolean id3v1SaveArtist)
     {
+        optionsChanged();
         this.id3v1SaveArtist = id3v1SaveArtist;
     }
 
@@ -533,6 +588,7 @@ public class TagOptionSingleton
      */
     public void setId3v1SaveComment(boolean id3v1SaveComment)
     {
+        optionsChanged();
         this.id3v1SaveComment = id3v1SaveComment;
     }
 
@@ -549,6 +605,7 @@ public class TagOptionSingleton
      */
     public void setId3v1SaveGenre(boolean id3v1SaveGenre)
     {
+        optionsChanged();
         this.id3v1SaveGenre = id3v1SaveGenre;
     }
 
@@ -565,6 +622,7 @@ public class TagOptionSingleton
      */
     public void setId3v1SaveTitle(boolean id3v1SaveTitle)
     {
+        optionsChanged();
         this.id3v1SaveTitle = id3v1SaveTitle;
     }
 
@@ -581,6 +639,7 @@ public class TagOptionSingleton
      */
     public void setId3v1SaveTrack(boolean id3v1SaveTrack)
     {
+        optionsChanged();
         this.id3v1SaveTrack = id3v1SaveTrack;
     }
 
@@ -597,6 +656,7 @@ public class TagOptionSingleton
      */
     public void setId3v1SaveYear(boolean id3v1SaveYear)
     {
+        optionsChanged();
         this.id3v1SaveYear = id3v1SaveYear;
     }
 
@@ -614,6 +674,7 @@ public class TagOptionSingleton
      */
     public void setId3v2PaddingCopyTag(boolean id3v2PaddingCopyTag)
     {
+        optionsChanged();
         this.id3v2PaddingCopyTag = id3v2PaddingCopyTag;
     }
 
@@ -631,6 +692,7 @@ public class TagOptionSingleton
      */
     public void setId3v2PaddingWillShorten(boolean id3v2PaddingWillShorten)
     {
+        optionsChanged();
         this.id3v2PaddingWillShorten = id3v2PaddingWillShorten;
     }
 
@@ -647,6 +709,7 @@ public class TagOptionSingleton
      */
     public void setId3v2Save(boolean id3v2Save)
     {
+        optionsChanged();
         this.id3v2Save = id3v2Save;
     }
 
@@ -678,6 +741,7 @@ public class TagOptionSingleton
      * @param id3v2ITunes12_6WorkGroupingMode {@code true} or {@code false}.
      */
     public void setId3v2ITunes12_6WorkGroupingMode(final boolean id3v2ITunes12_6WorkGroupingMode) {
+        optionsChanged();
         final boolean oldMode = this.id3v2ITunes12_6WorkGroupingMode;
         if (oldMode != id3v2ITunes12_6WorkGroupingMode) {
             ID3v22Frames.getInstanceOf().setITunes12_6WorkGroupingMode(id3v2ITunes12_6WorkGroupingMode);
@@ -713,6 +777,7 @@ public class TagOptionSingleton
      */
     public void setLanguage(String lang)
     {
+        optionsChanged();
         if (Languages.getInstanceOf().getIdToValueMap().containsKey(lang))
         {
             language = lang;
@@ -734,6 +799,7 @@ public class TagOptionSingleton
      */
     public void setLyrics3KeepEmptyFieldIfRead(boolean lyrics3KeepEmptyFieldIfRead)
     {
+        optionsChanged();
         this.lyrics3KeepEmptyFieldIfRead = lyrics3KeepEmptyFieldIfRead;
     }
 
@@ -750,6 +816,7 @@ public class TagOptionSingleton
      */
     public void setLyrics3Save(boolean lyrics3Save)
     {
+        optionsChanged();
         this.lyrics3Save = lyrics3Save;
     }
 
@@ -766,6 +833,7 @@ public class TagOptionSingleton
      */
     public void setLyrics3SaveEmptyField(boolean lyrics3SaveEmptyField)
     {
+        optionsChanged();
         this.lyrics3SaveEmptyField = lyrics3SaveEmptyField;
     }
 
@@ -785,6 +853,7 @@ public class TagOptionSingleton
      */
     public void setLyrics3SaveField(String id, boolean save)
     {
+        optionsChanged();
         this.lyrics3SaveFieldMap.put(id, save);
     }
 
@@ -827,6 +896,7 @@ public class TagOptionSingleton
      */
     public void setNumberMP3SyncFrame(int numberMP3SyncFrame)
     {
+        optionsChanged();
         this.numberMP3SyncFrame = numberMP3SyncFrame;
     }
 
@@ -874,6 +944,7 @@ public class TagOptionSingleton
      */
     public void setOriginalSavedAfterAdjustingID3v2Padding(boolean originalSavedAfterAdjustingID3v2Padding)
     {
+        optionsChanged();
         this.originalSavedAfterAdjustingID3v2Padding = originalSavedAfterAdjustingID3v2Padding;
     }
 
@@ -900,6 +971,7 @@ public class TagOptionSingleton
      */
     public void setTimeStampFormat(byte tsf)
     {
+        optionsChanged();
         if ((tsf == 1) || (tsf == 2))
         {
             timeStampFormat = tsf;
@@ -926,6 +998,7 @@ public class TagOptionSingleton
      */
     public void setToDefault()
     {
+        optionsChanged();
         isWriteWavForTwonky = false;
         wavOptions = WavOptions.READ_ID3_UNLESS_ONLY_INFO;
         wavSaveOptions = WavSaveOptions.SAVE_BOTH;
@@ -964,6 +1037,9 @@ public class TagOptionSingleton
         isEncodeUTF16BomAsLittleEndian = true;
         writeChunkSize=5000000;
         isWriteMp4GenresAsText=false;
+        mp4PaddingSize = 2048;
+        isMp4RelocateMoov = true;
+        oggPaddingSize = 4000;
         padNumberTotalLength = PadNumberOption.PAD_ONE_ZERO;
         id3v2Version = ID3V2Version.ID3_V23;
         checkIsWritable = false;
@@ -1067,6 +1143,7 @@ public class TagOptionSingleton
      */
     public void addKeyword(Class<? extends ID3v24FrameBody> id3v2FrameBodyClass, String keyword) throws TagException
     {
+        optionsChanged();
         if (!AbstractID3v2FrameBody.class.isAssignableFrom(id3v2FrameBodyClass))
         {
             throw new TagException("Invalid class type. Must be AbstractId3v2FrameBody " + id3v2FrameBodyClass);
@@ -1096,6 +1173,7 @@ public class TagOptionSingleton
      */
     public void addParenthesis(String open, String close)
     {
+        optionsChanged();
         parenthesisMap.put(open, close);
     }
 
@@ -1105,6 +1183,7 @@ public class TagOptionSingleton
      */
     public void addReplaceWord(String oldWord, String newWord)
     {
+        optionsChanged();
         replaceWordMap.put(oldWord, newWord);
     }
 
@@ -1124,6 +1203,7 @@ public class TagOptionSingleton
      */
     public void setUnsyncTags(boolean unsyncTags)
     {
+        optionsChanged();
         this.unsyncTags = unsyncTags;
     }
 
@@ -1145,6 +1225,7 @@ public class TagOptionSingleton
      */
     public void setRemoveTrailingTerminatorOnWrite(boolean removeTrailingTerminatorOnWrite)
     {
+        optionsChanged();
         this.removeTrailingTerminatorOnWrite = removeTrailingTerminatorOnWrite;
     }
 
@@ -1167,6 +1248,7 @@ public class TagOptionSingleton
      */
     public void setId3v23DefaultTextEncoding(byte id3v23DefaultTextEncoding)
     {
+        optionsChanged();
         if ((id3v23DefaultTextEncoding == TextEncoding.ISO_8859_1) || (id3v23DefaultTextEncoding == TextEncoding.UTF_16))
         {
             this.id3v23DefaultTextEncoding = id3v23DefaultTextEncoding;
@@ -1192,6 +1274,7 @@ public class TagOptionSingleton
      */
     public void setId3v24DefaultTextEncoding(byte id3v24DefaultTextEncoding)
     {
+        optionsChanged();
         if ((id3v24DefaultTextEncoding == TextEncoding.ISO_8859_1) || (id3v24DefaultTextEncoding == TextEncoding.UTF_16) || (id3v24DefaultTextEncoding == TextEncoding.UTF_16BE) || (id3v24DefaultTextEncoding == TextEncoding.UTF_8))
         {
             this.id3v24DefaultTextEncoding = id3v24DefaultTextEncoding;
@@ -1218,6 +1301,7 @@ public class TagOptionSingleton
      */
     public void setId3v24UnicodeTextEncoding(byte id3v24UnicodeTextEncoding)
     {
+        optionsChanged();
         if ((id3v24UnicodeTextEncoding == TextEncoding.UTF_16) || (id3v24UnicodeTextEncoding == TextEncoding.UTF_16BE) || (id3v24UnicodeTextEncoding == TextEncoding.UTF_8))
         {
             this.id3v24UnicodeTextEncoding = id3v24UnicodeTextEncoding;
@@ -1246,6 +1330,7 @@ public class TagOptionSingleton
      */
     public void setResetTextEncodingForExistingFrames(boolean resetTextEncodingForExistingFrames)
     {
+        optionsChanged();
         this.resetTextEncodingForExistingFrames = resetTextEncodingForExistingFrames;
     }
 
@@ -1265,6 +1350,7 @@ public class TagOptionSingleton
      */
     public void setTruncateTextWithoutErrors(boolean truncateTextWithoutErrors)
     {
+        optionsChanged();
         this.truncateTextWithoutErrors = truncateTextWithoutErrors;
     }
 
@@ -1275,6 +1361,7 @@ public class TagOptionSingleton
 
     public void setPadNumbers(boolean padNumbers)
     {
+        optionsChanged();
         this.padNumbers = padNumbers;
     }
 
@@ -1285,6 +1372,7 @@ public class TagOptionSingleton
 
     public void setAndroid(boolean android)
     {
+        optionsChanged();
         isAndroid = android;
     }
 
@@ -1300,6 +1388,7 @@ public class TagOptionSingleton
 
     public void setPlayerCompatability(int playerCompatability)
     {
+        optionsChanged();
         this.playerCompatability = playerCompatability;
     }
 
@@ -1314,6 +1403,7 @@ public class TagOptionSingleton
 
     public void setEncodeUTF16BomAsLittleEndian(boolean encodeUTF16BomAsLittleEndian)
     {
+        optionsChanged();
         isEncodeUTF16BomAsLittleEndian = encodeUTF16BomAsLittleEndian;
     }
 
@@ -1329,6 +1419,7 @@ public class TagOptionSingleton
 
     public void setWriteChunkSize(long writeChunkSize)
     {
+        optionsChanged();
         this.writeChunkSize = writeChunkSize;
     }
 
@@ -1343,9 +1434,56 @@ public class TagOptionSingleton
 
     public void setWriteMp4GenresAsText(boolean writeMp4GenresAsText)
     {
+        optionsChanged();
         isWriteMp4GenresAsText = writeMp4GenresAsText;
     }
 
+    /**
+     * Size of the free atom left after the metadata when an mp4 moov atom has to be rewritten because the metadata
+     * has outgrown the space available, so that later edits can grow into it.
+     */
+    public int getMp4PaddingSize()
+    {
+        return mp4PaddingSize;
+    }
+
+    public void setMp4PaddingSize(int mp4PaddingSize)
+    {
+        optionsChanged();
+        this.mp4PaddingSize = mp4PaddingSize;
+    }
+
+    /**
+     * If enabled, when mp4 metadata no longer fits in front of the audio the moov atom is moved to the end of the
+     * file and its old location left as a free atom, rather than moving all the audio data to make space. Files
+     * written this way are no longer optimized for streaming, because the player has to seek to the end to find moov.
+     */
+    public boolean isMp4RelocateMoov()
+    {
+        return isMp4RelocateMoov;
+    }
+
+    public void setMp4RelocateMoov(boolean mp4RelocateMoov)
+    {
+        optionsChanged();
+        isMp4RelocateMoov = mp4RelocateMoov;
+    }
+
+    /**
+     * Number of zeros added to the end of an ogg comment header whenever the audio has to be moved to make room for
+     * it, including when the file is written using a temporary file, so that later edits can be written in place.
+     */
+    public int getOggPaddingSize()
+    {
+        return oggPaddingSize;
+    }
+
+    public void setOggPaddingSize(int oggPaddingSize)
+    {
+        optionsChanged();
+        this.oggPaddingSize = oggPaddingSize;
+    }
+
     /**
      * If enabled we always use the ©gen atom rather than the gnre atom when writing genres to mp4s
      * This is known to help some android apps
@@ -1357,6 +1495,7 @@ public class TagOptionSingleton
 
     public void setWriteMp3GenresAsText(boolean writeMp3GenresAsText)
     {
+        optionsChanged();
         isWriteMp3GenresAsText = writeMp3GenresAsText;
     }
 
@@ -1370,6 +1509,7 @@ public class TagOptionSingleton
 
     public void setPadNumberTotalLength(PadNumberOption padNumberTotalLength)
     {
+        optionsChanged();
         this.padNumberTotalLength = padNumberTotalLength;
     }
 
@@ -1383,6 +1523,7 @@ public class TagOptionSingleton
 
     public void setAPICDescriptionITunesCompatible(boolean APICDescriptionITunesCompatible)
     {
+        optionsChanged();
         isAPICDescriptionITunesCompatible = APICDescriptionITunesCompatible;
     }
 
@@ -1422,6 +1563,7 @@ public class TagOptionSingleton
      * @see #isPreserveFileIdentity()
      */
     public void setPreserveFileIdentity(final boolean preserveFileIdentity) {
+        optionsChanged();
         this.preserveFileIdentity = preserveFileIdentity;
     }
 
@@ -1432,6 +1574,7 @@ public class TagOptionSingleton
 
     public void setWriteWavForTwonky(boolean isWriteWavForTwonky)
     {
+        optionsChanged();
         this.isWriteWavForTwonky = isWriteWavForTwonky;
     }
 
@@ -1442,6 +1585,7 @@ public class TagOptionSingleton
 
     public void setOverrideCharset(Charset overrideCharset)
     {
+        optionsChanged();
         this.overrideCharset = overrideCharset;
     }
 
@@ -1452,6 +1596,7 @@ public class TagOptionSingleton
 
     public void setOverrideCharsetForInfo(boolean isOverrideCharsetForInfo)
     {
+        optionsChanged();
         this.isOverrideCharsetForInfo = isOverrideCharsetForInfo;
     }
 
@@ -1462,11 +1607,13 @@ public class TagOptionSingleton
 
     public void setOverrideCharsetForId3(boolean isOverrideCharsetForId3)
     {
+        optionsChanged();
         this.isOverrideCharsetForId3 = isOverrideCharsetForId3;
     }
 
     public void addOverrideCharsetFields(FieldKey fieldKey)
     {
+        optionsChanged();
         overrideCharsetFields.add(fieldKey);
     }
 
@@ -0,0 +1,410 @@
+package org.jaudiotagger.tag;
+
+import org.jaudiotagger.audio.wav.WavOptions;
+import org.jaudiotagger.audio.wav.WavSaveOptions;
+import org.jaudiotagger.audio.wav.WavSaveOrder;
+import org.jaudiotagger.tag.options.PadNumberOption;
+import org.jaudiotagger.tag.reference.ID3V2Version;
+import org.jaudiotagger.tag.vorbiscomment.VorbisAlbumArtistReadOptions;
+import org.jaudiotagger.tag.vorbiscomment.VorbisAlbumArtistSaveOptions;
+
+import java.nio.charset.Charset;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Immutable snapshot of the options in {@link TagOptionSingleton} that are consulted while reading and writing files
+ *
+ * <p>A snapshot is taken once at the start of each read or write (see
+ * {@link org.jaudiotagger.audio.AudioFileIO#read(java.io.File, TagOptions)}) and is used by the readers, writers and
+ * tags for the whole of that operation, so changing the singleton while files are being read or written on other
+ * threads does not affect them part way through. Passing a snapshot of a different {@link TagOptionSingleton}
+ * instance allows files to be read or written concurrently with different options.
+ *
+ * <p>The snapshot in use is held per thread, outside of a read or write {@link #current()} takes a fresh snapshot of
+ * the default options.
+ */
+public final class TagOptions
+{
+    private static final ThreadLocal<TagOptions> bound = new ThreadLocal<TagOptions>();
+
+    private final ID3V2Version id3v2Version;
+    private final boolean checkIsWritable;
+    private final boolean preserveFileIdentity;
+    private final long writeChunkSize;
+    private final boolean id3v1Save;
+    private final boolean id3v1SaveAlbum;
+    private final boolean id3v1SaveArtist;
+    private final boolean id3v1SaveComment;
+    private final boolean id3v1SaveGenre;
+    private final boolean id3v1SaveTitle;
+    private final boolean id3v1SaveYear;
+    private final boolean id3v2Save;
+    private final boolean id3v2PaddingWillShorten;
+    private final boolean unsyncTags;
+    private final boolean removeTrailingTerminatorOnWrite;
+    private final byte id3v23DefaultTextEncoding;
+    private final byte id3v24DefaultTextEncoding;
+    private final byte id3v24UnicodeTextEncoding;
+    private final boolean resetTextEncodingForExistingFrames;
+    private final boolean truncateTextWithoutErrors;
+    private final boolean padNumbers;
+    private final PadNumberOption padNumberTotalLength;
+    private final boolean isAndroid;
+    private final boolean isAPICDescriptionITunesCompatible;
+    private final boolean isEncodeUTF16BomAsLittleEndian;
+    private final boolean isWriteMp4GenresAsText;
+    private final int mp4PaddingSize;
+    private final boolean isMp4RelocateMoov;
+    private final int oggPaddingSize;
+    private final boolean isWriteMp3GenresAsText;
+    private final boolean lyrics3Save;
+    private final boolean lyrics3SaveEmptyField;
+    private final boolean lyrics3KeepEmptyFieldIfRead;
+    private final Map<String, Boolean> lyrics3SaveFieldMap;
+    private final WavOptions wavOptions;
+    private final WavSaveOptions wavSaveOptions;
+    private final WavSaveOrder wavSaveOrder;
+    private final boolean isWriteWavForTwonky;
+    private final VorbisAlbumArtistSaveOptions vorbisAlbumArtistSaveOptions;
+    private final VorbisAlbumArtistReadOptions vorbisAlbumArtistReadOptions;
+    private final Charset overrideCharset;
+    private final boolean isOverrideCharsetForInfo;
+    private final boolean isOverrideCharsetForId3;
+    private final EnumSet<FieldKey> overrideCharsetFields;
+
+    /**
+     * Take a snapshot of the current values of options
+     *
+     * @param options
+     */
+    public TagOptions(TagOptionSingleton options)
+    {
+        id3v2Version = options.getID3V2Version();
+        checkIsWritable = options.isCheckIsWritable();
+        preserveFileIdentity = options.isPreserveFileIdentity();
+        writeChunkSize = options.getWriteChunkSize();
+        id3v1Save = options.isId3v1Save();
+        id3v1SaveAlbum = options.isId3v1SaveAlbum();
+        id3v1SaveArtist = options.isId3v1SaveArtist();
+        id3v1SaveComment = options.isId3v1SaveComment();
+        id3v1SaveGenre = options.isId3v1SaveGenre();
+        id3v1SaveTitle = options.isId3v1SaveTitle();
+        id3v1SaveYear = options.isId3v1SaveYear();
+        id3v2Save = options.isId3v2Save();
+        id3v2PaddingWillShorten = options.isId3v2PaddingWillShorten();
+        unsyncTags = options.isUnsyncTags();
+        removeTrailingTerminatorOnWrite = options.isRemoveTrailingTerminatorOnWrite();
+        id3v23DefaultTextEncoding = options.getId3v23DefaultTextEncoding();
+        id3v24DefaultTextEncoding = options.getId3v24DefaultTextEncoding();
+        id3v24UnicodeTextEncoding = options.getId3v24UnicodeTextEncoding();
+        resetTextEncodingForExistingFrames = options.isResetTextEncodingForExistingFrames();
+        truncateTextWithoutErrors = options.isTruncateTextWithoutErrors();
+        padNumbers = options.isPadNumbers();
+        padNumberTotalLength = options.getPadNumberTotalLength();
+        isAndroid = options.isAndroid();
+        isAPICDescriptionITunesCompatible = options.isAPICDescriptionITunesCompatible();
+        isEncodeUTF16BomAsLittleEndian = options.isEncodeUTF16BomAsLittleEndian();
+        isWriteMp4GenresAsText = options.isWriteMp4GenresAsText();
+        mp4PaddingSize = options.getMp4PaddingSize();
+        isMp4RelocateMoov = options.isMp4RelocateMoov();
+        oggPaddingSize = options.getOggPaddingSize();
+        isWriteMp3GenresAsText = options.isWriteMp3GenresAsText();
+        lyrics3Save = options.isLyrics3Save();
+        lyrics3SaveEmptyField = options.isLyrics3SaveEmptyField();
+        lyrics3KeepEmptyFieldIfRead = options.isLyrics3KeepEmptyFieldIfRead();
+        lyrics3SaveFieldMap = Collections.unmodifiableMap(new HashMap<String, Boolean>(options.getLyrics3SaveFieldMap()));
+        wavOptions = options.getWavOptions();
+        wavSaveOptions = options.getWavSaveOptions();
+        wavSaveOrder = options.getWavSaveOrder();
+        isWriteWavForTwonky = options.isWriteWavForTwonky();
+        vorbisAlbumArtistSaveOptions = options.getVorbisAlbumArtistSaveOptions();
+        vorbisAlbumArtistReadOptions = options.getVorbisAlbumArtisReadOptions();
+        overrideCharset = options.getOverrideCharset();
+        isOverrideCharsetForInfo = options.isOverrideCharsetForInfo();
+        isOverrideCharsetForId3 = options.isOverrideCharsetForId3();
+        overrideCharsetFields = EnumSet.copyOf(options.getOverrideCharsetFields());
+    }
+
+    /**
+     * @return a snapshot of the default options, {@link TagOptionSingleton#getInstance()}, the same snapshot is
+     * returned until one of the options is changed
+     */
+    public static TagOptions getDefault()
+    {
+        return TagOptionSingleton.getInstance().getSnapshot();
+    }
+
+    /**
+     * @return the options of the read or write in progress on this thread, or a snapshot of the default options if
+     * there is none
+     */
+    public static TagOptions current()
+    {
+        TagOptions options = bound.get();
+        if (options == null)
+        {
+            return getDefault();
+        }
+        return options;
+    }
+
+    /**
+     * Use options for everything read or written on this thread until {@link #restore(TagOptions)} is called
+     *
+     * @param options
+     * @return the options previously in use on this thread, to be passed to {@link #restore(TagOptions)}
+     */
+    public static TagOptions bind(TagOptions options)
+    {
+        TagOptions previous = bound.get();
+        bound.set(options);
+        return previous;
+    }
+
+    /**
+     * Go back to the options in use on this thread before the matching call to {@link #bind(TagOptions)}
+     *
+     * @param previous the value returned by {@link #bind(TagOptions)}
+     */
+    public static void restore(TagOptions previous)
+    {
+        if (previous == null)
+        {
+            bound.remove();
+        }
+        else
+        {
+            bound.set(previous);
+        }
+    }
+
+    public ID3V2Version getID3V2Version()
+    {
+        return id3v2Version;
+    }
+
+    public boolean isCheckIsWritable()
+    {
+        return checkIsWritable;
+    }
+
+    public boolean isPreserveFileIdentity()
+    {
+        return preserveFileIdentity;
+    }
+
+    public long getWriteChunkSize()
+    {
+        return writeChunkSize;
+    }
+
+    public boolean isId3v1Save()
+    {
+        return id3v1Save;
+    }
+
+    public boolean isId3v1SaveAlbum()
+    {
+        return id3v1SaveAlbum;
+    }
+
+    public boolean isId3v1SaveArtist()
+    {
+        return id3v1SaveArtist;
+    }
+
+    public boolean isId3v1SaveComment()
+    {
+        return id3v1SaveComment;
+    }
+
+    public boolean isId3v1SaveGenre()
+    {
+        return id3v1SaveGenre;
+    }
+
+    public boolean isId3v1SaveTitle()
+    {
+        return id3v1SaveTitle;
+    }
+
+    public boolean isId3v1SaveYear()
+    {
+        return id3v1SaveYear;
+    }
+
+    public boolean isId3v2Save()
+    {
+        return id3v2Save;
+    }
+
+    public boolean isId3v2PaddingWillShorten()
+    {
+        return id3v2PaddingWillShorten;
+    }
+
+    public boolean isUnsyncTags()
+    {
+        return unsyncTags;
+    }
+
+    public boolean isRemoveTrailingTerminatorOnWrite()
+    {
+        return removeTrailingTerminatorOnWrite;
+    }
+
+    public byte getId3v23DefaultTextEncoding()
+    {
+        return id3v23DefaultTextEncoding;
+    }
+
+    public byte getId3v24DefaultTextEncoding()
+    {
+        return id3v24DefaultTextEncoding;
+    }
+
+    public byte getId3v24UnicodeTextEncoding()
+    {
+        return id3v24UnicodeTextEncoding;
+    }
+
+    public boolean isResetTextEncodingForExistingFrames()
+    {
+        return resetTextEncodingForExistingFrames;
+    }
+
+    public boolean isTruncateTextWithoutErrors()
+    {
+        return truncateTextWithoutErrors;
+    }
+
+    public boolean isPadNumbers()
+    {
+        return padNumbers;
+    }
+
+    public PadNumberOption getPadNumberTotalLength()
+    {
+        return padNumberTotalLength;
+    }
+
+    public boolean isAndroid()
+    {
+        return isAndroid;
+    }
+
+    public boolean isAPICDescriptionITunesCompatible()
+    {
+        return isAPICDescriptionITunesCompatible;
+    }
+
+    public boolean isEncodeUTF16BomAsLittleEndian()
+    {
+        return isEncodeUTF16BomAsLittleEndian;
+    }
+
+    public boolean isWriteMp4GenresAsText()
+    {
+        return isWriteMp4GenresAsText;
+    }
+
+    public int getMp4PaddingSize()
+    {
+        return mp4PaddingSize;
+    }
+
+    public boolean isMp4RelocateMoov()
+    {
+        return isMp4RelocateMoov;
+    }
+
+    public int getOggPaddingSize()
+    {
+        return oggPaddingSize;
+    }
+
+    public boolean isWriteMp3GenresAsText()
+    {
+        return isWriteMp3GenresAsText;
+    }
+
+    public boolean isLyrics3Save()
+    {
+        return lyrics3Save;
+    }
+
+    public boolean isLyrics3SaveEmptyField()
+    {
+        return lyrics3SaveEmptyField;
+    }
+
+    public boolean isLyrics3KeepEmptyFieldIfRead()
+    {
+        return lyrics3KeepEmptyFieldIfRead;
+    }
+
+    /**
+     * @param id Lyrics3 id string
+     * @return true if we should save the Lyrics3 field.
+     */
+    public boolean getLyrics3SaveField(String id)
+    {
+        return lyrics3SaveFieldMap.get(id);
+    }
+
+    public WavOptions getWavOptions()
+    {
+        return wavOptions;
+    }
+
+    public WavSaveOptions getWavSaveOptions()
+    {
+        return wavSaveOptions;
+    }
+
+    public WavSaveOrder getWavSaveOrder()
+    {
+        return wavSaveOrder;
+    }
+
+    public boolean isWriteWavForTwonky()
+    {
+        return isWriteWavForTwonky;
+    }
+
+    public VorbisAlbumArtistSaveOptions getVorbisAlbumArtistSaveOptions()
+    {
+        return vorbisAlbumArtistSaveOptions;
+    }
+
+    public VorbisAlbumArtistReadOptions getVorbisAlbumArtistReadOptions()
+    {
+        return vorbisAlbumArtistReadOptions;
+    }
+
+    public Charset getOverrideCharset()
+    {
+        return overrideCharset;
+    }
+
+    public boolean isOverrideCharsetForInfo()
+    {
+        return isOverrideCharsetForInfo;
+    }
+
+    public boolean isOverrideCharsetForId3()
+    {
+        return isOverrideCharsetForId3;
+    }
+
+    /**
+     * @return the fields the override charset applies to, must not be modified
+     */
+    public EnumSet<FieldKey> getOverrideCharsetFields()
+    {
+        return overrideCharsetFields;
+    }
+}
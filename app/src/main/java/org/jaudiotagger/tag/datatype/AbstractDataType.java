@@ -26,6 +26,7 @@ import org.jaudiotagger.audio.mp3.MP3File;
 import org.jaudiotagger.tag.InvalidDataTypeException;
 import org.jaudiotagger.tag.id3.AbstractTagFrameBody;
 
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.LinkedList;
@@ -385,13 +386,50 @@ public abstract class AbstractDataType
     /**
      * This is the starting point for reading bytes from the file into the ID3 datatype
      * starting at offset.
-     * This class must be overridden
+     * Either this or {@link #readByteBuffer(ByteBuffer, int)} must be overridden
      *
      * @param arr
      * @param offset
      * @throws org.jaudiotagger.tag.InvalidDataTypeException
      */
-    public abstract void readByteArray(byte[] arr, int offset) throws InvalidDataTypeException;
+    public void readByteArray(byte[] arr, int offset) throws InvalidDataTypeException
+    {
+        readByteBuffer(ByteBuffer.wrap(arr), offset);
+    }
+
+    /**
+     * Read the datatype from buffer starting at offset, the data of the datatype ends at the limit of the buffer at the
+     * latest.
+     *
+     * The buffer is a view of just the frame body so its content is read in place rather than first being copied to
+     * an array, offset and the limit are absolute indexes and the position of the buffer is not used or changed.
+     * Either this or {@link #readByteArray(byte[], int)} must be overridden, by default the buffer is copied to an
+     * array.
+     *
+     * @param buffer
+     * @param offset
+     * @throws org.jaudiotagger.tag.InvalidDataTypeException
+     */
+    public void readByteBuffer(ByteBuffer buffer, int offset) throws InvalidDataTypeException
+    {
+        byte[] arr = new byte[buffer.limit()];
+        slice(buffer, 0, arr.length).get(arr);
+        readByteArray(arr, offset);
+    }
+
+    /**
+     * @param buffer
+     * @param offset
+     * @param length
+     * @return a view of length bytes of buffer starting at offset, sharing its content
+     */
+    protected static ByteBuffer slice(ByteBuffer buffer, int offset, int length)
+    {
+        ByteBuffer slice = buffer.duplicate();
+        slice.position(offset);
+        slice.limit(offset + length);
+        return slice.slice();
+    }
 
 
     /**
@@ -16,9 +16,11 @@
  */
 package org.jaudiotagger.tag.datatype;
 
+import org.jaudiotagger.logging.DebugLogging;
 import org.jaudiotagger.tag.InvalidDataTypeException;
 import org.jaudiotagger.tag.id3.AbstractTagFrameBody;
 
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.logging.Level;
@@ -84,27 +86,27 @@ public abstract class AbstractDataTypeList<T extends AbstractDataType> extends A
      * @throws NullPointerException
      * @throws IndexOutOfBoundsException
      */
-    public void readByteArray(final byte[] buffer, final int offset) throws InvalidDataTypeException
+    public void readByteBuffer(final ByteBuffer buffer, final int offset) throws InvalidDataTypeException
     {
         if (buffer == null)
         {
-            throw new NullPointerException("Byte array is null");
+            throw new NullPointerException("Buffer is null");
         }
 
         if (offset < 0)
         {
-            throw new IndexOutOfBoundsException("Offset to byte array is out of bounds: offset = " + offset + ", array.length = " + buffer.length);
+            throw new IndexOutOfBoundsException("Offset to byte array is out of bounds: offset = " + offset + ", buffer.limit = " + buffer.limit());
         }
 
         // no events
-        if (offset >= buffer.length)
+        if (offset >= buffer.limit())
         {
             getValue().clear();
             return;
         }
-        for (int currentOffset = offset; currentOffset<buffer.length;) {
+        for (int currentOffset = offset; currentOffset<buffer.limit();) {
             final T data = createListElement();
-            data.readByteArray(buffer, currentOffset);
+            data.readByteBuffer(buffer, currentOffset);
             data.setBody(frameBody);
             getValue().add(data);
             currentOffset+=data.getSize();
@@ -126,7 +128,7 @@ public abstract class AbstractDataTypeList<T extends AbstractDataType> extends A
      */
     public byte[] writeByteArray()
     {
-        if(logger.isLoggable(Level.CONFIG))
+        if(DebugLogging.isLoggable(logger, Level.CONFIG))
         {
             logger.config("Writing DataTypeList " + this.getIdentifier());
         }
@@ -23,8 +23,9 @@
  */
 package org.jaudiotagger.tag.datatype;
 
+import org.jaudiotagger.logging.DebugLogging;
 import org.jaudiotagger.tag.FieldKey;
-import org.jaudiotagger.tag.TagOptionSingleton;
+import org.jaudiotagger.tag.TagOptions;
 import org.jaudiotagger.tag.id3.*;
 import org.jaudiotagger.tag.id3.framebody.FrameBodyCOMM;
 import org.jaudiotagger.tag.id3.framebody.FrameBodyTXXX;
@@ -37,6 +38,7 @@ import java.nio.charset.CharsetDecoder;
 import java.nio.charset.CharsetEncoder;
 import java.nio.charset.StandardCharsets;
 import java.util.EnumSet;
+import java.util.logging.Level;
 
 /**
  * A partial implementation for String based ID3 fields
@@ -132,7 +134,10 @@ public abstract class AbstractString extends AbstractDataType
         }
         else
         {
-            logger.finest("Failed Trying to decode" + value + "with" + encoder.toString());
+            if (DebugLogging.isLoggable(logger, Level.FINEST))
+            {
+                logger.finest("Failed Trying to decode" + value + "with" + encoder.toString());
+            }
             return false;
         }
     }
@@ -151,12 +156,13 @@ public abstract class AbstractString extends AbstractDataType
      */
     protected CharsetDecoder getCorrectDecoder(ByteBuffer inBuffer)
     {
-        EnumSet<FieldKey> overrideFieldKeys = TagOptionSingleton.getInstance().getOverrideCharsetFields();
+        TagOptions options = TagOptions.current();
+        EnumSet<FieldKey> overrideFieldKeys = options.getOverrideCharsetFields();
         Charset charset = getTextEncodingCharSet();
         if(charset==StandardCharsets.ISO_8859_1
                 && isAllowReadMetadataWithOverrideCharset
-                && TagOptionSingleton.getInstance().isOverrideCharsetForId3()
-                && TagOptionSingleton.getInstance().getOverrideCharset()!=null)
+                && options.isOverrideCharsetForId3()
+                && options.getOverrideCharset()!=null)
         {
             //Get generic key based on id
             ID3v23FieldKey id3v23FieldKey=null;
@@ -184,7 +190,7 @@ public abstract class AbstractString extends AbstractDataType
                 {
                     if (overrideFieldKeys.contains(fieldKey))
                     {
-                        charset = TagOptionSingleton.getInstance().getOverrideCharset();
+                        charset = options.getOverrideCharset();
                     }
                 }
             }
@@ -216,7 +222,7 @@ public abstract class AbstractString extends AbstractDataType
                     {
                         if (overrideFieldKeys.contains(fieldKey))
                         {
-                            charset = TagOptionSingleton.getInstance().getOverrideCharset();
+                            charset = options.getOverrideCharset();
                         }
                     }
                 }
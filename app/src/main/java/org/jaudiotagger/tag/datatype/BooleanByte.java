@@ -26,6 +26,8 @@ package org.jaudiotagger.tag.datatype;
 import org.jaudiotagger.tag.InvalidDataTypeException;
 import org.jaudiotagger.tag.id3.AbstractTagFrameBody;
 
+import java.nio.ByteBuffer;
+
 /**
  * Represents a bit flag within a byte
  */
@@ -95,24 +97,24 @@ public class BooleanByte extends AbstractDataType
     }
 
     /**
-     * @param arr
+     * @param buffer
      * @param offset
      * @throws NullPointerException
      * @throws IndexOutOfBoundsException
      */
-    public void readByteArray(byte[] arr, int offset) throws InvalidDataTypeException
+    public void readByteBuffer(ByteBuffer buffer, int offset) throws InvalidDataTypeException
     {
-        if (arr == null)
+        if (buffer == null)
         {
-            throw new NullPointerException("Byte array is null");
+            throw new NullPointerException("Buffer is null");
         }
 
-        if ((offset < 0) || (offset >= arr.length))
+        if ((offset < 0) || (offset >= buffer.limit()))
         {
-            throw new IndexOutOfBoundsException("Offset to byte array is out of bounds: offset = " + offset + ", array.length = " + arr.length);
+            throw new IndexOutOfBoundsException("Offset to byte array is out of bounds: offset = " + offset + ", buffer.limit = " + buffer.limit());
         }
 
-        byte newValue = arr[offset];
+        byte newValue = buffer.get(offset);
 
         newValue >>= bitPosition;
         newValue &= 0x1;
@@ -26,6 +26,8 @@ package org.jaudiotagger.tag.datatype;
 import org.jaudiotagger.tag.InvalidDataTypeException;
 import org.jaudiotagger.tag.id3.AbstractTagFrameBody;
 
+import java.nio.ByteBuffer;
+
 public class BooleanString extends AbstractDataType
 {
     /**
@@ -63,9 +65,9 @@ public class BooleanString extends AbstractDataType
      * @throws NullPointerException
      * @throws IndexOutOfBoundsException
      */
-    public void readByteArray(byte[] arr, int offset) throws InvalidDataTypeException
+    public void readByteBuffer(ByteBuffer buffer, int offset) throws InvalidDataTypeException
     {
-        byte b = arr[offset];
+        byte b = buffer.get(offset);
         value = b != '0';
     }
 
@@ -23,9 +23,11 @@
  */
 package org.jaudiotagger.tag.datatype;
 
+import org.jaudiotagger.logging.DebugLogging;
 import org.jaudiotagger.tag.InvalidDataTypeException;
 import org.jaudiotagger.tag.id3.AbstractTagFrameBody;
 
+import java.nio.ByteBuffer;
 import java.util.logging.Level;
 
 /**
@@ -68,33 +70,34 @@ public class ByteArraySizeTerminated extends AbstractDataType
     }
 
     /**
-     * @param arr
+     * @param buffer
      * @param offset
      * @throws NullPointerException
      * @throws IndexOutOfBoundsException
      */
-    public void readByteArray(byte[] arr, int offset) throws InvalidDataTypeException
+    public void readByteBuffer(ByteBuffer buffer, int offset) throws InvalidDataTypeException
     {
-        if (arr == null)
+        if (buffer == null)
         {
-            throw new NullPointerException("Byte array is null");
+            throw new NullPointerException("Buffer is null");
         }
 
         if (offset < 0)
         {
-            throw new IndexOutOfBoundsException("Offset to byte array is out of bounds: offset = " + offset + ", array.length = " + arr.length);
+            throw new IndexOutOfBoundsException("Offset to byte array is out of bounds: offset = " + offset + ", buffer.limit = " + buffer.limit());
         }
 
         //Empty Byte Array
-        if (offset >= arr.length)
+        if (offset >= buffer.limit())
         {
             value = null;
             return;
         }
 
-        int len = arr.length - offset;
-        value = new byte[len];
-        System.arraycopy(arr, offset, value, 0, len);
+        int len = buffer.limit() - offset;
+        byte[] data = new byte[len];
+        slice(buffer, offset, len).get(data);
+        value = data;
     }
 
     /**
@@ -115,7 +118,7 @@ public class ByteArraySizeTerminated extends AbstractDataType
      */
     public byte[] writeByteArray()
     {
-        if(logger.isLoggable(Level.CONFIG))
+        if(DebugLogging.isLoggable(logger, Level.CONFIG))
         {
             logger.config("Writing byte array" + this.getIdentifier());
         }
@@ -13,10 +13,14 @@
  */
 package org.jaudiotagger.tag.datatype;
 
+import org.jaudiotagger.logging.DebugLogging;
 import org.jaudiotagger.tag.InvalidDataTypeException;
 import org.jaudiotagger.tag.id3.AbstractTagFrameBody;
 import org.jaudiotagger.tag.id3.valuepair.EventTimingTypes;
 
+import java.nio.ByteBuffer;
+import java.util.logging.Level;
+
 /**
  * A single event timing code. Part of a list of timing codes ({@link EventTimingCodeList}), that are contained in
  * {@link org.jaudiotagger.tag.id3.framebody.FrameBodyETCO}.
@@ -85,24 +89,27 @@ public class EventTimingCode extends AbstractDataType implements Cloneable
     }
 
     @Override
-    public void readByteArray(final byte[] buffer, final int originalOffset) throws InvalidDataTypeException
+    public void readByteBuffer(final ByteBuffer buffer, final int originalOffset) throws InvalidDataTypeException
     {
         int localOffset = originalOffset;
         int size = getSize();
 
-        logger.finest("offset:" + localOffset);
+        if (DebugLogging.isLoggable(logger, Level.FINEST))
+        {
+            logger.finest("offset:" + localOffset);
+        }
 
         //The read has extended further than the defined frame size (ok to extend upto
         //size because the next datatype may be of length 0.)
-        if (originalOffset > buffer.length-size)
+        if (originalOffset > buffer.limit()-size)
         {
             logger.warning("Invalid size for FrameBody");
             throw new InvalidDataTypeException("Invalid size for FrameBody");
         }
 
-        this.type.readByteArray(buffer, localOffset);
+        this.type.readByteBuffer(buffer, localOffset);
         localOffset += this.type.getSize();
-        this.timestamp.readByteArray(buffer, localOffset);
+        this.timestamp.readByteBuffer(buffer, localOffset);
         localOffset += this.timestamp.getSize();
     }
 
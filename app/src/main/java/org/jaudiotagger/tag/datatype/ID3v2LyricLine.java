@@ -26,6 +26,7 @@ package org.jaudiotagger.tag.datatype;
 import org.jaudiotagger.tag.InvalidDataTypeException;
 import org.jaudiotagger.tag.id3.AbstractTagFrameBody;
 
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 
 public class ID3v2LyricLine extends AbstractDataType
@@ -109,33 +110,33 @@ public class ID3v2LyricLine extends AbstractDataType
     }
 
     /**
-     * @param arr
+     * @param buffer
      * @param offset
      * @throws NullPointerException
      * @throws IndexOutOfBoundsException
      */
-    public void readByteArray(byte[] arr, int offset) throws InvalidDataTypeException
+    public void readByteBuffer(ByteBuffer buffer, int offset) throws InvalidDataTypeException
     {
-        if (arr == null)
+        if (buffer == null)
         {
-            throw new NullPointerException("Byte array is null");
+            throw new NullPointerException("Buffer is null");
         }
 
-        if ((offset < 0) || (offset >= arr.length))
+        if ((offset < 0) || (offset >= buffer.limit()))
         {
-            throw new IndexOutOfBoundsException("Offset to byte array is out of bounds: offset = " + offset + ", array.length = " + arr.length);
+            throw new IndexOutOfBoundsException("Offset to byte array is out of bounds: offset = " + offset + ", buffer.limit = " + buffer.limit());
         }
 
         //offset += ();
-        text = new String(arr, offset, arr.length - offset - 4, StandardCharsets.ISO_8859_1);
+        text = StandardCharsets.ISO_8859_1.decode(slice(buffer, offset, buffer.limit() - offset - 4)).toString();
 
         //text = text.substring(0, text.length() - 5);
         timeStamp = 0;
 
-        for (int i = arr.length - 4; i < arr.length; i++)
+        for (int i = buffer.limit() - 4; i < buffer.limit(); i++)
         {
             timeStamp <<= 8;
-            timeStamp += arr[i];
+            timeStamp += buffer.get(i);
         }
     }
 
@@ -1,10 +1,12 @@
 package org.jaudiotagger.tag.datatype;
 
+import org.jaudiotagger.logging.DebugLogging;
 import org.jaudiotagger.tag.InvalidDataTypeException;
 import org.jaudiotagger.tag.id3.AbstractTagFrameBody;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.ListIterator;
@@ -76,13 +78,16 @@ public class MultipleTextEncodedStringNullTerminated extends AbstractDataType
      * Strings or until reached the end of the array. The offset should be set to byte after the last null terminated
      * String found.
      *
-     * @param arr    to read the Strings from
+     * @param buffer to read the Strings from
      * @param offset in the array to start reading from
      * @throws InvalidDataTypeException if unable to find any null terminated Strings
      */
-    public void readByteArray(byte[] arr, int offset) throws InvalidDataTypeException
+    public void readByteBuffer(ByteBuffer buffer, int offset) throws InvalidDataTypeException
     {
-        logger.finer("Reading MultipleTextEncodedStringNullTerminated from array from offset:" + offset);
+        if (DebugLogging.isLoggable(logger, Level.FINER))
+        {
+            logger.finer("Reading MultipleTextEncodedStringNullTerminated from array from offset:" + offset);
+        }
         //Continue until unable to read a null terminated String
         while (true)
         {
@@ -90,7 +95,7 @@ public class MultipleTextEncodedStringNullTerminated extends AbstractDataType
             {
                 //Read String
                 TextEncodedStringNullTerminated next = new TextEncodedStringNullTerminated(identifier, frameBody, true);
-                next.readByteArray(arr, offset);
+                next.readByteBuffer(buffer, offset);
 
                 if (next.getSize() == 0)
                 {
@@ -119,7 +124,10 @@ public class MultipleTextEncodedStringNullTerminated extends AbstractDataType
                 throw new InvalidDataTypeException("No null terminated Strings found");
             }
         }
-        logger.finer("Read  MultipleTextEncodedStringNullTerminated:" + value + " size:" + size);
+        if (DebugLogging.isLoggable(logger, Level.FINER))
+        {
+            logger.finer("Read  MultipleTextEncodedStringNullTerminated:" + value + " size:" + size);
+        }
     }
 
     /**
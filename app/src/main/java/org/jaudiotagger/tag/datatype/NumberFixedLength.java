@@ -23,10 +23,12 @@
  */
 package org.jaudiotagger.tag.datatype;
 
+import org.jaudiotagger.logging.DebugLogging;
 import org.jaudiotagger.tag.InvalidDataTypeException;
 import org.jaudiotagger.tag.id3.AbstractTagFrameBody;
 import org.jaudiotagger.tag.id3.ID3Tags;
 
+import java.nio.ByteBuffer;
 import java.util.logging.Level;
 
 
@@ -116,36 +118,36 @@ public class NumberFixedLength extends AbstractDataType
     /**
      * Read the number from the byte array
      *
-     * @param arr
+     * @param buffer
      * @param offset
      * @throws NullPointerException
      * @throws IndexOutOfBoundsException
      */
-    public void readByteArray(byte[] arr, int offset) throws InvalidDataTypeException
+    public void readByteBuffer(ByteBuffer buffer, int offset) throws InvalidDataTypeException
     {
-        if (arr == null)
+        if (buffer == null)
         {
-            throw new NullPointerException("Byte array is null");
+            throw new NullPointerException("Buffer is null");
         }
-        if ((offset < 0) || (offset >= arr.length))
+        if ((offset < 0) || (offset >= buffer.limit()))
         {
-            throw new InvalidDataTypeException("Offset to byte array is out of bounds: offset = " + offset + ", array.length = " + arr.length);
+            throw new InvalidDataTypeException("Offset to byte array is out of bounds: offset = " + offset + ", buffer.limit = " + buffer.limit());
         }
 
-        if(offset + size > arr.length)
+        if(offset + size > buffer.limit())
         {
             throw new InvalidDataTypeException("Offset plus size to byte array is out of bounds: offset = "
-                    + offset + ", size = "+size  +" + arr.length "+ arr.length );
+                    + offset + ", size = "+size  +" + buffer.limit "+ buffer.limit() );
         }
 
         long lvalue = 0;
         for (int i = offset; i < (offset + size); i++)
         {
             lvalue <<= 8;
-            lvalue += (arr[i] & 0xff);
+            lvalue += (buffer.get(i) & 0xff);
         }
         value = lvalue;
-        if(logger.isLoggable(Level.CONFIG))
+        if(DebugLogging.isLoggable(logger, Level.CONFIG))
         {
             logger.config("Read NumberFixedlength:" + value);
         }
@@ -31,6 +31,7 @@ import org.jaudiotagger.tag.reference.GenreTypes;
 import org.jaudiotagger.tag.reference.PictureTypes;
 import org.jaudiotagger.utils.EqualsUtil;
 
+import java.nio.ByteBuffer;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.TreeSet;
@@ -227,13 +228,13 @@ public class NumberHashMap extends NumberFixedLength implements HashMapInterface
     /**
      * Read the key from the buffer.
      *
-     * @param arr
+     * @param buffer
      * @param offset
      * @throws InvalidDataTypeException if emptyValues are not allowed and the eky was invalid.
      */
-    public void readByteArray(byte[] arr, int offset) throws InvalidDataTypeException
+    public void readByteBuffer(ByteBuffer buffer, int offset) throws InvalidDataTypeException
     {
-        super.readByteArray(arr, offset);
+        super.readByteBuffer(buffer, offset);
 
         //Mismatch:Superclass uses Long, but maps expect Integer
         Integer intValue = ((Long) value).intValue();
@@ -1,11 +1,13 @@
 package org.jaudiotagger.tag.datatype;
 
+import org.jaudiotagger.logging.DebugLogging;
 import org.jaudiotagger.tag.InvalidDataTypeException;
 import org.jaudiotagger.tag.id3.AbstractTagFrameBody;
 import org.jaudiotagger.utils.EqualsUtil;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.logging.Level;
@@ -84,13 +86,16 @@ public class PairedTextEncodedStringNullTerminated extends AbstractDataType
      * Strings or until reached the end of the array. The offset should be set to byte after the last null terminated
      * String found.
      *
-     * @param arr    to read the Strings from
+     * @param buffer to read the Strings from
      * @param offset in the array to start reading from
      * @throws InvalidDataTypeException if unable to find any null terminated Strings
      */
-    public void readByteArray(byte[] arr, int offset) throws InvalidDataTypeException
+    public void readByteBuffer(ByteBuffer buffer, int offset) throws InvalidDataTypeException
     {
-        logger.finer("Reading PairTextEncodedStringNullTerminated from array from offset:" + offset);
+        if (DebugLogging.isLoggable(logger, Level.FINER))
+        {
+            logger.finer("Reading PairTextEncodedStringNullTerminated from array from offset:" + offset);
+        }
         //Continue until unable to read a null terminated String
         while (true)
         {
@@ -98,7 +103,7 @@ public class PairedTextEncodedStringNullTerminated extends AbstractDataType
             {
                 //Read Key
                 TextEncodedStringNullTerminated key = new TextEncodedStringNullTerminated(identifier, frameBody, true);
-                key.readByteArray(arr, offset);
+                key.readByteBuffer(buffer, offset);
                 size   += key.getSize();
                 offset += key.getSize();
                 if (key.getSize() == 0)
@@ -110,7 +115,7 @@ public class PairedTextEncodedStringNullTerminated extends AbstractDataType
                 {
                     //Read Value
                     TextEncodedStringNullTerminated result = new TextEncodedStringNullTerminated(identifier, frameBody, true);
-                    result.readByteArray(arr, offset);
+                    result.readByteBuffer(buffer, offset);
                     size   += result.getSize();
                     offset += result.getSize();
                     if (result.getSize() == 0)
@@ -124,12 +129,12 @@ public class PairedTextEncodedStringNullTerminated extends AbstractDataType
                 {
                     //Value may not be null terminated if it is the last value
                     //Read Value
-                    if(offset>=arr.length)
+                    if(offset>=buffer.limit())
                     {
                         break;
                     }
                     TextEncodedStringSizeTerminated result = new TextEncodedStringSizeTerminated(identifier, frameBody);
-                    result.readByteArray(arr, offset);
+                    result.readByteBuffer(buffer, offset);
                     size   += result.getSize();
                     offset += result.getSize();
                     if (result.getSize() == 0)
@@ -152,7 +157,10 @@ public class PairedTextEncodedStringNullTerminated extends AbstractDataType
                 throw new InvalidDataTypeException("No null terminated Strings found");
             }
         }
-        logger.finer("Read  PairTextEncodedStringNullTerminated:" + value + " size:" + size);
+        if (DebugLogging.isLoggable(logger, Level.FINER))
+        {
+            logger.finer("Read  PairTextEncodedStringNullTerminated:" + value + " size:" + size);
+        }
     }
 
 
@@ -1,7 +1,8 @@
 package org.jaudiotagger.tag.datatype;
 
+import org.jaudiotagger.logging.DebugLogging;
 import org.jaudiotagger.tag.InvalidDataTypeException;
-import org.jaudiotagger.tag.TagOptionSingleton;
+import org.jaudiotagger.tag.TagOptions;
 import org.jaudiotagger.tag.id3.AbstractTagFrameBody;
 import org.jaudiotagger.tag.id3.valuepair.TextEncoding;
 import org.jaudiotagger.tag.options.PadNumberOption;
@@ -79,19 +80,19 @@ public class PartOfSet extends AbstractString
      * ID3 Text Frames often allow multiple strings separated by the null char
      * appropriate for the encoding.
      *
-     * @param arr    this is the buffer for the frame
+     * @param buffer this is the buffer for the frame
      * @param offset this is where to start reading in the buffer for this field
      * @throws NullPointerException
      * @throws IndexOutOfBoundsException
      */
-    public void readByteArray(byte[] arr, int offset) throws InvalidDataTypeException
+    public void readByteBuffer(ByteBuffer buffer, int offset) throws InvalidDataTypeException
     {
         //Get the Specified Decoder
         CharsetDecoder decoder = getTextEncodingCharSet().newDecoder();
 
         //Decode sliced inBuffer
-        ByteBuffer inBuffer = ByteBuffer.wrap(arr, offset, arr.length - offset).slice();
-        CharBuffer outBuffer = CharBuffer.allocate(arr.length - offset);
+        ByteBuffer inBuffer = slice(buffer, offset, buffer.limit() - offset).slice();
+        CharBuffer outBuffer = CharBuffer.allocate(buffer.limit() - offset);
         decoder.reset();
         CoderResult coderResult = decoder.decode(inBuffer, outBuffer, true);
         if (coderResult.isError())
@@ -106,9 +107,9 @@ public class PartOfSet extends AbstractString
         value = new PartOfSetValue(stringValue);
 
         //SetSize, important this is correct for finding the next datatype
-        setSize(arr.length - offset);
+        setSize(buffer.limit() - offset);
 
-        if(logger.isLoggable(Level.CONFIG))
+        if(DebugLogging.isLoggable(logger, Level.CONFIG))
         {
             logger.config("Read SizeTerminatedString:" + value + " size:" + size);
         }
@@ -129,7 +130,7 @@ public class PartOfSet extends AbstractString
         //Try and write to buffer using the CharSet defined by getTextEncodingCharSet()
         try
         {
-            if (TagOptionSingleton.getInstance().isRemoveTrailingTerminatorOnWrite())
+            if (TagOptions.current().isRemoveTrailingTerminatorOnWrite())
             {
                 if (value.length() > 0)
                 {
@@ -183,7 +184,10 @@ public class PartOfSet extends AbstractString
     {
         final byte textEncoding = this.getBody().getTextEncoding();
         final Charset charset = TextEncoding.getInstanceOf().getCharsetForId(textEncoding);
-        logger.finest("text encoding:" + textEncoding + " charset:" + charset.name());
+        if (DebugLogging.isLoggable(logger, Level.FINEST))
+        {
+            logger.finest("text encoding:" + textEncoding + " charset:" + charset.name());
+        }
         return charset;
     }
 
@@ -370,15 +374,16 @@ public class PartOfSet extends AbstractString
          */
         public String getCountAsText()
         {
+            TagOptions options = TagOptions.current();
             //Don't Pad
             StringBuffer sb = new StringBuffer();
-            if (!TagOptionSingleton.getInstance().isPadNumbers())
+            if (!options.isPadNumbers())
             {
                 return rawCount;
             }
             else
             {
-                padNumber(sb, count, TagOptionSingleton.getInstance().getPadNumberTotalLength());
+                padNumber(sb, count, options.getPadNumberTotalLength());
             }
             return sb.toString();
         }
@@ -448,15 +453,16 @@ public class PartOfSet extends AbstractString
          */
         public String getTotalAsText()
         {
+            TagOptions options = TagOptions.current();
             //Don't Pad
             StringBuffer sb = new StringBuffer();
-            if (!TagOptionSingleton.getInstance().isPadNumbers())
+            if (!options.isPadNumbers())
             {
                 return rawTotal;
             }
             else
             {
-                padNumber(sb, total, TagOptionSingleton.getInstance().getPadNumberTotalLength());
+                padNumber(sb, total, options.getPadNumberTotalLength());
 
             }
             return sb.toString();
@@ -464,10 +470,11 @@ public class PartOfSet extends AbstractString
 
         public String toString()
         {
+            TagOptions options = TagOptions.current();
 
             //Don't Pad
             StringBuffer sb = new StringBuffer();
-            if (!TagOptionSingleton.getInstance().isPadNumbers())
+            if (!options.isPadNumbers())
             {
                 return rawText;
             }
@@ -475,16 +482,16 @@ public class PartOfSet extends AbstractString
             {
                 if (count != null)
                 {
-                    padNumber(sb, count, TagOptionSingleton.getInstance().getPadNumberTotalLength());
+                    padNumber(sb, count, options.getPadNumberTotalLength());
                 }
                 else if (total != null)
                 {
-                    padNumber(sb, 0, TagOptionSingleton.getInstance().getPadNumberTotalLength());
+                    padNumber(sb, 0, options.getPadNumberTotalLength());
                 }
                 if (total != null)
                 {
                     sb.append(SEPARATOR);
-                    padNumber(sb, total, TagOptionSingleton.getInstance().getPadNumberTotalLength());
+                    padNumber(sb, total, options.getPadNumberTotalLength());
                 }
                 if (extra != null)
                 {
@@ -23,6 +23,7 @@
  */
 package org.jaudiotagger.tag.datatype;
 
+import org.jaudiotagger.logging.DebugLogging;
 import org.jaudiotagger.tag.InvalidDataTypeException;
 import org.jaudiotagger.tag.id3.AbstractTagFrameBody;
 import org.jaudiotagger.tag.id3.valuepair.TextEncoding;
@@ -30,6 +31,7 @@ import org.jaudiotagger.tag.id3.valuepair.TextEncoding;
 import java.nio.ByteBuffer;
 import java.nio.CharBuffer;
 import java.nio.charset.*;
+import java.util.logging.Level;
 
 
 /**
@@ -79,26 +81,32 @@ public class StringFixedLength extends AbstractString
     /**
      * Read a string from buffer of fixed size(size has already been set in constructor)
      *
-     * @param arr    this is the buffer for the frame
+     * @param buffer this is the buffer for the frame
      * @param offset this is where to start reading in the buffer for this field
      */
-    public void readByteArray(byte[] arr, int offset) throws InvalidDataTypeException
+    public void readByteBuffer(ByteBuffer buffer, int offset) throws InvalidDataTypeException
     {
-        logger.config("Reading from array from offset:" + offset);
+        if (DebugLogging.isLoggable(logger, Level.CONFIG))
+        {
+            logger.config("Reading from array from offset:" + offset);
+        }
         try
         {
             final CharsetDecoder decoder = getTextEncodingCharSet().newDecoder();
 
             //Decode buffer if runs into problems should through exception which we
             //catch and then set value to empty string.
-            logger.finest("Array length is:" + arr.length + "offset is:" + offset + "Size is:" + size);
+            if (DebugLogging.isLoggable(logger, Level.FINEST))
+            {
+                logger.finest("Array length is:" + buffer.limit() + "offset is:" + offset + "Size is:" + size);
+            }
 
 
-            if (arr.length - offset < size)
+            if (buffer.limit() - offset < size)
             {
                 throw new InvalidDataTypeException("byte array is to small to retrieve string of declared length:" + size);
             }
-            String str = decoder.decode(ByteBuffer.wrap(arr, offset, size)).toString();
+            String str = decoder.decode(slice(buffer, offset, size)).toString();
             if (str == null)
             {
                 throw new NullPointerException("String is null");
@@ -110,7 +118,10 @@ public class StringFixedLength extends AbstractString
             logger.severe(ce.getMessage());
             value = "";
         }
-        logger.config("Read StringFixedLength:" + value);
+        if (DebugLogging.isLoggable(logger, Level.CONFIG))
+        {
+            logger.config("Read StringFixedLength:" + value);
+        }
     }
 
     /**
@@ -219,7 +230,10 @@ public class StringFixedLength extends AbstractString
     {
         final byte textEncoding = this.getBody().getTextEncoding();
         final Charset charset = TextEncoding.getInstanceOf().getCharsetForId(textEncoding);
-        logger.finest("text encoding:" + textEncoding + " charset:" + charset.name());
+        if (DebugLogging.isLoggable(logger, Level.FINEST))
+        {
+            logger.finest("text encoding:" + textEncoding + " charset:" + charset.name());
+        }
         return charset;
     }
 }
@@ -18,6 +18,8 @@ import org.jaudiotagger.tag.InvalidDataTypeException;
 import org.jaudiotagger.tag.id3.AbstractTagFrameBody;
 import org.jaudiotagger.tag.id3.ID3Tags;
 
+import java.nio.ByteBuffer;
+
 /**
  * Represents a {@link org.jaudiotagger.tag.id3.framebody.FrameBodySYTC} tempo code.
  *
@@ -71,26 +73,26 @@ public class TempoCode extends AbstractDataType
     }
 
     @Override
-    public void readByteArray(final byte[] arr, final int offset) throws InvalidDataTypeException
+    public void readByteBuffer(final ByteBuffer buffer, final int offset) throws InvalidDataTypeException
     {
-        if (arr == null)
+        if (buffer == null)
         {
-            throw new NullPointerException("Byte array is null");
+            throw new NullPointerException("Buffer is null");
         }
         if (offset < 0)
         {
             throw new IllegalArgumentException("negative offset into an array offset:" + offset);
         }
-        if (offset >= arr.length)
+        if (offset >= buffer.limit())
         {
-            throw new InvalidDataTypeException("Offset to byte array is out of bounds: offset = " + offset + ", array.length = " + arr.length);
+            throw new InvalidDataTypeException("Offset to byte array is out of bounds: offset = " + offset + ", buffer.limit = " + buffer.limit());
         }
 
         long lvalue = 0;
-        lvalue += (arr[offset] & 0xff);
+        lvalue += (buffer.get(offset) & 0xff);
         if (lvalue == 0xFF)
         {
-            lvalue += (arr[offset+1] & 0xff);
+            lvalue += (buffer.get(offset+1) & 0xff);
         }
         value = lvalue;
     }
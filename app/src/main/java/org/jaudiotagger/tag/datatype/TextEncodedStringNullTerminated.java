@@ -1,7 +1,8 @@
 package org.jaudiotagger.tag.datatype;
 
+import org.jaudiotagger.logging.DebugLogging;
 import org.jaudiotagger.tag.InvalidDataTypeException;
-import org.jaudiotagger.tag.TagOptionSingleton;
+import org.jaudiotagger.tag.TagOptions;
 import org.jaudiotagger.tag.id3.AbstractTagFrameBody;
 import org.jaudiotagger.tag.id3.valuepair.TextEncoding;
 
@@ -62,12 +63,12 @@ public class TextEncodedStringNullTerminated extends AbstractString
      * ID3 Text Frames often allow multiple strings separated by the null char
      * appropriate for the encoding.
      *
-     * @param arr    this is the buffer for the frame
+     * @param buffer this is the buffer for the frame
      * @param offset this is where to start reading in the buffer for this field
      */
-    public void readByteArray(byte[] arr, int offset) throws InvalidDataTypeException
+    public void readByteBuffer(ByteBuffer buffer, int offset) throws InvalidDataTypeException
     {
-        if(offset>=arr.length)
+        if(offset>=buffer.limit())
         {
             throw new InvalidDataTypeException("Unable to find null terminated string");
         }
@@ -83,7 +84,8 @@ public class TextEncodedStringNullTerminated extends AbstractString
         //We only want to load up to null terminator, data after this is part of different
         //field and it may not be possible to decode it so do the check before we do
         //do the decoding,encoding dependent.
-        ByteBuffer buffer = ByteBuffer.wrap(arr, offset, arr.length - offset);
+        ByteBuffer searchBuffer = buffer.duplicate();
+        searchBuffer.position(offset);
         int endPosition = 0;
 
         //Latin-1 and UTF-8 strings are terminated by a single-byte null,
@@ -91,30 +93,30 @@ public class TextEncodedStringNullTerminated extends AbstractString
         final boolean nullIsOneByte = StandardCharsets.ISO_8859_1 == charset || StandardCharsets.UTF_8 == charset;
 
         boolean isNullTerminatorFound = false;
-        while (buffer.hasRemaining())
+        while (searchBuffer.hasRemaining())
         {
-            byte nextByte = buffer.get();
+            byte nextByte = searchBuffer.get();
             if (nextByte == 0x00)
             {
                 if (nullIsOneByte)
                 {
-                    buffer.mark();
-                    buffer.reset();
-                    endPosition = buffer.position() - 1;
+                    searchBuffer.mark();
+                    searchBuffer.reset();
+                    endPosition = searchBuffer.position() - 1;
                     isNullTerminatorFound = true;
                     break;
                 }
                 else
                 {
                     // Looking for two-byte null
-                    if (buffer.hasRemaining())
+                    if (searchBuffer.hasRemaining())
                     {
-                        nextByte = buffer.get();
+                        nextByte = searchBuffer.get();
                         if (nextByte == 0x00)
                         {
-                            buffer.mark();
-                            buffer.reset();
-                            endPosition = buffer.position() - 2;
+                            searchBuffer.mark();
+                            searchBuffer.reset();
+                            endPosition = searchBuffer.position() - 2;
                             isNullTerminatorFound = true;
                             break;
                         }
@@ -126,9 +128,9 @@ public class TextEncodedStringNullTerminated extends AbstractString
                     }
                     else
                     {
-                        buffer.mark();
-                        buffer.reset();
-                        endPosition = buffer.position() - 1;
+                        searchBuffer.mark();
+                        searchBuffer.reset();
+                        endPosition = searchBuffer.position() - 1;
                         isNullTerminatorFound = true;
                         break;
                     }
@@ -139,9 +141,9 @@ public class TextEncodedStringNullTerminated extends AbstractString
                 //If UTF16, we should only be looking on 2 byte boundaries
                 if (!nullIsOneByte)
                 {
-                    if (buffer.hasRemaining())
+                    if (searchBuffer.hasRemaining())
                     {
-                        buffer.get();
+                        searchBuffer.get();
                     }
                 }
             }
@@ -166,7 +168,7 @@ public class TextEncodedStringNullTerminated extends AbstractString
         //because we dont want to display this)
         bufferSize = endPosition - offset;
 
-        if(logger.isLoggable(Level.FINEST))
+        if(DebugLogging.isLoggable(logger, Level.FINEST))
         {
             logger.finest("Text size is:" + bufferSize);
         }
@@ -177,7 +179,7 @@ public class TextEncodedStringNullTerminated extends AbstractString
         else
         {
             //Decode sliced inBuffer
-            ByteBuffer inBuffer = ByteBuffer.wrap(arr, offset, bufferSize).slice();
+            ByteBuffer inBuffer = slice(buffer, offset, bufferSize);
             CharBuffer outBuffer = CharBuffer.allocate(bufferSize);
 
             final CharsetDecoder decoder = getCorrectDecoder(inBuffer);
@@ -191,7 +193,7 @@ public class TextEncodedStringNullTerminated extends AbstractString
             value = outBuffer.toString();
         }
         //Set Size so offset is ready for next field (includes the null terminator)
-        if(logger.isLoggable(Level.CONFIG))
+        if(DebugLogging.isLoggable(logger, Level.CONFIG))
         {
             logger.config("Read NullTerminatedString:" + value + " size inc terminator:" + size);
         }
@@ -204,7 +206,10 @@ public class TextEncodedStringNullTerminated extends AbstractString
      */
     public byte[] writeByteArray()
     {
-        logger.config("Writing NullTerminatedString." + value);
+        if (DebugLogging.isLoggable(logger, Level.CONFIG))
+        {
+            logger.config("Writing NullTerminatedString." + value);
+        }
         byte[] data;
         //Write to buffer using the CharSet defined by getTextEncodingCharSet()
         //Add a null terminator which will be encoded based on encoding.
@@ -213,7 +218,7 @@ public class TextEncodedStringNullTerminated extends AbstractString
         {
             if (StandardCharsets.UTF_16.equals(charset))
             {
-                if(TagOptionSingleton.getInstance().isEncodeUTF16BomAsLittleEndian())
+                if(TagOptions.current().isEncodeUTF16BomAsLittleEndian())
                 {
                     final CharsetEncoder encoder = StandardCharsets.UTF_16LE.newEncoder();
                     encoder.onMalformedInput(CodingErrorAction.IGNORE);
@@ -261,7 +266,10 @@ public class TextEncodedStringNullTerminated extends AbstractString
     {
         final byte textEncoding = this.getBody().getTextEncoding();
         final Charset charset = TextEncoding.getInstanceOf().getCharsetForId(textEncoding);
-        logger.finest("text encoding:" + textEncoding + " charset:" + charset.name());
+        if (DebugLogging.isLoggable(logger, Level.FINEST))
+        {
+            logger.finest("text encoding:" + textEncoding + " charset:" + charset.name());
+        }
         return charset;
     }
 }
@@ -1,7 +1,8 @@
 package org.jaudiotagger.tag.datatype;
 
+import org.jaudiotagger.logging.DebugLogging;
 import org.jaudiotagger.tag.InvalidDataTypeException;
-import org.jaudiotagger.tag.TagOptionSingleton;
+import org.jaudiotagger.tag.TagOptions;
 import org.jaudiotagger.tag.id3.AbstractTagFrameBody;
 
 import java.nio.ByteBuffer;
@@ -73,28 +74,28 @@ public class TextEncodedStringSizeTerminated extends AbstractString
      * ID3 Text Frames often allow multiple strings separated by the null char
      * appropriate for the encoding.
      *
-     * @param arr    this is the buffer for the frame
+     * @param buffer this is the buffer for the frame
      * @param offset this is where to start reading in the buffer for this field
      * @throws NullPointerException
      * @throws IndexOutOfBoundsException
      */
-    public void readByteArray(byte[] arr, int offset) throws InvalidDataTypeException
+    public void readByteBuffer(ByteBuffer buffer, int offset) throws InvalidDataTypeException
     {
         //Decode sliced inBuffer
         ByteBuffer inBuffer;
-        if(TagOptionSingleton.getInstance().isAndroid())
+        if(TagOptions.current().isAndroid())
         {
            //#302 [dallen] truncating array manually since the decoder.decode() does not honor the offset in the in buffer
-           byte[] truncArr = new byte[arr.length - offset];
-           System.arraycopy(arr, offset, truncArr, 0, truncArr.length);
+           byte[] truncArr = new byte[buffer.limit() - offset];
+           slice(buffer, offset, truncArr.length).get(truncArr);
            inBuffer = ByteBuffer.wrap(truncArr);
         }
         else
         {
-           inBuffer = ByteBuffer.wrap(arr, offset, arr.length - offset).slice();
+           inBuffer = slice(buffer, offset, buffer.limit() - offset).slice();
         }
 
-        CharBuffer outBuffer = CharBuffer.allocate(arr.length - offset);
+        CharBuffer outBuffer = CharBuffer.allocate(buffer.limit() - offset);
 
 
         CharsetDecoder decoder = getCorrectDecoder(inBuffer);
@@ -120,8 +121,8 @@ public class TextEncodedStringSizeTerminated extends AbstractString
             value = outBuffer.toString();
         }
         //SetSize, important this is correct for finding the next datatype
-        setSize(arr.length - offset);
-        if(logger.isLoggable(Level.FINEST))
+        setSize(buffer.limit() - offset);
+        if(DebugLogging.isLoggable(logger, Level.FINEST))
         {
             logger.finest("Read SizeTerminatedString:" + value + " size:" + size);
         }
@@ -230,7 +231,7 @@ public class TextEncodedStringSizeTerminated extends AbstractString
      */
     protected void stripTrailingNull()
     {
-        if (TagOptionSingleton.getInstance().isRemoveTrailingTerminatorOnWrite())
+        if (TagOptions.current().isRemoveTrailingTerminatorOnWrite())
         {
             String stringValue = (String) value;
             if (stringValue.length() > 0)
@@ -252,7 +253,7 @@ public class TextEncodedStringSizeTerminated extends AbstractString
      */
     protected void checkTrailingNull( List<String> values, String stringValue)
     {
-        if(!TagOptionSingleton.getInstance().isRemoveTrailingTerminatorOnWrite())
+        if(!TagOptions.current().isRemoveTrailingTerminatorOnWrite())
         {
             if (stringValue.length() > 0 && stringValue.charAt(stringValue.length() - 1) == '\0')
             {
@@ -286,7 +287,7 @@ public class TextEncodedStringSizeTerminated extends AbstractString
             Charset actualCharSet = null;
             if (StandardCharsets.UTF_16.equals(charset))
             {
-                if (TagOptionSingleton.getInstance().isEncodeUTF16BomAsLittleEndian())
+                if (TagOptions.current().isEncodeUTF16BomAsLittleEndian())
                 {
                     actualCharSet = StandardCharsets.UTF_16LE;
                 }
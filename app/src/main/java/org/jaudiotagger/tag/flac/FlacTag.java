@@ -132,7 +132,7 @@ public class FlacTag implements Tag
         String value = values[0];
         if(genericKey==FieldKey.ALBUM_ARTIST)
         {
-            switch(TagOptionSingleton.getInstance().getVorbisAlbumArtistSaveOptions())
+            switch(TagOptions.current().getVorbisAlbumArtistSaveOptions())
             {
                 case WRITE_ALBUMARTIST:
                 {
@@ -199,7 +199,7 @@ public class FlacTag implements Tag
         String value = values[0];
         if(genericKey==FieldKey.ALBUM_ARTIST)
         {
-            switch(TagOptionSingleton.getInstance().getVorbisAlbumArtistSaveOptions())
+            switch(TagOptions.current().getVorbisAlbumArtistSaveOptions())
             {
                 case WRITE_ALBUMARTIST:
                 {
@@ -19,6 +19,7 @@ import org.jaudiotagger.audio.exceptions.UnableToCreateFileException;
 import org.jaudiotagger.audio.exceptions.UnableToModifyFileException;
 import org.jaudiotagger.audio.generic.Utils;
 import org.jaudiotagger.audio.mp3.MP3File;
+import org.jaudiotagger.logging.DebugLogging;
 import org.jaudiotagger.logging.ErrorMessage;
 import org.jaudiotagger.logging.FileSystemMessage;
 import org.jaudiotagger.tag.*;
@@ -51,12 +52,15 @@ import java.util.logging.Level;
 public abstract class AbstractID3v2Tag extends AbstractID3Tag implements Tag
 {
     //Start location of this chunk
-    //TODO currently only used by ID3 embedded into Wav/Aiff but should be extended to mp3s
+    //TODO currently only used by ID3 embedded into Wav/Aiff, for mp3s only set on read
     private Long startLocationInFile = null;
 
     //End location of this chunk
     private Long endLocationInFile = null;
 
+    //Position of the frames within the buffer the tag was read from, -1 if they were read from a synchronized copy
+    protected int framesOffset = -1;
+
     protected static final String TYPE_HEADER = "header";
     protected static final String TYPE_BODY = "body";
 
@@ -140,7 +144,7 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements Tag
         return true;
     }
 
-    private static boolean isID3V2Header(FileChannel fc) throws IOException
+    private static boolean isID3V2Header(SeekableByteChannel fc) throws IOException
     {
         long start = fc.position();
         ByteBuffer headerBuffer = Utils.readFileDataIntoBufferBE(fc, FIELD_TAGID_LENGTH);
@@ -184,7 +188,7 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements Tag
      * @return
      * @throws IOException
      */
-    public static boolean isId3Tag(FileChannel fc) throws IOException
+    public static boolean isId3Tag(SeekableByteChannel fc) throws IOException
     {
         if (!isID3V2Header(fc))
         {
@@ -860,7 +864,10 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements Tag
      */
     public void setFrame(String identifier, List<TagField> multiFrame)
     {
-        logger.finest("Adding " + multiFrame.size() + " frames for " + identifier);
+        if (DebugLogging.isLoggable(logger, Level.FINEST))
+        {
+            logger.finest("Adding " + multiFrame.size() + " frames for " + identifier);
+        }
         frameMap.put(identifier, multiFrame);
     }
 
@@ -983,7 +990,10 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements Tag
      */
     public void removeFrame(String identifier)
     {
-        logger.config("Removing frame with identifier:" + identifier);
+        if (DebugLogging.isLoggable(logger, Level.CONFIG))
+        {
+            logger.config("Removing frame with identifier:" + identifier);
+        }
         frameMap.remove(identifier);
     }
 
@@ -1005,7 +1015,10 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements Tag
 				{
 					if (((AbstractID3v2Frame) o).getBody() instanceof FrameBodyUnsupported) 
 					{
-						logger.finest("Removing frame" + ((AbstractID3v2Frame) o).getIdentifier());
+						if (DebugLogging.isLoggable(logger, Level.FINEST))
+						{
+							logger.finest("Removing frame" + ((AbstractID3v2Frame) o).getIdentifier());
+						}
 						i.remove();
 					}
 				}
@@ -1036,7 +1049,10 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements Tag
         //with the same id
         for (String match : result)
         {
-            logger.finest("Removing frame with identifier:" + match + "because starts with:" + identifier);
+            if (DebugLogging.isLoggable(logger, Level.FINEST))
+            {
+                logger.finest("Removing frame with identifier:" + match + "because starts with:" + identifier);
+            }
             frameMap.remove(match);
         }
     }
@@ -1066,7 +1082,10 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements Tag
      */
     protected FileLock getFileLockForWriting(FileChannel fileChannel, String filePath) throws IOException
     {
-        logger.finest("locking fileChannel for " + filePath);
+        if (DebugLogging.isLoggable(logger, Level.FINEST))
+        {
+            logger.finest("locking fileChannel for " + filePath);
+        }
         FileLock fileLock;
         try
         {
@@ -1160,35 +1179,29 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements Tag
      */
     public static long getV2TagSizeIfExists(File file) throws IOException
     {
-        FileInputStream fis = null;
-        FileChannel fc = null;
-        ByteBuffer bb = null;
-        try
+        try (FileInputStream fis = new FileInputStream(file))
         {
-            //Files
-            fis = new FileInputStream(file);
-            fc = fis.getChannel();
-
-            //Read possible Tag header  Byte Buffer
-            bb = ByteBuffer.allocate(TAG_HEADER_LENGTH);
-            fc.read(bb);
-            bb.flip();
-            if (bb.limit() < (TAG_HEADER_LENGTH))
-            {
-                return 0;
-            }
+            return getV2TagSizeIfExists(fis.getChannel());
         }
-        finally
-        {
-            if (fc != null)
-            {
-                fc.close();
-            }
+    }
 
-            if (fis != null)
-            {
-                fis.close();
-            }
+    /**
+     * Checks to see if the file open on fc contains an ID3tag and if so return its size (including header), if no
+     * such tag exists return zero. The position of fc is not changed.
+     *
+     * @param fc
+     * @return the end of the tag in the file or zero if no tag exists.
+     * @throws java.io.IOException
+     */
+    public static long getV2TagSizeIfExists(FileChannel fc) throws IOException
+    {
+        //Read possible Tag header  Byte Buffer
+        ByteBuffer bb = ByteBuffer.allocate(TAG_HEADER_LENGTH);
+        fc.read(bb, 0);
+        bb.flip();
+        if (bb.limit() < (TAG_HEADER_LENGTH))
+        {
+            return 0;
         }
 
         //ID3 identifier
@@ -1229,7 +1242,10 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements Tag
     public boolean seek(ByteBuffer byteBuffer)
     {
         byteBuffer.rewind();
-        logger.config("ByteBuffer pos:" + byteBuffer.position() + ":limit" + byteBuffer.limit() + ":cap" + byteBuffer.capacity());
+        if (DebugLogging.isLoggable(logger, Level.CONFIG))
+        {
+            logger.config("ByteBuffer pos:" + byteBuffer.position() + ":limit" + byteBuffer.limit() + ":cap" + byteBuffer.capacity());
+        }
 
 
         byte[] tagIdentifier = new byte[FIELD_TAGID_LENGTH];
@@ -1259,7 +1275,7 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements Tag
      */
     protected int calculateTagSize(int tagSize, int preferredSize)
     {
-        if(TagOptionSingleton.getInstance().isId3v2PaddingWillShorten())
+        if(TagOptions.current().isId3v2PaddingWillShorten())
         {
             //We just use required size
             return tagSize;
@@ -1298,7 +1314,7 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements Tag
                 fc.position(audioStartLocation);
                 ShiftData.shiftDataByOffsetToMakeSpace(fc, (int)(sizeIncPadding - audioStartLocation));
             }
-            else if(TagOptionSingleton.getInstance().isId3v2PaddingWillShorten() && sizeIncPadding < audioStartLocation)
+            else if(TagOptions.current().isId3v2PaddingWillShorten() && sizeIncPadding < audioStartLocation)
             {
                 fc.position(audioStartLocation);
                 ShiftData.shiftDataByOffsetToShrinkSpace(fc, (int)(audioStartLocation - sizeIncPadding));
@@ -1414,7 +1430,10 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements Tag
             }
             else
             {
-                logger.finer("Adding Multi FrameList(3)" + frameId);
+                if (DebugLogging.isLoggable(logger, Level.FINER))
+                {
+                    logger.finer("Adding Multi FrameList(3)" + frameId);
+                }
             	List<TagField> fields = new ArrayList<>();
             	fields.add(next);
                 map.put(frameId, fields);
@@ -1440,7 +1459,10 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements Tag
         }
         else
         {
-            logger.finer("Adding Frame" + frameId);
+            if (DebugLogging.isLoggable(logger, Level.FINER))
+            {
+                logger.finer("Adding Frame" + frameId);
+            }
         	List<TagField> fields = new ArrayList<>();
         	fields.add(next);
             map.put(frameId, fields);
@@ -2649,6 +2671,23 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements Tag
         }
     }
 
+    /**
+     * Locate the binary data that was skipped when the body of the frame was read as part of a summary, this is only
+     * possible if the start location of the tag in the file is known and the data was not unsynchronized or compressed
+     *
+     * @param frame read from this tag
+     * @return location of the skipped data in the file, or -1 if unknown
+     */
+    protected long getDeferredDataLocationInFile(AbstractID3v2Frame frame)
+    {
+        AbstractID3v2FrameBody body = (AbstractID3v2FrameBody) frame.getBody();
+        if (startLocationInFile == null || framesOffset == -1 || frame.getBodyOffset() == -1 || body.getDeferredDataOffset() == -1)
+        {
+            return -1;
+        }
+        return startLocationInFile + framesOffset + frame.getBodyOffset() + body.getDeferredDataOffset();
+    }
+
     public Long getStartLocationInFile()
     {
         return startLocationInFile;
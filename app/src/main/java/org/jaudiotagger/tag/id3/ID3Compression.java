@@ -1,5 +1,6 @@
 package org.jaudiotagger.tag.id3;
 
+import org.jaudiotagger.logging.DebugLogging;
 import org.jaudiotagger.logging.ErrorMessage;
 import org.jaudiotagger.tag.InvalidFrameException;
 
@@ -33,7 +34,10 @@ public class ID3Compression
      */
     protected static ByteBuffer uncompress(String identifier,String filename, ByteBuffer byteBuffer, int decompressedFrameSize, int realFrameSize) throws InvalidFrameException
     {
-        logger.config(filename + ":About to decompress " + realFrameSize + " bytes, expect result to be:" + decompressedFrameSize + " bytes");
+        if (DebugLogging.isLoggable(logger, Level.CONFIG))
+        {
+            logger.config(filename + ":About to decompress " + realFrameSize + " bytes, expect result to be:" + decompressedFrameSize + " bytes");
+        }
         // Decompress the bytes into this buffer, size initialized from header field
         byte[] result = new byte[decompressedFrameSize];
         byte[] input = new byte[realFrameSize];
@@ -49,7 +53,10 @@ public class ID3Compression
         try
         {
             int inflatedTo = decompresser.inflate(result);
-            logger.config(filename + ":Decompressed to " + inflatedTo + " bytes");
+            if (DebugLogging.isLoggable(logger, Level.CONFIG))
+            {
+                logger.config(filename + ":Decompressed to " + inflatedTo + " bytes");
+            }
         }
         catch (DataFormatException dfe)
         {
@@ -16,6 +16,8 @@
 package org.jaudiotagger.tag.id3;
 
 import org.jaudiotagger.tag.TagException;
+import org.jaudiotagger.tag.id3.framebody.AbstractID3v2FrameBody;
+import org.jaudiotagger.tag.id3.framebody.FrameBodyFactory;
 
 import java.lang.reflect.Constructor;
 import java.util.logging.Logger;
@@ -294,7 +296,8 @@ public class ID3Tags
      * Unable to instantiate abstract classes, so can't call the copy
      * constructor. So find out the instantiated class name and call the copy
      * constructor through reflection (e.g for a a FrameBody would have to have a constructor
-     * that takes another frameBody as the same type as a parameter)
+     * that takes another frameBody as the same type as a parameter). Frame bodies registered with
+     * FrameBodyFactory are copied without reflection.
      *
      * @param copyObject
      * @return
@@ -309,6 +312,14 @@ public class ID3Tags
         {
             return null;
         }
+        if (copyObject instanceof AbstractID3v2FrameBody)
+        {
+            AbstractID3v2FrameBody copy = FrameBodyFactory.copyBody((AbstractID3v2FrameBody) copyObject);
+            if (copy != null)
+            {
+                return copy;
+            }
+        }
         try
         {
             constructorParameterArray = new Class[1];
@@ -1,6 +1,7 @@
 package org.jaudiotagger.tag.id3;
 
 import org.jaudiotagger.audio.mp3.MPEGFrameHeader;
+import org.jaudiotagger.logging.DebugLogging;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
@@ -32,7 +33,7 @@ public class ID3Unsynchronization
         {
             if (((abySource[i] & MPEGFrameHeader.SYNC_BYTE1) == MPEGFrameHeader.SYNC_BYTE1) && ((abySource[i + 1] & MPEGFrameHeader.SYNC_BYTE2) == MPEGFrameHeader.SYNC_BYTE2))
             {
-                if (logger.isLoggable(Level.FINEST))
+                if (DebugLogging.isLoggable(logger, Level.FINEST))
                 {
                     logger.finest("Unsynchronisation required found bit at:" + i);
                 }
@@ -76,7 +77,7 @@ public class ID3Unsynchronization
                     if ((secondByte & MPEGFrameHeader.SYNC_BYTE2) == MPEGFrameHeader.SYNC_BYTE2)
                     {
                         // we need to unsynchronize here
-                        if (logger.isLoggable(Level.FINEST))
+                        if (DebugLogging.isLoggable(logger, Level.FINEST))
                         {
                             logger.finest("Writing unsynchronisation bit at:" + count);
                         }
@@ -86,7 +87,7 @@ public class ID3Unsynchronization
                     else if (secondByte == 0)
                     {
                         // we need to unsynchronize here
-                        if (logger.isLoggable(Level.FINEST))
+                        if (DebugLogging.isLoggable(logger, Level.FINEST))
                         {
                             logger.finest("Inserting zero unsynchronisation bit at:" + count);
                         }
@@ -559,6 +559,7 @@ public class ID3v11Tag extends ID3v1Tag
      */
     public void write(RandomAccessFile file) throws IOException
     {
+        TagOptions options = TagOptions.current();
         logger.config("Saving ID3v11 tag to file");
         byte[] buffer = new byte[TAG_LENGTH];
         int i;
@@ -567,7 +568,7 @@ public class ID3v11Tag extends ID3v1Tag
         file.seek(file.length());
         System.arraycopy(TAG_ID, FIELD_TAGID_POS, buffer, FIELD_TAGID_POS, TAG_ID.length);
         int offset = FIELD_TITLE_POS;
-        if (TagOptionSingleton.getInstance().isId3v1SaveTitle())
+        if (options.isId3v1SaveTitle())
         {
             str = ID3Tags.truncate(title, FIELD_TITLE_LENGTH);
             for (i = 0; i < str.length(); i++)
@@ -576,7 +577,7 @@ public class ID3v11Tag extends ID3v1Tag
             }
         }
         offset = FIELD_ARTIST_POS;
-        if (TagOptionSingleton.getInstance().isId3v1SaveArtist())
+        if (options.isId3v1SaveArtist())
         {
             str = ID3Tags.truncate(artist, FIELD_ARTIST_LENGTH);
             for (i = 0; i < str.length(); i++)
@@ -585,7 +586,7 @@ public class ID3v11Tag extends ID3v1Tag
             }
         }
         offset = FIELD_ALBUM_POS;
-        if (TagOptionSingleton.getInstance().isId3v1SaveAlbum())
+        if (options.isId3v1SaveAlbum())
         {
             str = ID3Tags.truncate(album, FIELD_ALBUM_LENGTH);
             for (i = 0; i < str.length(); i++)
@@ -594,7 +595,7 @@ public class ID3v11Tag extends ID3v1Tag
             }
         }
         offset = FIELD_YEAR_POS;
-        if (TagOptionSingleton.getInstance().isId3v1SaveYear())
+        if (options.isId3v1SaveYear())
         {
             str = ID3Tags.truncate(year, FIELD_YEAR_LENGTH);
             for (i = 0; i < str.length(); i++)
@@ -603,7 +604,7 @@ public class ID3v11Tag extends ID3v1Tag
             }
         }
         offset = FIELD_COMMENT_POS;
-        if (TagOptionSingleton.getInstance().isId3v1SaveComment())
+        if (options.isId3v1SaveComment())
         {
             str = ID3Tags.truncate(comment, FIELD_COMMENT_LENGTH);
             for (i = 0; i < str.length(); i++)
@@ -614,7 +615,7 @@ public class ID3v11Tag extends ID3v1Tag
         offset = FIELD_TRACK_POS;
         buffer[offset] = track; // skip one byte extra blank for 1.1 definition
         offset = FIELD_GENRE_POS;
-        if (TagOptionSingleton.getInstance().isId3v1SaveGenre())
+        if (options.isId3v1SaveGenre())
         {
             buffer[offset] = genre;
         }
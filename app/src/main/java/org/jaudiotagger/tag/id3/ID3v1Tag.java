@@ -24,6 +24,7 @@
 package org.jaudiotagger.tag.id3;
 
 import org.jaudiotagger.audio.mp3.MP3File;
+import org.jaudiotagger.logging.DebugLogging;
 import org.jaudiotagger.logging.ErrorMessage;
 import org.jaudiotagger.tag.*;
 import org.jaudiotagger.tag.images.Artwork;
@@ -36,6 +37,7 @@ import java.nio.channels.FileChannel;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.*;
+import java.util.logging.Level;
 import java.util.regex.Matcher;
 
 /**
@@ -926,7 +928,10 @@ public class ID3v1Tag extends AbstractID3v1Tag implements Tag
         {
             throw new TagNotFoundException(getLoggingFilename() + ":" + "ID3v1 tag not found");
         }
-        logger.finer(getLoggingFilename() + ":" + "Reading v1 tag");
+        if (DebugLogging.isLoggable(logger, Level.FINER))
+        {
+            logger.finer(getLoggingFilename() + ":" + "Reading v1 tag");
+        }
         //Do single file read of data to cut down on file reads
         byte[] dataBuffer = new byte[TAG_LENGTH];
         byteBuffer.position(0);
@@ -945,11 +950,17 @@ public class ID3v1Tag extends AbstractID3v1Tag implements Tag
         }
         album = new String(dataBuffer, FIELD_ALBUM_POS, FIELD_ALBUM_LENGTH, StandardCharsets.ISO_8859_1).trim();
         m = AbstractID3v1Tag.endofStringPattern.matcher(album);
-        logger.finest(getLoggingFilename() + ":" + "Orig Album is:" + comment + ":");
+        if (DebugLogging.isLoggable(logger, Level.FINEST))
+        {
+            logger.finest(getLoggingFilename() + ":" + "Orig Album is:" + comment + ":");
+        }
         if (m.find())
         {
             album = album.substring(0, m.start());
-            logger.finest(getLoggingFilename() + ":" + "Album is:" + album + ":");
+            if (DebugLogging.isLoggable(logger, Level.FINEST))
+            {
+                logger.finest(getLoggingFilename() + ":" + "Album is:" + album + ":");
+            }
         }
         year = new String(dataBuffer, FIELD_YEAR_POS, FIELD_YEAR_LENGTH, StandardCharsets.ISO_8859_1).trim();
         m = AbstractID3v1Tag.endofStringPattern.matcher(year);
@@ -959,11 +970,17 @@ public class ID3v1Tag extends AbstractID3v1Tag implements Tag
         }
         comment = new String(dataBuffer, FIELD_COMMENT_POS, FIELD_COMMENT_LENGTH, StandardCharsets.ISO_8859_1).trim();
         m = AbstractID3v1Tag.endofStringPattern.matcher(comment);
-        logger.finest(getLoggingFilename() + ":" + "Orig Comment is:" + comment + ":");
+        if (DebugLogging.isLoggable(logger, Level.FINEST))
+        {
+            logger.finest(getLoggingFilename() + ":" + "Orig Comment is:" + comment + ":");
+        }
         if (m.find())
         {
             comment = comment.substring(0, m.start());
-            logger.finest(getLoggingFilename() + ":" + "Comment is:" + comment + ":");
+            if (DebugLogging.isLoggable(logger, Level.FINEST))
+            {
+                logger.finest(getLoggingFilename() + ":" + "Comment is:" + comment + ":");
+            }
         }
         genre = dataBuffer[FIELD_GENRE_POS];
 
@@ -990,6 +1007,7 @@ public class ID3v1Tag extends AbstractID3v1Tag implements Tag
      */
     public void write(RandomAccessFile file) throws IOException
     {
+        TagOptions options = TagOptions.current();
         logger.config("Saving ID3v1 tag to file");
         byte[] buffer = new byte[TAG_LENGTH];
         int i;
@@ -999,7 +1017,7 @@ public class ID3v1Tag extends AbstractID3v1Tag implements Tag
         //Copy the TAGID into new buffer
         System.arraycopy(TAG_ID, FIELD_TAGID_POS, buffer, FIELD_TAGID_POS, TAG_ID.length);
         int offset = FIELD_TITLE_POS;
-        if (TagOptionSingleton.getInstance().isId3v1SaveTitle())
+        if (options.isId3v1SaveTitle())
         {
             str = ID3Tags.truncate(title, FIELD_TITLE_LENGTH);
             for (i = 0; i < str.length(); i++)
@@ -1008,7 +1026,7 @@ public class ID3v1Tag extends AbstractID3v1Tag implements Tag
             }
         }
         offset = FIELD_ARTIST_POS;
-        if (TagOptionSingleton.getInstance().isId3v1SaveArtist())
+        if (options.isId3v1SaveArtist())
         {
             str = ID3Tags.truncate(artist, FIELD_ARTIST_LENGTH);
             for (i = 0; i < str.length(); i++)
@@ -1017,7 +1035,7 @@ public class ID3v1Tag extends AbstractID3v1Tag implements Tag
             }
         }
         offset = FIELD_ALBUM_POS;
-        if (TagOptionSingleton.getInstance().isId3v1SaveAlbum())
+        if (options.isId3v1SaveAlbum())
         {
             str = ID3Tags.truncate(album, FIELD_ALBUM_LENGTH);
             for (i = 0; i < str.length(); i++)
@@ -1026,7 +1044,7 @@ public class ID3v1Tag extends AbstractID3v1Tag implements Tag
             }
         }
         offset = FIELD_YEAR_POS;
-        if (TagOptionSingleton.getInstance().isId3v1SaveYear())
+        if (options.isId3v1SaveYear())
         {
             str = ID3Tags.truncate(year, AbstractID3v1Tag.FIELD_YEAR_LENGTH);
             for (i = 0; i < str.length(); i++)
@@ -1035,7 +1053,7 @@ public class ID3v1Tag extends AbstractID3v1Tag implements Tag
             }
         }
         offset = FIELD_COMMENT_POS;
-        if (TagOptionSingleton.getInstance().isId3v1SaveComment())
+        if (options.isId3v1SaveComment())
         {
             str = ID3Tags.truncate(comment, FIELD_COMMENT_LENGTH);
             for (i = 0; i < str.length(); i++)
@@ -1044,7 +1062,7 @@ public class ID3v1Tag extends AbstractID3v1Tag implements Tag
             }
         }
         offset = FIELD_GENRE_POS;
-        if (TagOptionSingleton.getInstance().isId3v1SaveGenre())
+        if (options.isId3v1SaveGenre())
         {
             buffer[offset] = genre;
         }
@@ -16,12 +16,14 @@
 package org.jaudiotagger.tag.id3;
 
 import org.jaudiotagger.audio.mp3.MP3File;
+import org.jaudiotagger.logging.DebugLogging;
 import org.jaudiotagger.tag.EmptyFrameException;
 import org.jaudiotagger.tag.InvalidDataTypeException;
 import org.jaudiotagger.tag.InvalidFrameException;
 import org.jaudiotagger.tag.InvalidFrameIdentifierException;
 import org.jaudiotagger.tag.id3.framebody.AbstractID3v2FrameBody;
 import org.jaudiotagger.tag.id3.framebody.FrameBodyDeprecated;
+import org.jaudiotagger.tag.id3.framebody.FrameBodyFactory;
 import org.jaudiotagger.tag.id3.framebody.FrameBodyUnsupported;
 import org.jaudiotagger.tag.id3.valuepair.TextEncoding;
 import org.jaudiotagger.utils.EqualsUtil;
@@ -116,11 +118,13 @@ public class ID3v22Frame extends AbstractID3v2Frame
      * create a new frame from scratch using user values
      * @param identifier
      */
-    @SuppressWarnings("unchecked")
     public ID3v22Frame(String identifier)
     {
 
-        logger.config("Creating empty frame of type" + identifier);
+        if (DebugLogging.isLoggable(logger, Level.CONFIG))
+        {
+            logger.config("Creating empty frame of type" + identifier);
+        }
         String bodyIdentifier = identifier;
         this.identifier = identifier;
 
@@ -152,32 +156,17 @@ public class ID3v22Frame extends AbstractID3v2Frame
             }
         }
 
-        // Use reflection to map id to frame body, which makes things much easier
-        // to keep things up to date.
-        try
-        {
-            Class<AbstractID3v2FrameBody> c = (Class<AbstractID3v2FrameBody>) Class.forName("org.jaudiotagger.tag.id3.framebody.FrameBody" + bodyIdentifier);
-            frameBody = c.newInstance();
-        }
-        catch (ClassNotFoundException cnfe)
+        frameBody = FrameBodyFactory.createBody(bodyIdentifier);
+        if (frameBody == null)
         {
-            logger.log(Level.SEVERE, cnfe.getMessage(), cnfe);
+            logger.severe("FrameBody" + bodyIdentifier + " does not exist");
             frameBody = new FrameBodyUnsupported(identifier);
         }
-        //Instantiate Interface/Abstract should not happen
-        catch (InstantiationException ie)
-        {
-            logger.log(Level.SEVERE, ie.getMessage(), ie);
-            throw new RuntimeException(ie);
-        }
-        //Private Constructor shouild not happen
-        catch (IllegalAccessException iae)
+        frameBody.setHeader(this);
+        if (DebugLogging.isLoggable(logger, Level.CONFIG))
         {
-            logger.log(Level.SEVERE, iae.getMessage(), iae);
-            throw new RuntimeException(iae);
+            logger.config("Created empty frame of type" + this.identifier + "with frame body of" + bodyIdentifier);
         }
-        frameBody.setHeader(this);
-        logger.config("Created empty frame of type" + this.identifier + "with frame body of" + bodyIdentifier);
 
     }
 
@@ -198,7 +187,10 @@ public class ID3v22Frame extends AbstractID3v2Frame
         identifier = ID3Tags.convertFrameID23To22(frame.getIdentifier());
         if (identifier != null)
         {
-            logger.config("V2:Orig id is:" + frame.getIdentifier() + ":New id is:" + identifier);
+            if (DebugLogging.isLoggable(logger, Level.CONFIG))
+            {
+                logger.config("V2:Orig id is:" + frame.getIdentifier() + ":New id is:" + identifier);
+            }
             this.frameBody = (AbstractID3v2FrameBody) ID3Tags.copyObject(frame.getBody());
         }
         // Is it a known v3 frame which needs forcing to v2 frame e.g. APIC - PIC
@@ -207,7 +199,10 @@ public class ID3v22Frame extends AbstractID3v2Frame
             identifier = ID3Tags.forceFrameID23To22(frame.getIdentifier());
             if (identifier != null)
             {
-                logger.config("V2:Force:Orig id is:" + frame.getIdentifier() + ":New id is:" + identifier);
+                if (DebugLogging.isLoggable(logger, Level.CONFIG))
+                {
+                    logger.config("V2:Force:Orig id is:" + frame.getIdentifier() + ":New id is:" + identifier);
+                }
                 this.frameBody = this.readBody(identifier, (AbstractID3v2FrameBody) frame.getBody());
             }
             // No mechanism exists to convert it to a v22 frame
@@ -224,14 +219,20 @@ public class ID3v22Frame extends AbstractID3v2Frame
             {
                 this.frameBody = frame.getBody();
                 identifier = frame.getIdentifier();
-                logger.config("DEPRECATED:Orig id is:" + frame.getIdentifier() + ":New id is:" + identifier);
+                if (DebugLogging.isLoggable(logger, Level.CONFIG))
+                {
+                    logger.config("DEPRECATED:Orig id is:" + frame.getIdentifier() + ":New id is:" + identifier);
+                }
             }
             //or was it still deprecated, if so leave as is
             else
             {
                 this.frameBody = new FrameBodyDeprecated((FrameBodyDeprecated) frame.getBody());
                 identifier = frame.getIdentifier();
-                logger.config("DEPRECATED:Orig id is:" + frame.getIdentifier() + ":New id is:" + identifier);
+                if (DebugLogging.isLoggable(logger, Level.CONFIG))
+                {
+                    logger.config("DEPRECATED:Orig id is:" + frame.getIdentifier() + ":New id is:" + identifier);
+                }
             }
         }
         // Unknown Frame e.g NCON
@@ -239,7 +240,10 @@ public class ID3v22Frame extends AbstractID3v2Frame
         {
             this.frameBody = new FrameBodyUnsupported((FrameBodyUnsupported) frame.getBody());
             identifier = frame.getIdentifier();
-            logger.config("v2:UNKNOWN:Orig id is:" + frame.getIdentifier() + ":New id is:" + identifier);
+            if (DebugLogging.isLoggable(logger, Level.CONFIG))
+            {
+                logger.config("v2:UNKNOWN:Orig id is:" + frame.getIdentifier() + ":New id is:" + identifier);
+            }
         }
     }
 
@@ -337,7 +341,10 @@ public class ID3v22Frame extends AbstractID3v2Frame
         // Is this a valid identifier?
         if (!isValidID3v2FrameIdentifier(identifier))
         {
-            logger.config("Invalid identifier:" + identifier);
+            if (DebugLogging.isLoggable(logger, Level.CONFIG))
+            {
+                logger.config("Invalid identifier:" + identifier);
+            }
             byteBuffer.position(byteBuffer.position() - (getFrameIdSize() - 1));
             throw new InvalidFrameIdentifierException(getLoggingFilename() + ":" + identifier + ":is not a valid ID3v2.20 frame");
         }
@@ -361,7 +368,10 @@ public class ID3v22Frame extends AbstractID3v2Frame
         }
         else
         {
-            logger.fine("Frame Size Is:" + frameSize);
+            if (DebugLogging.isLoggable(logger, Level.FINE))
+            {
+                logger.fine("Frame Size Is:" + frameSize);
+            }
             //Convert v2.2 to v2.4 id just for reading the data
             String id = ID3Tags.convertFrameID22To24(identifier);
             if (id == null)
@@ -383,9 +393,13 @@ public class ID3v22Frame extends AbstractID3v2Frame
                     }
                 }
             }
-            logger.fine("Identifier was:" + identifier + " reading using:" + id);
+            if (DebugLogging.isLoggable(logger, Level.FINE))
+            {
+                logger.fine("Identifier was:" + identifier + " reading using:" + id);
+            }
 
             //Create Buffer that only contains the body of this frame rather than the remainder of tag
+            bodyOffset = byteBuffer.position();
             ByteBuffer frameBodyBuffer = byteBuffer.slice();
             frameBodyBuffer.limit(frameSize);
 
@@ -424,7 +438,10 @@ public class ID3v22Frame extends AbstractID3v2Frame
      */
     public void write(ByteArrayOutputStream tagBuffer)
     {
-        logger.config("Write Frame to Buffer" + getIdentifier());
+        if (DebugLogging.isLoggable(logger, Level.CONFIG))
+        {
+            logger.config("Write Frame to Buffer" + getIdentifier());
+        }
         //This is where we will write header, move position to where we can
         //write body
         ByteBuffer headerBuffer = ByteBuffer.allocate(getFrameHeaderSize());
@@ -464,7 +481,10 @@ public class ID3v22Frame extends AbstractID3v2Frame
         headerBuffer.put((byte) ((size & 0x00FF0000) >> 16));
         headerBuffer.put((byte) ((size & 0x0000FF00) >> 8));
         headerBuffer.put((byte) (size & 0x000000FF));
-        logger.fine("Frame Size Is Actual:" + size + ":Encoded bin:" + Integer.toBinaryString(size) + ":Encoded Hex" + Integer.toHexString(size));
+        if (DebugLogging.isLoggable(logger, Level.FINE))
+        {
+            logger.fine("Frame Size Is Actual:" + size + ":Encoded bin:" + Integer.toBinaryString(size) + ":Encoded Hex" + Integer.toHexString(size));
+        }
     }
 
     /**
@@ -17,6 +17,7 @@ package org.jaudiotagger.tag.id3;
 
 import org.jaudiotagger.FileConstants;
 import org.jaudiotagger.audio.mp3.MP3File;
+import org.jaudiotagger.logging.DebugLogging;
 import org.jaudiotagger.logging.ErrorMessage;
 import org.jaudiotagger.tag.*;
 import org.jaudiotagger.tag.datatype.DataTypes;
@@ -326,12 +327,18 @@ public class ID3v22Tag extends AbstractID3v2Tag
 
         if (unsynchronization)
         {
-            logger.config(ErrorMessage.ID3_TAG_UNSYNCHRONIZED.getMsg(getLoggingFilename()));
+            if (DebugLogging.isLoggable(logger, Level.CONFIG))
+            {
+                logger.config(ErrorMessage.ID3_TAG_UNSYNCHRONIZED.getMsg(getLoggingFilename()));
+            }
         }
 
         if (compression)
         {
-            logger.config(ErrorMessage.ID3_TAG_COMPRESSED.getMsg(getLoggingFilename()));
+            if (DebugLogging.isLoggable(logger, Level.CONFIG))
+            {
+                logger.config(ErrorMessage.ID3_TAG_COMPRESSED.getMsg(getLoggingFilename()));
+            }
         }
 
         //Not allowable/Unknown Flags
@@ -372,7 +379,10 @@ public class ID3v22Tag extends AbstractID3v2Tag
         {
             throw new TagNotFoundException("ID3v2.20 tag not found");
         }
-        logger.config(getLoggingFilename() + ":" + "Reading tag from file");
+        if (DebugLogging.isLoggable(logger, Level.CONFIG))
+        {
+            logger.config(getLoggingFilename() + ":" + "Reading tag from file");
+        }
 
         //Read the flags
         readHeaderFlags(byteBuffer);
@@ -381,6 +391,7 @@ public class ID3v22Tag extends AbstractID3v2Tag
         size = ID3SyncSafeInteger.bufferToValue(byteBuffer);
 
         //Slice Buffer, so position markers tally with size (i.e do not include tagheader)
+        framesOffset = unsynchronization ? -1 : byteBuffer.position();
         ByteBuffer bufferWithoutHeader = byteBuffer.slice();
 
         //We need to synchronize the buffer
@@ -389,7 +400,10 @@ public class ID3v22Tag extends AbstractID3v2Tag
             bufferWithoutHeader = ID3Unsynchronization.synchronize(bufferWithoutHeader);
         }
         readFrames(bufferWithoutHeader, size);
-        logger.config(getLoggingFilename() + ":" + "Loaded Frames,there are:" + frameMap.keySet().size());
+        if (DebugLogging.isLoggable(logger, Level.CONFIG))
+        {
+            logger.config(getLoggingFilename() + ":" + "Loaded Frames,there are:" + frameMap.keySet().size());
+        }
     }
 
     /**
@@ -406,7 +420,10 @@ public class ID3v22Tag extends AbstractID3v2Tag
 
         //Read the size from the Tag Header
         this.fileReadSize = size;
-        logger.finest(getLoggingFilename() + ":" + "Start of frame body at:" + byteBuffer.position() + ",frames sizes and padding is:" + size);
+        if (DebugLogging.isLoggable(logger, Level.FINEST))
+        {
+            logger.finest(getLoggingFilename() + ":" + "Start of frame body at:" + byteBuffer.position() + ",frames sizes and padding is:" + size);
+        }
         /* todo not done yet. Read the first Frame, there seems to be quite a
          ** common case of extra data being between the tag header and the first
          ** frame so should we allow for this when reading first frame, but not subsequent frames
@@ -417,7 +434,10 @@ public class ID3v22Tag extends AbstractID3v2Tag
             try
             {
                 //Read Frame
-                logger.config(getLoggingFilename() + ":" + "looking for next frame at:" + byteBuffer.position());
+                if (DebugLogging.isLoggable(logger, Level.CONFIG))
+                {
+                    logger.config(getLoggingFilename() + ":" + "looking for next frame at:" + byteBuffer.position());
+                }
                 next = new ID3v22Frame(byteBuffer, getLoggingFilename());
                 String id = next.getIdentifier();
                 loadFrameIntoMap(id, next);
@@ -425,7 +445,10 @@ public class ID3v22Tag extends AbstractID3v2Tag
             //Found Padding, no more frames
             catch (PaddingException ex)
             {
-                logger.config(getLoggingFilename() + ":Found padding starting at:" + byteBuffer.position());
+                if (DebugLogging.isLoggable(logger, Level.CONFIG))
+                {
+                    logger.config(getLoggingFilename() + ":Found padding starting at:" + byteBuffer.position());
+                }
                 break;
             }
             //Found Empty Frame
@@ -436,7 +459,10 @@ public class ID3v22Tag extends AbstractID3v2Tag
             }
             catch (InvalidFrameIdentifierException ifie)
             {
-                logger.config(getLoggingFilename() + ":" + "Invalid Frame Identifier:" + ifie.getMessage());
+                if (DebugLogging.isLoggable(logger, Level.CONFIG))
+                {
+                    logger.config(getLoggingFilename() + ":" + "Invalid Frame Identifier:" + ifie.getMessage());
+                }
                 this.invalidFrames++;
                 //Dont try and find any more frames
                 break;
@@ -536,24 +562,39 @@ public class ID3v22Tag extends AbstractID3v2Tag
     public long write(File file, long audioStartLocation) throws IOException
     {
         setLoggingFilename(file.getName());
-        logger.config("Writing tag to file:"+getLoggingFilename());
+        if (DebugLogging.isLoggable(logger, Level.CONFIG))
+        {
+            logger.config("Writing tag to file:"+getLoggingFilename());
+        }
 
         // Write Body Buffer
         byte[] bodyByteBuffer = writeFramesToBuffer().toByteArray();
 
         // Unsynchronize if option enabled and unsync required
-        unsynchronization = TagOptionSingleton.getInstance().isUnsyncTags() && ID3Unsynchronization.requiresUnsynchronization(bodyByteBuffer);
+        unsynchronization = TagOptions.current().isUnsyncTags() && ID3Unsynchronization.requiresUnsynchronization(bodyByteBuffer);
         if (isUnsynchronization())
         {
             bodyByteBuffer = ID3Unsynchronization.unsynchronize(bodyByteBuffer);
-            logger.config(getLoggingFilename() + ":bodybytebuffer:sizeafterunsynchronisation:" + bodyByteBuffer.length);
+            if (DebugLogging.isLoggable(logger, Level.CONFIG))
+            {
+                logger.config(getLoggingFilename() + ":bodybytebuffer:sizeafterunsynchronisation:" + bodyByteBuffer.length);
+            }
         }
 
         int sizeIncPadding = calculateTagSize(bodyByteBuffer.length + TAG_HEADER_LENGTH, (int) audioStartLocation);
         int padding = sizeIncPadding - (bodyByteBuffer.length + TAG_HEADER_LENGTH);
-        logger.config(getLoggingFilename() + ":Current audiostart:" + audioStartLocation);
-        logger.config(getLoggingFilename() + ":Size including padding:" + sizeIncPadding);
-        logger.config(getLoggingFilename() + ":Padding:" + padding);
+        if (DebugLogging.isLoggable(logger, Level.CONFIG))
+        {
+            logger.config(getLoggingFilename() + ":Current audiostart:" + audioStartLocation);
+        }
+        if (DebugLogging.isLoggable(logger, Level.CONFIG))
+        {
+            logger.config(getLoggingFilename() + ":Size including padding:" + sizeIncPadding);
+        }
+        if (DebugLogging.isLoggable(logger, Level.CONFIG))
+        {
+            logger.config(getLoggingFilename() + ":Padding:" + padding);
+        }
 
         ByteBuffer headerBuffer = writeHeaderToBuffer(padding, bodyByteBuffer.length);
         writeBufferToFile(file,headerBuffer, bodyByteBuffer,padding,sizeIncPadding,audioStartLocation);
@@ -567,17 +608,26 @@ public class ID3v22Tag extends AbstractID3v2Tag
     @Override
     public void write(WritableByteChannel channel, int currentTagSize) throws IOException
     {
-        logger.config(getLoggingFilename() + ":Writing tag to channel");
+        if (DebugLogging.isLoggable(logger, Level.CONFIG))
+        {
+            logger.config(getLoggingFilename() + ":Writing tag to channel");
+        }
 
         byte[] bodyByteBuffer = writeFramesToBuffer().toByteArray();
-        logger.config(getLoggingFilename() + ":bodybytebuffer:sizebeforeunsynchronisation:" + bodyByteBuffer.length);
+        if (DebugLogging.isLoggable(logger, Level.CONFIG))
+        {
+            logger.config(getLoggingFilename() + ":bodybytebuffer:sizebeforeunsynchronisation:" + bodyByteBuffer.length);
+        }
 
         //Unsynchronize if option enabled and unsync required
-        unsynchronization = TagOptionSingleton.getInstance().isUnsyncTags() && ID3Unsynchronization.requiresUnsynchronization(bodyByteBuffer);
+        unsynchronization = TagOptions.current().isUnsyncTags() && ID3Unsynchronization.requiresUnsynchronization(bodyByteBuffer);
         if (isUnsynchronization())
         {
             bodyByteBuffer = ID3Unsynchronization.unsynchronize(bodyByteBuffer);
-            logger.config(getLoggingFilename() + ":bodybytebuffer:sizeafterunsynchronisation:" + bodyByteBuffer.length);
+            if (DebugLogging.isLoggable(logger, Level.CONFIG))
+            {
+                logger.config(getLoggingFilename() + ":bodybytebuffer:sizeafterunsynchronisation:" + bodyByteBuffer.length);
+            }
         }
 
         int padding = 0;
@@ -789,6 +839,10 @@ public class ID3v22Tag extends AbstractID3v2Tag
                 artwork.setLinked(true);
                 artwork.setImageUrl(coverArt.getImageUrl());
             }
+            else if (coverArt.isDataDeferred())
+            {
+                artwork.setDeferred(getDeferredDataLocationInFile((AbstractID3v2Frame) next), coverArt.getDeferredDataSize());
+            }
             else
             {
                 artwork.setBinaryData(coverArt.getImageData());
@@ -17,6 +17,7 @@ package org.jaudiotagger.tag.id3;
 
 import org.jaudiotagger.FileConstants;
 import org.jaudiotagger.audio.mp3.MP3File;
+import org.jaudiotagger.logging.DebugLogging;
 import org.jaudiotagger.logging.Hex;
 import org.jaudiotagger.tag.EmptyFrameException;
 import org.jaudiotagger.tag.InvalidDataTypeException;
@@ -34,6 +35,7 @@ import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.util.logging.Level;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -165,7 +167,10 @@ public class ID3v23Frame extends AbstractID3v2Frame
                 this.frameBody = new FrameBodyUnsupported((FrameBodyUnsupported) frame.getBody());
                 this.frameBody.setHeader(this);
                 identifier = frame.getIdentifier();
-                logger.config("UNKNOWN:Orig id is:" + frame.getIdentifier() + ":New id is:" + identifier);
+                if (DebugLogging.isLoggable(logger, Level.CONFIG))
+                {
+                    logger.config("UNKNOWN:Orig id is:" + frame.getIdentifier() + ":New id is:" + identifier);
+                }
                 return;
             }
             // Deprecated frame for v24
@@ -178,7 +183,10 @@ public class ID3v23Frame extends AbstractID3v2Frame
                     this.frameBody.setHeader(this);
                     this.frameBody.setTextEncoding(ID3TextEncodingConversion.getTextEncoding(this,this.frameBody.getTextEncoding()));
                     identifier = frame.getIdentifier();
-                    logger.config("DEPRECATED:Orig id is:" + frame.getIdentifier() + ":New id is:" + identifier);
+                    if (DebugLogging.isLoggable(logger, Level.CONFIG))
+                    {
+                        logger.config("DEPRECATED:Orig id is:" + frame.getIdentifier() + ":New id is:" + identifier);
+                    }
                 }
                 //or was it still deprecated, if so leave as is
                 else
@@ -188,7 +196,10 @@ public class ID3v23Frame extends AbstractID3v2Frame
                     this.frameBody.setTextEncoding(ID3TextEncodingConversion.getTextEncoding(this,this.frameBody.getTextEncoding()));
 
                     identifier = frame.getIdentifier();
-                    logger.config("DEPRECATED:Orig id is:" + frame.getIdentifier() + ":New id is:" + identifier);
+                    if (DebugLogging.isLoggable(logger, Level.CONFIG))
+                    {
+                        logger.config("DEPRECATED:Orig id is:" + frame.getIdentifier() + ":New id is:" + identifier);
+                    }
                     return;
                 }
             }
@@ -199,7 +210,10 @@ public class ID3v23Frame extends AbstractID3v2Frame
                 identifier = ID3Tags.convertFrameID24To23(frame.getIdentifier());
                 if (identifier != null)
                 {
-                    logger.finer("V4:Orig id is:" + frame.getIdentifier() + ":New id is:" + identifier);
+                    if (DebugLogging.isLoggable(logger, Level.FINER))
+                    {
+                        logger.finer("V4:Orig id is:" + frame.getIdentifier() + ":New id is:" + identifier);
+                    }
                     this.frameBody = (AbstractTagFrameBody) ID3Tags.copyObject(frame.getBody());
                     this.frameBody.setHeader(this);
                     this.frameBody.setTextEncoding(ID3TextEncodingConversion.getTextEncoding(this,this.frameBody.getTextEncoding()));
@@ -211,7 +225,10 @@ public class ID3v23Frame extends AbstractID3v2Frame
                     identifier = ID3Tags.forceFrameID24To23(frame.getIdentifier());
                     if (identifier != null)
                     {
-                        logger.finer("V4:Orig id is:" + frame.getIdentifier() + ":New id is:" + identifier);
+                        if (DebugLogging.isLoggable(logger, Level.FINER))
+                        {
+                            logger.finer("V4:Orig id is:" + frame.getIdentifier() + ":New id is:" + identifier);
+                        }
                         this.frameBody = this.readBody(identifier, (AbstractID3v2FrameBody) frame.getBody());
                         this.frameBody.setHeader(this);
                         this.frameBody.setTextEncoding(ID3TextEncodingConversion.getTextEncoding(this,this.frameBody.getTextEncoding()));
@@ -228,7 +245,10 @@ public class ID3v23Frame extends AbstractID3v2Frame
                         identifier = frame.getIdentifier();
                         this.frameBody = new FrameBodyUnsupported(identifier, baos.toByteArray());
                         this.frameBody.setHeader(this);
-                        logger.finer("V4:Orig id is:" + frame.getIdentifier() + ":New Id Unsupported is:" + identifier);
+                        if (DebugLogging.isLoggable(logger, Level.FINER))
+                        {
+                            logger.finer("V4:Orig id is:" + frame.getIdentifier() + ":New Id Unsupported is:" + identifier);
+                        }
                         return;
                     }
                 }
@@ -247,7 +267,10 @@ public class ID3v23Frame extends AbstractID3v2Frame
                 identifier = ID3Tags.convertFrameID22To23(frame.getIdentifier());
                 if (identifier != null)
                 {
-                    logger.config("V3:Orig id is:" + frame.getIdentifier() + ":New id is:" + identifier);
+                    if (DebugLogging.isLoggable(logger, Level.CONFIG))
+                    {
+                        logger.config("V3:Orig id is:" + frame.getIdentifier() + ":New id is:" + identifier);
+                    }
                     this.frameBody = (AbstractTagFrameBody) ID3Tags.copyObject(frame.getBody());
                     this.frameBody.setHeader(this);
                     return;
@@ -259,7 +282,10 @@ public class ID3v23Frame extends AbstractID3v2Frame
                     identifier = ID3Tags.forceFrameID22To23(frame.getIdentifier());
                     if (identifier != null)
                     {
-                        logger.config("V22Orig id is:" + frame.getIdentifier() + "New id is:" + identifier);
+                        if (DebugLogging.isLoggable(logger, Level.CONFIG))
+                        {
+                            logger.config("V22Orig id is:" + frame.getIdentifier() + "New id is:" + identifier);
+                        }
                         this.frameBody = this.readBody(identifier, (AbstractID3v2FrameBody) frame.getBody());
                         this.frameBody.setHeader(this);
                         return;
@@ -270,7 +296,10 @@ public class ID3v23Frame extends AbstractID3v2Frame
                         this.frameBody = new FrameBodyDeprecated((AbstractID3v2FrameBody) frame.getBody());
                         this.frameBody.setHeader(this);
                         identifier = frame.getIdentifier();
-                        logger.config("Deprecated:V22:orig id id is:" + frame.getIdentifier() + ":New id is:" + identifier);
+                        if (DebugLogging.isLoggable(logger, Level.CONFIG))
+                        {
+                            logger.config("Deprecated:V22:orig id id is:" + frame.getIdentifier() + ":New id is:" + identifier);
+                        }
                         return;
                     }
                 }
@@ -281,7 +310,10 @@ public class ID3v23Frame extends AbstractID3v2Frame
                 this.frameBody = new FrameBodyUnsupported((FrameBodyUnsupported) frame.getBody());
                 this.frameBody.setHeader(this);
                 identifier = frame.getIdentifier();
-                logger.config("UNKNOWN:Orig id is:" + frame.getIdentifier() + ":New id is:" + identifier);
+                if (DebugLogging.isLoggable(logger, Level.CONFIG))
+                {
+                    logger.config("UNKNOWN:Orig id is:" + frame.getIdentifier() + ":New id is:" + identifier);
+                }
                 return;
             }
         }
@@ -365,7 +397,10 @@ public class ID3v23Frame extends AbstractID3v2Frame
         String identifier = readIdentifier(byteBuffer);
         if (!isValidID3v2FrameIdentifier(identifier))
         {
-            logger.config(getLoggingFilename() + ":Invalid identifier:" + identifier);
+            if (DebugLogging.isLoggable(logger, Level.CONFIG))
+            {
+                logger.config(getLoggingFilename() + ":Invalid identifier:" + identifier);
+            }
             byteBuffer.position(byteBuffer.position() - (getFrameIdSize() - 1));
             throw new InvalidFrameIdentifierException(getLoggingFilename() + ":" + identifier + ":is not a valid ID3v2.30 frame");
         }
@@ -426,7 +461,10 @@ public class ID3v23Frame extends AbstractID3v2Frame
             //Read the Decompressed Size
             decompressedFrameSize = byteBuffer.getInt();
             extraHeaderBytesCount = FRAME_COMPRESSION_UNCOMPRESSED_SIZE;
-            logger.fine(getLoggingFilename() + ":Decompressed frame size is:" + decompressedFrameSize);
+            if (DebugLogging.isLoggable(logger, Level.FINE))
+            {
+                logger.fine(getLoggingFilename() + ":Decompressed frame size is:" + decompressedFrameSize);
+            }
         }
 
         if (((EncodingFlags) encodingFlags).isEncryption())
@@ -498,6 +536,7 @@ public class ID3v23Frame extends AbstractID3v2Frame
             else
             {
                 //Create Buffer that only contains the body of this frame rather than the remainder of tag
+                bodyOffset = byteBuffer.position();
                 frameBodyBuffer = byteBuffer.slice();
                 frameBodyBuffer.limit(realFrameSize);
                 frameBody = readBody(id, frameBodyBuffer, realFrameSize);
@@ -507,7 +546,10 @@ public class ID3v23Frame extends AbstractID3v2Frame
             //it then be created as FrameBodyUnsupported
             if (!(frameBody instanceof ID3v23FrameBody))
             {
-                logger.config(getLoggingFilename() + ":Converted frameBody with:" + identifier + " to deprecated frameBody");
+                if (DebugLogging.isLoggable(logger, Level.CONFIG))
+                {
+                    logger.config(getLoggingFilename() + ":Converted frameBody with:" + identifier + " to deprecated frameBody");
+                }
                 frameBody = new FrameBodyDeprecated((AbstractID3v2FrameBody) frameBody);
             }
         }
@@ -524,7 +566,10 @@ public class ID3v23Frame extends AbstractID3v2Frame
      */
     public void write(ByteArrayOutputStream tagBuffer)
     {
-        logger.config("Writing frame to buffer:" + getIdentifier());
+        if (DebugLogging.isLoggable(logger, Level.CONFIG))
+        {
+            logger.config("Writing frame to buffer:" + getIdentifier());
+        }
         //This is where we will write header, move position to where we can
         //write body
         ByteBuffer headerBuffer = ByteBuffer.allocate(FRAME_HEADER_SIZE);
@@ -540,7 +585,10 @@ public class ID3v23Frame extends AbstractID3v2Frame
         headerBuffer.put(getIdentifier().getBytes(StandardCharsets.ISO_8859_1), 0, FRAME_ID_SIZE);
         //Write Frame Size
         int size = frameBody.getSize();
-        logger.fine("Frame Size Is:" + size);
+        if (DebugLogging.isLoggable(logger, Level.FINE))
+        {
+            logger.fine("Frame Size Is:" + size);
+        }
         headerBuffer.putInt(frameBody.getSize());
 
         //Write the Flags
@@ -17,6 +17,7 @@ package org.jaudiotagger.tag.id3;
 
 import org.jaudiotagger.FileConstants;
 import org.jaudiotagger.audio.mp3.MP3File;
+import org.jaudiotagger.logging.DebugLogging;
 import org.jaudiotagger.logging.ErrorMessage;
 import org.jaudiotagger.tag.*;
 import org.jaudiotagger.tag.datatype.DataTypes;
@@ -483,17 +484,26 @@ public class ID3v23Tag extends AbstractID3v2Tag
 
         if (isUnsynchronization())
         {
-            logger.config(ErrorMessage.ID3_TAG_UNSYNCHRONIZED.getMsg(getLoggingFilename()));
+            if (DebugLogging.isLoggable(logger, Level.CONFIG))
+            {
+                logger.config(ErrorMessage.ID3_TAG_UNSYNCHRONIZED.getMsg(getLoggingFilename()));
+            }
         }
 
         if (extended)
         {
-            logger.config(ErrorMessage.ID3_TAG_EXTENDED.getMsg(getLoggingFilename()));
+            if (DebugLogging.isLoggable(logger, Level.CONFIG))
+            {
+                logger.config(ErrorMessage.ID3_TAG_EXTENDED.getMsg(getLoggingFilename()));
+            }
         }
 
         if (experimental)
         {
-            logger.config(ErrorMessage.ID3_TAG_EXPERIMENTAL.getMsg(getLoggingFilename()));
+            if (DebugLogging.isLoggable(logger, Level.CONFIG))
+            {
+                logger.config(ErrorMessage.ID3_TAG_EXPERIMENTAL.getMsg(getLoggingFilename()));
+            }
         }
     }
 
@@ -524,13 +534,19 @@ public class ID3v23Tag extends AbstractID3v2Tag
             paddingSize=buffer.getInt();
             if(paddingSize>0)
             {
-                logger.config(ErrorMessage.ID3_TAG_PADDING_SIZE.getMsg(getLoggingFilename(),paddingSize));
+                if (DebugLogging.isLoggable(logger, Level.CONFIG))
+                {
+                    logger.config(ErrorMessage.ID3_TAG_PADDING_SIZE.getMsg(getLoggingFilename(),paddingSize));
+                }
             }
             size = size - ( paddingSize + TAG_EXT_HEADER_LENGTH);
         }
         else if (extendedHeaderSize == TAG_EXT_HEADER_DATA_LENGTH + TAG_EXT_HEADER_CRC_LENGTH)
         {
-            logger.config(ErrorMessage.ID3_TAG_CRC.getMsg(getLoggingFilename()));
+            if (DebugLogging.isLoggable(logger, Level.CONFIG))
+            {
+                logger.config(ErrorMessage.ID3_TAG_CRC.getMsg(getLoggingFilename()));
+            }
 
             //Flag should be setField, if nor just act as if it is
             byte extFlag = buffer.get();
@@ -545,12 +561,18 @@ public class ID3v23Tag extends AbstractID3v2Tag
             paddingSize = buffer.getInt();
             if(paddingSize>0)
             {
-                logger.config(ErrorMessage.ID3_TAG_PADDING_SIZE.getMsg(getLoggingFilename(),paddingSize));
+                if (DebugLogging.isLoggable(logger, Level.CONFIG))
+                {
+                    logger.config(ErrorMessage.ID3_TAG_PADDING_SIZE.getMsg(getLoggingFilename(),paddingSize));
+                }
             }
             size = size - (paddingSize + TAG_EXT_HEADER_LENGTH + TAG_EXT_HEADER_CRC_LENGTH);
             //CRC Data
             crc32 = buffer.getInt();
-            logger.config(ErrorMessage.ID3_TAG_CRC_SIZE.getMsg(getLoggingFilename(),crc32));
+            if (DebugLogging.isLoggable(logger, Level.CONFIG))
+            {
+                logger.config(ErrorMessage.ID3_TAG_CRC_SIZE.getMsg(getLoggingFilename(),crc32));
+            }
         }
         //Extended header size is only allowed to be six or ten bytes so this is invalid but instead
         //of giving up lets guess its six bytes and carry on and see if we can read file ok
@@ -572,13 +594,19 @@ public class ID3v23Tag extends AbstractID3v2Tag
         {
             throw new TagNotFoundException(getIdentifier() + " tag not found");
         }
-        logger.config(getLoggingFilename() + ":" + "Reading ID3v23 tag");
+        if (DebugLogging.isLoggable(logger, Level.CONFIG))
+        {
+            logger.config(getLoggingFilename() + ":" + "Reading ID3v23 tag");
+        }
 
         readHeaderFlags(buffer);
 
         // Read the size, this is size of tag not including the tag header
         size = ID3SyncSafeInteger.bufferToValue(buffer);
-        logger.config(ErrorMessage.ID_TAG_SIZE.getMsg(getLoggingFilename(),size));
+        if (DebugLogging.isLoggable(logger, Level.CONFIG))
+        {
+            logger.config(ErrorMessage.ID_TAG_SIZE.getMsg(getLoggingFilename(),size));
+        }
 
         //Extended Header
         if (extended)
@@ -587,6 +615,7 @@ public class ID3v23Tag extends AbstractID3v2Tag
         }
 
         //Slice Buffer, so position markers tally with size (i.e do not include tagHeader)
+        framesOffset = isUnsynchronization() ? -1 : buffer.position();
         ByteBuffer bufferWithoutHeader = buffer.slice();
         //We need to synchronize the buffer
         if (isUnsynchronization())
@@ -595,7 +624,10 @@ public class ID3v23Tag extends AbstractID3v2Tag
         }
 
         readFrames(bufferWithoutHeader, size);
-        logger.config(getLoggingFilename() + ":Loaded Frames,there are:" + frameMap.keySet().size());
+        if (DebugLogging.isLoggable(logger, Level.CONFIG))
+        {
+            logger.config(getLoggingFilename() + ":Loaded Frames,there are:" + frameMap.keySet().size());
+        }
 
     }
 
@@ -618,7 +650,10 @@ public class ID3v23Tag extends AbstractID3v2Tag
 
         //Read the size from the Tag Header
         this.fileReadSize = size;
-        logger.finest(getLoggingFilename() + ":Start of frame body at:" + byteBuffer.position() + ",frames data size is:" + size);
+        if (DebugLogging.isLoggable(logger, Level.FINEST))
+        {
+            logger.finest(getLoggingFilename() + ":Start of frame body at:" + byteBuffer.position() + ",frames data size is:" + size);
+        }
 
         // Read the frames until got to up to the size as specified in header or until
         // we hit an invalid frame identifier or padding
@@ -629,10 +664,16 @@ public class ID3v23Tag extends AbstractID3v2Tag
             {
                 //Read Frame
                 int posBeforeRead = byteBuffer.position();
-                logger.config(getLoggingFilename() + ":Looking for next frame at:" + posBeforeRead);
+                if (DebugLogging.isLoggable(logger, Level.CONFIG))
+                {
+                    logger.config(getLoggingFilename() + ":Looking for next frame at:" + posBeforeRead);
+                }
                 next = new ID3v23Frame(byteBuffer, getLoggingFilename());
                 id = next.getIdentifier();
-                logger.config(getLoggingFilename() + ":Found "+ id+ " at frame at:" + posBeforeRead);
+                if (DebugLogging.isLoggable(logger, Level.CONFIG))
+                {
+                    logger.config(getLoggingFilename() + ":Found "+ id+ " at frame at:" + posBeforeRead);
+                }
                 loadFrameIntoMap(id, next);
             }
             //Found Padding, no more frames
@@ -781,25 +822,43 @@ public class ID3v23Tag extends AbstractID3v2Tag
     public long write(File file, long audioStartLocation) throws IOException
     {
         setLoggingFilename(file.getName());
-        logger.config("Writing tag to file:"+getLoggingFilename());
+        if (DebugLogging.isLoggable(logger, Level.CONFIG))
+        {
+            logger.config("Writing tag to file:"+getLoggingFilename());
+        }
 
         //Write Body Buffer
         byte[] bodyByteBuffer = writeFramesToBuffer().toByteArray();
-        logger.config(getLoggingFilename() + ":bodybytebuffer:sizebeforeunsynchronisation:" + bodyByteBuffer.length);
+        if (DebugLogging.isLoggable(logger, Level.CONFIG))
+        {
+            logger.config(getLoggingFilename() + ":bodybytebuffer:sizebeforeunsynchronisation:" + bodyByteBuffer.length);
+        }
 
         // Unsynchronize if option enabled and unsync required
-        unsynchronization = TagOptionSingleton.getInstance().isUnsyncTags() && ID3Unsynchronization.requiresUnsynchronization(bodyByteBuffer);
+        unsynchronization = TagOptions.current().isUnsyncTags() && ID3Unsynchronization.requiresUnsynchronization(bodyByteBuffer);
         if (isUnsynchronization())
         {
             bodyByteBuffer = ID3Unsynchronization.unsynchronize(bodyByteBuffer);
-            logger.config(getLoggingFilename() + ":bodybytebuffer:sizeafterunsynchronisation:" + bodyByteBuffer.length);
+            if (DebugLogging.isLoggable(logger, Level.CONFIG))
+            {
+                logger.config(getLoggingFilename() + ":bodybytebuffer:sizeafterunsynchronisation:" + bodyByteBuffer.length);
+            }
         }
 
         int sizeIncPadding = calculateTagSize(bodyByteBuffer.length + TAG_HEADER_LENGTH, (int) audioStartLocation);
         int padding = sizeIncPadding - (bodyByteBuffer.length + TAG_HEADER_LENGTH);
-        logger.config(getLoggingFilename() + ":Current audiostart:" + audioStartLocation);
-        logger.config(getLoggingFilename() + ":Size including padding:" + sizeIncPadding);
-        logger.config(getLoggingFilename() + ":Padding:" + padding);
+        if (DebugLogging.isLoggable(logger, Level.CONFIG))
+        {
+            logger.config(getLoggingFilename() + ":Current audiostart:" + audioStartLocation);
+        }
+        if (DebugLogging.isLoggable(logger, Level.CONFIG))
+        {
+            logger.config(getLoggingFilename() + ":Size including padding:" + sizeIncPadding);
+        }
+        if (DebugLogging.isLoggable(logger, Level.CONFIG))
+        {
+            logger.config(getLoggingFilename() + ":Padding:" + padding);
+        }
 
         ByteBuffer headerBuffer = writeHeaderToBuffer(padding, bodyByteBuffer.length);
         writeBufferToFile(file, headerBuffer, bodyByteBuffer, padding, sizeIncPadding, audioStartLocation);
@@ -812,17 +871,26 @@ public class ID3v23Tag extends AbstractID3v2Tag
     @Override
     public void write(WritableByteChannel channel, int currentTagSize) throws IOException
     {
-        logger.config(getLoggingFilename() + ":Writing tag to channel");
+        if (DebugLogging.isLoggable(logger, Level.CONFIG))
+        {
+            logger.config(getLoggingFilename() + ":Writing tag to channel");
+        }
 
         byte[] bodyByteBuffer = writeFramesToBuffer().toByteArray();
-        logger.config(getLoggingFilename() + ":bodybytebuffer:sizebeforeunsynchronisation:" + bodyByteBuffer.length);
+        if (DebugLogging.isLoggable(logger, Level.CONFIG))
+        {
+            logger.config(getLoggingFilename() + ":bodybytebuffer:sizebeforeunsynchronisation:" + bodyByteBuffer.length);
+        }
 
         // Unsynchronize if option enabled and unsync required
-        unsynchronization = TagOptionSingleton.getInstance().isUnsyncTags() && ID3Unsynchronization.requiresUnsynchronization(bodyByteBuffer);
+        unsynchronization = TagOptions.current().isUnsyncTags() && ID3Unsynchronization.requiresUnsynchronization(bodyByteBuffer);
         if (isUnsynchronization())
         {
             bodyByteBuffer = ID3Unsynchronization.unsynchronize(bodyByteBuffer);
-            logger.config(getLoggingFilename() + ":bodybytebuffer:sizeafterunsynchronisation:" + bodyByteBuffer.length);
+            if (DebugLogging.isLoggable(logger, Level.CONFIG))
+            {
+                logger.config(getLoggingFilename() + ":bodybytebuffer:sizeafterunsynchronisation:" + bodyByteBuffer.length);
+            }
         }
 
         int padding = 0;
@@ -830,7 +898,10 @@ public class ID3v23Tag extends AbstractID3v2Tag
         {
             int sizeIncPadding = calculateTagSize(bodyByteBuffer.length + TAG_HEADER_LENGTH, (int) currentTagSize);
             padding = sizeIncPadding - (bodyByteBuffer.length + TAG_HEADER_LENGTH);
-            logger.config(getLoggingFilename() + ":Padding:"+padding);
+            if (DebugLogging.isLoggable(logger, Level.CONFIG))
+            {
+                logger.config(getLoggingFilename() + ":Padding:"+padding);
+            }
         }
         ByteBuffer headerBuffer = writeHeaderToBuffer(padding, bodyByteBuffer.length);
 
@@ -996,6 +1067,10 @@ public class ID3v23Tag extends AbstractID3v2Tag
                 artwork.setLinked(true);
                 artwork.setImageUrl(coverArt.getImageUrl());
             }
+            else if (coverArt.isDataDeferred())
+            {
+                artwork.setDeferred(getDeferredDataLocationInFile((AbstractID3v2Frame) next), coverArt.getDeferredDataSize());
+            }
             else
             {
                 artwork.setBinaryData(coverArt.getImageData());
@@ -1096,7 +1171,7 @@ public class ID3v23Tag extends AbstractID3v2Tag
             FrameBodyTCON framebody = (FrameBodyTCON) frame.getBody();
             framebody.setV23Format();
 
-            if(TagOptionSingleton.getInstance().isWriteMp3GenresAsText())
+            if(TagOptions.current().isWriteMp3GenresAsText())
             {
                 framebody.setText(value);
             }
@@ -1404,7 +1479,10 @@ public class ID3v23Tag extends AbstractID3v2Tag
      */
     public void removeFrame(String identifier)
     {
-        logger.config("Removing frame with identifier:" + identifier);
+        if (DebugLogging.isLoggable(logger, Level.CONFIG))
+        {
+            logger.config("Removing frame with identifier:" + identifier);
+        }
         frameMap.remove(identifier);
 
         if(identifier.equals(ID3v23Frames.FRAME_ID_V3_TYER))
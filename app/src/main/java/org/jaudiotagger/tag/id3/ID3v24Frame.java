@@ -17,6 +17,7 @@ package org.jaudiotagger.tag.id3;
 
 import org.jaudiotagger.FileConstants;
 import org.jaudiotagger.audio.mp3.MP3File;
+import org.jaudiotagger.logging.DebugLogging;
 import org.jaudiotagger.logging.ErrorMessage;
 import org.jaudiotagger.logging.Hex;
 import org.jaudiotagger.tag.*;
@@ -32,6 +33,7 @@ import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.Iterator;
+import java.util.logging.Level;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -124,7 +126,10 @@ public class ID3v24Frame extends AbstractID3v2Frame
     {
         // Is it a straight conversion e.g TALB - TALB
         identifier = ID3Tags.convertFrameID23To24(frame.getIdentifier());
-        logger.finer("Creating V24frame from v23:" + frame.getIdentifier() + ":" + identifier);
+        if (DebugLogging.isLoggable(logger, Level.FINER))
+        {
+            logger.finer("Creating V24frame from v23:" + frame.getIdentifier() + ":" + identifier);
+        }
 
 
         //We cant convert unsupported bodies properly
@@ -133,7 +138,10 @@ public class ID3v24Frame extends AbstractID3v2Frame
             this.frameBody = new FrameBodyUnsupported((FrameBodyUnsupported) frame.getBody());
             this.frameBody.setHeader(this);
             identifier = frame.getIdentifier();
-            logger.finer("V3:UnsupportedBody:Orig id is:" + frame.getIdentifier() + ":New id is:" + identifier);
+            if (DebugLogging.isLoggable(logger, Level.FINER))
+            {
+                logger.finer("V3:UnsupportedBody:Orig id is:" + frame.getIdentifier() + ":New id is:" + identifier);
+            }
         }//Simple Copy
         else if (identifier != null)
         {
@@ -146,7 +154,10 @@ public class ID3v24Frame extends AbstractID3v2Frame
             }
             else
             {
-                logger.finer("V3:Orig id is:" + frame.getIdentifier() + ":New id is:" + identifier);
+                if (DebugLogging.isLoggable(logger, Level.FINER))
+                {
+                    logger.finer("V3:Orig id is:" + frame.getIdentifier() + ":New id is:" + identifier);
+                }
                 this.frameBody = (AbstractTagFrameBody) ID3Tags.copyObject(frame.getBody());
                 this.frameBody.setHeader(this);
             }
@@ -157,7 +168,10 @@ public class ID3v24Frame extends AbstractID3v2Frame
             identifier = ID3Tags.forceFrameID23To24(frame.getIdentifier());
             if (identifier != null)
             {
-                logger.config("V3:Orig id is:" + frame.getIdentifier() + ":New id is:" + identifier);
+                if (DebugLogging.isLoggable(logger, Level.CONFIG))
+                {
+                    logger.config("V3:Orig id is:" + frame.getIdentifier() + ":New id is:" + identifier);
+                }
                 this.frameBody = this.readBody(identifier, (AbstractID3v2FrameBody) frame.getBody());
                 this.frameBody.setHeader(this);
             }
@@ -168,7 +182,10 @@ public class ID3v24Frame extends AbstractID3v2Frame
                 this.frameBody = new FrameBodyDeprecated((AbstractID3v2FrameBody) frame.getBody());
                 this.frameBody.setHeader(this);
                 identifier = frame.getIdentifier();
-                logger.finer("V3:Deprecated:Orig id is:" + frame.getIdentifier() + ":New id is:" + identifier);
+                if (DebugLogging.isLoggable(logger, Level.FINER))
+                {
+                    logger.finer("V3:Deprecated:Orig id is:" + frame.getIdentifier() + ":New id is:" + identifier);
+                }
             }
         }
         // Unknown Frame e.g NCON or TDRL (because TDRL unknown to V23)
@@ -179,14 +196,20 @@ public class ID3v24Frame extends AbstractID3v2Frame
                 this.frameBody = new FrameBodyUnsupported((FrameBodyUnsupported) frame.getBody());
                 this.frameBody.setHeader(this);
                 identifier = frame.getIdentifier();
-                logger.finer("V3:Unknown:Orig id is:" + frame.getIdentifier() + ":New id is:" + identifier);
+                if (DebugLogging.isLoggable(logger, Level.FINER))
+                {
+                    logger.finer("V3:Unknown:Orig id is:" + frame.getIdentifier() + ":New id is:" + identifier);
+                }
             }
             else if (frame.getBody() instanceof FrameBodyDeprecated)
             {
                 this.frameBody = new FrameBodyDeprecated((FrameBodyDeprecated) frame.getBody());
                 this.frameBody.setHeader(this);
                 identifier = frame.getIdentifier();
-                logger.finer("V3:Deprecated:Orig id is:" + frame.getIdentifier() + ":New id is:" + identifier);
+                if (DebugLogging.isLoggable(logger, Level.FINER))
+                {
+                    logger.finer("V3:Deprecated:Orig id is:" + frame.getIdentifier() + ":New id is:" + identifier);
+                }
             }
         }
     }
@@ -591,7 +614,10 @@ public class ID3v24Frame extends AbstractID3v2Frame
         {
             //If not valid move file pointer back to one byte after
             //the original check so can try again.
-            logger.config(getLoggingFilename() + ":" + "Invalid identifier:" + identifier);
+            if (DebugLogging.isLoggable(logger, Level.CONFIG))
+            {
+                logger.config(getLoggingFilename() + ":" + "Invalid identifier:" + identifier);
+            }
             byteBuffer.position(byteBuffer.position() - (getFrameIdSize() - 1));
             throw new InvalidFrameIdentifierException(getLoggingFilename() + ":" + identifier + ":is not a valid ID3v2.30 frame");
         }
@@ -626,7 +652,10 @@ public class ID3v24Frame extends AbstractID3v2Frame
             //Read the sync safe size field
             dataLengthSize = ID3SyncSafeInteger.bufferToValue(byteBuffer);
             extraHeaderBytesCount += FRAME_DATA_LENGTH_SIZE;
-            logger.config(getLoggingFilename() + ":" + "Frame Size Is:" + frameSize + " Data Length Size:" + dataLengthSize);
+            if (DebugLogging.isLoggable(logger, Level.CONFIG))
+            {
+                logger.config(getLoggingFilename() + ":" + "Frame Size Is:" + frameSize + " Data Length Size:" + dataLengthSize);
+            }
         }
 
         //Work out the real size of the frameBody data
@@ -647,7 +676,10 @@ public class ID3v24Frame extends AbstractID3v2Frame
             //bytes to be dropped so the existing buffer is large enough to hold the modifications
             frameBodyBuffer = ID3Unsynchronization.synchronize(frameBodyBuffer);
             syncSize = frameBodyBuffer.limit();
-            logger.config(getLoggingFilename() + ":" + "Frame Size After Syncing is:" + syncSize);
+            if (DebugLogging.isLoggable(logger, Level.CONFIG))
+            {
+                logger.config(getLoggingFilename() + ":" + "Frame Size After Syncing is:" + syncSize);
+            }
         }
 
         //Read the body data
@@ -673,11 +705,18 @@ public class ID3v24Frame extends AbstractID3v2Frame
             }
             else
             {
+                if (!((EncodingFlags) encodingFlags).isUnsynchronised())
+                {
+                    bodyOffset = byteBuffer.position();
+                }
                 frameBody = readBody(identifier, frameBodyBuffer, syncSize);
             }
             if (!(frameBody instanceof ID3v24FrameBody))
             {
-                logger.config(getLoggingFilename() + ":" + "Converted frame body with:" + identifier + " to deprecated framebody");
+                if (DebugLogging.isLoggable(logger, Level.CONFIG))
+                {
+                    logger.config(getLoggingFilename() + ":" + "Converted frame body with:" + identifier + " to deprecated framebody");
+                }
                 frameBody = new FrameBodyDeprecated((AbstractID3v2FrameBody) frameBody);
             }
         }
@@ -696,7 +735,10 @@ public class ID3v24Frame extends AbstractID3v2Frame
     {
         boolean unsynchronization;
 
-        logger.config("Writing frame to file:" + getIdentifier());
+        if (DebugLogging.isLoggable(logger, Level.CONFIG))
+        {
+            logger.config("Writing frame to file:" + getIdentifier());
+        }
 
         //This is where we will write header, move position to where we can
         //write bodybuffer
@@ -708,11 +750,14 @@ public class ID3v24Frame extends AbstractID3v2Frame
 
         //Does it need unsynchronizing, and are we allowing unsychronizing
         byte[] bodyBuffer = bodyOutputStream.toByteArray();
-        unsynchronization = TagOptionSingleton.getInstance().isUnsyncTags() && ID3Unsynchronization.requiresUnsynchronization(bodyBuffer);
+        unsynchronization = TagOptions.current().isUnsyncTags() && ID3Unsynchronization.requiresUnsynchronization(bodyBuffer);
         if (unsynchronization)
         {
             bodyBuffer = ID3Unsynchronization.unsynchronize(bodyBuffer);
-            logger.config("bodybytebuffer:sizeafterunsynchronisation:" + bodyBuffer.length);
+            if (DebugLogging.isLoggable(logger, Level.CONFIG))
+            {
+                logger.config("bodybytebuffer:sizeafterunsynchronisation:" + bodyBuffer.length);
+            }
         }
 
         //Write Frame Header
@@ -727,7 +772,10 @@ public class ID3v24Frame extends AbstractID3v2Frame
         //Write Frame Size based on size of body buffer (if it has been unsynced then it size
         //will have increased accordingly
         int size = bodyBuffer.length;
-        logger.fine("Frame Size Is:" + size);
+        if (DebugLogging.isLoggable(logger, Level.FINE))
+        {
+            logger.fine("Frame Size Is:" + size);
+        }
         headerBuffer.put(ID3SyncSafeInteger.valueToBuffer(size));
 
         //Write the Flags
@@ -983,17 +1031,26 @@ public class ID3v24Frame extends AbstractID3v2Frame
 
             if (isGrouping())
             {
-                logger.config(ErrorMessage.MP3_FRAME_IS_GROUPED.getMsg(getLoggingFilename(), identifier));
+                if (DebugLogging.isLoggable(logger, Level.CONFIG))
+                {
+                    logger.config(ErrorMessage.MP3_FRAME_IS_GROUPED.getMsg(getLoggingFilename(), identifier));
+                }
             }
 
             if (isUnsynchronised())
             {
-                logger.config(ErrorMessage.MP3_FRAME_IS_UNSYNCHRONISED.getMsg(getLoggingFilename(), identifier));
+                if (DebugLogging.isLoggable(logger, Level.CONFIG))
+                {
+                    logger.config(ErrorMessage.MP3_FRAME_IS_UNSYNCHRONISED.getMsg(getLoggingFilename(), identifier));
+                }
             }
 
             if (isDataLengthIndicator())
             {
-                logger.config(ErrorMessage.MP3_FRAME_IS_DATA_LENGTH_INDICATOR.getMsg(getLoggingFilename(), identifier));
+                if (DebugLogging.isLoggable(logger, Level.CONFIG))
+                {
+                    logger.config(ErrorMessage.MP3_FRAME_IS_DATA_LENGTH_INDICATOR.getMsg(getLoggingFilename(), identifier));
+                }
             }
         }
 
@@ -17,6 +17,7 @@ package org.jaudiotagger.tag.id3;
 
 import org.jaudiotagger.FileConstants;
 import org.jaudiotagger.audio.mp3.MP3File;
+import org.jaudiotagger.logging.DebugLogging;
 import org.jaudiotagger.logging.ErrorMessage;
 import org.jaudiotagger.tag.*;
 import org.jaudiotagger.tag.datatype.DataTypes;
@@ -319,7 +320,10 @@ public class ID3v24Tag extends AbstractID3v2Tag
      */
     protected void copyPrimitives(AbstractID3v2Tag copyObj)
     {
-        logger.config(getLoggingFilename() +":Copying primitives");
+        if (DebugLogging.isLoggable(logger, Level.CONFIG))
+        {
+            logger.config(getLoggingFilename() +":Copying primitives");
+        }
         super.copyPrimitives(copyObj);
 
         if (copyObj instanceof ID3v24Tag)
@@ -491,7 +495,10 @@ public class ID3v24Tag extends AbstractID3v2Tag
      */
     public ID3v24Tag(ID3v24Tag copyObject)
     {
-        logger.config(getLoggingFilename() +":Creating tag from another tag of same type");
+        if (DebugLogging.isLoggable(logger, Level.CONFIG))
+        {
+            logger.config(getLoggingFilename() +":Creating tag from another tag of same type");
+        }
         copyPrimitives(copyObject);
         copyFrames(copyObject);
     }
@@ -503,7 +510,10 @@ public class ID3v24Tag extends AbstractID3v2Tag
      */
     public ID3v24Tag(AbstractTag mp3tag)
     {
-        logger.config(getLoggingFilename() +":Creating tag from a tag of a different version");
+        if (DebugLogging.isLoggable(logger, Level.CONFIG))
+        {
+            logger.config(getLoggingFilename() +":Creating tag from a tag of a different version");
+        }
         frameMap = new LinkedHashMap<>();
         encryptedFrameMap = new LinkedHashMap<>();
 
@@ -685,7 +695,10 @@ public class ID3v24Tag extends AbstractID3v2Tag
             }
         }
         size += super.getSize();
-        logger.finer(getLoggingFilename() +":Tag Size is" + size);
+        if (DebugLogging.isLoggable(logger, Level.FINER))
+        {
+            logger.finer(getLoggingFilename() +":Tag Size is" + size);
+        }
         return size;
     }
 
@@ -772,17 +785,26 @@ public class ID3v24Tag extends AbstractID3v2Tag
 
         if (isUnsynchronization())
         {
-            logger.config(ErrorMessage.ID3_TAG_UNSYNCHRONIZED.getMsg(getLoggingFilename()));
+            if (DebugLogging.isLoggable(logger, Level.CONFIG))
+            {
+                logger.config(ErrorMessage.ID3_TAG_UNSYNCHRONIZED.getMsg(getLoggingFilename()));
+            }
         }
 
         if (extended)
         {
-            logger.config(ErrorMessage.ID3_TAG_EXTENDED.getMsg(getLoggingFilename()));
+            if (DebugLogging.isLoggable(logger, Level.CONFIG))
+            {
+                logger.config(ErrorMessage.ID3_TAG_EXTENDED.getMsg(getLoggingFilename()));
+            }
         }
 
         if (experimental)
         {
-            logger.config(ErrorMessage.ID3_TAG_EXPERIMENTAL.getMsg(getLoggingFilename()));
+            if (DebugLogging.isLoggable(logger, Level.CONFIG))
+            {
+                logger.config(ErrorMessage.ID3_TAG_EXPERIMENTAL.getMsg(getLoggingFilename()));
+            }
         }
 
         if (footer)
@@ -873,7 +895,10 @@ public class ID3v24Tag extends AbstractID3v2Tag
 
         // Read the size, this is size of tag apart from tag header
         size = ID3SyncSafeInteger.bufferToValue(byteBuffer);
-        logger.config(getLoggingFilename() + ":" + "Reading tag from file size set in header is:" + size);
+        if (DebugLogging.isLoggable(logger, Level.CONFIG))
+        {
+            logger.config(getLoggingFilename() + ":" + "Reading tag from file size set in header is:" + size);
+        }
 
         if (extended)
         {
@@ -882,6 +907,7 @@ public class ID3v24Tag extends AbstractID3v2Tag
 
         //Note if there was an extended header the size value has padding taken
         //off so we dont search it.
+        framesOffset = unsynchronization ? -1 : 0;
         readFrames(byteBuffer, size);
     }
 
@@ -892,7 +918,10 @@ public class ID3v24Tag extends AbstractID3v2Tag
      */
     protected void readFrames(ByteBuffer byteBuffer, int size)
     {
-        logger.finest(getLoggingFilename() + ":" + "Start of frame body at" + byteBuffer.position());
+        if (DebugLogging.isLoggable(logger, Level.FINEST))
+        {
+            logger.finest(getLoggingFilename() + ":" + "Start of frame body at" + byteBuffer.position());
+        }
         //Now start looking for frames
         ID3v24Frame next;
         frameMap = new LinkedHashMap<>();
@@ -901,14 +930,20 @@ public class ID3v24Tag extends AbstractID3v2Tag
         //Read the size from the Tag Header
         this.fileReadSize = size;
         // Read the frames until got to upto the size as specified in header
-        logger.finest(getLoggingFilename() + ":" + "Start of frame body at:" + byteBuffer.position() + ",frames data size is:" + size);
+        if (DebugLogging.isLoggable(logger, Level.FINEST))
+        {
+            logger.finest(getLoggingFilename() + ":" + "Start of frame body at:" + byteBuffer.position() + ",frames data size is:" + size);
+        }
         while (byteBuffer.position() <= size)
         {
             String id;
             try
             {
                 //Read Frame
-                logger.config(getLoggingFilename() + ":" + "looking for next frame at:" + byteBuffer.position());
+                if (DebugLogging.isLoggable(logger, Level.CONFIG))
+                {
+                    logger.config(getLoggingFilename() + ":" + "looking for next frame at:" + byteBuffer.position());
+                }
                 next = new ID3v24Frame(byteBuffer, getLoggingFilename());
                 id = next.getIdentifier();
                 loadFrameIntoMap(id, next);
@@ -916,7 +951,10 @@ public class ID3v24Tag extends AbstractID3v2Tag
             //Found Padding, no more frames
             catch (PaddingException ex)
             {
-                logger.config(getLoggingFilename() + ":Found padding starting at:" + byteBuffer.position());
+                if (DebugLogging.isLoggable(logger, Level.CONFIG))
+                {
+                    logger.config(getLoggingFilename() + ":Found padding starting at:" + byteBuffer.position());
+                }
                 break;
             }
             //Found Empty Frame
@@ -927,7 +965,10 @@ public class ID3v24Tag extends AbstractID3v2Tag
             }
             catch (InvalidFrameIdentifierException ifie)
             {
-                logger.config(getLoggingFilename() + ":" + "Invalid Frame Identifier:" + ifie.getMessage());
+                if (DebugLogging.isLoggable(logger, Level.CONFIG))
+                {
+                    logger.config(getLoggingFilename() + ":" + "Invalid Frame Identifier:" + ifie.getMessage());
+                }
                 this.invalidFrames++;
                 //Don't try and find any more frames
                 break;
@@ -1104,7 +1145,10 @@ public class ID3v24Tag extends AbstractID3v2Tag
     public long write(File file, long audioStartLocation) throws IOException
     {
         setLoggingFilename(file.getName());
-        logger.config(getLoggingFilename()+":Writing tag to file:");
+        if (DebugLogging.isLoggable(logger, Level.CONFIG))
+        {
+            logger.config(getLoggingFilename()+":Writing tag to file:");
+        }
 
         //Write Body Buffer
         byte[] bodyByteBuffer = writeFramesToBuffer().toByteArray();
@@ -1126,7 +1170,10 @@ public class ID3v24Tag extends AbstractID3v2Tag
     @Override
     public void write(WritableByteChannel channel, int currentTagSize) throws IOException
     {
-        logger.config(getLoggingFilename() +":Writing tag to channel");
+        if (DebugLogging.isLoggable(logger, Level.CONFIG))
+        {
+            logger.config(getLoggingFilename() +":Writing tag to channel");
+        }
 
         byte[] bodyByteBuffer = writeFramesToBuffer().toByteArray();
 
@@ -1318,6 +1365,10 @@ public class ID3v24Tag extends AbstractID3v2Tag
                 artwork.setLinked(true);
                 artwork.setImageUrl(coverArt.getImageUrl());
             }
+            else if (coverArt.isDataDeferred())
+            {
+                artwork.setDeferred(getDeferredDataLocationInFile((AbstractID3v2Frame) next), coverArt.getDeferredDataSize());
+            }
             else
             {
                 artwork.setBinaryData(coverArt.getImageData());
@@ -1406,7 +1457,7 @@ public class ID3v24Tag extends AbstractID3v2Tag
             AbstractID3v2Frame frame = createFrame(formatKey.getFrameId());
             FrameBodyTCON framebody = (FrameBodyTCON) frame.getBody();
 
-            if(TagOptionSingleton.getInstance().isWriteMp3GenresAsText())
+            if(TagOptions.current().isWriteMp3GenresAsText())
             {
                 framebody.setText(value);
             }
@@ -25,6 +25,7 @@
 package org.jaudiotagger.tag.id3.framebody;
 
 import org.jaudiotagger.audio.mp3.MP3File;
+import org.jaudiotagger.logging.DebugLogging;
 import org.jaudiotagger.tag.InvalidDataTypeException;
 import org.jaudiotagger.tag.InvalidFrameException;
 import org.jaudiotagger.tag.InvalidTagException;
@@ -33,7 +34,9 @@ import org.jaudiotagger.tag.id3.AbstractTagFrameBody;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.BufferUnderflowException;
 import java.nio.ByteBuffer;
+import java.util.logging.Level;
 
 /**
  * Contains the content for an ID3v2 frame, (the header is held directly within the frame
@@ -49,6 +52,16 @@ public abstract class AbstractID3v2FrameBody extends AbstractTagFrameBody
      */
     private int size;
 
+    /**
+     * Size of the trailing binary data skipped by {@link #readSkippingTrailingData(ByteBuffer)}, -1 if it was read
+     */
+    private int deferredDataSize = -1;
+
+    /**
+     * Position of the skipped trailing binary data within the buffer the body was read from, -1 if it was read
+     */
+    private int deferredDataOffset = -1;
+
 
     /**
      * Create Empty Body. Super Constructor sets up Object list
@@ -140,20 +153,22 @@ public abstract class AbstractID3v2FrameBody extends AbstractTagFrameBody
      * The ByteBuffer represents the tag and its position should be at the start of this frameBody. The size as
      * indicated in the header is passed to the frame constructor when reading from file.
      *
+     * The datatypes read from a view of the frameBody within the buffer so the frame isn't copied first.
+     *
      * @param byteBuffer file to read
      * @throws InvalidFrameException if unable to construct a frameBody from the ByteBuffer
      */
-    //TODO why don't we just slice byteBuffer, set limit to size and convert readByteArray to take a ByteBuffer
-    //then we wouldn't have to temporary allocate space for the buffer, using lots of needless memory
-    //and providing extra work for the garbage collector.
     public void read(ByteBuffer byteBuffer) throws InvalidTagException
     {
         int size = getSize();
-        logger.config("Reading body for" + this.getIdentifier() + ":" + size);
+        if (DebugLogging.isLoggable(logger, Level.CONFIG))
+        {
+            logger.config("Reading body for" + this.getIdentifier() + ":" + size);
+        }
+        deferredDataSize = -1;
+        deferredDataOffset = -1;
 
-        //Allocate a buffer to the size of the Frame Body and read from file
-        byte[] buffer = new byte[size];
-        byteBuffer.get(buffer);
+        ByteBuffer buffer = sliceBody(byteBuffer, size);
 
         //Offset into buffer, incremented by length of previous dataType
         //this offset is only used internally to decide where to look for the next
@@ -170,9 +185,92 @@ public abstract class AbstractID3v2FrameBody extends AbstractTagFrameBody
         }
     }
 
-    protected void readIntoNextObject(byte[] buffer, AbstractDataType object, int offset) throws InvalidTagException
+    /**
+     * Read all but the final datatype, which holds large binary data such as an image. The final datatype is left
+     * empty and only its size is recorded, the position of the buffer is still moved to the end of the frameBody.
+     *
+     * If the preceding datatypes can't be read nothing is read and the buffer position is left unchanged so the caller
+     * can read normally instead, and report the problem.
+     *
+     * @param byteBuffer file to read
+     * @return true if the body was read, false if it should be read normally
+     */
+    protected boolean readSkippingTrailingData(ByteBuffer byteBuffer)
+    {
+        int size = getSize();
+        int start = byteBuffer.position();
+        ByteBuffer buffer = sliceBody(byteBuffer, size);
+
+        int offset = 0;
+        try
+        {
+            for (int i = 0; i < objectList.size() - 1; i++)
+            {
+                AbstractDataType object = objectList.get(i);
+                readIntoNextObject(buffer, object, offset);
+                offset += object.getSize();
+            }
+        }
+        catch (InvalidTagException ite)
+        {
+            byteBuffer.position(start);
+            return false;
+        }
+
+        objectList.get(objectList.size() - 1).setValue(new byte[0]);
+        deferredDataSize = Math.max(size - offset, 0);
+        deferredDataOffset = start + offset;
+        return true;
+    }
+
+    /**
+     * @param byteBuffer positioned at the start of the frameBody
+     * @param size of the frameBody
+     * @return a view of the frameBody within byteBuffer, byteBuffer is moved to the end of the frameBody
+     */
+    private static ByteBuffer sliceBody(ByteBuffer byteBuffer, int size)
+    {
+        if (byteBuffer.remaining() < size)
+        {
+            throw new BufferUnderflowException();
+        }
+        ByteBuffer buffer = byteBuffer.slice();
+        buffer.limit(size);
+        byteBuffer.position(byteBuffer.position() + size);
+        return buffer;
+    }
+
+    /**
+     * @return true if the trailing binary data was skipped rather than read
+     */
+    public boolean isDataDeferred()
+    {
+        return deferredDataSize != -1;
+    }
+
+    /**
+     * @return size of the skipped trailing binary data, or -1 if it was read
+     */
+    public int getDeferredDataSize()
+    {
+        return deferredDataSize;
+    }
+
+    /**
+     * @return position of the skipped trailing binary data within the buffer the body was read from, or -1 if it was
+     * read
+     */
+    public int getDeferredDataOffset()
+    {
+        return deferredDataOffset;
+    }
+
+    protected void readIntoNextObject(ByteBuffer buffer, AbstractDataType object, int offset) throws InvalidTagException
     {
-        logger.finest("offset:" + offset);
+        if (DebugLogging.isLoggable(logger, Level.FINEST))
+        {
+            logger.finest("offset:" + offset);
+        }
 
         //The read has extended further than the defined frame size (ok to extend upto
         //size because the next datatype may be of length 0.)
@@ -186,7 +284,7 @@ public abstract class AbstractID3v2FrameBody extends AbstractTagFrameBody
         //if it fails frame is invalid
         try
         {
-            object.readByteArray(buffer, offset);
+            object.readByteBuffer(buffer, offset);
         }
         catch (InvalidDataTypeException e)
         {
@@ -203,7 +301,10 @@ public abstract class AbstractID3v2FrameBody extends AbstractTagFrameBody
     public void write(ByteArrayOutputStream tagBuffer)
 
     {
-        logger.config("Writing frame body for" + this.getIdentifier() + ":Est Size:" + size);
+        if (DebugLogging.isLoggable(logger, Level.CONFIG))
+        {
+            logger.config("Writing frame body for" + this.getIdentifier() + ":Est Size:" + size);
+        }
         //Write the various fields to file in order
         for (AbstractDataType object : objectList)
         {
@@ -222,7 +323,10 @@ public abstract class AbstractID3v2FrameBody extends AbstractTagFrameBody
             }
         }
         setSize();
-        logger.config("Written frame body for" + this.getIdentifier() + ":Real Size:" + size);
+        if (DebugLogging.isLoggable(logger, Level.CONFIG))
+        {
+            logger.config("Written frame body for" + this.getIdentifier() + ":Real Size:" + size);
+        }
 
     }
 
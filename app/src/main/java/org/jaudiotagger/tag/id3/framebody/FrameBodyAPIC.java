@@ -15,8 +15,9 @@
  */
 package org.jaudiotagger.tag.id3.framebody;
 
+import org.jaudiotagger.audio.generic.ReadMode;
 import org.jaudiotagger.tag.InvalidTagException;
-import org.jaudiotagger.tag.TagOptionSingleton;
+import org.jaudiotagger.tag.TagOptions;
 import org.jaudiotagger.tag.datatype.*;
 import org.jaudiotagger.tag.id3.ID3v24Frames;
 import org.jaudiotagger.tag.id3.valuepair.ImageFormats;
@@ -150,6 +151,24 @@ public class FrameBodyAPIC extends AbstractID3v2FrameBody implements ID3v24Frame
         super(byteBuffer, frameSize);
     }
 
+    /**
+     * When only reading a summary the image data is skipped, unless it holds a url which is needed to make sense of
+     * the frame
+     *
+     * @param byteBuffer file to read
+     * @throws InvalidTagException if unable to construct a frameBody from the ByteBuffer
+     */
+    public void read(ByteBuffer byteBuffer) throws InvalidTagException
+    {
+        int start = byteBuffer.position();
+        if (ReadMode.isSummary() && readSkippingTrailingData(byteBuffer) && !isImageUrl())
+        {
+            return;
+        }
+        byteBuffer.position(start);
+        super.read(byteBuffer);
+    }
+
     public String getUserFriendlyValue()
     {
         if(getImageData()!=null)
@@ -257,7 +276,7 @@ public class FrameBodyAPIC extends AbstractID3v2FrameBody implements ID3v24Frame
      */
     public void write(ByteArrayOutputStream tagBuffer)
     {
-        if(TagOptionSingleton.getInstance().isAPICDescriptionITunesCompatible())
+        if(TagOptions.current().isAPICDescriptionITunesCompatible())
         {
             this.setTextEncoding(TextEncoding.ISO_8859_1);
             if (!((AbstractString) getObject(DataTypes.OBJ_DESCRIPTION)).canBeEncoded())
@@ -0,0 +1,356 @@
+package org.jaudiotagger.tag.id3.framebody;
+
+import org.jaudiotagger.tag.InvalidTagException;
+
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Creates frame bodies from their identifier without using reflection.
+ *
+ * <p>The identifier of a frame body is the part of its class name after FrameBody, so the registry maps each
+ * identifier to the constructors of that class. A new framebody class has to be added here, otherwise it is read as
+ * a FrameBodyUnsupported.
+ */
+public final class FrameBodyFactory
+{
+    /**
+     * Reads a frame body from a buffer, implemented by the (ByteBuffer, int) constructor of each frame body
+     */
+    public interface BodyReader
+    {
+        AbstractID3v2FrameBody read(ByteBuffer byteBuffer, int frameSize) throws InvalidTagException;
+    }
+
+    private static final Map<String, Supplier<AbstractID3v2FrameBody>> emptyBodies = new HashMap<>();
+    private static final Map<String, BodyReader> bodyReaders = new HashMap<>();
+    private static final Map<String, Map<Class<?>, Function<AbstractID3v2FrameBody, AbstractID3v2FrameBody>>> conversions = new HashMap<>();
+    private static final Map<Class<?>, Function<AbstractID3v2FrameBody, AbstractID3v2FrameBody>> copies = new HashMap<>();
+
+    static
+    {
+        addBody("AENC", FrameBodyAENC::new, FrameBodyAENC::new);
+        addBody("APIC", FrameBodyAPIC::new, FrameBodyAPIC::new);
+        addBody("ASPI", FrameBodyASPI::new, FrameBodyASPI::new);
+        addBody("CHAP", FrameBodyCHAP::new, FrameBodyCHAP::new);
+        addBody("COMM", FrameBodyCOMM::new, FrameBodyCOMM::new);
+        addBody("COMR", FrameBodyCOMR::new, FrameBodyCOMR::new);
+        addBody("CRM", FrameBodyCRM::new, FrameBodyCRM::new);
+        addBody("CTOC", FrameBodyCTOC::new, FrameBodyCTOC::new);
+        addBody("ENCR", FrameBodyENCR::new, FrameBodyENCR::new);
+        addBody("EQU2", FrameBodyEQU2::new, FrameBodyEQU2::new);
+        addBody("EQUA", FrameBodyEQUA::new, null);
+        addBody("ETCO", FrameBodyETCO::new, FrameBodyETCO::new);
+        addBody("GEOB", FrameBodyGEOB::new, FrameBodyGEOB::new);
+        addBody("GRID", FrameBodyGRID::new, FrameBodyGRID::new);
+        addBody("GRP1", FrameBodyGRP1::new, FrameBodyGRP1::new);
+        addBody("IPLS", FrameBodyIPLS::new, FrameBodyIPLS::new);
+        addBody("LINK", FrameBodyLINK::new, FrameBodyLINK::new);
+        addBody("MCDI", FrameBodyMCDI::new, FrameBodyMCDI::new);
+        addBody("MLLT", FrameBodyMLLT::new, null);
+        addBody("MVIN", FrameBodyMVIN::new, FrameBodyMVIN::new);
+        addBody("MVNM", FrameBodyMVNM::new, FrameBodyMVNM::new);
+        addBody("OWNE", FrameBodyOWNE::new, FrameBodyOWNE::new);
+        addBody("PCNT", FrameBodyPCNT::new, FrameBodyPCNT::new);
+        addBody("PIC", FrameBodyPIC::new, FrameBodyPIC::new);
+        addBody("POPM", FrameBodyPOPM::new, FrameBodyPOPM::new);
+        addBody("POSS", FrameBodyPOSS::new, FrameBodyPOSS::new);
+        addBody("PRIV", FrameBodyPRIV::new, FrameBodyPRIV::new);
+        addBody("RBUF", FrameBodyRBUF::new, FrameBodyRBUF::new);
+        addBody("RVA2", FrameBodyRVA2::new, FrameBodyRVA2::new);
+        addBody("RVAD", FrameBodyRVAD::new, FrameBodyRVAD::new);
+        addBody("RVRB", FrameBodyRVRB::new, FrameBodyRVRB::new);
+        addBody("SEEK", FrameBodySEEK::new, FrameBodySEEK::new);
+        addBody("SIGN", FrameBodySIGN::new, FrameBodySIGN::new);
+        addBody("SYLT", FrameBodySYLT::new, FrameBodySYLT::new);
+        addBody("SYTC", FrameBodySYTC::new, FrameBodySYTC::new);
+        addBody("TALB", FrameBodyTALB::new, FrameBodyTALB::new);
+        addBody("TBPM", FrameBodyTBPM::new, FrameBodyTBPM::new);
+        addBody("TCMP", FrameBodyTCMP::new, FrameBodyTCMP::new);
+        addBody("TCOM", FrameBodyTCOM::new, FrameBodyTCOM::new);
+        addBody("TCON", FrameBodyTCON::new, FrameBodyTCON::new);
+        addBody("TCOP", FrameBodyTCOP::new, FrameBodyTCOP::new);
+        addBody("TDAT", FrameBodyTDAT::new, FrameBodyTDAT::new);
+        addBody("TDEN", FrameBodyTDEN::new, FrameBodyTDEN::new);
+        addBody("TDLY", FrameBodyTDLY::new, FrameBodyTDLY::new);
+        addBody("TDOR", FrameBodyTDOR::new, FrameBodyTDOR::new);
+        addBody("TDRC", FrameBodyTDRC::new, FrameBodyTDRC::new);
+        addBody("TDRL", FrameBodyTDRL::new, FrameBodyTDRL::new);
+        addBody("TDTG", FrameBodyTDTG::new, FrameBodyTDTG::new);
+        addBody("TENC", FrameBodyTENC::new, FrameBodyTENC::new);
+        addBody("TEXT", FrameBodyTEXT::new, FrameBodyTEXT::new);
+        addBody("TFLT", FrameBodyTFLT::new, FrameBodyTFLT::new);
+        addBody("TIME", FrameBodyTIME::new, FrameBodyTIME::new);
+        addBody("TIPL", FrameBodyTIPL::new, FrameBodyTIPL::new);
+        addBody("TIT1", FrameBodyTIT1::new, FrameBodyTIT1::new);
+        addBody("TIT2", FrameBodyTIT2::new, FrameBodyTIT2::new);
+        addBody("TIT3", FrameBodyTIT3::new, FrameBodyTIT3::new);
+        addBody("TKEY", FrameBodyTKEY::new, FrameBodyTKEY::new);
+        addBody("TLAN", FrameBodyTLAN::new, FrameBodyTLAN::new);
+        addBody("TLEN", FrameBodyTLEN::new, FrameBodyTLEN::new);
+        addBody("TMCL", FrameBodyTMCL::new, FrameBodyTMCL::new);
+        addBody("TMED", FrameBodyTMED::new, FrameBodyTMED::new);
+        addBody("TMOO", FrameBodyTMOO::new, FrameBodyTMOO::new);
+        addBody("TOAL", FrameBodyTOAL::new, FrameBodyTOAL::new);
+        addBody("TOFN", FrameBodyTOFN::new, FrameBodyTOFN::new);
+        addBody("TOLY", FrameBodyTOLY::new, FrameBodyTOLY::new);
+        addBody("TOPE", FrameBodyTOPE::new, FrameBodyTOPE::new);
+        addBody("TORY", FrameBodyTORY::new, FrameBodyTORY::new);
+        addBody("TOWN", FrameBodyTOWN::new, FrameBodyTOWN::new);
+        addBody("TPE1", FrameBodyTPE1::new, FrameBodyTPE1::new);
+        addBody("TPE2", FrameBodyTPE2::new, FrameBodyTPE2::new);
+        addBody("TPE3", FrameBodyTPE3::new, FrameBodyTPE3::new);
+        addBody("TPE4", FrameBodyTPE4::new, FrameBodyTPE4::new);
+        addBody("TPOS", FrameBodyTPOS::new, FrameBodyTPOS::new);
+        addBody("TPRO", FrameBodyTPRO::new, FrameBodyTPRO::new);
+        addBody("TPUB", FrameBodyTPUB::new, FrameBodyTPUB::new);
+        addBody("TRCK", FrameBodyTRCK::new, FrameBodyTRCK::new);
+        addBody("TRDA", FrameBodyTRDA::new, FrameBodyTRDA::new);
+        addBody("TRSN", FrameBodyTRSN::new, FrameBodyTRSN::new);
+        addBody("TRSO", FrameBodyTRSO::new, FrameBodyTRSO::new);
+        addBody("TSIZ", FrameBodyTSIZ::new, FrameBodyTSIZ::new);
+        addBody("TSO2", FrameBodyTSO2::new, FrameBodyTSO2::new);
+        addBody("TSOA", FrameBodyTSOA::new, FrameBodyTSOA::new);
+        addBody("TSOC", FrameBodyTSOC::new, FrameBodyTSOC::new);
+        addBody("TSOP", FrameBodyTSOP::new, FrameBodyTSOP::new);
+        addBody("TSOT", FrameBodyTSOT::new, FrameBodyTSOT::new);
+        addBody("TSRC", FrameBodyTSRC::new, FrameBodyTSRC::new);
+        addBody("TSSE", FrameBodyTSSE::new, FrameBodyTSSE::new);
+        addBody("TSST", FrameBodyTSST::new, FrameBodyTSST::new);
+        addBody("TXXX", FrameBodyTXXX::new, FrameBodyTXXX::new);
+        addBody("TYER", FrameBodyTYER::new, FrameBodyTYER::new);
+        addBody("UFID", FrameBodyUFID::new, FrameBodyUFID::new);
+        addBody("USER", FrameBodyUSER::new, FrameBodyUSER::new);
+        addBody("USLT", FrameBodyUSLT::new, FrameBodyUSLT::new);
+        addBody("WCOM", FrameBodyWCOM::new, FrameBodyWCOM::new);
+        addBody("WCOP", FrameBodyWCOP::new, FrameBodyWCOP::new);
+        addBody("WOAF", FrameBodyWOAF::new, FrameBodyWOAF::new);
+        addBody("WOAR", FrameBodyWOAR::new, FrameBodyWOAR::new);
+        addBody("WOAS", FrameBodyWOAS::new, FrameBodyWOAS::new);
+        addBody("WORS", FrameBodyWORS::new, FrameBodyWORS::new);
+        addBody("WPAY", FrameBodyWPAY::new, FrameBodyWPAY::new);
+        addBody("WPUB", FrameBodyWPUB::new, FrameBodyWPUB::new);
+        addBody("WXXX", FrameBodyWXXX::new, FrameBodyWXXX::new);
+        addBody("XSOA", FrameBodyXSOA::new, FrameBodyXSOA::new);
+        addBody("XSOP", FrameBodyXSOP::new, FrameBodyXSOP::new);
+        addBody("XSOT", FrameBodyXSOT::new, FrameBodyXSOT::new);
+
+        addConversion("APIC", FrameBodyPIC.class, FrameBodyAPIC::new);
+        addConversion("IPLS", FrameBodyTIPL.class, FrameBodyIPLS::new);
+        addConversion("PIC", FrameBodyAPIC.class, FrameBodyPIC::new);
+        addConversion("RVA2", FrameBodyRVAD.class, FrameBodyRVA2::new);
+        addConversion("RVAD", FrameBodyRVA2.class, FrameBodyRVAD::new);
+        addConversion("TDOR", FrameBodyTORY.class, FrameBodyTDOR::new);
+        addConversion("TDRC", FrameBodyTDAT.class, FrameBodyTDRC::new);
+        addConversion("TDRC", FrameBodyTIME.class, FrameBodyTDRC::new);
+        addConversion("TDRC", FrameBodyTRDA.class, FrameBodyTDRC::new);
+        addConversion("TDRC", FrameBodyTYER.class, FrameBodyTDRC::new);
+        addConversion("TIPL", FrameBodyIPLS.class, FrameBodyTIPL::new);
+        addConversion("TMCL", FrameBodyIPLS.class, FrameBodyTMCL::new);
+        addConversion("TMOO", FrameBodyTXXX.class, FrameBodyTMOO::new);
+        addConversion("TORY", FrameBodyTDOR.class, FrameBodyTORY::new);
+        addConversion("TXXX", FrameBodyTMOO.class, FrameBodyTXXX::new);
+        addConversion("TYER", FrameBodyTDRC.class, FrameBodyTYER::new);
+
+        addCopy("AENC", FrameBodyAENC.class, FrameBodyAENC::new);
+        addCopy("APIC", FrameBodyAPIC.class, FrameBodyAPIC::new);
+        addCopy("ASPI", FrameBodyASPI.class, FrameBodyASPI::new);
+        addCopy("CHAP", FrameBodyCHAP.class, FrameBodyCHAP::new);
+        addCopy("COMM", FrameBodyCOMM.class, FrameBodyCOMM::new);
+        addCopy("COMR", FrameBodyCOMR.class, FrameBodyCOMR::new);
+        addCopy("CRM", FrameBodyCRM.class, FrameBodyCRM::new);
+        addCopy("CTOC", FrameBodyCTOC.class, FrameBodyCTOC::new);
+        addCopy("Deprecated", FrameBodyDeprecated.class, FrameBodyDeprecated::new);
+        addCopy("ENCR", FrameBodyENCR.class, FrameBodyENCR::new);
+        addCopy("EQU2", FrameBodyEQU2.class, FrameBodyEQU2::new);
+        addCopy("EQUA", FrameBodyEQUA.class, FrameBodyEQUA::new);
+        addCopy("ETCO", FrameBodyETCO.class, FrameBodyETCO::new);
+        addCopy("Encrypted", FrameBodyEncrypted.class, FrameBodyEncrypted::new);
+        addCopy("GEOB", FrameBodyGEOB.class, FrameBodyGEOB::new);
+        addCopy("GRID", FrameBodyGRID.class, FrameBodyGRID::new);
+        addCopy("GRP1", FrameBodyGRP1.class, FrameBodyGRP1::new);
+        addCopy("IPLS", FrameBodyIPLS.class, FrameBodyIPLS::new);
+        addCopy("LINK", FrameBodyLINK.class, FrameBodyLINK::new);
+        addCopy("MCDI", FrameBodyMCDI.class, FrameBodyMCDI::new);
+        addCopy("MLLT", FrameBodyMLLT.class, FrameBodyMLLT::new);
+        addCopy("MVIN", FrameBodyMVIN.class, FrameBodyMVIN::new);
+        addCopy("MVNM", FrameBodyMVNM.class, FrameBodyMVNM::new);
+        addCopy("OWNE", FrameBodyOWNE.class, FrameBodyOWNE::new);
+        addCopy("PCNT", FrameBodyPCNT.class, FrameBodyPCNT::new);
+        addCopy("PIC", FrameBodyPIC.class, FrameBodyPIC::new);
+        addCopy("POPM", FrameBodyPOPM.class, FrameBodyPOPM::new);
+        addCopy("POSS", FrameBodyPOSS.class, FrameBodyPOSS::new);
+        addCopy("PRIV", FrameBodyPRIV.class, FrameBodyPRIV::new);
+        addCopy("RBUF", FrameBodyRBUF.class, FrameBodyRBUF::new);
+        addCopy("RVA2", FrameBodyRVA2.class, FrameBodyRVA2::new);
+        addCopy("RVAD", FrameBodyRVAD.class, FrameBodyRVAD::new);
+        addCopy("RVRB", FrameBodyRVRB.class, FrameBodyRVRB::new);
+        addCopy("SEEK", FrameBodySEEK.class, FrameBodySEEK::new);
+        addCopy("SIGN", FrameBodySIGN.class, FrameBodySIGN::new);
+        addCopy("SYLT", FrameBodySYLT.class, FrameBodySYLT::new);
+        addCopy("SYTC", FrameBodySYTC.class, FrameBodySYTC::new);
+        addCopy("TALB", FrameBodyTALB.class, FrameBodyTALB::new);
+        addCopy("TBPM", FrameBodyTBPM.class, FrameBodyTBPM::new);
+        addCopy("TCMP", FrameBodyTCMP.class, FrameBodyTCMP::new);
+        addCopy("TCOM", FrameBodyTCOM.class, FrameBodyTCOM::new);
+        addCopy("TCON", FrameBodyTCON.class, FrameBodyTCON::new);
+        addCopy("TCOP", FrameBodyTCOP.class, FrameBodyTCOP::new);
+        addCopy("TDAT", FrameBodyTDAT.class, FrameBodyTDAT::new);
+        addCopy("TDEN", FrameBodyTDEN.class, FrameBodyTDEN::new);
+        addCopy("TDLY", FrameBodyTDLY.class, FrameBodyTDLY::new);
+        addCopy("TDOR", FrameBodyTDOR.class, FrameBodyTDOR::new);
+        addCopy("TDRC", FrameBodyTDRC.class, FrameBodyTDRC::new);
+        addCopy("TDRL", FrameBodyTDRL.class, FrameBodyTDRL::new);
+        addCopy("TDTG", FrameBodyTDTG.class, FrameBodyTDTG::new);
+        addCopy("TENC", FrameBodyTENC.class, FrameBodyTENC::new);
+        addCopy("TEXT", FrameBodyTEXT.class, FrameBodyTEXT::new);
+        addCopy("TFLT", FrameBodyTFLT.class, FrameBodyTFLT::new);
+        addCopy("TIME", FrameBodyTIME.class, FrameBodyTIME::new);
+        addCopy("TIT1", FrameBodyTIT1.class, FrameBodyTIT1::new);
+        addCopy("TIT2", FrameBodyTIT2.class, FrameBodyTIT2::new);
+        addCopy("TIT3", FrameBodyTIT3.class, FrameBodyTIT3::new);
+        addCopy("TKEY", FrameBodyTKEY.class, FrameBodyTKEY::new);
+        addCopy("TLAN", FrameBodyTLAN.class, FrameBodyTLAN::new);
+        addCopy("TLEN", FrameBodyTLEN.class, FrameBodyTLEN::new);
+        addCopy("TMED", FrameBodyTMED.class, FrameBodyTMED::new);
+        addCopy("TMOO", FrameBodyTMOO.class, FrameBodyTMOO::new);
+        addCopy("TOAL", FrameBodyTOAL.class, FrameBodyTOAL::new);
+        addCopy("TOFN", FrameBodyTOFN.class, FrameBodyTOFN::new);
+        addCopy("TOLY", FrameBodyTOLY.class, FrameBodyTOLY::new);
+        addCopy("TOPE", FrameBodyTOPE.class, FrameBodyTOPE::new);
+        addCopy("TORY", FrameBodyTORY.class, FrameBodyTORY::new);
+        addCopy("TOWN", FrameBodyTOWN.class, FrameBodyTOWN::new);
+        addCopy("TPE1", FrameBodyTPE1.class, FrameBodyTPE1::new);
+        addCopy("TPE2", FrameBodyTPE2.class, FrameBodyTPE2::new);
+        addCopy("TPE3", FrameBodyTPE3.class, FrameBodyTPE3::new);
+        addCopy("TPE4", FrameBodyTPE4.class, FrameBodyTPE4::new);
+        addCopy("TPOS", FrameBodyTPOS.class, FrameBodyTPOS::new);
+        addCopy("TPRO", FrameBodyTPRO.class, FrameBodyTPRO::new);
+        addCopy("TPUB", FrameBodyTPUB.class, FrameBodyTPUB::new);
+        addCopy("TRCK", FrameBodyTRCK.class, FrameBodyTRCK::new);
+        addCopy("TRDA", FrameBodyTRDA.class, FrameBodyTRDA::new);
+        addCopy("TRSN", FrameBodyTRSN.class, FrameBodyTRSN::new);
+        addCopy("TRSO", FrameBodyTRSO.class, FrameBodyTRSO::new);
+        addCopy("TSIZ", FrameBodyTSIZ.class, FrameBodyTSIZ::new);
+        addCopy("TSO2", FrameBodyTSO2.class, FrameBodyTSO2::new);
+        addCopy("TSOA", FrameBodyTSOA.class, FrameBodyTSOA::new);
+        addCopy("TSOC", FrameBodyTSOC.class, FrameBodyTSOC::new);
+        addCopy("TSOP", FrameBodyTSOP.class, FrameBodyTSOP::new);
+        addCopy("TSOT", FrameBodyTSOT.class, FrameBodyTSOT::new);
+        addCopy("TSRC", FrameBodyTSRC.class, FrameBodyTSRC::new);
+        addCopy("TSSE", FrameBodyTSSE.class, FrameBodyTSSE::new);
+        addCopy("TSST", FrameBodyTSST.class, FrameBodyTSST::new);
+        addCopy("TXXX", FrameBodyTXXX.class, FrameBodyTXXX::new);
+        addCopy("TYER", FrameBodyTYER.class, FrameBodyTYER::new);
+        addCopy("UFID", FrameBodyUFID.class, FrameBodyUFID::new);
+        addCopy("USER", FrameBodyUSER.class, FrameBodyUSER::new);
+        addCopy("USLT", FrameBodyUSLT.class, FrameBodyUSLT::new);
+        addCopy("Unsupported", FrameBodyUnsupported.class, FrameBodyUnsupported::new);
+        addCopy("WCOM", FrameBodyWCOM.class, FrameBodyWCOM::new);
+        addCopy("WCOP", FrameBodyWCOP.class, FrameBodyWCOP::new);
+        addCopy("WOAF", FrameBodyWOAF.class, FrameBodyWOAF::new);
+        addCopy("WOAR", FrameBodyWOAR.class, FrameBodyWOAR::new);
+        addCopy("WOAS", FrameBodyWOAS.class, FrameBodyWOAS::new);
+        addCopy("WORS", FrameBodyWORS.class, FrameBodyWORS::new);
+        addCopy("WPAY", FrameBodyWPAY.class, FrameBodyWPAY::new);
+        addCopy("WPUB", FrameBodyWPUB.class, FrameBodyWPUB::new);
+        addCopy("WXXX", FrameBodyWXXX.class, FrameBodyWXXX::new);
+        addCopy("XSOA", FrameBodyXSOA.class, FrameBodyXSOA::new);
+        addCopy("XSOP", FrameBodyXSOP.class, FrameBodyXSOP::new);
+        addCopy("XSOT", FrameBodyXSOT.class, FrameBodyXSOT::new);
+    }
+
+    private FrameBodyFactory()
+    {
+    }
+
+    private static void addBody(String identifier, Supplier<AbstractID3v2FrameBody> emptyBody, BodyReader bodyReader)
+    {
+        emptyBodies.put(identifier, emptyBody);
+        if (bodyReader != null)
+        {
+            bodyReaders.put(identifier, bodyReader);
+        }
+    }
+
+    /**
+     * Register a constructor of the frame body for identifier that takes a frame body of another type
+     */
+    private static <T extends AbstractID3v2FrameBody> void addConversion(String identifier, Class<T> from, Function<T, AbstractID3v2FrameBody> constructor)
+    {
+        conversions.computeIfAbsent(identifier, k -> new HashMap<>()).put(from, body -> constructor.apply(from.cast(body)));
+    }
+
+    /**
+     * Register the copy constructor of a frame body, it is also used to convert to the same identifier
+     */
+    private static <T extends AbstractID3v2FrameBody> void addCopy(String identifier, Class<T> type, Function<T, AbstractID3v2FrameBody> constructor)
+    {
+        addConversion(identifier, type, constructor);
+        copies.put(type, body -> constructor.apply(type.cast(body)));
+    }
+
+    /**
+     * @param identifier
+     * @return a new empty frame body for identifier, or null if there is no frame body for it
+     */
+    public static AbstractID3v2FrameBody createBody(String identifier)
+    {
+        Supplier<AbstractID3v2FrameBody> emptyBody = emptyBodies.get(identifier);
+        return emptyBody != null ? emptyBody.get() : null;
+    }
+
+    /**
+     * @param identifier
+     * @param byteBuffer to read the frame body from
+     * @param frameSize
+     * @return the frame body for identifier read from byteBuffer, or null if there is no frame body that can be read
+     * for it
+     * @throws InvalidTagException if the data is not a valid frame body
+     */
+    public static AbstractID3v2FrameBody readBody(String identifier, ByteBuffer byteBuffer, int frameSize) throws InvalidTagException
+    {
+        BodyReader bodyReader = bodyReaders.get(identifier);
+        return bodyReader != null ? bodyReader.read(byteBuffer, frameSize) : null;
+    }
+
+    /**
+     * @param identifier
+     * @return true if there is a frame body for identifier
+     */
+    public static boolean isSupported(String identifier)
+    {
+        return emptyBodies.containsKey(identifier);
+    }
+
+    /**
+     * Create a frame body for identifier populated from a body of a different type, such as TDRC from TYER
+     *
+     * @param identifier
+     * @param body
+     * @return the new frame body, or null if the frame body for identifier has no constructor taking this type of body
+     */
+    public static AbstractID3v2FrameBody convertBody(String identifier, AbstractID3v2FrameBody body)
+    {
+        Map<Class<?>, Function<AbstractID3v2FrameBody, AbstractID3v2FrameBody>> constructors = conversions.get(identifier);
+        if (constructors == null)
+        {
+            return null;
+        }
+        Function<AbstractID3v2FrameBody, AbstractID3v2FrameBody> constructor = constructors.get(body.getClass());
+        return constructor != null ? constructor.apply(body) : null;
+    }
+
+    /**
+     * @param body
+     * @return a copy of body made with its copy constructor, or null if it has none
+     */
+    public static AbstractID3v2FrameBody copyBody(AbstractID3v2FrameBody body)
+    {
+        Function<AbstractID3v2FrameBody, AbstractID3v2FrameBody> constructor = copies.get(body.getClass());
+        return constructor != null ? constructor.apply(body) : null;
+    }
+}
@@ -23,6 +23,7 @@
  */
 package org.jaudiotagger.tag.id3.framebody;
 
+import org.jaudiotagger.audio.generic.ReadMode;
 import org.jaudiotagger.tag.InvalidTagException;
 import org.jaudiotagger.tag.datatype.*;
 import org.jaudiotagger.tag.id3.ID3v22Frames;
@@ -141,6 +142,24 @@ public class FrameBodyPIC extends AbstractID3v2FrameBody implements ID3v22FrameB
         super(byteBuffer, frameSize);
     }
 
+    /**
+     * When only reading a summary the image data is skipped, unless it holds a url which is needed to make sense of
+     * the frame
+     *
+     * @param byteBuffer file to read
+     * @throws InvalidTagException if unable to construct a frameBody from the ByteBuffer
+     */
+    public void read(ByteBuffer byteBuffer) throws InvalidTagException
+    {
+        int start = byteBuffer.position();
+        if (ReadMode.isSummary() && readSkippingTrailingData(byteBuffer) && !isImageUrl())
+        {
+            return;
+        }
+        byteBuffer.position(start);
+        super.read(byteBuffer);
+    }
+
     /**
      * Set a description of the image
      *
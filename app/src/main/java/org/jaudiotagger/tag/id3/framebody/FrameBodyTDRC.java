@@ -23,6 +23,7 @@
  */
 package org.jaudiotagger.tag.id3.framebody;
 
+import org.jaudiotagger.logging.DebugLogging;
 import org.jaudiotagger.tag.InvalidTagException;
 import org.jaudiotagger.tag.datatype.DataTypes;
 import org.jaudiotagger.tag.id3.ID3v23Frames;
@@ -185,20 +186,29 @@ public class FrameBodyTDRC extends AbstractFrameBodyTextInfo implements ID3v24Fr
 
     public void setYear(String year)
     {
-        logger.finest("Setting year to" + year);
+        if (DebugLogging.isLoggable(logger, Level.FINEST))
+        {
+            logger.finest("Setting year to" + year);
+        }
         this.year = year;
     }
 
     public void setTime(String time)
     {
-        logger.finest("Setting time to:" + time);
+        if (DebugLogging.isLoggable(logger, Level.FINEST))
+        {
+            logger.finest("Setting time to:" + time);
+        }
         this.time = time;
     }
 
 
     public void setDate(String date)
     {
-        logger.finest("Setting date to:" + date);
+        if (DebugLogging.isLoggable(logger, Level.FINEST))
+        {
+            logger.finest("Setting date to:" + date);
+        }
         this.date = date;
     }
 
@@ -374,7 +384,10 @@ public class FrameBodyTDRC extends AbstractFrameBodyTextInfo implements ID3v24Fr
     //first day
     private void extractID3v23Formats(final Date dateRecord, final int precision)
     {
-        logger.fine("Precision is:"+precision+"for date:"+dateRecord.toString());
+        if (DebugLogging.isLoggable(logger, Level.FINE))
+        {
+            logger.fine("Precision is:"+precision+"for date:"+dateRecord.toString());
+        }
         Date d = dateRecord;
 
         //Precision Year
@@ -7,6 +7,8 @@ import org.jaudiotagger.tag.reference.PictureTypes;
 import java.io.File;
 import java.io.IOException;
 import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 
 /**
  * Represents artwork in a format independent way
@@ -21,6 +23,9 @@ public class AndroidArtwork implements Artwork
     private int             pictureType=-1;
     private int             width;
     private int             height;
+    private boolean         isDeferred=false;
+    private long            imageOffset=-1;
+    private int             imageLength;
 
     public AndroidArtwork()
     {
@@ -34,6 +39,7 @@ public class AndroidArtwork implements Artwork
     public void setBinaryData(byte[] binaryData)
     {
         this.binaryData = binaryData;
+        this.isDeferred = false;
     }
 
     public String getMimeType()
@@ -185,6 +191,10 @@ public class AndroidArtwork implements Artwork
             setLinked(coverArt.isImageUrl());
             setImageUrl(coverArt.getImageUrl());
         }
+        else if(coverArt.isImageDataDeferred())
+        {
+            setDeferred(coverArt.getImageDataOffset(), coverArt.getImageDataLength());
+        }
         else
         {
             setBinaryData(coverArt.getImageData());
@@ -215,4 +225,52 @@ public class AndroidArtwork implements Artwork
     {
         this.height = height;
     }
+
+    public boolean isDeferred()
+    {
+        return isDeferred;
+    }
+
+    public void setDeferred(long imageOffset, int imageLength)
+    {
+        this.isDeferred = true;
+        this.imageOffset = imageOffset;
+        this.imageLength = imageLength;
+    }
+
+    public long getImageOffset()
+    {
+        return imageOffset;
+    }
+
+    public int getImageLength()
+    {
+        if(isDeferred || binaryData == null)
+        {
+            return imageLength;
+        }
+        return binaryData.length;
+    }
+
+    public ByteBuffer getImageData(File file) throws IOException
+    {
+        if(!isDeferred)
+        {
+            return binaryData == null ? null : ByteBuffer.wrap(binaryData).asReadOnlyBuffer();
+        }
+        if(imageOffset < 0)
+        {
+            return null;
+        }
+        try(RandomAccessFile raf = new RandomAccessFile(file, "r"))
+        {
+            FileChannel fc = raf.getChannel();
+            if(imageOffset + imageLength > fc.size())
+            {
+                throw new IOException("Image data at " + imageOffset + " of length " + imageLength + " is beyond the end of " + file.getName());
+            }
+            //Mapping remains valid once the channel is closed
+            return fc.map(FileChannel.MapMode.READ_ONLY, imageOffset, imageLength);
+        }
+    }
 }
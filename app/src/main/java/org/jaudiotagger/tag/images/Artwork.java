@@ -4,6 +4,7 @@ import org.jaudiotagger.audio.flac.metadatablock.MetadataBlockDataPicture;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 
 /**
  * Represents artwork in a format independent  way
@@ -67,4 +68,37 @@ public interface Artwork
     public void setWidth(int width);
 
     public void setHeight(int height);
+
+    /**
+     * @return true if the image data was not loaded because the file was read as a summary
+     */
+    public boolean isDeferred();
+
+    /**
+     * Mark the image data as not loaded, recording where it can be found within the audio file
+     *
+     * @param imageOffset offset of the image data within the file, or -1 if it is not stored as a single range
+     * @param imageLength length of the image data in bytes
+     */
+    public void setDeferred(long imageOffset, int imageLength);
+
+    /**
+     * @return offset of the deferred image data within the file, or -1 if unknown
+     */
+    public long getImageOffset();
+
+    /**
+     * @return length of the image data in bytes
+     */
+    public int getImageLength();
+
+    /**
+     * Get the image data without loading it onto the heap if it was deferred, only the range of the audio file holding
+     * the image is mapped into memory
+     *
+     * @param file the audio file the artwork was read from
+     * @return read only buffer holding the image data, or null if there is none or its location in the file is unknown
+     * @throws IOException
+     */
+    public ByteBuffer getImageData(File file) throws IOException;
 }
@@ -24,7 +24,7 @@
 package org.jaudiotagger.tag.lyrics3;
 
 import org.jaudiotagger.tag.InvalidTagException;
-import org.jaudiotagger.tag.TagOptionSingleton;
+import org.jaudiotagger.tag.TagOptions;
 import org.jaudiotagger.tag.datatype.Lyrics3Image;
 
 import java.io.RandomAccessFile;
@@ -200,7 +200,7 @@ public class FieldFrameBodyIMG extends AbstractLyrics3v2FieldFrameBody
 
         int size = Integer.parseInt(new String(buffer, 0, 5));
 
-        if ((size == 0) && (!TagOptionSingleton.getInstance().isLyrics3KeepEmptyFieldIfRead()))
+        if ((size == 0) && (!TagOptions.current().isLyrics3KeepEmptyFieldIfRead()))
         {
             throw new InvalidTagException("Lyircs3v2 Field has size of zero.");
         }
@@ -257,7 +257,7 @@ public class Mp4Tag extends AbstractTag
         }
 
         //Always write as text
-        if(TagOptionSingleton.getInstance().isWriteMp4GenresAsText())
+        if(TagOptions.current().isWriteMp4GenresAsText())
         {
             return new Mp4TagTextField(GENRE_CUSTOM.getFieldName(), content);
         }
@@ -735,7 +735,7 @@ public class Mp4Tag extends AbstractTag
         else if (genericKey == FieldKey.GENRE)
         {
             //Always write as text
-            if(TagOptionSingleton.getInstance().isWriteMp4GenresAsText())
+            if(TagOptions.current().isWriteMp4GenresAsText())
             {
                 return new Mp4TagTextField(GENRE_CUSTOM.getFieldName(), value);
             }
@@ -960,7 +960,14 @@ public class Mp4Tag extends AbstractTag
         {
             Mp4TagCoverField mp4CoverArt = (Mp4TagCoverField)next;
             Artwork artwork = ArtworkFactory.getNew();
-            artwork.setBinaryData(mp4CoverArt.getData());
+            if(mp4CoverArt.isDeferred())
+            {
+                artwork.setDeferred(mp4CoverArt.getImageOffset(), mp4CoverArt.getImageLength());
+            }
+            else
+            {
+                artwork.setBinaryData(mp4CoverArt.getData());
+            }
             artwork.setMimeType(Mp4TagCoverField.getMimeTypeForImageType(mp4CoverArt.getFieldType()));
             artworkList.add(artwork);
         }
@@ -20,6 +20,7 @@ package org.jaudiotagger.tag.mp4;
 
 import org.jaudiotagger.audio.generic.Utils;
 import org.jaudiotagger.audio.mp4.atom.Mp4BoxHeader;
+import org.jaudiotagger.logging.DebugLogging;
 import org.jaudiotagger.tag.TagField;
 import org.jaudiotagger.tag.mp4.atom.Mp4DataBox;
 import org.jaudiotagger.tag.mp4.field.Mp4FieldType;
@@ -29,6 +30,7 @@ import java.io.IOException;
 import java.io.UnsupportedEncodingException;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
@@ -142,7 +144,10 @@ public abstract class Mp4TagField implements TagField
      */
     public byte[] getRawContent() throws UnsupportedEncodingException
     {
-        logger.fine("Getting Raw data for:" + getId());
+        if (DebugLogging.isLoggable(logger, Level.FINE))
+        {
+            logger.fine("Getting Raw data for:" + getId());
+        }
         try
         {
             //Create Data Box
@@ -170,7 +175,10 @@ public abstract class Mp4TagField implements TagField
      */
     public byte[] getRawContentDataOnly() throws UnsupportedEncodingException
     {
-        logger.fine("Getting Raw data for:" + getId());
+        if (DebugLogging.isLoggable(logger, Level.FINE))
+        {
+            logger.fine("Getting Raw data for:" + getId());
+        }
         try
         {
             //Create Data Box
@@ -18,6 +18,7 @@
  */
 package org.jaudiotagger.tag.mp4.field;
 
+import org.jaudiotagger.audio.generic.ReadMode;
 import org.jaudiotagger.audio.mp4.atom.Mp4BoxHeader;
 import org.jaudiotagger.logging.ErrorMessage;
 import org.jaudiotagger.tag.id3.valuepair.ImageFormats;
@@ -45,6 +46,11 @@ public class Mp4TagCoverField extends Mp4TagBinaryField
     //may have data and name atom
     private int dataAndHeaderSize;
 
+    //Set when the image data was skipped over because only a summary was read, no initializers because they are
+    //set by build() which is called from the super constructor
+    private boolean isDeferred;
+    private long imageOffset;
+
     /**
      * Empty CoverArt Field
      */
@@ -131,6 +137,44 @@ public class Mp4TagCoverField extends Mp4TagBinaryField
         return true;
     }
 
+    /**
+     * @return true if the image data was skipped because only a summary was read
+     */
+    public boolean isDeferred()
+    {
+        return isDeferred;
+    }
+
+    /**
+     * @return offset of the deferred image data, relative to the buffer it was read from until
+     * {@link #setBufferFileOffset(long)} is called, or -1 if unknown
+     */
+    public long getImageOffset()
+    {
+        return imageOffset;
+    }
+
+    /**
+     * @return length of the image data, even if it was not read
+     */
+    public int getImageLength()
+    {
+        return dataSize - Mp4DataBox.PRE_DATA_LENGTH;
+    }
+
+    /**
+     * Convert the deferred image offset into an offset within the file
+     *
+     * @param bufferFileOffset file offset of the start of the buffer the field was read from
+     */
+    public void setBufferFileOffset(long bufferFileOffset)
+    {
+        if (isDeferred && imageOffset != -1)
+        {
+            imageOffset += bufferFileOffset;
+        }
+    }
+
 
     public String toString()
     {
@@ -146,9 +190,19 @@ public class Mp4TagCoverField extends Mp4TagBinaryField
         //Skip the version and length fields
         raw.position(raw.position() + Mp4DataBox.PRE_DATA_LENGTH);
 
-        //Read the raw data into byte array
-        this.dataBytes = new byte[dataSize - Mp4DataBox.PRE_DATA_LENGTH];
-        raw.get(dataBytes,0,dataBytes.length);
+        //Read the raw data into byte array, unless only reading a summary in which case just note where it is
+        if (ReadMode.isSummary())
+        {
+            isDeferred = true;
+            imageOffset = raw.hasArray() ? raw.arrayOffset() + raw.position() : -1;
+            this.dataBytes = new byte[0];
+            raw.position(raw.position() + dataSize - Mp4DataBox.PRE_DATA_LENGTH);
+        }
+        else
+        {
+            this.dataBytes = new byte[dataSize - Mp4DataBox.PRE_DATA_LENGTH];
+            raw.get(dataBytes,0,dataBytes.length);
+        }
 
         //Is there room for another atom (remember actually passed all the data so unless Covr is last atom
         //there will be room even though more likely to be for the text top level atom)
@@ -2,6 +2,7 @@ package org.jaudiotagger.tag.mp4.field;
 
 import org.jaudiotagger.audio.generic.Utils;
 import org.jaudiotagger.audio.mp4.atom.Mp4BoxHeader;
+import org.jaudiotagger.logging.DebugLogging;
 import org.jaudiotagger.tag.TagField;
 import org.jaudiotagger.tag.mp4.Mp4TagField;
 
@@ -10,6 +11,7 @@ import java.io.IOException;
 import java.io.UnsupportedEncodingException;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.util.logging.Level;
 
 /**
  * Represents raw binary data
@@ -107,7 +109,10 @@ public class Mp4TagRawBinaryField extends Mp4TagField
 
     public byte[] getRawContent() throws UnsupportedEncodingException
     {
-        logger.fine("Getting Raw data for:" + getId());
+        if (DebugLogging.isLoggable(logger, Level.FINE))
+        {
+            logger.fine("Getting Raw data for:" + getId());
+        }
         try
         {
             ByteArrayOutputStream outerbaos = new ByteArrayOutputStream();
@@ -2,6 +2,7 @@ package org.jaudiotagger.tag.mp4.field;
 
 import org.jaudiotagger.audio.generic.Utils;
 import org.jaudiotagger.audio.mp4.atom.Mp4BoxHeader;
+import org.jaudiotagger.logging.DebugLogging;
 import org.jaudiotagger.logging.ErrorMessage;
 import org.jaudiotagger.tag.TagField;
 import org.jaudiotagger.tag.TagTextField;
@@ -17,6 +18,7 @@ import java.io.UnsupportedEncodingException;
 import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.util.logging.Level;
 
 /**
  * Represents reverse dns field, used for custom information
@@ -212,7 +214,10 @@ public class Mp4TagReverseDnsField extends Mp4TagField implements TagTextField
     @Override
     public byte[] getRawContentDataOnly() throws UnsupportedEncodingException
     {
-        logger.fine("Getting Raw data for:" + getId());
+        if (DebugLogging.isLoggable(logger, Level.FINE))
+        {
+            logger.fine("Getting Raw data for:" + getId());
+        }
         try
         {
             //Create DataBox data
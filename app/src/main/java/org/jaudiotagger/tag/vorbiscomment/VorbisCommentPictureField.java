@@ -0,0 +1,28 @@
+package org.jaudiotagger.tag.vorbiscomment;
+
+import org.jaudiotagger.audio.flac.metadatablock.MetadataBlockDataPicture;
+
+/**
+ * METADATA_BLOCK_PICTURE field read as part of a summary
+ *
+ * <p>Only the picture header has been decoded, the base64 encoded image data was skipped so the field content is
+ * empty and the picture holds no image data.
+ */
+public class VorbisCommentPictureField extends VorbisCommentTagField
+{
+    private final MetadataBlockDataPicture picture;
+
+    public VorbisCommentPictureField(MetadataBlockDataPicture picture)
+    {
+        super(VorbisCommentFieldKey.METADATA_BLOCK_PICTURE.getFieldName(), "");
+        this.picture = picture;
+    }
+
+    /**
+     * @return the picture header, its image data is deferred
+     */
+    public MetadataBlockDataPicture getPicture()
+    {
+        return picture;
+    }
+}
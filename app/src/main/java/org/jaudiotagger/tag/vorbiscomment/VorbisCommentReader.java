@@ -20,12 +20,18 @@
 package org.jaudiotagger.tag.vorbiscomment;
 
 import org.jaudiotagger.audio.exceptions.CannotReadException;
+import org.jaudiotagger.audio.flac.metadatablock.MetadataBlockDataPicture;
+import org.jaudiotagger.audio.generic.ReadMode;
 import org.jaudiotagger.audio.generic.Utils;
 import org.jaudiotagger.audio.ogg.util.VorbisHeader;
+import org.jaudiotagger.logging.DebugLogging;
 import org.jaudiotagger.logging.ErrorMessage;
+import org.jaudiotagger.tag.vorbiscomment.util.Base64Coder;
 
 import java.io.IOException;
-import java.nio.file.Path;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
@@ -67,6 +73,13 @@ public class VorbisCommentReader
      */
     private static final int JAUDIOTAGGER_MAX_COMMENT_LENGTH = 10000000;
 
+    private static final byte[] PICTURE_FIELD_PREFIX = (VorbisCommentFieldKey.METADATA_BLOCK_PICTURE.getFieldName() + "=").getBytes(StandardCharsets.US_ASCII);
+
+    /**
+     * How much of a base64 encoded picture to decode when reading a summary, enough to cover the picture header
+     */
+    private static final int SUMMARY_PICTURE_BASE64_LENGTH = 4096;
+
     public VorbisCommentReader()
     {
 
@@ -75,12 +88,12 @@ public class VorbisCommentReader
     /**
      * @param rawdata
      * @param isFramingBit
-     * @param path
+     * @param fileName used in log messages, may be null
      * @return logical representation of VorbisCommentTag
      * @throws IOException
      * @throws CannotReadException
      */
-    public VorbisCommentTag read(byte[] rawdata, boolean isFramingBit, Path path) throws IOException, CannotReadException
+    public VorbisCommentTag read(byte[] rawdata, boolean isFramingBit, String fileName) throws IOException, CannotReadException
     {
 
         VorbisCommentTag tag = new VorbisCommentTag();
@@ -94,14 +107,20 @@ public class VorbisCommentReader
         System.arraycopy(rawdata, pos, b, 0, vendorStringLength);
         pos += vendorStringLength;
         tag.setVendor(new String(b, VorbisHeader.CHARSET_UTF_8));
-        logger.config("Vendor is:"+tag.getVendor());
+        if (DebugLogging.isLoggable(logger, Level.CONFIG))
+        {
+            logger.config("Vendor is:"+tag.getVendor());
+        }
         
         b = new byte[FIELD_USER_COMMENT_LIST_LENGTH];
         System.arraycopy(rawdata, pos, b, 0, FIELD_USER_COMMENT_LIST_LENGTH);
         pos += FIELD_USER_COMMENT_LIST_LENGTH;
 
         int userComments = Utils.getIntLE(b);
-        logger.config("Number of user comments:" + userComments);
+        if (DebugLogging.isLoggable(logger, Level.CONFIG))
+        {
+            logger.config("Number of user comments:" + userComments);
+        }
         
         for (int i = 0; i < userComments; i++)
         {
@@ -110,13 +129,16 @@ public class VorbisCommentReader
             pos += FIELD_COMMENT_LENGTH_LENGTH;
 
             int commentLength = Utils.getIntLE(b);
-            logger.config("Next Comment Length:" + commentLength);
+            if (DebugLogging.isLoggable(logger, Level.CONFIG))
+            {
+                logger.config("Next Comment Length:" + commentLength);
+            }
 
             if(commentLength> JAUDIOTAGGER_MAX_COMMENT_LENGTH)
             {
-                if(path!=null)
+                if(fileName!=null)
                 {
-                    logger.warning(path.toString() + ":" + ErrorMessage.VORBIS_COMMENT_LENGTH_TOO_LARGE.getMsg(commentLength));
+                    logger.warning(fileName + ":" + ErrorMessage.VORBIS_COMMENT_LENGTH_TOO_LARGE.getMsg(commentLength));
                 }
                 else
                 {
@@ -126,9 +148,9 @@ public class VorbisCommentReader
             }
             else if(commentLength>rawdata.length - pos)
             {
-                if(path!=null)
+                if(fileName!=null)
                 {
-                    logger.warning(path.toString() + ":" + ErrorMessage.VORBIS_COMMENT_LENGTH_LARGE_THAN_HEADER.getMsg(commentLength, rawdata.length - pos));
+                    logger.warning(fileName + ":" + ErrorMessage.VORBIS_COMMENT_LENGTH_LARGE_THAN_HEADER.getMsg(commentLength, rawdata.length - pos));
                 }
                 else
                 {
@@ -136,6 +158,10 @@ public class VorbisCommentReader
                 }
                 break;
             }
+            else if (ReadMode.isSummary() && addPictureSummary(tag, rawdata, pos, commentLength))
+            {
+                pos += commentLength;
+            }
             else
             {
                 b = new byte[commentLength];
@@ -143,7 +169,10 @@ public class VorbisCommentReader
                 pos += commentLength;
 
                 VorbisCommentTagField fieldComment = new VorbisCommentTagField(b);
-                logger.config("Adding:" + fieldComment.getId());
+                if (DebugLogging.isLoggable(logger, Level.CONFIG))
+                {
+                    logger.config("Adding:" + fieldComment.getId());
+                }
                 tag.addField(fieldComment);
             }
         }
@@ -158,5 +187,57 @@ public class VorbisCommentReader
         }
         return tag;
     }
-}
 
+    /**
+     * If the comment is a METADATA_BLOCK_PICTURE only decode enough to read the picture header, so the image data
+     * is never copied or decoded.
+     *
+     * @param tag
+     * @param rawdata
+     * @param pos start of the comment
+     * @param commentLength
+     * @return true if a summary picture field was added, false if the comment should be read normally
+     */
+    private boolean addPictureSummary(VorbisCommentTag tag, byte[] rawdata, int pos, int commentLength)
+    {
+        if (commentLength <= PICTURE_FIELD_PREFIX.length)
+        {
+            return false;
+        }
+        for (int i = 0; i < PICTURE_FIELD_PREFIX.length; i++)
+        {
+            if (Character.toUpperCase((char) rawdata[pos + i]) != PICTURE_FIELD_PREFIX[i])
+            {
+                return false;
+            }
+        }
+
+        int base64Start = pos + PICTURE_FIELD_PREFIX.length;
+        int base64Length = Math.min(commentLength - PICTURE_FIELD_PREFIX.length, SUMMARY_PICTURE_BASE64_LENGTH);
+        base64Length -= base64Length % 4;
+        char[] base64 = new char[base64Length];
+        for (int i = 0; i < base64Length; i++)
+        {
+            base64[i] = (char) rawdata[base64Start + i];
+        }
+        try
+        {
+            MetadataBlockDataPicture picture = MetadataBlockDataPicture.readSummary(ByteBuffer.wrap(Base64Coder.decode(base64)));
+            if (picture.isImageUrl())
+            {
+                return false;
+            }
+            tag.addField(new VorbisCommentPictureField(picture));
+            return true;
+        }
+        catch (Exception e)
+        {
+            //Header didn't fit or isn't valid, let the normal read deal with it
+            if (DebugLogging.isLoggable(logger, Level.CONFIG))
+            {
+                logger.config("Unable to read picture summary:" + e.getMessage());
+            }
+            return false;
+        }
+    }
+}
@@ -456,7 +456,7 @@ public class VorbisCommentTag extends AbstractTag
 
         if(genericKey==FieldKey.ALBUM_ARTIST)
         {
-            switch(TagOptionSingleton.getInstance().getVorbisAlbumArtistSaveOptions())
+            switch(TagOptions.current().getVorbisAlbumArtistSaveOptions())
             {
                 case WRITE_ALBUMARTIST:
                 case WRITE_ALBUMARTIST_AND_DELETE_JRIVER_ALBUMARTIST:
@@ -591,6 +591,11 @@ public class VorbisCommentTag extends AbstractTag
         List<TagField> metadataBlockPics = this.get(VorbisCommentFieldKey.METADATA_BLOCK_PICTURE);
         for(TagField tagField:metadataBlockPics)
         {
+            if(tagField instanceof VorbisCommentPictureField)
+            {
+                artworkList.add(ArtworkFactory.createArtworkFromMetadataBlockDataPicture(((VorbisCommentPictureField)tagField).getPicture()));
+                continue;
+            }
 
             try
             {
@@ -785,7 +790,7 @@ public class VorbisCommentTag extends AbstractTag
         String value = values[0];
         if(genericKey==FieldKey.ALBUM_ARTIST)
         {
-            switch(TagOptionSingleton.getInstance().getVorbisAlbumArtistSaveOptions())
+            switch(TagOptions.current().getVorbisAlbumArtistSaveOptions())
             {
                 case WRITE_ALBUMARTIST:
                 {
@@ -854,7 +859,7 @@ public class VorbisCommentTag extends AbstractTag
         String value = values[0];
         if(genericKey==FieldKey.ALBUM_ARTIST)
         {
-            switch(TagOptionSingleton.getInstance().getVorbisAlbumArtistSaveOptions())
+            switch(TagOptions.current().getVorbisAlbumArtistSaveOptions())
             {
                 case WRITE_ALBUMARTIST:
                 {
@@ -905,7 +910,7 @@ public class VorbisCommentTag extends AbstractTag
     {
         if(genericKey==FieldKey.ALBUM_ARTIST)
         {
-            switch(TagOptionSingleton.getInstance().getVorbisAlbumArtisReadOptions())
+            switch(TagOptions.current().getVorbisAlbumArtistReadOptions())
             {
                 case READ_ALBUMARTIST:
                 {
@@ -1,16 +1,27 @@
 package org.jaudiotagger.utils;
 
 import org.jaudiotagger.audio.exceptions.CannotWriteException;
-import org.jaudiotagger.tag.TagOptionSingleton;
+import org.jaudiotagger.tag.TagOptions;
 
+import java.io.EOFException;
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.channels.SeekableByteChannel;
 
 /** Shift Data to allow metadata to be fitted inside existing file
+ *
+ * <p>Data is moved a block at a time, working from the end of the file when it moves later and from the start when
+ * it moves earlier so that a block is never overwritten before it has been read. When the data is moved by at least
+ * {@link #MIN_TRANSFER_OFFSET} bytes within a {@link FileChannel} each block's source and destination cannot overlap,
+ * so blocks are copied with {@link FileChannel#transferTo} and the data never has to pass through the Java heap.
+ * Otherwise one direct buffer is used for the whole shift, no larger than the data being moved.
  */
 public class ShiftData
 {
+    //Smallest shift worth copying with transferTo, below this the blocks would be too small to be efficient
+    public static final int MIN_TRANSFER_OFFSET = 64 * 1024;
+
     /**
      * Shift the remainder of data from current position to position + offset
      * Reads/writes starting from end of file in chunks so works on large files on low memory systems
@@ -24,54 +35,17 @@ public class ShiftData
     {
         long origFileSize = fc.size();
         long startPos = fc.position();
-        long amountToBeWritten = fc.size() - startPos;
-        int chunkSize = (int) TagOptionSingleton.getInstance().getWriteChunkSize();
-        long count = amountToBeWritten / chunkSize;
-        long mod = amountToBeWritten % chunkSize;
-
-        //Buffer to hold a chunk
-        ByteBuffer chunkBuffer = ByteBuffer.allocate(chunkSize);
-
-        //Start from end of file
-        long readPos = fc.size() - chunkSize;
-        long writePos = (fc.size() - chunkSize) + offset;
-
-        for (int i = 0; i < count; i++)
-        {
-            //Read Data Into Buffer starting from end of file
-            fc.position(readPos);
-            fc.read(chunkBuffer);
-
-            //Now write to new location
-            chunkBuffer.flip();
-            fc.position(writePos);
-            fc.write(chunkBuffer);
+        long amountToBeWritten = origFileSize - startPos;
 
-            //Rewind so can use in next iteration of loop
-            chunkBuffer.rewind();
-
-            readPos -= chunkSize;
-            writePos -= chunkSize;
-        }
-
-        if (mod > 0)
+        if (offset < 0)
         {
-            chunkBuffer = ByteBuffer.allocate((int) mod);
-            fc.position(startPos);
-            fc.read(chunkBuffer);
-
-            //Now write to new location
-            chunkBuffer.flip();
-            fc.position(startPos + offset);
-            fc.write(chunkBuffer);
+            //Moving earlier, so have to start from the beginning of the data
+            moveForwards(fc, startPos, startPos + offset, amountToBeWritten);
+            fc.truncate(origFileSize + offset);
         }
-
-        if(fc instanceof SeekableByteChannel)
+        else if (offset > 0)
         {
-            if(offset < 0)
-            {
-                fc.truncate(origFileSize + offset);
-            }
+            moveBackwards(fc, startPos, startPos + offset, amountToBeWritten);
         }
     }
 
@@ -83,52 +57,134 @@ public class ShiftData
      */
     public static void shiftDataByOffsetToShrinkSpace(SeekableByteChannel fc, int shrinkBy) throws IOException
     {
+        long origFileSize = fc.size();
         long startPos = fc.position();
-        long amountToBeWritten = fc.size() - startPos;
-        int chunkSize = (int) TagOptionSingleton.getInstance().getWriteChunkSize();
-        long count = amountToBeWritten / chunkSize;
-        long mod = amountToBeWritten % chunkSize;
+        long amountToBeWritten = origFileSize - startPos;
 
-        //Buffer to hold a chunk
-        ByteBuffer chunkBuffer = ByteBuffer.allocate(chunkSize);
+        moveForwards(fc, startPos, startPos - shrinkBy, amountToBeWritten);
+        fc.truncate(origFileSize - shrinkBy);
+    }
 
-        //Start from start of data that needs to be shifted
-        long readPos  = startPos;
-        long writePos = startPos - shrinkBy;
+    /**
+     * Copy length bytes from readPos to the earlier writePos, starting with the first block
+     */
+    private static void moveForwards(SeekableByteChannel fc, long readPos, long writePos, long length) throws IOException
+    {
+        int blockSize = getBlockSize(fc, readPos - writePos, length);
+        ByteBuffer buffer = blockSize > 0 ? ByteBuffer.allocateDirect(blockSize) : null;
+        if (buffer == null)
+        {
+            blockSize = getTransferBlockSize(readPos - writePos);
+        }
 
-        for (int i = 0; i < count; i++)
+        long moved = 0;
+        while (moved < length)
         {
-            //Read Data Into Buffer starting from start of data that has to be copied
-            fc.position(readPos);
-            fc.read(chunkBuffer);
+            int size = (int) Math.min(blockSize, length - moved);
+            moveBlock(fc, buffer, readPos + moved, writePos + moved, size);
+            moved += size;
+        }
+    }
 
-            //Now write to new location
-            chunkBuffer.flip();
-            fc.position(writePos);
-            fc.write(chunkBuffer);
+    /**
+     * Copy length bytes from readPos to the later writePos, starting with the last block
+     */
+    private static void moveBackwards(SeekableByteChannel fc, long readPos, long writePos, long length) throws IOException
+    {
+        int blockSize = getBlockSize(fc, writePos - readPos, length);
+        ByteBuffer buffer = blockSize > 0 ? ByteBuffer.allocateDirect(blockSize) : null;
+        if (buffer == null)
+        {
+            blockSize = getTransferBlockSize(writePos - readPos);
+        }
+
+        long remaining = length;
+        while (remaining > 0)
+        {
+            int size = (int) Math.min(blockSize, remaining);
+            remaining -= size;
+            moveBlock(fc, buffer, readPos + remaining, writePos + remaining, size);
+        }
+    }
+
+    /**
+     * @return size of buffer to use for the move, or 0 if the blocks can be copied with transferTo instead
+     */
+    private static int getBlockSize(SeekableByteChannel fc, long distance, long length)
+    {
+        if (fc instanceof FileChannel && distance >= MIN_TRANSFER_OFFSET)
+        {
+            return 0;
+        }
+        return (int) Math.max(1, Math.min(length, TagOptions.current().getWriteChunkSize()));
+    }
 
-            //Rewind so can use in next iteration of loop
-            chunkBuffer.rewind();
+    /**
+     * Blocks copied with transferTo must not be larger than the distance moved, so that the source and the
+     * destination of a block never overlap
+     */
+    private static int getTransferBlockSize(long distance)
+    {
+        return (int) Math.min(distance, Math.max(MIN_TRANSFER_OFFSET, TagOptions.current().getWriteChunkSize()));
+    }
 
-            readPos += chunkSize;
-            writePos += chunkSize;
+    private static void moveBlock(SeekableByteChannel fc, ByteBuffer buffer, long readPos, long writePos, int size) throws IOException
+    {
+        if (buffer == null)
+        {
+            transferBlock((FileChannel) fc, readPos, writePos, size);
+            return;
         }
 
-        if (mod > 0)
+        buffer.clear();
+        buffer.limit(size);
+        if (fc instanceof FileChannel)
+        {
+            FileChannel fileChannel = (FileChannel) fc;
+            while (buffer.hasRemaining())
+            {
+                if (fileChannel.read(buffer, readPos + buffer.position()) < 0)
+                {
+                    throw new EOFException("Unexpected end of file at:" + (readPos + buffer.position()));
+                }
+            }
+            buffer.flip();
+            while (buffer.hasRemaining())
+            {
+                fileChannel.write(buffer, writePos + buffer.position());
+            }
+        }
+        else
         {
-            chunkBuffer = ByteBuffer.allocate((int) mod);
             fc.position(readPos);
-            fc.read(chunkBuffer);
-
-            //Now write to new location
-            chunkBuffer.flip();
+            while (buffer.hasRemaining())
+            {
+                if (fc.read(buffer) < 0)
+                {
+                    throw new EOFException("Unexpected end of file at:" + fc.position());
+                }
+            }
+            buffer.flip();
             fc.position(writePos);
-            fc.write(chunkBuffer);
+            while (buffer.hasRemaining())
+            {
+                fc.write(buffer);
+            }
         }
+    }
 
-        if(fc instanceof SeekableByteChannel)
+    private static void transferBlock(FileChannel fc, long readPos, long writePos, int size) throws IOException
+    {
+        fc.position(writePos);
+        long transferred = 0;
+        while (transferred < size)
         {
-            fc.truncate(fc.position());
+            long count = fc.transferTo(readPos + transferred, size - transferred, fc);
+            if (count <= 0)
+            {
+                throw new EOFException("Unable to transfer data at:" + (readPos + transferred));
+            }
+            transferred += count;
         }
     }
 }
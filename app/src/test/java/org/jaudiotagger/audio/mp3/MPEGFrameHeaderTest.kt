@@ -0,0 +1,78 @@
+package org.jaudiotagger.audio.mp3
+
+import org.jaudiotagger.audio.exceptions.InvalidAudioFrameException
+import org.junit.Assert.assertEquals
+import org.junit.Test
+import java.nio.ByteBuffer
+import java.util.concurrent.Callable
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+import kotlin.random.Random
+
+/**
+ * Checks that MPEG frame headers parsed from several threads at once decode the same as when
+ * parsed one at a time.
+ */
+class MPEGFrameHeaderTest {
+    private val headers = Random(1).let { random ->
+        Array(HEADER_COUNT) {
+            byteArrayOf(
+                0xFF.toByte(),
+                (0xE0 or random.nextInt(0x20)).toByte(),
+                random.nextInt(0x100).toByte(),
+                random.nextInt(0x100).toByte()
+            )
+        }
+    }
+
+    @Test
+    fun parseMPEGHeader_leavesPositionUnchanged() {
+        val buffer = ByteBuffer.wrap(byteArrayOf(0, 0xFF.toByte(), 0xFB.toByte(), 0x90.toByte(), 0x64))
+        buffer.position(1)
+        val header = MPEGFrameHeader.parseMPEGHeader(buffer)
+        assertEquals(1, buffer.position())
+        assertEquals(MPEGFrameHeader.VERSION_1, header.version)
+        assertEquals(MPEGFrameHeader.LAYER_III, header.layer)
+        assertEquals(128, header.bitRate)
+        assertEquals(44100, header.samplingRate)
+    }
+
+    @Test
+    fun parseMPEGHeader_concurrentMatchesSingleThreaded() {
+        val expected = headers.map { parse(it) }
+
+        val executor = Executors.newFixedThreadPool(THREAD_COUNT)
+        try {
+            val results = executor.invokeAll((0..<THREAD_COUNT).map { thread ->
+                Callable {
+                    // each thread walks the headers from a different starting point
+                    Array(HEADER_COUNT) { i ->
+                        val index = (i + thread * HEADER_COUNT / THREAD_COUNT) % HEADER_COUNT
+                        index to parse(headers[index])
+                    }
+                }
+            })
+            for (result in results) {
+                for ((index, actual) in result.get()) {
+                    assertEquals("header $index", expected[index], actual)
+                }
+            }
+        } finally {
+            executor.shutdown()
+            executor.awaitTermination(1, TimeUnit.MINUTES)
+        }
+    }
+
+    private fun parse(header: ByteArray): String {
+        return try {
+            MPEGFrameHeader.parseMPEGHeader(ByteBuffer.wrap(header)).toString()
+        } catch (e: InvalidAudioFrameException) {
+            "invalid: " + e.message
+        }
+    }
+
+    companion object {
+        private const val HEADER_COUNT = 20000
+        private const val THREAD_COUNT = 8
+    }
+}
@@ -0,0 +1,255 @@
+package org.jaudiotagger.audio.ogg
+
+import org.jaudiotagger.audio.AudioFile
+import org.jaudiotagger.audio.AudioFileIO
+import org.jaudiotagger.audio.exceptions.CannotReadException
+import org.jaudiotagger.audio.exceptions.CannotWriteException
+import org.jaudiotagger.audio.generic.AudioFileModificationAdapter
+import org.jaudiotagger.audio.ogg.util.OggCRCFactory
+import org.jaudiotagger.tag.FieldKey
+import org.jaudiotagger.tag.Tag
+import org.jaudiotagger.tag.TagOptionSingleton
+import org.jaudiotagger.tag.TagOptions
+import org.jaudiotagger.tag.id3.ID3v23Tag
+import org.junit.Assert.assertArrayEquals
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertThrows
+import org.junit.Assert.assertTrue
+import org.junit.Rule
+import org.junit.Test
+import org.junit.rules.TemporaryFolder
+import java.io.ByteArrayOutputStream
+import java.io.File
+import java.io.IOException
+import java.nio.ByteBuffer
+import java.nio.ByteOrder
+import java.nio.channels.FileChannel
+import kotlin.random.Random
+
+/**
+ * Writes Ogg Vorbis comments in place and checks the pages of the file are still valid, the
+ * audio is unchanged and any ID3v2 tag in front of the stream is kept.
+ */
+class OggInPlaceTagWriterTest {
+    @get:Rule
+    val folder = TemporaryFolder()
+
+    @Test
+    fun writeInPlace_smallChange_padsExistingComment() {
+        val file = createFile(ByteArray(0))
+        val length = file.length()
+        val audio = readAudio(file.readBytes(), 0)
+
+        write(file, "New title", "")
+
+        assertEquals(length, file.length())
+        assertEquals("New title", AudioFileIO.read(file).tag.getFirst(FieldKey.TITLE))
+        assertArrayEquals(audio, readAudio(file.readBytes(), 0))
+    }
+
+    @Test
+    fun writeInPlace_growAndShrink() {
+        checkGrowAndShrink(ByteArray(0))
+    }
+
+    @Test
+    fun writeInPlace_growAndShrink_withID3Prefix() {
+        val id3 = ID3v23Tag()
+        id3.setField(FieldKey.TITLE, "ID3 title")
+        val out = ByteArrayOutputStream()
+        id3.write(out)
+        checkGrowAndShrink(out.toByteArray())
+    }
+
+    @Test
+    fun writeInPlace_grow_addsPaddingOption() {
+        val options = TagOptionSingleton.getInstance("oggPadding")
+        options.oggPaddingSize = 0
+        val unpadded = createFile(ByteArray(0))
+        write(unpadded, "Grown", "x".repeat(10_000), TagOptions(options))
+        options.oggPaddingSize = 20_000
+        val padded = createFile(ByteArray(0))
+        write(padded, "Grown", "x".repeat(10_000), TagOptions(options))
+
+        assertTrue(padded.length() >= unpadded.length() + 20_000)
+        assertEquals("Grown", AudioFileIO.read(padded).tag.getFirst(FieldKey.TITLE))
+    }
+
+    @Test
+    fun write_inPlaceRefused_fallsBackToTemporaryFile() {
+        val file = createFile(ByteArray(0))
+        val audio = readAudio(file.readBytes(), 0)
+        val listener = CountingListener()
+        val writer = object : OggFileWriter() {
+            override fun writeTagIfFits(audioFile: AudioFile, tag: Tag, fc: FileChannel): Boolean {
+                throw CannotReadException("refused")
+            }
+        }
+        writer.setAudioFileModificationListener(listener)
+
+        val audioFile = AudioFileIO.read(file)
+        audioFile.tag.setField(FieldKey.TITLE, "Fell back")
+        writer.write(audioFile)
+
+        assertEquals(1, listener.willBeModified)
+        assertEquals("Fell back", AudioFileIO.read(file).tag.getFirst(FieldKey.TITLE))
+        assertArrayEquals(audio, readAudio(file.readBytes(), 0))
+    }
+
+    @Test
+    fun write_inPlaceFailsAfterWriting_doesNotFallBack() {
+        val file = createFile(ByteArray(0))
+        val writer = object : OggFileWriter() {
+            override fun writeTagIfFits(audioFile: AudioFile, tag: Tag, fc: FileChannel): Boolean {
+                fc.write(ByteBuffer.wrap(ByteArray(4)), 0)
+                throw IOException("failed while writing")
+            }
+        }
+
+        val audioFile = AudioFileIO.read(file)
+        audioFile.tag.setField(FieldKey.TITLE, "Not written")
+        assertThrows(CannotWriteException::class.java) { writer.write(audioFile) }
+        // the damaged file is left as it is rather than being copied
+        assertArrayEquals(ByteArray(4), file.readBytes().copyOf(4))
+    }
+
+    private class CountingListener : AudioFileModificationAdapter() {
+        var willBeModified = 0
+
+        override fun fileWillBeModified(file: AudioFile, delete: Boolean) {
+            willBeModified++
+        }
+    }
+
+    private fun checkGrowAndShrink(prefix: ByteArray) {
+        val file = createFile(prefix)
+        val length = file.length()
+        val audio = readAudio(file.readBytes(), prefix.size)
+
+        // larger than the existing comment, so the audio pages have to move
+        write(file, "Grown", "x".repeat(100_000))
+        val grown = file.length()
+        assertTrue(grown > length + 100_000)
+        checkFile(file, prefix, audio, "Grown", 100_000)
+
+        // much smaller than the space now taken by the comment, so the audio is moved back
+        write(file, "Shrunk", "")
+        assertTrue(file.length() < grown - 100_000)
+        checkFile(file, prefix, audio, "Shrunk", 0)
+    }
+
+    private fun write(file: File, title: String, comment: String, options: TagOptions = TagOptions.getDefault()) {
+        val audioFile = AudioFileIO.read(file)
+        audioFile.tag.setField(FieldKey.TITLE, title)
+        if (comment.isEmpty()) {
+            audioFile.tag.deleteField(FieldKey.COMMENT)
+        } else {
+            audioFile.tag.setField(FieldKey.COMMENT, comment)
+        }
+        OggFileWriter().writeInPlace(audioFile, options)
+    }
+
+    private fun checkFile(file: File, prefix: ByteArray, audio: ByteArray, title: String, commentLength: Int) {
+        val bytes = file.readBytes()
+        assertArrayEquals(prefix, bytes.copyOf(prefix.size))
+        assertArrayEquals(audio, readAudio(bytes, prefix.size))
+        val tag = AudioFileIO.read(file).tag
+        assertEquals(title, tag.getFirst(FieldKey.TITLE))
+        assertEquals(commentLength, tag.getFirst(FieldKey.COMMENT).length)
+    }
+
+    /**
+     * checks the checksum and sequence number of every page from [start], and returns the
+     * granule position and data of each audio page
+     */
+    private fun readAudio(bytes: ByteArray, start: Int): ByteArray {
+        val buffer = ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN)
+        val audio = ByteArrayOutputStream()
+        var position = start
+        var sequence = 0
+        while (position < bytes.size) {
+            assertEquals("page $sequence", "OggS", String(bytes, position, 4, Charsets.ISO_8859_1))
+            val segments = bytes[position + 26].toInt() and 0xFF
+            var length = 27 + segments
+            for (i in 0..<segments) {
+                length += bytes[position + 27 + i].toInt() and 0xFF
+            }
+            val page = bytes.copyOfRange(position, position + length)
+            val crc = page.copyOfRange(22, 26)
+            page.fill(0, 22, 26)
+            assertArrayEquals("page $sequence", OggCRCFactory.computeCRC(page), crc)
+            assertEquals(sequence, buffer.getInt(position + 18))
+            val granule = buffer.getLong(position + 6)
+            if (granule > 0) {
+                audio.write(page, 6, 8)
+                audio.write(page, 27 + segments, length - 27 - segments)
+            }
+            sequence++
+            position += length
+        }
+        return audio.toByteArray()
+    }
+
+    /**
+     * creates an ogg vorbis file of [prefix] followed by the header pages and
+     * [AUDIO_PAGE_COUNT] pages of random audio packets
+     */
+    private fun createFile(prefix: ByteArray): File {
+        val random = Random(1)
+        val out = ByteArrayOutputStream()
+        out.write(prefix)
+        var sequence = 0
+
+        val identification = ByteBuffer.allocate(30).order(ByteOrder.LITTLE_ENDIAN)
+            .put(1).put("vorbis".toByteArray()).putInt(0).put(2).putInt(44100)
+            .putInt(0).putInt(128000).putInt(0).put(0xB8.toByte()).put(1)
+            .array()
+        out.write(page(sequence++, 2, 0, listOf(identification)))
+
+        val vendor = "jaudiotagger test".toByteArray()
+        val field = "TITLE=Original title".toByteArray()
+        val comment = ByteBuffer.allocate(7 + 4 + vendor.size + 4 + 4 + field.size + 1)
+            .order(ByteOrder.LITTLE_ENDIAN)
+            .put(3).put("vorbis".toByteArray()).putInt(vendor.size).put(vendor)
+            .putInt(1).putInt(field.size).put(field).put(1)
+            .array()
+        val setup = random.nextBytes(3000)
+        setup[0] = 5
+        "vorbis".toByteArray().copyInto(setup, 1)
+        out.write(page(sequence++, 0, 0, listOf(comment, setup)))
+
+        var granule = 0L
+        for (i in 0..<AUDIO_PAGE_COUNT) {
+            val packets = List(50 + random.nextInt(200)) { random.nextBytes(random.nextInt(255)) }
+            granule += 960L * packets.size
+            val flags = if (i == AUDIO_PAGE_COUNT - 1) 4 else 0
+            out.write(page(sequence++, flags, granule, packets))
+        }
+
+        val file = folder.newFolder().resolve("test.ogg")
+        file.writeBytes(out.toByteArray())
+        return file
+    }
+
+    private fun page(sequence: Int, flags: Int, granule: Long, packets: List<ByteArray>): ByteArray {
+        val lacing = ByteArrayOutputStream()
+        val data = ByteArrayOutputStream()
+        for (packet in packets) {
+            repeat(packet.size / 255) { lacing.write(255) }
+            lacing.write(packet.size % 255)
+            data.write(packet)
+        }
+        val page = ByteBuffer.allocate(27 + lacing.size() + data.size()).order(ByteOrder.LITTLE_ENDIAN)
+            .put("OggS".toByteArray()).put(0).put(flags.toByte()).putLong(granule)
+            .putInt(SERIAL_NUMBER).putInt(sequence).putInt(0).put(lacing.size().toByte())
+            .put(lacing.toByteArray()).put(data.toByteArray())
+            .array()
+        OggCRCFactory.computeCRC(page).copyInto(page, 22)
+        return page
+    }
+
+    companion object {
+        private const val AUDIO_PAGE_COUNT = 40
+        private const val SERIAL_NUMBER = 0x1234
+    }
+}
@@ -0,0 +1,43 @@
+package org.jaudiotagger.tag
+
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertNotSame
+import org.junit.Assert.assertSame
+import org.junit.Test
+
+/**
+ * Checks the snapshot of the default options is reused until an option changes, and that bound
+ * options are used in its place.
+ */
+class TagOptionsTest {
+    @Test
+    fun getDefault_reusesSnapshotUntilOptionChanges() {
+        val singleton = TagOptionSingleton.getInstance()
+        val paddingSize = singleton.mp4PaddingSize
+        try {
+            val first = TagOptions.getDefault()
+            assertSame(first, TagOptions.getDefault())
+            assertSame(first, TagOptions.current())
+
+            singleton.mp4PaddingSize = paddingSize + 1
+            val changed = TagOptions.getDefault()
+            assertNotSame(first, changed)
+            assertEquals(paddingSize + 1, changed.mp4PaddingSize)
+            assertEquals(paddingSize, first.mp4PaddingSize)
+        } finally {
+            singleton.mp4PaddingSize = paddingSize
+        }
+    }
+
+    @Test
+    fun current_usesBoundOptions() {
+        val options = TagOptions(TagOptionSingleton.getInstance("bound"))
+        val previous = TagOptions.bind(options)
+        try {
+            assertSame(options, TagOptions.current())
+        } finally {
+            TagOptions.restore(previous)
+        }
+        assertSame(TagOptions.getDefault(), TagOptions.current())
+    }
+}
@@ -0,0 +1,83 @@
+package org.jaudiotagger.tag.id3.framebody
+
+import org.jaudiotagger.tag.FieldKey
+import org.jaudiotagger.tag.id3.AbstractID3v2Frame
+import org.jaudiotagger.tag.id3.AbstractID3v2Tag
+import org.jaudiotagger.tag.id3.ID3v22Tag
+import org.jaudiotagger.tag.id3.ID3v23Tag
+import org.jaudiotagger.tag.id3.ID3v24Tag
+import org.junit.Assert.assertArrayEquals
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertNotNull
+import org.junit.Assert.assertNotSame
+import org.junit.Test
+import java.io.ByteArrayOutputStream
+import java.nio.ByteBuffer
+
+/**
+ * Checks frame bodies created through [FrameBodyFactory] when tags are read, copied and
+ * converted between ID3v2 versions.
+ */
+class FrameBodyFactoryTest {
+    private fun createTag(): ID3v23Tag {
+        val tag = ID3v23Tag()
+        tag.setField(FieldKey.TITLE, "Title")
+        tag.setField(FieldKey.ARTIST, "Artist")
+        tag.setField(FieldKey.ALBUM, "Album")
+        tag.setField(FieldKey.ALBUM_ARTIST, "Album Artist")
+        tag.setField(FieldKey.COMPOSER, "Composer")
+        tag.setField(FieldKey.GENRE, "Rock")
+        tag.setField(FieldKey.YEAR, "1999")
+        tag.setField(FieldKey.TRACK, "3")
+        tag.setField(FieldKey.TRACK_TOTAL, "12")
+        tag.setField(FieldKey.DISC_NO, "1")
+        tag.setField(FieldKey.COMMENT, "Comment")
+        tag.setField(FieldKey.LYRICS, "Lyrics")
+        tag.setField(FieldKey.URL_OFFICIAL_ARTIST_SITE, "https://example.com")
+        return tag
+    }
+
+    private fun toBytes(tag: AbstractID3v2Tag): ByteArray {
+        val out = ByteArrayOutputStream()
+        tag.write(out)
+        return out.toByteArray()
+    }
+
+    @Test
+    fun convertTag_v23ToV24ToV22ToV23_keepsBytes() {
+        val original = createTag()
+        val v24 = ID3v24Tag(original)
+        val v22 = ID3v22Tag(v24)
+        val v23 = ID3v23Tag(v22)
+        assertEquals("Album Artist", v22.getFirst(FieldKey.ALBUM_ARTIST))
+        assertArrayEquals(toBytes(original), toBytes(v23))
+    }
+
+    @Test
+    fun readTag_v23_keepsBytes() {
+        val bytes = toBytes(createTag())
+        val read = ID3v23Tag(ByteBuffer.wrap(bytes), "test")
+        assertEquals("Lyrics", read.getFirst(FieldKey.LYRICS))
+        assertArrayEquals(bytes, toBytes(read))
+    }
+
+    @Test
+    fun copyBody_copiesEveryFrameOfTag() {
+        val tag = createTag()
+        for (field in tag.fields) {
+            val frame = field as AbstractID3v2Frame
+            val body = frame.body as AbstractID3v2FrameBody
+            val copy = FrameBodyFactory.copyBody(body)
+            assertNotSame(frame.identifier, body, copy)
+            assertEquals(frame.identifier, body, copy)
+        }
+    }
+
+    @Test
+    fun convertBody_yearToRecordingTime() {
+        val year = FrameBodyTYER(0, "1999")
+        val recordingTime = FrameBodyFactory.convertBody("TDRC", year)
+        assertNotNull(recordingTime)
+        assertEquals("1999", (recordingTime as FrameBodyTDRC).text)
+    }
+}